@@ -62,6 +62,37 @@ public interface Dataset {
      */
     Iterator<Instance> getInstances();
 
+    /**
+     * Gets the number of instances available in the dataset.
+     * <p>
+     * The default implementation counts the instances with {@link #getInstances()}, so datasets that know their size
+     * should override it.
+     *
+     * @return The number of instances.
+     * @since 1.3.0
+     */
+    default int numInstances() {
+        int numInstances = 0;
+        for (final Iterator<Instance> instances = getInstances(); instances.hasNext(); instances.next()) {
+            numInstances++;
+        }
+        return numInstances;
+    }
+
+    /**
+     * Gets a cursor over the instances available in the dataset, which may reuse a single {@link Instance} view for
+     * all the rows. See {@link InstanceCursor} for the contract that callers must follow.
+     * <p>
+     * The default implementation goes through {@link #getInstances()}, so datasets that can avoid creating one object
+     * per row should override it.
+     *
+     * @return An {@link InstanceCursor} for the instances.
+     * @since 1.3.0
+     */
+    default InstanceCursor cursor() {
+        return InstanceCursor.of(getInstances());
+    }
+
     /**
      * Yields a new dataset that is a sub-set of the given one containing only the instances that pass the given
      * predicate.
@@ -0,0 +1,93 @@
+/*
+ * Copyright 2026 Feedzai
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.feedzai.openml.data;
+
+import java.util.Iterator;
+
+/**
+ * A forward-only cursor over the instances of a {@link Dataset}.
+ * <p>
+ * Unlike {@link Dataset#getInstances()}, implementations are allowed to return the <em>same</em> {@link Instance}
+ * object from {@link #current()} on every row, repositioning it whenever {@link #next()} is called. This allows to
+ * go through a whole dataset without creating one object per row. Thus, callers must obey the following contract:
+ * <ul>
+ *     <li>the {@link Instance} returned by {@link #current()} is only valid until the next call to {@link #next()};</li>
+ *     <li>it must not be retained (e.g. stored in a collection) nor shared with other threads - read the needed
+ *     values out of it instead;</li>
+ *     <li>a cursor is not thread-safe.</li>
+ * </ul>
+ * Typical usage:
+ * <pre>{@code
+ * final InstanceCursor cursor = dataset.cursor();
+ * while (cursor.next()) {
+ *     sum += cursor.current().getValue(0);
+ * }
+ * }</pre>
+ *
+ * @author agent (agent@local)
+ * @since 1.3.0
+ */
+public interface InstanceCursor {
+
+    /**
+     * Moves the cursor to the next instance.
+     *
+     * @return {@code true} if the cursor is now positioned on an instance, {@code false} if there are no more
+     * instances.
+     */
+    boolean next();
+
+    /**
+     * Gets the instance on which the cursor is positioned.
+     *
+     * @return The instance, which is only valid until the next call to {@link #next()}.
+     * @throws IllegalStateException If the cursor is not positioned on an instance.
+     */
+    Instance current();
+
+    /**
+     * Creates a cursor that goes through the instances of the given iterator. The instances returned by it are the
+     * ones of the iterator, so they can be retained, but no allocation is saved either.
+     *
+     * @param instances The instances.
+     * @return The cursor.
+     */
+    static InstanceCursor of(final Iterator<Instance> instances) {
+        return new InstanceCursor() {
+
+            /**
+             * The instance on which the cursor is positioned.
+             */
+            private Instance current = null;
+
+            @Override
+            public boolean next() {
+                this.current = instances.hasNext() ? instances.next() : null;
+                return this.current != null;
+            }
+
+            @Override
+            public Instance current() {
+                if (this.current == null) {
+                    throw new IllegalStateException("The cursor is not positioned on an instance.");
+                }
+                return this.current;
+            }
+        };
+    }
+}
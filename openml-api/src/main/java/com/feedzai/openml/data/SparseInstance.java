@@ -0,0 +1,65 @@
+/*
+ * Copyright 2026 Feedzai
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.feedzai.openml.data;
+
+/**
+ * An {@link Instance} that only stores the features whose value differs from a per-feature default value (usually
+ * {@code 0} or {@link Double#NaN missing}).
+ * <p>
+ * {@link #getValue(int)} keeps working for every feature, but providers that know how to take advantage of sparsity
+ * can check whether an instance implements this interface and iterate only over {@link #nonDefaultIndices()}.
+ *
+ * @author agent (agent@local)
+ * @since 1.3.0
+ */
+public interface SparseInstance extends Instance {
+
+    /**
+     * Gets the value assumed by the feature on the given index when it is not explicitly stored in this instance.
+     *
+     * @param index The index of the field.
+     * @return The default value of the field.
+     */
+    double getDefaultValue(int index);
+
+    /**
+     * Gets the number of features whose value is explicitly stored in this instance.
+     *
+     * @return The number of non-default features.
+     */
+    int getNumNonDefault();
+
+    /**
+     * Gets the indices of the features whose value is explicitly stored in this instance, in increasing order.
+     * <p>
+     * Implementations may return their internal array, so callers should not modify it.
+     *
+     * @return The indices of the non-default features.
+     */
+    int[] nonDefaultIndices();
+
+    /**
+     * Gets the values of the features whose value is explicitly stored in this instance, aligned with
+     * {@link #nonDefaultIndices()}.
+     * <p>
+     * Implementations may return their internal array, so callers should not modify it.
+     *
+     * @return The values of the non-default features.
+     */
+    double[] nonDefaultValues();
+}
@@ -43,6 +43,12 @@ public class CategoricalValueSchema extends AbstractValueSchema {
      */
     private final SortedSet<String> nominalValues;
 
+    /**
+     * The cached hash code of this schema, {@code 0} if not yet computed. It is not serialized since it depends on the
+     * hash codes of the nominal values.
+     */
+    private transient int hash;
+
     /**
      * Creates a new instance.
      *
@@ -73,7 +79,13 @@ public class CategoricalValueSchema extends AbstractValueSchema {
 
     @Override
     public int hashCode() {
-        return 31 * super.hashCode() + Objects.hash(this.nominalValues);
+        // computing the hash walks all the nominal values, so it is cached (racy but idempotent, as in String)
+        int result = this.hash;
+        if (result == 0) {
+            result = 31 * super.hashCode() + Objects.hash(this.nominalValues);
+            this.hash = result;
+        }
+        return result;
     }
 
     @Override
@@ -88,7 +100,8 @@ public class CategoricalValueSchema extends AbstractValueSchema {
             return false;
         }
         final CategoricalValueSchema other = (CategoricalValueSchema) obj;
-        return Objects.equals(this.nominalValues, other.nominalValues);
+        return hashCode() == other.hashCode()
+                && Objects.equals(this.nominalValues, other.nominalValues);
     }
 
     @Override
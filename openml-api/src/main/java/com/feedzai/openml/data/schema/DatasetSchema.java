@@ -20,7 +20,9 @@ package com.feedzai.openml.data.schema;
 import com.google.common.base.MoreObjects;
 import com.google.common.base.Preconditions;
 import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
 
+import java.io.ObjectStreamException;
 import java.io.Serializable;
 import java.util.List;
 import java.util.Objects;
@@ -31,6 +33,9 @@ import java.util.stream.IntStream;
 /**
  * Representation of the data schema. A {@link DatasetSchema} holds information about each field/feature such as
  * its name and type (represented by a {@link FieldSchema}), and the index of the field to predict.
+ * <p>
+ * Since the schema is immutable, all its derived views (e.g. the {@link #getPredictiveFields() predictive fields}) are
+ * computed once upon creation, so that they can be used on a per instance basis without creating garbage.
  *
  * @author Pedro Rijo (pedro.rijo@feedzai.com)
  * @since 0.1.0
@@ -52,6 +57,36 @@ public class DatasetSchema implements Serializable {
      */
     private final List<FieldSchema> fieldSchemas;
 
+    /**
+     * The {@link #getTargetIndex() target index}, computed upon creation.
+     */
+    private final transient Optional<Integer> targetIndexOptional;
+
+    /**
+     * The {@link #getTargetFieldSchema() target field}, computed upon creation.
+     */
+    private final transient Optional<FieldSchema> targetFieldSchema;
+
+    /**
+     * The {@link #getPredictiveFields() predictive fields}, computed upon creation.
+     */
+    private final transient List<FieldSchema> predictiveFields;
+
+    /**
+     * The indices of the {@link #getPredictiveFields() predictive fields}, computed upon creation.
+     */
+    private final transient int[] predictiveIndices;
+
+    /**
+     * The index of each field by its name, computed upon creation.
+     */
+    private final transient ImmutableMap<String, Integer> fieldIndexByName;
+
+    /**
+     * The hash code of this schema, computed upon creation since it walks all the fields.
+     */
+    private final transient int hash;
+
     /**
      * Creates a new instance.
      *
@@ -66,6 +101,18 @@ public class DatasetSchema implements Serializable {
         this.targetIndex = targetIndex >= 0
                 ? Preconditions.checkElementIndex(targetIndex, fieldSchemas.size(), "target index should be a valid index")
                 : targetIndex;
+
+        this.targetIndexOptional = this.targetIndex < 0 ? Optional.empty() : Optional.of(this.targetIndex);
+        this.targetFieldSchema = this.targetIndexOptional.map(this.fieldSchemas::get);
+        this.predictiveFields = this.fieldSchemas.stream()
+                .filter(field -> field.getFieldIndex() != this.targetIndex)
+                .collect(ImmutableList.toImmutableList());
+        this.predictiveIndices = this.predictiveFields.stream()
+                .mapToInt(FieldSchema::getFieldIndex)
+                .toArray();
+        this.fieldIndexByName = this.fieldSchemas.stream()
+                .collect(ImmutableMap.toImmutableMap(FieldSchema::getFieldName, FieldSchema::getFieldIndex));
+        this.hash = Objects.hash(this.targetIndex, this.fieldSchemas);
     }
 
     /**
@@ -108,7 +155,17 @@ public class DatasetSchema implements Serializable {
      * @return The target field index wrapped in an {@link Optional} object, or {@link Optional#empty()} if no target variable is specified.
      */
     public Optional<Integer> getTargetIndex() {
-        return this.targetIndex < 0 ? Optional.empty() : Optional.of(this.targetIndex);
+        return this.targetIndexOptional;
+    }
+
+    /**
+     * Gets the index of the target field (the field to predict) as a primitive, which avoids unboxing it in hot paths.
+     *
+     * @return The target field index, or {@code -1} if no target variable is specified.
+     * @since 1.3.0
+     */
+    public int getTargetIndexOrNegative() {
+        return this.targetIndex < 0 ? -1 : this.targetIndex;
     }
 
     /**
@@ -117,7 +174,31 @@ public class DatasetSchema implements Serializable {
      * @return The list of {@link FieldSchema} representing each feature.
      */
     public List<FieldSchema> getFieldSchemas() {
-        return ImmutableList.copyOf(this.fieldSchemas);
+        return this.fieldSchemas;
+    }
+
+    /**
+     * Gets the index of the field with the given name.
+     *
+     * @param fieldName The name of the field.
+     * @return The index of the field, or {@code -1} if there is no field with the given name.
+     * @since 1.3.0
+     */
+    public int indexOf(final String fieldName) {
+        return this.fieldIndexByName.getOrDefault(fieldName, -1);
+    }
+
+    /**
+     * Gets the {@link FieldSchema} of the field with the given name.
+     *
+     * @param fieldName The name of the field.
+     * @return The {@link FieldSchema} of the field, or {@link Optional#empty()} if there is no field with the given
+     * name.
+     * @since 1.3.0
+     */
+    public Optional<FieldSchema> getFieldSchema(final String fieldName) {
+        final int index = indexOf(fieldName);
+        return index < 0 ? Optional.empty() : Optional.of(this.fieldSchemas.get(index));
     }
 
     /**
@@ -126,8 +207,7 @@ public class DatasetSchema implements Serializable {
      * @return The {@link FieldSchema} marked as target variable, if one exists.
      */
     public Optional<FieldSchema> getTargetFieldSchema() {
-        return getTargetIndex()
-                .map(this.fieldSchemas::get);
+        return this.targetFieldSchema;
     }
 
     /**
@@ -136,21 +216,55 @@ public class DatasetSchema implements Serializable {
      * @return the list of predictive fields.
      */
     public List<FieldSchema> getPredictiveFields() {
-        final Optional<Integer> targetIndex = getTargetIndex();
+        return this.predictiveFields;
+    }
 
-        if (!targetIndex.isPresent()) {
-            return this.fieldSchemas;
-        }
+    /**
+     * Gets the number of {@link #getPredictiveFields() predictive fields}.
+     *
+     * @return The number of predictive fields.
+     * @since 1.3.0
+     */
+    public int getNumPredictiveFields() {
+        return this.predictiveIndices.length;
+    }
 
-        return this.fieldSchemas
-                .stream()
-                .filter(field -> field.getFieldIndex() != targetIndex.get())
-                .collect(Collectors.toList());
+    /**
+     * Gets the index (in the schema) of the predictive field on the given position of
+     * {@link #getPredictiveFields()}, without creating any object.
+     *
+     * @param position The 0-based position of the predictive field.
+     * @return The index of the field.
+     * @since 1.3.0
+     */
+    public int getPredictiveIndex(final int position) {
+        return this.predictiveIndices[position];
+    }
+
+    /**
+     * Gets the indices (in the schema) of the {@link #getPredictiveFields() predictive fields}, in increasing order.
+     *
+     * @return A copy of the array with the indices of the predictive fields.
+     * @since 1.3.0
+     */
+    public int[] getPredictiveIndices() {
+        return this.predictiveIndices.clone();
+    }
+
+    /**
+     * Recomputes the derived views of a deserialized schema, since they are not part of its serialized form.
+     *
+     * @return A new, fully initialized, {@link DatasetSchema}.
+     * @throws ObjectStreamException If the resolved object cannot be created.
+     * @since 1.3.0
+     */
+    private Object readResolve() throws ObjectStreamException {
+        return new DatasetSchema(this.targetIndex, this.fieldSchemas);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(this.targetIndex, this.fieldSchemas);
+        return this.hash;
     }
 
     @Override
@@ -162,7 +276,8 @@ public class DatasetSchema implements Serializable {
             return false;
         }
         final DatasetSchema other = (DatasetSchema) obj;
-        return Objects.equals(this.targetIndex, other.targetIndex)
+        return this.hash == other.hash
+                && Objects.equals(this.targetIndex, other.targetIndex)
                 && Objects.equals(this.fieldSchemas, other.fieldSchemas);
     }
 
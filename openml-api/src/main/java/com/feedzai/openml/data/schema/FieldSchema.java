@@ -52,6 +52,11 @@ public class FieldSchema implements Serializable {
      */
     private final AbstractValueSchema valueSchema;
 
+    /**
+     * The cached hash code of this field, {@code 0} if not yet computed.
+     */
+    private transient int hash;
+
     /**
      * Creates a new instance.
      *
@@ -102,7 +107,12 @@ public class FieldSchema implements Serializable {
 
     @Override
     public int hashCode() {
-        return Objects.hash(this.fieldName, this.fieldIndex, this.valueSchema);
+        int result = this.hash;
+        if (result == 0) {
+            result = Objects.hash(this.fieldName, this.fieldIndex, this.valueSchema);
+            this.hash = result;
+        }
+        return result;
     }
 
     @Override
@@ -114,7 +124,8 @@ public class FieldSchema implements Serializable {
             return false;
         }
         final FieldSchema other = (FieldSchema) obj;
-        return Objects.equals(this.fieldName, other.fieldName)
+        return hashCode() == other.hashCode()
+                && Objects.equals(this.fieldName, other.fieldName)
                 && Objects.equals(this.fieldIndex, other.fieldIndex)
                 && Objects.equals(this.valueSchema, other.valueSchema);
     }
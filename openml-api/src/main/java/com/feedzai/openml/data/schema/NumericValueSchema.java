@@ -45,16 +45,157 @@ public class NumericValueSchema extends AbstractValueSchema {
             return false;
         }
 
-        if (value == null) {
-            return true;
+        return value == null || isParsable(value);
+    }
+
+    /**
+     * Checks whether the given String is accepted by {@link Double#valueOf(String)}, without parsing it nor relying on
+     * a {@link NumberFormatException}, which is expensive when validating many values.
+     *
+     * @param value The value to check.
+     * @return {@code true} if the value can be parsed into a double, {@code false} otherwise.
+     * @since 1.3.0
+     */
+    static boolean isParsable(final String value) {
+        // Double.valueOf ignores the same leading and trailing characters as String#trim
+        int start = 0;
+        int end = value.length();
+        while (start < end && value.charAt(start) <= ' ') {
+            start++;
+        }
+        while (end > start && value.charAt(end - 1) <= ' ') {
+            end--;
         }
 
-        try {
-            Double.valueOf(value);
-            return true;
+        int position = start;
+        if (position < end && (value.charAt(position) == '+' || value.charAt(position) == '-')) {
+            position++;
+        }
+        if (position == end) {
+            return false;
+        }
 
-        } catch (final NumberFormatException e) {
+        if (value.charAt(position) == 'N' || value.charAt(position) == 'I') {
+            return isWord(value, position, end, "NaN") || isWord(value, position, end, "Infinity");
+        }
+
+        if (end - position > 2 && value.charAt(position) == '0'
+                && (value.charAt(position + 1) == 'x' || value.charAt(position + 1) == 'X')) {
+            return isParsableHex(value, position + 2, end);
+        }
+
+        // digits, with an optional decimal point, with at least one digit
+        final int digitsStart = position;
+        position = skipDigits(value, position, end, 10);
+        int numDigits = position - digitsStart;
+        if (position < end && value.charAt(position) == '.') {
+            final int fractionStart = ++position;
+            position = skipDigits(value, position, end, 10);
+            numDigits += position - fractionStart;
+        }
+        if (numDigits == 0) {
             return false;
         }
+
+        if (position < end && (value.charAt(position) == 'e' || value.charAt(position) == 'E')) {
+            position = skipExponent(value, position + 1, end);
+            if (position < 0) {
+                return false;
+            }
+        }
+
+        return isEndWithOptionalSuffix(value, position, end);
+    }
+
+    /**
+     * Checks whether the hexadecimal significand and binary exponent of a double (e.g. {@code 0x1.8p1}) are valid.
+     *
+     * @param value    The value to check.
+     * @param position The position after the {@code 0x} prefix.
+     * @param end      The end of the value (exclusive), disregarding trailing whitespace.
+     * @return {@code true} if the value can be parsed into a double, {@code false} otherwise.
+     */
+    private static boolean isParsableHex(final String value, final int position, final int end) {
+        int current = skipDigits(value, position, end, 16);
+        int numDigits = current - position;
+        if (current < end && value.charAt(current) == '.') {
+            final int fractionStart = ++current;
+            current = skipDigits(value, current, end, 16);
+            numDigits += current - fractionStart;
+        }
+
+        // the binary exponent is mandatory in hexadecimal values
+        if (numDigits == 0 || current == end || (value.charAt(current) != 'p' && value.charAt(current) != 'P')) {
+            return false;
+        }
+        current = skipExponent(value, current + 1, end);
+
+        return current >= 0 && isEndWithOptionalSuffix(value, current, end);
+    }
+
+    /**
+     * Checks whether the value is exactly the given word between the given positions.
+     *
+     * @param value    The value.
+     * @param position The position where the word should start.
+     * @param end      The end of the value (exclusive).
+     * @param word     The word.
+     * @return {@code true} if the value is the given word, {@code false} otherwise.
+     */
+    private static boolean isWord(final String value, final int position, final int end, final String word) {
+        return end - position == word.length() && value.startsWith(word, position);
+    }
+
+    /**
+     * Skips the digits of the given radix starting at the given position.
+     *
+     * @param value    The value.
+     * @param position The position of the first digit.
+     * @param end      The end of the value (exclusive).
+     * @param radix    The radix of the digits.
+     * @return The position of the first character that is not a digit.
+     */
+    private static int skipDigits(final String value, final int position, final int end, final int radix) {
+        int current = position;
+        // only ASCII digits are accepted, while Character#digit also accepts other unicode digits
+        while (current < end && value.charAt(current) < 128 && Character.digit(value.charAt(current), radix) >= 0) {
+            current++;
+        }
+        return current;
+    }
+
+    /**
+     * Skips an optionally signed decimal exponent.
+     *
+     * @param value    The value.
+     * @param position The position after the exponent indicator.
+     * @param end      The end of the value (exclusive).
+     * @return The position of the first character after the exponent, or {@code -1} if it has no digits.
+     */
+    private static int skipExponent(final String value, final int position, final int end) {
+        int current = position;
+        if (current < end && (value.charAt(current) == '+' || value.charAt(current) == '-')) {
+            current++;
+        }
+        final int digitsStart = current;
+        current = skipDigits(value, current, end, 10);
+        return current == digitsStart ? -1 : current;
+    }
+
+    /**
+     * Checks whether the value ends at the given position, possibly after a {@code float} or {@code double} type
+     * suffix.
+     *
+     * @param value    The value.
+     * @param position The current position.
+     * @param end      The end of the value (exclusive).
+     * @return {@code true} if there are no more characters, {@code false} otherwise.
+     */
+    private static boolean isEndWithOptionalSuffix(final String value, final int position, final int end) {
+        if (position == end) {
+            return true;
+        }
+        final char suffix = value.charAt(position);
+        return position == end - 1 && (suffix == 'f' || suffix == 'F' || suffix == 'd' || suffix == 'D');
     }
 }
@@ -20,6 +20,8 @@ package com.feedzai.openml.model;
 import com.feedzai.openml.data.Instance;
 import com.feedzai.openml.data.schema.DatasetSchema;
 
+import java.util.List;
+
 /**
  * Base interface that every Classification {@link MachineLearningModel} should implement.
  *
@@ -36,6 +38,24 @@ public interface ClassificationMLModel extends MachineLearningModel {
      */
     double[] getClassDistribution(Instance instance);
 
+    /**
+     * Calculates the class probabilities distribution for each of the given {@link Instance instances}.
+     * <p>
+     * The default implementation calls {@link #getClassDistribution(Instance)} for each instance, so models whose
+     * underlying library scores batches more efficiently (e.g. by amortizing a native call) should override it.
+     *
+     * @param instances The {@link Instance instances} to be classified.
+     * @return The class probabilities distribution of each instance, in the order of the given instances.
+     * @since 1.3.0
+     */
+    default double[][] getClassDistributions(final List<? extends Instance> instances) {
+        final double[][] distributions = new double[instances.size()][];
+        for (int i = 0; i < distributions.length; i++) {
+            distributions[i] = getClassDistribution(instances.get(i));
+        }
+        return distributions;
+    }
+
     /**
      * Classifies an {@link Instance} according to the classes provided by the {@link DatasetSchema} feed to the algorithm.
      *
@@ -49,4 +49,15 @@ public interface MachineLearningModel extends AutoCloseable {
      */
     DatasetSchema getSchema();
 
+    /**
+     * Checks whether this model can be used by several threads at the same time. Models that are not thread-safe
+     * (e.g. because they wrap a library that keeps scoring state) must only be used by one thread at a time, for
+     * instance through a pool of instances of the same model.
+     *
+     * @return {@code true} if this model can be used concurrently, {@code false} otherwise.
+     * @since 1.3.0
+     */
+    default boolean isThreadSafe() {
+        return true;
+    }
 }
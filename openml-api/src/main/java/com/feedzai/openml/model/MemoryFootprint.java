@@ -0,0 +1,123 @@
+/*
+ * Copyright 2026 Feedzai
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.feedzai.openml.model;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.base.Preconditions;
+
+import java.util.Objects;
+
+/**
+ * The memory used by a {@link MachineLearningModel}, split between the Java heap and memory outside of it (direct
+ * buffers, memory-mapped files or memory allocated by native libraries).
+ *
+ * @author agent (agent@local)
+ * @since 1.3.0
+ */
+public final class MemoryFootprint {
+
+    /**
+     * A footprint without any memory.
+     */
+    public static final MemoryFootprint EMPTY = new MemoryFootprint(0, 0);
+
+    /**
+     * The number of bytes used in the Java heap.
+     */
+    private final long heapBytes;
+
+    /**
+     * The number of bytes used outside of the Java heap.
+     */
+    private final long offHeapBytes;
+
+    /**
+     * Creates a new instance.
+     *
+     * @param heapBytes    The number of bytes used in the Java heap.
+     * @param offHeapBytes The number of bytes used outside of the Java heap.
+     */
+    public MemoryFootprint(final long heapBytes, final long offHeapBytes) {
+        Preconditions.checkArgument(heapBytes >= 0, "heap bytes should not be negative");
+        Preconditions.checkArgument(offHeapBytes >= 0, "off-heap bytes should not be negative");
+        this.heapBytes = heapBytes;
+        this.offHeapBytes = offHeapBytes;
+    }
+
+    /**
+     * Gets the number of bytes used in the Java heap.
+     *
+     * @return The heap bytes.
+     */
+    public long getHeapBytes() {
+        return this.heapBytes;
+    }
+
+    /**
+     * Gets the number of bytes used outside of the Java heap.
+     *
+     * @return The off-heap bytes.
+     */
+    public long getOffHeapBytes() {
+        return this.offHeapBytes;
+    }
+
+    /**
+     * Gets the total number of bytes used, in and outside of the Java heap.
+     *
+     * @return The total bytes.
+     */
+    public long getTotalBytes() {
+        return this.heapBytes + this.offHeapBytes;
+    }
+
+    /**
+     * Adds the given footprint to this one.
+     *
+     * @param other The other footprint.
+     * @return The sum of both footprints.
+     */
+    public MemoryFootprint plus(final MemoryFootprint other) {
+        return new MemoryFootprint(this.heapBytes + other.heapBytes, this.offHeapBytes + other.offHeapBytes);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(this.heapBytes, this.offHeapBytes);
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (obj == null || getClass() != obj.getClass()) {
+            return false;
+        }
+        final MemoryFootprint other = (MemoryFootprint) obj;
+        return this.heapBytes == other.heapBytes && this.offHeapBytes == other.offHeapBytes;
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(this)
+                .add("heapBytes", this.heapBytes)
+                .add("offHeapBytes", this.offHeapBytes)
+                .toString();
+    }
+}
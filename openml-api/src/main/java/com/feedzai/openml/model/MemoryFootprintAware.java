@@ -0,0 +1,38 @@
+/*
+ * Copyright 2026 Feedzai
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.feedzai.openml.model;
+
+/**
+ * A {@link MachineLearningModel} that knows how much memory it uses.
+ * <p>
+ * Providers should implement this interface in their models whenever they can report their footprint more accurately
+ * than an external estimate, namely when the model holds native memory (e.g. a model in a native library) that is not
+ * visible in the Java heap.
+ *
+ * @author agent (agent@local)
+ * @since 1.3.0
+ */
+public interface MemoryFootprintAware {
+
+    /**
+     * Gets the memory currently used by this model.
+     *
+     * @return The {@link MemoryFootprint}.
+     */
+    MemoryFootprint getMemoryFootprint();
+}
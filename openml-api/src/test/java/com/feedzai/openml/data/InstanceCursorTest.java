@@ -0,0 +1,98 @@
+/*
+ * Copyright 2026 Feedzai
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.feedzai.openml.data;
+
+import com.google.common.collect.ImmutableList;
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for the {@link InstanceCursor}.
+ *
+ * @author agent (agent@local)
+ * @since 1.3.0
+ */
+public class InstanceCursorTest {
+
+    /**
+     * Tests that a cursor created from an iterator goes through all its instances.
+     */
+    @Test
+    public void testCursorOfIterator() {
+        final Instance first = new TestInstance(1.0);
+        final Instance second = new TestInstance(2.0);
+
+        final InstanceCursor cursor = InstanceCursor.of(ImmutableList.of(first, second).iterator());
+
+        assertThatThrownBy(cursor::current)
+                .as("Getting the instance before positioning the cursor")
+                .isInstanceOf(IllegalStateException.class);
+
+        assertThat(cursor.next())
+                .as("Moving to the first instance")
+                .isTrue();
+        assertThat(cursor.current())
+                .as("The first instance")
+                .isSameAs(first);
+        assertThat(cursor.next())
+                .as("Moving to the second instance")
+                .isTrue();
+        assertThat(cursor.current())
+                .as("The second instance")
+                .isSameAs(second);
+        assertThat(cursor.next())
+                .as("Moving beyond the last instance")
+                .isFalse();
+
+        assertThatThrownBy(cursor::current)
+                .as("Getting the instance after the last one")
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    /**
+     * A single-valued {@link Instance} for the tests.
+     */
+    private static final class TestInstance implements Instance {
+
+        /**
+         * The value of the instance.
+         */
+        private final double value;
+
+        /**
+         * Creates a new instance.
+         *
+         * @param value The value of the instance.
+         */
+        TestInstance(final double value) {
+            this.value = value;
+        }
+
+        @Override
+        public double getValue(final int index) {
+            return this.value;
+        }
+
+        @Override
+        public String getStringValue(final int index) {
+            return String.valueOf(this.value);
+        }
+    }
+}
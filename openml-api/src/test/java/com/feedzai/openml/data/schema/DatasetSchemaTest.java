@@ -22,6 +22,10 @@ import com.google.common.collect.ImmutableSet;
 import org.assertj.core.api.SoftAssertions;
 import org.junit.Test;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
 import java.util.List;
 import java.util.Optional;
 
@@ -259,4 +263,92 @@ public class DatasetSchemaTest {
         assertThatThrownBy(() -> new DatasetSchema(targetField.getFieldIndex(), allFields))
                 .as("The error thrown by an incorrect construction of a schema")
                 .isInstanceOf(IllegalArgumentException.class);    }
+
+    /**
+     * Tests the accessors that are precomputed upon the creation of the schema.
+     *
+     * @since 1.3.0
+     */
+    @Test
+    public void testPrecomputedAccessors() {
+        final DatasetSchema schema = new DatasetSchema(1, ImmutableList.of(
+                new FieldSchema("field0", 0, new NumericValueSchema(false)),
+                new FieldSchema("target", 1, new CategoricalValueSchema(false, ImmutableSet.of("true", "false"))),
+                new FieldSchema("field2", 2, new NumericValueSchema(true))
+        ));
+
+        assertThat(schema.getTargetIndexOrNegative())
+                .as("The primitive target index")
+                .isEqualTo(1);
+        assertThat(new DatasetSchema(ImmutableList.of(FIELD_SCHEMA)).getTargetIndexOrNegative())
+                .as("The primitive target index of a schema with no target")
+                .isEqualTo(-1);
+
+        assertThat(schema.getPredictiveIndices())
+                .as("The indices of the predictive fields")
+                .containsExactly(0, 2);
+        assertThat(schema.getNumPredictiveFields())
+                .as("The number of predictive fields")
+                .isEqualTo(2);
+        assertThat(schema.getPredictiveIndex(1))
+                .as("The index of the second predictive field")
+                .isEqualTo(2);
+
+        assertThat(schema.indexOf("field2"))
+                .as("The index of a field by name")
+                .isEqualTo(2);
+        assertThat(schema.indexOf("unknown"))
+                .as("The index of an unknown field")
+                .isEqualTo(-1);
+        assertThat(schema.getFieldSchema("target"))
+                .as("The field schema by name")
+                .isEqualTo(schema.getTargetFieldSchema());
+        assertThat(schema.getFieldSchema("unknown"))
+                .as("The field schema of an unknown field")
+                .isNotPresent();
+
+        assertThat(schema.getPredictiveFields())
+                .as("The predictive fields are computed only once")
+                .isSameAs(schema.getPredictiveFields());
+        assertThat(schema.getFieldSchemas())
+                .as("The field schemas are not copied on every call")
+                .isSameAs(schema.getFieldSchemas());
+    }
+
+    /**
+     * Tests that the precomputed accessors are restored when a schema is deserialized with Java serialization.
+     *
+     * @throws Exception If the schema cannot be serialized.
+     * @since 1.3.0
+     */
+    @Test
+    public void testJavaSerialization() throws Exception {
+        final DatasetSchema schema = new DatasetSchema(0, ImmutableList.of(
+                new FieldSchema("target", 0, new CategoricalValueSchema(false, ImmutableSet.of("true", "false"))),
+                new FieldSchema("field1", 1, new NumericValueSchema(false))
+        ));
+
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream output = new ObjectOutputStream(bytes)) {
+            output.writeObject(schema);
+        }
+
+        final DatasetSchema deserialized;
+        try (ObjectInputStream input = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            deserialized = (DatasetSchema) input.readObject();
+        }
+
+        assertThat(deserialized)
+                .as("The deserialized schema")
+                .isEqualTo(schema);
+        assertThat(deserialized.getPredictiveIndices())
+                .as("The predictive indices of the deserialized schema")
+                .containsExactly(1);
+        assertThat(deserialized.indexOf("field1"))
+                .as("The index by name of the deserialized schema")
+                .isEqualTo(1);
+        assertThat(deserialized.getTargetIndex())
+                .as("The target index of the deserialized schema")
+                .hasValue(0);
+    }
 }
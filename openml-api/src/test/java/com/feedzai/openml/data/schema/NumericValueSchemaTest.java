@@ -19,6 +19,7 @@ package com.feedzai.openml.data.schema;
 
 import org.junit.Test;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
@@ -56,4 +57,31 @@ public class NumericValueSchemaTest {
         assertTrue("Numeric value should be valid", valueSchema.validate("42"));
     }
 
+    /**
+     * Tests that the validation of numeric values accepts exactly the same values as {@link Double#valueOf(String)}.
+     *
+     * @since 1.3.0
+     */
+    @Test
+    public void testSameGrammarAsDoubleValueOf() {
+        final NumericValueSchema valueSchema = new NumericValueSchema(false);
+
+        final String[] values = {
+                "0", "42", "-42", "+42", "3.14", "3.", ".5", ".", "-.5", "1e10", "1E-10", "1e+3", "1e", "1e+",
+                "2.5f", "2.5D", "2.5x", "1ff", " 42 ", "\t42\n", "", "   ", "-", "+", "NaN", "-Infinity", "+Infinity",
+                "nan", "Infinityf", "NaNd", "0x1p3", "0X1.8P-1", "0x.8p1d", "0x1", "0xp1", "0x1.p", "1_000", "1,5",
+                "--1", "1.2.3", "e5", "\u0661", "1e5.5", "0x1g", "Inf"
+        };
+
+        for (final String value : values) {
+            boolean parsable;
+            try {
+                Double.valueOf(value);
+                parsable = true;
+            } catch (final NumberFormatException e) {
+                parsable = false;
+            }
+            assertEquals("Validation of [" + value + "]", parsable, valueSchema.validate(value));
+        }
+    }
 }
@@ -0,0 +1,54 @@
+/*
+ * Copyright 2026 Feedzai
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.feedzai.openml.model;
+
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests for the {@link MemoryFootprint}.
+ *
+ * @author agent (agent@local)
+ * @since 1.3.0
+ */
+public class MemoryFootprintTest {
+
+    /**
+     * Tests the totals and the sum of footprints.
+     */
+    @Test
+    public void testTotals() {
+        final MemoryFootprint footprint = new MemoryFootprint(100, 20).plus(new MemoryFootprint(5, 1));
+
+        assertThat(footprint)
+                .as("The sum of two footprints")
+                .isEqualTo(new MemoryFootprint(105, 21));
+        assertThat(footprint.getTotalBytes())
+                .as("The total bytes of a footprint")
+                .isEqualTo(126L);
+        assertThat(MemoryFootprint.EMPTY.plus(footprint))
+                .as("The sum with the empty footprint")
+                .isEqualTo(footprint);
+
+        assertThatThrownBy(() -> new MemoryFootprint(-1, 0))
+                .as("Creating a footprint with negative heap bytes")
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -54,6 +54,11 @@ public class ExampleMLProvider implements MachineLearningProvider<MachineLearnin
      */
     public static final String PREDICT_SECOND = "Always predicts second class";
 
+    /**
+     * The algorithms of this provider, which never change.
+     */
+    private static final Set<MLAlgorithmDescriptor> ALGORITHMS = createAlgorithms();
+
     @Override
     public String getName() {
         return NAME;
@@ -61,6 +66,27 @@ public class ExampleMLProvider implements MachineLearningProvider<MachineLearnin
 
     @Override
     public Set<MLAlgorithmDescriptor> getAlgorithms() {
+        return ALGORITHMS;
+    }
+
+    @Override
+    public Optional<MachineLearningModelLoader<? extends ClassificationMLModel>> getModelCreator(final String algorithmName) {
+        switch (algorithmName) {
+            case PREDICT_FIRST:
+                return Optional.of(new ExampleModelLoader(0));
+            case PREDICT_SECOND:
+                return Optional.of(new ExampleModelLoader(1));
+            default:
+                return Optional.empty();
+        }
+    }
+
+    /**
+     * Creates the descriptors of the algorithms of this provider.
+     *
+     * @return The descriptors.
+     */
+    private static Set<MLAlgorithmDescriptor> createAlgorithms() {
         final URL documentation;
         try {
             documentation = new URL("http://www.feedzai.com");
@@ -91,16 +117,4 @@ public class ExampleMLProvider implements MachineLearningProvider<MachineLearnin
                 )
         );
     }
-
-    @Override
-    public Optional<MachineLearningModelLoader<? extends ClassificationMLModel>> getModelCreator(final String algorithmName) {
-        switch (algorithmName) {
-            case PREDICT_FIRST:
-                return Optional.of(new ExampleModelLoader(0));
-            case PREDICT_SECOND:
-                return Optional.of(new ExampleModelLoader(1));
-            default:
-                return Optional.empty();
-        }
-    }
 }
@@ -27,6 +27,7 @@ import com.feedzai.openml.model.ClassificationMLModel;
 import com.feedzai.openml.provider.MachineLearningProvider;
 import com.feedzai.openml.provider.exception.ModelLoadingException;
 import com.feedzai.openml.provider.model.MachineLearningModelLoader;
+import com.feedzai.openml.util.provider.ProviderRegistry;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableSet;
@@ -74,6 +75,21 @@ public class ExampleMLProviderTest {
         testProviderFor(datasetSchema, provider, 1, ExampleMLProvider.PREDICT_SECOND);
     }
 
+    /**
+     * Tests that the example provider is discovered through the {@link java.util.ServiceLoader}.
+     */
+    @Test
+    public void testDiscovery() {
+        final ProviderRegistry registry = ProviderRegistry.discover(getClass().getClassLoader());
+
+        assertThat(registry.getProvider(ExampleMLProvider.NAME).map(Object::getClass))
+                .as("The class of the discovered example provider")
+                .contains(ExampleMLProvider.class);
+        assertThat(registry.getModelCreator(ExampleMLProvider.NAME, ExampleMLProvider.PREDICT_FIRST))
+                .as("The model creator of an algorithm of the example provider")
+                .isPresent();
+    }
+
     /**
      * Tests the provider for the given model configuration.
      *
@@ -5,8 +5,11 @@ import com.feedzai.openml.provider.descriptor.MLAlgorithmDescriptor;
 import com.google.auto.service.AutoService;
 import com.google.common.collect.ImmutableSet;
 
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 /**
  * This is your new custom OpenML provider. As such, it implements
@@ -20,6 +23,12 @@ public class MyOpenmlProvider implements MachineLearningProvider<MyOpenmlModelLo
 
     private static final String NAME = "My OpenML Provider";
 
+    private static final Set<MLAlgorithmDescriptor> ALGORITHMS =
+            ImmutableSet.of(MyFirstOpenmlModel.DESCRIPTOR, MySecondOpenmlModel.DESCRIPTOR);
+
+    private static final Map<String, MLAlgorithmDescriptor> ALGORITHMS_BY_NAME = ALGORITHMS.stream()
+            .collect(Collectors.toMap(MLAlgorithmDescriptor::getAlgorithmName, Function.identity()));
+
     public String getName() {
         return NAME;
     }
@@ -30,20 +39,18 @@ public class MyOpenmlProvider implements MachineLearningProvider<MyOpenmlModelLo
      * on this list after adding new algorithms. This can be achieved by using a Java Enum for instance.
      */
     public Set<MLAlgorithmDescriptor> getAlgorithms() {
-        return ImmutableSet.of(MyFirstOpenmlModel.DESCRIPTOR, MySecondOpenmlModel.DESCRIPTOR);
+        return ALGORITHMS;
     }
 
     /**
      * Since our MyOpenmlModelLoader implementation is quite simple and generic for all our
-     * algorithms, this method is very simple: it just looks for an algorithm with the given name
-     * and creates a MyOpenmlModelLoader with the name. For more complex use cases (different loaders
+     * algorithms, this method is very simple: it just looks up the algorithm with the given name
+     * (indexed once, so that it does not scan all the algorithms on every call) and creates a
+     * MyOpenmlModelLoader with the name. For more complex use cases (different loaders
      * for different algorithms) the implementation may not be as trivial.
      */
     public Optional<MyOpenmlModelLoader> getModelCreator(final String algorithmName) {
-        return getAlgorithms()
-                .stream()
-                .filter(mlAlgorithmDescriptor -> mlAlgorithmDescriptor.getAlgorithmName().equals(algorithmName))
-                .findFirst()
+        return Optional.ofNullable(ALGORITHMS_BY_NAME.get(algorithmName))
                 .map(MyOpenmlModelLoader::new);
     }
 }
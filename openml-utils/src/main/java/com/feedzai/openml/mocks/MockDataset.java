@@ -27,6 +27,7 @@ import com.feedzai.openml.data.schema.FieldSchema;
 import com.feedzai.openml.data.schema.NumericValueSchema;
 import com.google.common.collect.ImmutableList;
 
+import java.util.Arrays;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
@@ -153,6 +154,11 @@ public class MockDataset implements Dataset {
         return this.instances.size();
     }
 
+    @Override
+    public int numInstances() {
+        return this.instances.size();
+    }
+
     /**
      * Function that generates the instances in the constructors above.
      *
@@ -166,6 +172,23 @@ public class MockDataset implements Dataset {
                 .collect(Collectors.toList());
     }
 
+    /**
+     * Generates random instances of a schema, reproducibly for the same seed. Used by the checks that score models
+     * before they are exposed to traffic, so that all of them score the same kind of instances.
+     *
+     * @param schema       The schema of the instances.
+     * @param numInstances The number of instances to generate.
+     * @param seed         The seed of the random generator of the instances.
+     * @return The generated instances.
+     * @since 1.3.0
+     */
+    public static Instance[] randomInstances(final DatasetSchema schema, final int numInstances, final long seed) {
+        final Random random = new Random(seed);
+        final Instance[] instances = new Instance[numInstances];
+        Arrays.setAll(instances, index -> new MockInstance(schema, random));
+        return instances;
+    }
+
     /**
      * Generates a {@link DatasetSchema} with only numeric fields.
      *
@@ -111,13 +111,23 @@ public interface MLAlgorithmEnum {
 
     /**
      * Getter for an algorithm based on its name.
+     * <p>
+     * Lookups in all the constants of an enum use an index computed once per enum. Callers that look up names often
+     * should pass the same array on every call (e.g. a constant holding the result of {@code values()}), which must not
+     * be modified afterwards, since a new array is compared with the constants of the enum before the index is used.
      *
      * @param <T>    Enum implementation of this interface.
      * @param values Possible values for the enum (required as overriding static methods is not possible).
      * @param name   Name of the algorithm to find.
      * @return An optional containing the algorithm with name {@code name} if it exists.
      */
+    @SuppressWarnings("unchecked")
     static <T extends MLAlgorithmEnum> Optional<T> getByName(final T[] values, final String name) {
+        // when the values are all the constants of the enum, they are looked up in an index computed once per enum
+        final MLAlgorithmIndex index = MLAlgorithmIndex.of(values);
+        if (index != null) {
+            return Optional.ofNullable((T) index.get(name));
+        }
         return Arrays.stream(values)
                 .filter(value -> value.getName().equals(name))
                 .findFirst();
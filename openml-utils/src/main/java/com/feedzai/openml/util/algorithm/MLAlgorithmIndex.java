@@ -0,0 +1,112 @@
+/*
+ * Copyright 2026 Feedzai
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.feedzai.openml.util.algorithm;
+
+import com.google.common.collect.ImmutableMap;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Index of the constants of each {@link MLAlgorithmEnum} enum by algorithm name, computed once per enum class, so that
+ * {@link MLAlgorithmEnum#getByName(MLAlgorithmEnum[], String)} does not compare the names of all the algorithms on
+ * every call.
+ *
+ * @author agent (agent@local)
+ * @since 1.3.0
+ */
+final class MLAlgorithmIndex {
+
+    /**
+     * The index of each enum class, empty for classes that are not enums.
+     */
+    private static final ClassValue<MLAlgorithmIndex> INDICES = new ClassValue<MLAlgorithmIndex>() {
+        @Override
+        protected MLAlgorithmIndex computeValue(final Class<?> type) {
+            return new MLAlgorithmIndex(type);
+        }
+    };
+
+    /**
+     * The constants of the enum, in declaration order.
+     */
+    private final Object[] constants;
+
+    /**
+     * The last array given to {@link #of(MLAlgorithmEnum[])} with exactly the constants of the enum, so that callers
+     * that always pass the same array are matched by identity.
+     */
+    private volatile Object[] lastValues;
+
+    /**
+     * The constants of the enum by algorithm name. When several constants have the same name, the first one is kept.
+     */
+    private final ImmutableMap<String, MLAlgorithmEnum> byName;
+
+    /**
+     * Creates the index of a class.
+     *
+     * @param type The class.
+     */
+    private MLAlgorithmIndex(final Class<?> type) {
+        final Object[] constants = type.isEnum() && MLAlgorithmEnum.class.isAssignableFrom(type)
+                ? type.getEnumConstants()
+                : new Object[0];
+
+        final Map<String, MLAlgorithmEnum> index = new LinkedHashMap<>();
+        for (final Object constant : constants) {
+            final MLAlgorithmEnum algorithm = (MLAlgorithmEnum) constant;
+            index.putIfAbsent(algorithm.getName(), algorithm);
+        }
+        this.constants = constants;
+        this.byName = ImmutableMap.copyOf(index);
+    }
+
+    /**
+     * Gets the index of the enum whose values are in the given array.
+     * <p>
+     * The array is matched by identity with the last one matched, so callers that look up names often should pass the
+     * same array on every call (e.g. a constant holding the result of the {@code values()} method of the enum) and
+     * must not modify it afterwards. Other arrays are compared with the constants of the enum, in linear time.
+     *
+     * @param values The values, usually as returned by the {@code values()} method of the enum.
+     * @return The index, or {@code null} if the values are not exactly the constants of an enum, in declaration order.
+     */
+    static MLAlgorithmIndex of(final MLAlgorithmEnum[] values) {
+        final MLAlgorithmIndex index = INDICES.get(values.getClass().getComponentType());
+        if (values == index.lastValues) {
+            return index;
+        }
+        if (index.constants.length > 0 && Arrays.equals(index.constants, values)) {
+            index.lastValues = values;
+            return index;
+        }
+        return null;
+    }
+
+    /**
+     * Gets the constant with the given algorithm name.
+     *
+     * @param name The name of the algorithm.
+     * @return The constant, or {@code null} if there is none.
+     */
+    MLAlgorithmEnum get(final String name) {
+        return this.byName.get(name);
+    }
+}
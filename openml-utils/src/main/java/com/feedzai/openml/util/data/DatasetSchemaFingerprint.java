@@ -0,0 +1,119 @@
+/*
+ * Copyright 2026 Feedzai
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.feedzai.openml.util.data;
+
+import com.feedzai.openml.data.schema.AbstractValueSchema;
+import com.feedzai.openml.data.schema.CategoricalValueSchema;
+import com.feedzai.openml.data.schema.DatasetSchema;
+import com.feedzai.openml.data.schema.FieldSchema;
+import com.feedzai.openml.util.load.LoadSchemaUtils;
+import com.google.common.base.Preconditions;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Computes a stable 128-bit structural fingerprint of a {@link DatasetSchema}, so that checking whether two schemas
+ * (e.g. the one of a model and the one of the live stream) are compatible is a comparison of short Strings.
+ * <p>
+ * The fingerprint is the {@link Hashing#murmur3_128() MurmurHash3} of a canonical binary encoding of the schema
+ * (target index, and the name, index, type, missing values flag and sorted nominal values of each field), as a
+ * lowercase hexadecimal String. Unlike {@link DatasetSchema#hashCode()}, it does not depend on the JVM, so it can be
+ * persisted alongside the schema. Two schemas have the same fingerprint if and only if they are equal (barring
+ * hash collisions).
+ *
+ * @author agent (agent@local)
+ * @since 1.3.0
+ */
+public final class DatasetSchemaFingerprint {
+
+    /**
+     * The version of the canonical encoding, which is part of the fingerprint so that it can be changed in the future.
+     * It is persisted along with the fingerprint, since fingerprints of different versions cannot be compared.
+     */
+    public static final int ENCODING_VERSION = 1;
+
+    /**
+     * The fingerprints of the schemas already computed. Schemas are compared by identity and weakly referenced, which
+     * fits well with {@link DatasetSchemaInterner interned} schemas.
+     */
+    private static final LoadingCache<DatasetSchema, String> FINGERPRINTS = CacheBuilder.newBuilder()
+            .weakKeys()
+            .build(CacheLoader.from(DatasetSchemaFingerprint::compute));
+
+    /**
+     * Private constructor for utility class.
+     */
+    private DatasetSchemaFingerprint() {
+    }
+
+    /**
+     * Gets the fingerprint of the given schema.
+     *
+     * @param schema The schema.
+     * @return The fingerprint, as 32 lowercase hexadecimal characters.
+     */
+    public static String of(final DatasetSchema schema) {
+        Preconditions.checkNotNull(schema, "schema should not be null");
+        return FINGERPRINTS.getUnchecked(schema);
+    }
+
+    /**
+     * Computes the fingerprint of the given schema.
+     *
+     * @param schema The schema.
+     * @return The fingerprint.
+     */
+    private static String compute(final DatasetSchema schema) {
+        final Hasher hasher = Hashing.murmur3_128().newHasher()
+                .putInt(ENCODING_VERSION)
+                .putInt(schema.getTargetIndexOrNegative())
+                .putInt(schema.getFieldSchemas().size());
+
+        for (final FieldSchema field : schema.getFieldSchemas()) {
+            final AbstractValueSchema valueSchema = field.getValueSchema();
+            putString(hasher, field.getFieldName());
+            hasher.putInt(field.getFieldIndex());
+            putString(hasher, LoadSchemaUtils.getValueSchemaTypeToString(valueSchema));
+            hasher.putBoolean(valueSchema.isAllowMissing());
+
+            if (valueSchema instanceof CategoricalValueSchema) {
+                // the nominal values are already sorted, so their order is canonical
+                final CategoricalValueSchema categorical = (CategoricalValueSchema) valueSchema;
+                hasher.putInt(categorical.getNominalValues().size());
+                categorical.getNominalValues().forEach(value -> putString(hasher, value));
+            }
+        }
+
+        return hasher.hash().toString();
+    }
+
+    /**
+     * Adds a length-prefixed String to the hasher, so that consecutive Strings are unambiguous.
+     *
+     * @param hasher The hasher.
+     * @param value  The String.
+     */
+    private static void putString(final Hasher hasher, final String value) {
+        hasher.putInt(value.length()).putString(value, StandardCharsets.UTF_8);
+    }
+}
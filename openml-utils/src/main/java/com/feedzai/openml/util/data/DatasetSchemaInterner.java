@@ -0,0 +1,146 @@
+/*
+ * Copyright 2026 Feedzai
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.feedzai.openml.util.data;
+
+import com.feedzai.openml.data.schema.AbstractValueSchema;
+import com.feedzai.openml.data.schema.CategoricalValueSchema;
+import com.feedzai.openml.data.schema.DatasetSchema;
+import com.feedzai.openml.data.schema.FieldSchema;
+import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Interner;
+import com.google.common.collect.Interners;
+
+import java.util.List;
+import java.util.SortedSet;
+
+/**
+ * Returns a canonical instance for structurally equal {@link DatasetSchema schemas}, in the spirit of
+ * {@link String#intern()}.
+ * <p>
+ * Besides the schema itself, its {@link FieldSchema fields}, {@link AbstractValueSchema value schemas} and
+ * {@link CategoricalValueSchema#getNominalValues() nominal values} are interned as well, so that models with
+ * different (but partially overlapping) schemas still share their common parts. Since schemas that are equal to a
+ * canonical one are the same instance, checking whether two interned schemas are compatible is a reference comparison.
+ * <p>
+ * Canonical instances are weakly referenced, so they are discarded once no model uses them anymore. This class is
+ * thread-safe.
+ *
+ * @author agent (agent@local)
+ * @since 1.3.0
+ */
+public final class DatasetSchemaInterner {
+
+    /**
+     * The interner shared by the whole JVM.
+     */
+    private static final DatasetSchemaInterner DEFAULT = new DatasetSchemaInterner();
+
+    /**
+     * The canonical {@link DatasetSchema}s.
+     */
+    private final Interner<DatasetSchema> schemas = Interners.newWeakInterner();
+
+    /**
+     * The canonical {@link FieldSchema}s.
+     */
+    private final Interner<FieldSchema> fields = Interners.newWeakInterner();
+
+    /**
+     * The canonical {@link AbstractValueSchema}s.
+     */
+    private final Interner<AbstractValueSchema> valueSchemas = Interners.newWeakInterner();
+
+    /**
+     * The canonical sets of nominal values of {@link CategoricalValueSchema}s.
+     */
+    private final Interner<SortedSet<String>> nominalValues = Interners.newWeakInterner();
+
+    /**
+     * Gets the interner shared by the whole JVM.
+     *
+     * @return The default interner.
+     */
+    public static DatasetSchemaInterner getDefault() {
+        return DEFAULT;
+    }
+
+    /**
+     * Gets the canonical instance of the given schema.
+     *
+     * @param schema The schema.
+     * @return The canonical instance of the schema, which is equal to it.
+     */
+    public DatasetSchema intern(final DatasetSchema schema) {
+        Preconditions.checkNotNull(schema, "schema should not be null");
+
+        final List<FieldSchema> fieldSchemas = schema.getFieldSchemas();
+        final ImmutableList.Builder<FieldSchema> canonicalFields = ImmutableList.builder();
+        boolean allCanonical = true;
+        for (final FieldSchema field : fieldSchemas) {
+            final FieldSchema canonical = intern(field);
+            allCanonical &= canonical == field;
+            canonicalFields.add(canonical);
+        }
+
+        final DatasetSchema candidate = allCanonical
+                ? schema
+                : new DatasetSchema(schema.getTargetIndexOrNegative(), canonicalFields.build());
+
+        return this.schemas.intern(candidate);
+    }
+
+    /**
+     * Gets the canonical instance of the given field.
+     *
+     * @param field The field.
+     * @return The canonical instance of the field, which is equal to it.
+     */
+    public FieldSchema intern(final FieldSchema field) {
+        Preconditions.checkNotNull(field, "field should not be null");
+
+        final AbstractValueSchema valueSchema = intern(field.getValueSchema());
+        final FieldSchema candidate = valueSchema == field.getValueSchema()
+                ? field
+                : new FieldSchema(field.getFieldName(), field.getFieldIndex(), valueSchema);
+
+        return this.fields.intern(candidate);
+    }
+
+    /**
+     * Gets the canonical instance of the given value schema.
+     *
+     * @param valueSchema The value schema.
+     * @return The canonical instance of the value schema, which is equal to it.
+     */
+    public AbstractValueSchema intern(final AbstractValueSchema valueSchema) {
+        Preconditions.checkNotNull(valueSchema, "value schema should not be null");
+
+        AbstractValueSchema candidate = valueSchema;
+        if (valueSchema instanceof CategoricalValueSchema) {
+            final SortedSet<String> values = ((CategoricalValueSchema) valueSchema).getNominalValues();
+            final SortedSet<String> canonicalValues = this.nominalValues.intern(values);
+            if (canonicalValues != values) {
+                // the canonical set is already immutable and sorted, so the schema keeps it instead of copying it
+                candidate = new CategoricalValueSchema(valueSchema.isAllowMissing(), canonicalValues);
+            }
+        }
+
+        return this.valueSchemas.intern(candidate);
+    }
+}
@@ -60,9 +60,8 @@ public final class InstanceUtils {
      * target variable has a value present.
      */
     public static boolean isMissingClass(final Instance instance, final DatasetSchema schema) {
-        return getClassValue(instance, schema)
-                .map(value -> Double.isNaN(value))
-                .orElse(true);
+        final int targetIndex = schema.getTargetIndexOrNegative();
+        return targetIndex < 0 || isMissing(instance, targetIndex);
     }
 
     /**
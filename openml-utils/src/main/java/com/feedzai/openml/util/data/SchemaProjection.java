@@ -0,0 +1,307 @@
+/*
+ * Copyright 2026 Feedzai
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.feedzai.openml.util.data;
+
+import com.feedzai.openml.data.Instance;
+import com.feedzai.openml.data.schema.AbstractValueSchema;
+import com.feedzai.openml.data.schema.CategoricalValueSchema;
+import com.feedzai.openml.data.schema.DatasetSchema;
+import com.feedzai.openml.data.schema.FieldSchema;
+import com.google.common.base.MoreObjects;
+import com.google.common.base.Preconditions;
+import com.google.common.collect.Maps;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedSet;
+
+/**
+ * A mapping from the instances of a source {@link DatasetSchema} (e.g. the schema of the events being scored) into the
+ * instances of a target {@link DatasetSchema} (e.g. the schema of a model), compiled once so that it can be applied to
+ * every instance without looking up fields by name.
+ * <p>
+ * Fields are matched by name, and the compiled mapping consists of:
+ * <ul>
+ *     <li>an {@code int[]} with the index in the source schema of each field of the target schema;</li>
+ *     <li>for categorical fields whose nominal values differ, a table from the source codes to the target codes.
+ *     Source values that do not exist in the target field are mapped to missing ({@link Double#NaN}).</li>
+ * </ul>
+ * The target field of the target schema (i.e. the label) may not exist in the source schema, in which case it is
+ * always missing. Instances are projected through {@link Instance views} that read the source instance on demand,
+ * without copying any value.
+ * <p>
+ * This class is immutable and thread-safe.
+ *
+ * @author agent (agent@local)
+ * @since 1.3.0
+ */
+public final class SchemaProjection {
+
+    /**
+     * The source index of a target field that does not exist in the source schema.
+     */
+    private static final int ABSENT = -1;
+
+    /**
+     * The source schema.
+     */
+    private final DatasetSchema sourceSchema;
+
+    /**
+     * The target schema.
+     */
+    private final DatasetSchema targetSchema;
+
+    /**
+     * The index in the source schema of each field of the target schema, {@link #ABSENT} if it does not exist.
+     */
+    private final int[] sourceIndices;
+
+    /**
+     * For each field of the target schema, the table that converts a source categorical code into the target code,
+     * or {@code null} if the value does not need to be converted.
+     */
+    private final double[][] codeTables;
+
+    /**
+     * Creates a new instance.
+     *
+     * @param sourceSchema  The source schema.
+     * @param targetSchema  The target schema.
+     * @param sourceIndices The index in the source schema of each field of the target schema.
+     * @param codeTables    The categorical code conversion table of each field of the target schema.
+     */
+    private SchemaProjection(final DatasetSchema sourceSchema,
+                             final DatasetSchema targetSchema,
+                             final int[] sourceIndices,
+                             final double[][] codeTables) {
+        this.sourceSchema = sourceSchema;
+        this.targetSchema = targetSchema;
+        this.sourceIndices = sourceIndices;
+        this.codeTables = codeTables;
+    }
+
+    /**
+     * Compiles the projection from instances of the source schema into instances of the target schema.
+     *
+     * @param sourceSchema The schema of the instances to project.
+     * @param targetSchema The schema of the projected instances.
+     * @return The compiled projection.
+     * @throws IllegalArgumentException If a (non target) field of the target schema does not exist in the source schema
+     *                                  or has a different type.
+     */
+    public static SchemaProjection compile(final DatasetSchema sourceSchema, final DatasetSchema targetSchema) {
+        Preconditions.checkNotNull(sourceSchema, "source schema should not be null");
+        Preconditions.checkNotNull(targetSchema, "target schema should not be null");
+
+        final List<FieldSchema> targetFields = targetSchema.getFieldSchemas();
+        final int[] sourceIndices = new int[targetFields.size()];
+        final double[][] codeTables = new double[targetFields.size()][];
+
+        for (final FieldSchema targetField : targetFields) {
+            final int targetIndex = targetField.getFieldIndex();
+            final int sourceIndex = sourceSchema.indexOf(targetField.getFieldName());
+
+            if (sourceIndex < 0) {
+                Preconditions.checkArgument(
+                        targetIndex == targetSchema.getTargetIndexOrNegative(),
+                        "field [%s] does not exist in the source schema",
+                        targetField.getFieldName()
+                );
+                sourceIndices[targetIndex] = ABSENT;
+                continue;
+            }
+
+            final AbstractValueSchema sourceValueSchema = sourceSchema.getFieldSchemas().get(sourceIndex).getValueSchema();
+            final AbstractValueSchema targetValueSchema = targetField.getValueSchema();
+            Preconditions.checkArgument(
+                    sourceValueSchema.getClass().equals(targetValueSchema.getClass()),
+                    "field [%s] is of type [%s] in the source schema but of type [%s] in the target schema",
+                    targetField.getFieldName(),
+                    sourceValueSchema.getClass().getSimpleName(),
+                    targetValueSchema.getClass().getSimpleName()
+            );
+
+            sourceIndices[targetIndex] = sourceIndex;
+            if (targetValueSchema instanceof CategoricalValueSchema) {
+                codeTables[targetIndex] = createCodeTable(
+                        ((CategoricalValueSchema) sourceValueSchema).getNominalValues(),
+                        ((CategoricalValueSchema) targetValueSchema).getNominalValues()
+                );
+            }
+        }
+
+        return new SchemaProjection(sourceSchema, targetSchema, sourceIndices, codeTables);
+    }
+
+    /**
+     * Creates the table that converts the codes of the source nominal values into the codes of the target ones.
+     *
+     * @param sourceValues The source nominal values.
+     * @param targetValues The target nominal values.
+     * @return The table, or {@code null} if both sets of values are the same.
+     */
+    private static double[] createCodeTable(final SortedSet<String> sourceValues, final SortedSet<String> targetValues) {
+        if (sourceValues.equals(targetValues)) {
+            return null;
+        }
+
+        final Map<String, Integer> targetCodes = Maps.newHashMapWithExpectedSize(targetValues.size());
+        for (final String value : targetValues) {
+            targetCodes.put(value, targetCodes.size());
+        }
+
+        final double[] codeTable = new double[sourceValues.size()];
+        int sourceCode = 0;
+        for (final String value : sourceValues) {
+            final Integer targetCode = targetCodes.get(value);
+            codeTable[sourceCode++] = targetCode == null ? Double.NaN : targetCode;
+        }
+        return codeTable;
+    }
+
+    /**
+     * Gets the schema of the instances to project.
+     *
+     * @return The source schema.
+     */
+    public DatasetSchema getSourceSchema() {
+        return this.sourceSchema;
+    }
+
+    /**
+     * Gets the schema of the projected instances.
+     *
+     * @return The target schema.
+     */
+    public DatasetSchema getTargetSchema() {
+        return this.targetSchema;
+    }
+
+    /**
+     * Gets the index in the source schema of the field with the given index in the target schema.
+     *
+     * @param targetIndex The index of the field in the target schema.
+     * @return The index of the field in the source schema, or {@code -1} if it does not exist there.
+     */
+    public int getSourceIndex(final int targetIndex) {
+        return this.sourceIndices[targetIndex];
+    }
+
+    /**
+     * Projects an instance of the source schema into the target schema, without copying any value.
+     *
+     * @param instance The instance of the source schema.
+     * @return A view of the instance in the target schema, which reflects any change to the source instance.
+     */
+    public Instance project(final Instance instance) {
+        return newView().wrap(instance);
+    }
+
+    /**
+     * Creates a view that can be reused to project several instances (one at a time), so that no object is created per
+     * instance. Like the instances, views are not thread-safe.
+     *
+     * @return A new view, not wrapping any instance yet.
+     */
+    public ProjectedInstance newView() {
+        return new ProjectedInstance();
+    }
+
+    /**
+     * Gets the value of a field of the target schema, from an instance of the source schema.
+     *
+     * @param instance    The instance of the source schema.
+     * @param targetIndex The index of the field in the target schema.
+     * @return The value.
+     */
+    private double getValue(final Instance instance, final int targetIndex) {
+        final int sourceIndex = this.sourceIndices[targetIndex];
+        if (sourceIndex == ABSENT) {
+            return Double.NaN;
+        }
+
+        final double value = instance.getValue(sourceIndex);
+        final double[] codeTable = this.codeTables[targetIndex];
+        if (codeTable == null || Double.isNaN(value)) {
+            return value;
+        }
+        return codeTable[(int) value];
+    }
+
+    /**
+     * Gets the String value of a field of the target schema, from an instance of the source schema.
+     *
+     * @param instance    The instance of the source schema.
+     * @param targetIndex The index of the field in the target schema.
+     * @return The value.
+     */
+    private String getStringValue(final Instance instance, final int targetIndex) {
+        final int sourceIndex = this.sourceIndices[targetIndex];
+        return sourceIndex == ABSENT ? AbstractValueSchema.MISSING_VALUE : instance.getStringValue(sourceIndex);
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(this)
+                .add("sourceIndices", Arrays.toString(this.sourceIndices))
+                .add("targetSchema", this.targetSchema)
+                .toString();
+    }
+
+    /**
+     * An {@link Instance} of the target schema that reads the values of a wrapped instance of the source schema.
+     *
+     * @since 1.3.0
+     */
+    public final class ProjectedInstance implements Instance {
+
+        /**
+         * The wrapped instance of the source schema.
+         */
+        private Instance source;
+
+        /**
+         * Creates a new instance.
+         */
+        private ProjectedInstance() {
+        }
+
+        /**
+         * Makes this view project the given instance of the source schema.
+         *
+         * @param instance The instance of the source schema.
+         * @return {@code this} view.
+         */
+        public ProjectedInstance wrap(final Instance instance) {
+            this.source = Preconditions.checkNotNull(instance, "instance should not be null");
+            return this;
+        }
+
+        @Override
+        public double getValue(final int index) {
+            return SchemaProjection.this.getValue(this.source, index);
+        }
+
+        @Override
+        public String getStringValue(final int index) {
+            return SchemaProjection.this.getStringValue(this.source, index);
+        }
+    }
+}
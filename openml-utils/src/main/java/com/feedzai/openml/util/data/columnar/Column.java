@@ -0,0 +1,621 @@
+/*
+ * Copyright 2026 Feedzai
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.feedzai.openml.util.data.columnar;
+
+import com.feedzai.openml.data.FeatureValues;
+import com.feedzai.openml.data.Instance;
+import com.feedzai.openml.data.schema.AbstractValueSchema;
+import com.feedzai.openml.data.schema.CategoricalValueSchema;
+import com.feedzai.openml.data.schema.NumericValueSchema;
+
+import java.util.Arrays;
+
+/**
+ * The values of a single field of a {@link ColumnarDataset}, held in a primitive array whose type depends on the
+ * {@link StorageMode}.
+ *
+ * @author agent (agent@local)
+ * @since 1.3.0
+ */
+abstract class Column implements FeatureValues {
+
+    /**
+     * The code used by categorical columns of integer types to represent a missing value.
+     */
+    static final int MISSING_CODE = -1;
+
+    /**
+     * Creates the {@link Builder} of a column for the given field.
+     *
+     * @param valueSchema The schema of the field.
+     * @param mode        The {@link StorageMode}.
+     * @param capacity    The initial number of rows to allocate.
+     * @return The builder.
+     */
+    static Builder builder(final AbstractValueSchema valueSchema, final StorageMode mode, final int capacity) {
+        if (valueSchema instanceof NumericValueSchema) {
+            return mode == StorageMode.COMPACT ? new FloatColumn(capacity) : new DoubleColumn(capacity);
+
+        } else if (valueSchema instanceof CategoricalValueSchema) {
+            final int numValues = ((CategoricalValueSchema) valueSchema).getNominalValues().size();
+            if (mode == StorageMode.DOUBLE) {
+                return new DoubleColumn(capacity);
+            } else if (numValues <= Byte.MAX_VALUE + 1) {
+                return new ByteColumn(capacity, numValues);
+            } else if (numValues <= Short.MAX_VALUE + 1) {
+                return new ShortColumn(capacity, numValues);
+            } else {
+                return new IntColumn(capacity, numValues);
+            }
+
+        } else {
+            return new StringColumn(capacity);
+        }
+    }
+
+    /**
+     * Gets the value on the given row as a double.
+     *
+     * @param row The 0-based row.
+     * @return The value.
+     */
+    @Override
+    public abstract double getValue(int row);
+
+    /**
+     * Gets the value on the given row as a String.
+     *
+     * @param row The 0-based row.
+     * @return The value.
+     * @throws UnsupportedOperationException If this is not a column of a string field.
+     */
+    String getStringValue(final int row) {
+        throw new UnsupportedOperationException("The field is not a string field.");
+    }
+
+    /**
+     * Gets the number of bytes used by the values of this column (disregarding object headers).
+     *
+     * @return The number of bytes.
+     */
+    abstract long getSizeInBytes();
+
+    /**
+     * Creates a new column with the values on the given rows, in the given order.
+     *
+     * @param rows The rows to copy.
+     * @return The new column.
+     */
+    abstract Column select(int[] rows);
+
+    /**
+     * Validates that a categorical code is a valid index of the nominal values, or missing.
+     *
+     * @param value     The categorical value as a double.
+     * @param numValues The number of nominal values of the field.
+     * @return The code of the value, or {@link #MISSING_CODE}.
+     */
+    static int toCode(final double value, final int numValues) {
+        if (Double.isNaN(value)) {
+            return MISSING_CODE;
+        }
+        final int code = (int) value;
+        if (code != value || code < 0 || code >= numValues) {
+            throw new IllegalArgumentException(String.format(
+                    "Invalid categorical value [%s] for a field with %d nominal values.", value, numValues
+            ));
+        }
+        return code;
+    }
+
+    /**
+     * Converts a categorical code back to its double representation.
+     *
+     * @param code The code.
+     * @return The value as a double, {@link Double#NaN} when missing.
+     */
+    static double fromCode(final int code) {
+        return code == MISSING_CODE ? Double.NaN : code;
+    }
+
+    /**
+     * A column under construction.
+     */
+    abstract static class Builder {
+
+        /**
+         * The number of values appended so far.
+         */
+        int size;
+
+        /**
+         * Appends the value of the given field of an {@link Instance}.
+         *
+         * @param instance The instance.
+         * @param field    The index of the field.
+         */
+        abstract void append(Instance instance, int field);
+
+        /**
+         * Builds the column with the values appended so far.
+         *
+         * @return The column.
+         */
+        abstract Column build();
+
+        /**
+         * Computes the new capacity of the backing array when it is full.
+         *
+         * @param capacity The current capacity.
+         * @return The new capacity.
+         */
+        static int grow(final int capacity) {
+            return Math.max(16, capacity + (capacity >> 1));
+        }
+    }
+
+    /**
+     * A column of doubles, used by {@link StorageMode#DOUBLE}.
+     */
+    private static final class DoubleColumn extends Builder {
+
+        /**
+         * The values.
+         */
+        private double[] values;
+
+        /**
+         * Creates a new builder.
+         *
+         * @param capacity The initial capacity.
+         */
+        DoubleColumn(final int capacity) {
+            this.values = new double[capacity];
+        }
+
+        @Override
+        void append(final Instance instance, final int field) {
+            if (this.size == this.values.length) {
+                this.values = Arrays.copyOf(this.values, grow(this.size));
+            }
+            this.values[this.size++] = instance.getValue(field);
+        }
+
+        @Override
+        Column build() {
+            return new Values(Arrays.copyOf(this.values, this.size));
+        }
+
+        /**
+         * The built column.
+         */
+        private static final class Values extends Column {
+
+            /**
+             * The values.
+             */
+            private final double[] values;
+
+            /**
+             * Creates a new column.
+             *
+             * @param values The values.
+             */
+            Values(final double[] values) {
+                this.values = values;
+            }
+
+            @Override
+            public double getValue(final int row) {
+                return this.values[row];
+            }
+
+            @Override
+            long getSizeInBytes() {
+                return (long) this.values.length * Double.BYTES;
+            }
+
+            @Override
+            Column select(final int[] rows) {
+                return new Values(Arrays.stream(rows).mapToDouble(row -> this.values[row]).toArray());
+            }
+        }
+    }
+
+    /**
+     * A column of floats, used for numeric fields by {@link StorageMode#COMPACT}.
+     */
+    private static final class FloatColumn extends Builder {
+
+        /**
+         * The values.
+         */
+        private float[] values;
+
+        /**
+         * Creates a new builder.
+         *
+         * @param capacity The initial capacity.
+         */
+        FloatColumn(final int capacity) {
+            this.values = new float[capacity];
+        }
+
+        @Override
+        void append(final Instance instance, final int field) {
+            if (this.size == this.values.length) {
+                this.values = Arrays.copyOf(this.values, grow(this.size));
+            }
+            this.values[this.size++] = (float) instance.getValue(field);
+        }
+
+        @Override
+        Column build() {
+            return new Values(Arrays.copyOf(this.values, this.size));
+        }
+
+        /**
+         * The built column.
+         */
+        private static final class Values extends Column {
+
+            /**
+             * The values.
+             */
+            private final float[] values;
+
+            /**
+             * Creates a new column.
+             *
+             * @param values The values.
+             */
+            Values(final float[] values) {
+                this.values = values;
+            }
+
+            @Override
+            public double getValue(final int row) {
+                return this.values[row];
+            }
+
+            @Override
+            long getSizeInBytes() {
+                return (long) this.values.length * Float.BYTES;
+            }
+
+            @Override
+            Column select(final int[] rows) {
+                final float[] selected = new float[rows.length];
+                for (int i = 0; i < rows.length; i++) {
+                    selected[i] = this.values[rows[i]];
+                }
+                return new Values(selected);
+            }
+        }
+    }
+
+    /**
+     * A column of byte codes, used for categorical fields with up to 128 nominal values by
+     * {@link StorageMode#COMPACT}.
+     */
+    private static final class ByteColumn extends Builder {
+
+        /**
+         * The number of nominal values of the field.
+         */
+        private final int numValues;
+
+        /**
+         * The codes.
+         */
+        private byte[] codes;
+
+        /**
+         * Creates a new builder.
+         *
+         * @param capacity  The initial capacity.
+         * @param numValues The number of nominal values of the field.
+         */
+        ByteColumn(final int capacity, final int numValues) {
+            this.codes = new byte[capacity];
+            this.numValues = numValues;
+        }
+
+        @Override
+        void append(final Instance instance, final int field) {
+            if (this.size == this.codes.length) {
+                this.codes = Arrays.copyOf(this.codes, grow(this.size));
+            }
+            this.codes[this.size++] = (byte) toCode(instance.getValue(field), this.numValues);
+        }
+
+        @Override
+        Column build() {
+            return new Values(Arrays.copyOf(this.codes, this.size));
+        }
+
+        /**
+         * The built column.
+         */
+        private static final class Values extends Column {
+
+            /**
+             * The codes.
+             */
+            private final byte[] codes;
+
+            /**
+             * Creates a new column.
+             *
+             * @param codes The codes.
+             */
+            Values(final byte[] codes) {
+                this.codes = codes;
+            }
+
+            @Override
+            public double getValue(final int row) {
+                return fromCode(this.codes[row]);
+            }
+
+            @Override
+            long getSizeInBytes() {
+                return this.codes.length;
+            }
+
+            @Override
+            Column select(final int[] rows) {
+                final byte[] selected = new byte[rows.length];
+                for (int i = 0; i < rows.length; i++) {
+                    selected[i] = this.codes[rows[i]];
+                }
+                return new Values(selected);
+            }
+        }
+    }
+
+    /**
+     * A column of short codes, used for categorical fields with up to 32768 nominal values by
+     * {@link StorageMode#COMPACT}.
+     */
+    private static final class ShortColumn extends Builder {
+
+        /**
+         * The number of nominal values of the field.
+         */
+        private final int numValues;
+
+        /**
+         * The codes.
+         */
+        private short[] codes;
+
+        /**
+         * Creates a new builder.
+         *
+         * @param capacity  The initial capacity.
+         * @param numValues The number of nominal values of the field.
+         */
+        ShortColumn(final int capacity, final int numValues) {
+            this.codes = new short[capacity];
+            this.numValues = numValues;
+        }
+
+        @Override
+        void append(final Instance instance, final int field) {
+            if (this.size == this.codes.length) {
+                this.codes = Arrays.copyOf(this.codes, grow(this.size));
+            }
+            this.codes[this.size++] = (short) toCode(instance.getValue(field), this.numValues);
+        }
+
+        @Override
+        Column build() {
+            return new Values(Arrays.copyOf(this.codes, this.size));
+        }
+
+        /**
+         * The built column.
+         */
+        private static final class Values extends Column {
+
+            /**
+             * The codes.
+             */
+            private final short[] codes;
+
+            /**
+             * Creates a new column.
+             *
+             * @param codes The codes.
+             */
+            Values(final short[] codes) {
+                this.codes = codes;
+            }
+
+            @Override
+            public double getValue(final int row) {
+                return fromCode(this.codes[row]);
+            }
+
+            @Override
+            long getSizeInBytes() {
+                return (long) this.codes.length * Short.BYTES;
+            }
+
+            @Override
+            Column select(final int[] rows) {
+                final short[] selected = new short[rows.length];
+                for (int i = 0; i < rows.length; i++) {
+                    selected[i] = this.codes[rows[i]];
+                }
+                return new Values(selected);
+            }
+        }
+    }
+
+    /**
+     * A column of int codes, used for categorical fields with more than 32768 nominal values by
+     * {@link StorageMode#COMPACT}.
+     */
+    private static final class IntColumn extends Builder {
+
+        /**
+         * The number of nominal values of the field.
+         */
+        private final int numValues;
+
+        /**
+         * The codes.
+         */
+        private int[] codes;
+
+        /**
+         * Creates a new builder.
+         *
+         * @param capacity  The initial capacity.
+         * @param numValues The number of nominal values of the field.
+         */
+        IntColumn(final int capacity, final int numValues) {
+            this.codes = new int[capacity];
+            this.numValues = numValues;
+        }
+
+        @Override
+        void append(final Instance instance, final int field) {
+            if (this.size == this.codes.length) {
+                this.codes = Arrays.copyOf(this.codes, grow(this.size));
+            }
+            this.codes[this.size++] = toCode(instance.getValue(field), this.numValues);
+        }
+
+        @Override
+        Column build() {
+            return new Values(Arrays.copyOf(this.codes, this.size));
+        }
+
+        /**
+         * The built column.
+         */
+        private static final class Values extends Column {
+
+            /**
+             * The codes.
+             */
+            private final int[] codes;
+
+            /**
+             * Creates a new column.
+             *
+             * @param codes The codes.
+             */
+            Values(final int[] codes) {
+                this.codes = codes;
+            }
+
+            @Override
+            public double getValue(final int row) {
+                return fromCode(this.codes[row]);
+            }
+
+            @Override
+            long getSizeInBytes() {
+                return (long) this.codes.length * Integer.BYTES;
+            }
+
+            @Override
+            Column select(final int[] rows) {
+                return new Values(Arrays.stream(rows).map(row -> this.codes[row]).toArray());
+            }
+        }
+    }
+
+    /**
+     * A column of Strings, used for string fields in every {@link StorageMode}.
+     */
+    private static final class StringColumn extends Builder {
+
+        /**
+         * The values.
+         */
+        private String[] values;
+
+        /**
+         * Creates a new builder.
+         *
+         * @param capacity The initial capacity.
+         */
+        StringColumn(final int capacity) {
+            this.values = new String[capacity];
+        }
+
+        @Override
+        void append(final Instance instance, final int field) {
+            if (this.size == this.values.length) {
+                this.values = Arrays.copyOf(this.values, grow(this.size));
+            }
+            this.values[this.size++] = instance.getStringValue(field);
+        }
+
+        @Override
+        Column build() {
+            return new Values(Arrays.copyOf(this.values, this.size));
+        }
+
+        /**
+         * The built column.
+         */
+        private static final class Values extends Column {
+
+            /**
+             * The values.
+             */
+            private final String[] values;
+
+            /**
+             * Creates a new column.
+             *
+             * @param values The values.
+             */
+            Values(final String[] values) {
+                this.values = values;
+            }
+
+            @Override
+            public double getValue(final int row) {
+                throw new UnsupportedOperationException("String fields cannot be read as doubles.");
+            }
+
+            @Override
+            String getStringValue(final int row) {
+                return this.values[row];
+            }
+
+            @Override
+            long getSizeInBytes() {
+                // only accounts for the references, as the Strings may be shared with other objects
+                return (long) this.values.length * Integer.BYTES;
+            }
+
+            @Override
+            Column select(final int[] rows) {
+                return new Values(Arrays.stream(rows).mapToObj(row -> this.values[row]).toArray(String[]::new));
+            }
+        }
+    }
+}
@@ -0,0 +1,416 @@
+/*
+ * Copyright 2026 Feedzai
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.feedzai.openml.util.data.columnar;
+
+import com.feedzai.openml.data.Dataset;
+import com.feedzai.openml.data.FeatureValues;
+import com.feedzai.openml.data.Instance;
+import com.feedzai.openml.data.InstanceCursor;
+import com.feedzai.openml.data.PartitionedDataset;
+import com.feedzai.openml.data.schema.DatasetSchema;
+import com.feedzai.openml.data.schema.FieldSchema;
+import com.google.common.base.MoreObjects;
+import com.google.common.base.Preconditions;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * A {@link Dataset} that holds the values of each field in a separate primitive array (column), instead of one object
+ * per instance.
+ * <p>
+ * Besides avoiding the per-instance overhead, the {@link StorageMode} allows to trade numeric precision for memory:
+ * with {@link StorageMode#COMPACT} numeric fields are held as floats and categorical fields as the smallest integer
+ * type able to index their nominal values.
+ *
+ * @author agent (agent@local)
+ * @since 1.3.0
+ */
+public class ColumnarDataset implements Dataset {
+
+    /**
+     * The schema of the dataset.
+     */
+    private final DatasetSchema schema;
+
+    /**
+     * The {@link StorageMode} used by the columns.
+     */
+    private final StorageMode storageMode;
+
+    /**
+     * The columns, one per field of the schema.
+     */
+    private final Column[] columns;
+
+    /**
+     * The number of instances of the dataset.
+     */
+    private final int numInstances;
+
+    /**
+     * Creates a new instance.
+     *
+     * @param schema       The schema of the dataset.
+     * @param storageMode  The {@link StorageMode} used by the columns.
+     * @param columns      The columns, one per field of the schema.
+     * @param numInstances The number of instances of the dataset.
+     */
+    private ColumnarDataset(final DatasetSchema schema,
+                            final StorageMode storageMode,
+                            final Column[] columns,
+                            final int numInstances) {
+        this.schema = schema;
+        this.storageMode = storageMode;
+        this.columns = columns;
+        this.numInstances = numInstances;
+    }
+
+    /**
+     * Creates a builder for a dataset with the given schema.
+     *
+     * @param schema      The schema of the dataset.
+     * @param storageMode The {@link StorageMode} to use.
+     * @return The builder.
+     */
+    public static Builder builder(final DatasetSchema schema, final StorageMode storageMode) {
+        return new Builder(schema, storageMode);
+    }
+
+    /**
+     * Creates a columnar copy of the given dataset.
+     *
+     * @param dataset     The dataset to copy.
+     * @param storageMode The {@link StorageMode} to use.
+     * @return The new dataset.
+     */
+    public static ColumnarDataset copyOf(final Dataset dataset, final StorageMode storageMode) {
+        final Builder builder = builder(dataset.getSchema(), storageMode);
+        dataset.getInstances().forEachRemaining(builder::addInstance);
+        return builder.build();
+    }
+
+    @Override
+    public DatasetSchema getSchema() {
+        return this.schema;
+    }
+
+    /**
+     * Gets the {@link StorageMode} used by this dataset.
+     *
+     * @return The storage mode.
+     */
+    public StorageMode getStorageMode() {
+        return this.storageMode;
+    }
+
+    @Override
+    public int numInstances() {
+        return this.numInstances;
+    }
+
+    /**
+     * Gets the number of bytes used by the values held in this dataset, disregarding object headers and the contents
+     * of Strings.
+     *
+     * @return The number of bytes.
+     */
+    public long getDataSizeInBytes() {
+        return Arrays.stream(this.columns).mapToLong(Column::getSizeInBytes).sum();
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The returned {@link Instance} is a view over the columns of this dataset, so it is cheap to create.
+     */
+    @Override
+    public Instance instance(final int index) {
+        Preconditions.checkElementIndex(index, this.numInstances, "instance index");
+        return new RowInstance(index);
+    }
+
+    @Override
+    public FeatureValues feature(final int index) {
+        return this.columns[index];
+    }
+
+    @Override
+    public Iterator<Instance> getInstances() {
+        return new Iterator<Instance>() {
+
+            /**
+             * The next row to return.
+             */
+            private int row = 0;
+
+            @Override
+            public boolean hasNext() {
+                return this.row < ColumnarDataset.this.numInstances;
+            }
+
+            @Override
+            public Instance next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return new RowInstance(this.row++);
+            }
+        };
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The returned cursor repositions a single {@link Instance} view over the columns, so a full pass over the dataset
+     * does not create any object per row.
+     */
+    @Override
+    public InstanceCursor cursor() {
+        return new RowCursor();
+    }
+
+    @Override
+    public ColumnarDataset filter(final Predicate<Instance> predicate) {
+        return select(IntStream.range(0, this.numInstances)
+                              .filter(row -> predicate.test(new RowInstance(row)))
+                              .toArray());
+    }
+
+    @Override
+    public <K> Map<K, Dataset> groupBy(final Function<Instance, K> function) {
+        return IntStream.range(0, this.numInstances)
+                .boxed()
+                .collect(Collectors.groupingBy(row -> function.apply(new RowInstance(row))))
+                .entrySet()
+                .stream()
+                .collect(Collectors.toMap(Map.Entry::getKey, entry -> select(toRows(entry.getValue()))));
+    }
+
+    @Override
+    public PartitionedDataset partition(final Predicate<Instance> predicate) {
+        final Map<Boolean, List<Integer>> partitions = IntStream.range(0, this.numInstances)
+                .boxed()
+                .collect(Collectors.partitioningBy(row -> predicate.test(new RowInstance(row))));
+
+        final ColumnarDataset matched = select(toRows(partitions.get(true)));
+        final ColumnarDataset unmatched = select(toRows(partitions.get(false)));
+
+        return new PartitionedDataset() {
+            @Override
+            public Dataset getMatchedData() {
+                return matched;
+            }
+
+            @Override
+            public Dataset getUnmatchedData() {
+                return unmatched;
+            }
+        };
+    }
+
+    @Override
+    public ColumnarDataset empty() {
+        return select(new int[0]);
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(this)
+                .add("storageMode", this.storageMode)
+                .add("numInstances", this.numInstances)
+                .add("schema", this.schema)
+                .toString();
+    }
+
+    /**
+     * Creates a new dataset with the given rows of this one.
+     *
+     * @param rows The rows to copy, in the order they should appear in the new dataset.
+     * @return The new dataset.
+     */
+    private ColumnarDataset select(final int[] rows) {
+        final Column[] selected = Arrays.stream(this.columns)
+                .map(column -> column.select(rows))
+                .toArray(Column[]::new);
+        return new ColumnarDataset(this.schema, this.storageMode, selected, rows.length);
+    }
+
+    /**
+     * Converts a list of boxed rows into an array.
+     *
+     * @param rows The rows.
+     * @return The rows array.
+     */
+    private static int[] toRows(final List<Integer> rows) {
+        return rows.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    /**
+     * An {@link Instance} that reads the values of a row from the columns of this dataset.
+     */
+    private final class RowInstance implements Instance {
+
+        /**
+         * The row of this instance.
+         */
+        private final int row;
+
+        /**
+         * Creates a new instance.
+         *
+         * @param row The row of this instance.
+         */
+        RowInstance(final int row) {
+            this.row = row;
+        }
+
+        @Override
+        public double getValue(final int index) {
+            return ColumnarDataset.this.columns[index].getValue(this.row);
+        }
+
+        @Override
+        public String getStringValue(final int index) {
+            return ColumnarDataset.this.columns[index].getStringValue(this.row);
+        }
+    }
+
+    /**
+     * An {@link InstanceCursor} that is also the {@link Instance} view it returns, repositioned on every row.
+     */
+    private final class RowCursor implements InstanceCursor, Instance {
+
+        /**
+         * The row on which the cursor is positioned, {@code -1} before the first call to {@link #next()}.
+         */
+        private int row = -1;
+
+        @Override
+        public boolean next() {
+            if (this.row < ColumnarDataset.this.numInstances) {
+                this.row++;
+            }
+            return this.row < ColumnarDataset.this.numInstances;
+        }
+
+        @Override
+        public Instance current() {
+            Preconditions.checkState(
+                    this.row >= 0 && this.row < ColumnarDataset.this.numInstances,
+                    "The cursor is not positioned on an instance."
+            );
+            return this;
+        }
+
+        @Override
+        public double getValue(final int index) {
+            return ColumnarDataset.this.columns[index].getValue(this.row);
+        }
+
+        @Override
+        public String getStringValue(final int index) {
+            return ColumnarDataset.this.columns[index].getStringValue(this.row);
+        }
+    }
+
+    /**
+     * Builder of {@link ColumnarDataset}s.
+     *
+     * @since 1.3.0
+     */
+    public static final class Builder {
+
+        /**
+         * The initial number of rows allocated per column.
+         */
+        private static final int INITIAL_CAPACITY = 1024;
+
+        /**
+         * The schema of the dataset.
+         */
+        private final DatasetSchema schema;
+
+        /**
+         * The {@link StorageMode} of the dataset.
+         */
+        private final StorageMode storageMode;
+
+        /**
+         * The columns under construction.
+         */
+        private final Column.Builder[] columns;
+
+        /**
+         * The number of instances added so far.
+         */
+        private int numInstances = 0;
+
+        /**
+         * Creates a new builder.
+         *
+         * @param schema      The schema of the dataset.
+         * @param storageMode The {@link StorageMode} of the dataset.
+         */
+        private Builder(final DatasetSchema schema, final StorageMode storageMode) {
+            Preconditions.checkNotNull(schema, "schema should not be null");
+            Preconditions.checkNotNull(storageMode, "storage mode should not be null");
+
+            this.schema = schema;
+            this.storageMode = storageMode;
+            this.columns = schema.getFieldSchemas().stream()
+                    .map(FieldSchema::getValueSchema)
+                    .map(valueSchema -> Column.builder(valueSchema, storageMode, INITIAL_CAPACITY))
+                    .toArray(Column.Builder[]::new);
+        }
+
+        /**
+         * Adds a copy of the given instance to the dataset.
+         *
+         * @param instance The instance to add.
+         * @return {@code this} builder.
+         * @throws IllegalArgumentException If a categorical value is not a valid index of the field's nominal values.
+         */
+        public Builder addInstance(final Instance instance) {
+            for (int field = 0; field < this.columns.length; field++) {
+                this.columns[field].append(instance, field);
+            }
+            this.numInstances++;
+            return this;
+        }
+
+        /**
+         * Builds the {@link ColumnarDataset} with all the instances added so far.
+         *
+         * @return The dataset.
+         */
+        public ColumnarDataset build() {
+            final Column[] built = Arrays.stream(this.columns)
+                    .map(Column.Builder::build)
+                    .toArray(Column[]::new);
+            return new ColumnarDataset(this.schema, this.storageMode, built, this.numInstances);
+        }
+    }
+}
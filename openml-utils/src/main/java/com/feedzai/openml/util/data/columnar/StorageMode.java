@@ -0,0 +1,47 @@
+/*
+ * Copyright 2026 Feedzai
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.feedzai.openml.util.data.columnar;
+
+import com.feedzai.openml.data.Instance;
+import com.feedzai.openml.data.schema.CategoricalValueSchema;
+import com.feedzai.openml.data.schema.NumericValueSchema;
+
+/**
+ * Specifies how the values of a {@link ColumnarDataset} are held in memory. Regardless of the mode,
+ * {@link Instance#getValue(int)} always returns a double.
+ *
+ * @author agent (agent@local)
+ * @since 1.3.0
+ */
+public enum StorageMode {
+
+    /**
+     * Holds {@link NumericValueSchema numeric} and {@link CategoricalValueSchema categorical} values as doubles,
+     * without any loss of precision.
+     */
+    DOUBLE,
+
+    /**
+     * Holds {@link NumericValueSchema numeric} values as floats, and {@link CategoricalValueSchema categorical} values
+     * as the smallest integer type ({@code byte}, {@code short} or {@code int}) able to index all their nominal values.
+     * <p>
+     * Numeric values are rounded to float precision, which is usually enough for providers that train in float
+     * precision anyway (e.g. most tree ensembles), while taking half of the memory (or less, for categoricals).
+     */
+    COMPACT
+}
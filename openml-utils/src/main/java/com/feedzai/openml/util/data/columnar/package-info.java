@@ -0,0 +1,24 @@
+/*
+ * Copyright 2026 Feedzai
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+/**
+ * Column-oriented representations of {@link com.feedzai.openml.data.Dataset}s, that hold the values of each field in a
+ * primitive array with a configurable {@link com.feedzai.openml.util.data.columnar.StorageMode precision}.
+ *
+ * @since 1.3.0
+ */
+package com.feedzai.openml.util.data.columnar;
@@ -0,0 +1,187 @@
+/*
+ * Copyright 2026 Feedzai
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.feedzai.openml.util.data.encoding;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.base.Preconditions;
+
+import java.io.Serializable;
+import java.util.Arrays;
+
+/**
+ * A batch of sparse rows in the Compressed Sparse Row (CSR) format.
+ * <p>
+ * The entries of the row {@code r} are stored in the positions {@code [rowPointers[r], rowPointers[r + 1])} of both
+ * {@link #getColumnIndices()} and {@link #getValues()}. This is the layout expected by most native linear algebra and
+ * neural network libraries, so these arrays can usually be handed over without any further conversion.
+ *
+ * @author agent (agent@local)
+ * @since 1.3.0
+ */
+public final class CsrMatrix implements Serializable {
+
+    /**
+     * Serial version UID.
+     */
+    private static final long serialVersionUID = 2160318729374316455L;
+
+    /**
+     * The number of columns of the matrix.
+     */
+    private final int numColumns;
+
+    /**
+     * The offsets of each row in the entries arrays, with {@code numRows + 1} positions.
+     */
+    private final int[] rowPointers;
+
+    /**
+     * The column index of each stored entry.
+     */
+    private final int[] columnIndices;
+
+    /**
+     * The value of each stored entry.
+     */
+    private final double[] values;
+
+    /**
+     * Creates a new instance.
+     *
+     * @param numColumns    The number of columns of the matrix.
+     * @param rowPointers   The offsets of each row in the entries arrays, with {@code numRows + 1} positions.
+     * @param columnIndices The column index of each stored entry.
+     * @param values        The value of each stored entry.
+     */
+    public CsrMatrix(final int numColumns, final int[] rowPointers, final int[] columnIndices, final double[] values) {
+        Preconditions.checkNotNull(rowPointers, "row pointers should not be null");
+        Preconditions.checkNotNull(columnIndices, "column indices should not be null");
+        Preconditions.checkNotNull(values, "values should not be null");
+        Preconditions.checkArgument(rowPointers.length > 0, "row pointers should have at least one position");
+        Preconditions.checkArgument(
+                columnIndices.length == values.length && rowPointers[rowPointers.length - 1] == values.length,
+                "column indices and values should have as many positions as the number of stored entries"
+        );
+
+        this.numColumns = numColumns;
+        this.rowPointers = rowPointers;
+        this.columnIndices = columnIndices;
+        this.values = values;
+    }
+
+    /**
+     * Gets the number of rows of the matrix.
+     *
+     * @return The number of rows.
+     */
+    public int getNumRows() {
+        return this.rowPointers.length - 1;
+    }
+
+    /**
+     * Gets the number of columns of the matrix.
+     *
+     * @return The number of columns.
+     */
+    public int getNumColumns() {
+        return this.numColumns;
+    }
+
+    /**
+     * Gets the number of explicitly stored entries.
+     *
+     * @return The number of non-zero entries.
+     */
+    public int getNumNonZeros() {
+        return this.values.length;
+    }
+
+    /**
+     * Gets the offsets of each row in the entries arrays. The array is not copied and should not be modified.
+     *
+     * @return The row pointers, with {@link #getNumRows()} {@code + 1} positions.
+     */
+    public int[] getRowPointers() {
+        return this.rowPointers;
+    }
+
+    /**
+     * Gets the column index of each stored entry. The array is not copied and should not be modified.
+     *
+     * @return The column indices.
+     */
+    public int[] getColumnIndices() {
+        return this.columnIndices;
+    }
+
+    /**
+     * Gets the value of each stored entry. The array is not copied and should not be modified.
+     *
+     * @return The values.
+     */
+    public double[] getValues() {
+        return this.values;
+    }
+
+    /**
+     * Copies the given row into a {@link SparseVector}.
+     *
+     * @param row The 0-based row.
+     * @return The row as a {@link SparseVector}.
+     */
+    public SparseVector getRow(final int row) {
+        Preconditions.checkElementIndex(row, getNumRows(), "row");
+        final int from = this.rowPointers[row];
+        final int to = this.rowPointers[row + 1];
+        return new SparseVector(
+                this.numColumns,
+                Arrays.copyOfRange(this.columnIndices, from, to),
+                Arrays.copyOfRange(this.values, from, to)
+        );
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * (31 * (31 * this.numColumns + Arrays.hashCode(this.rowPointers))
+                + Arrays.hashCode(this.columnIndices)) + Arrays.hashCode(this.values);
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (obj == null || getClass() != obj.getClass()) {
+            return false;
+        }
+        final CsrMatrix other = (CsrMatrix) obj;
+        return this.numColumns == other.numColumns
+                && Arrays.equals(this.rowPointers, other.rowPointers)
+                && Arrays.equals(this.columnIndices, other.columnIndices)
+                && Arrays.equals(this.values, other.values);
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(this)
+                .add("numRows", getNumRows())
+                .add("numColumns", this.numColumns)
+                .add("numNonZeros", getNumNonZeros())
+                .toString();
+    }
+}
@@ -0,0 +1,275 @@
+/*
+ * Copyright 2026 Feedzai
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.feedzai.openml.util.data.encoding;
+
+import com.feedzai.openml.data.Instance;
+import com.feedzai.openml.data.schema.AbstractValueSchema;
+import com.feedzai.openml.data.schema.CategoricalValueSchema;
+import com.feedzai.openml.data.schema.DatasetSchema;
+import com.feedzai.openml.data.schema.FieldSchema;
+import com.feedzai.openml.data.schema.NumericValueSchema;
+import com.feedzai.openml.data.schema.StringValueSchema;
+import com.google.common.base.Preconditions;
+
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.Iterator;
+
+/**
+ * Encodes {@link Instance}s into sparse rows where each categorical field is one-hot encoded.
+ * <p>
+ * The output columns are laid out following the order of the {@link DatasetSchema#getPredictiveFields() predictive
+ * fields}: each {@link NumericValueSchema numeric} field takes one column, and each
+ * {@link CategoricalValueSchema categorical} field takes one column per nominal value, in the order of
+ * {@link CategoricalValueSchema#getNominalValues()}. {@link StringValueSchema String} fields are not encoded.
+ * <p>
+ * The column offsets of each field are computed once, when the encoder is created, so encoding an instance only
+ * writes its non-zero entries: a categorical value (as encoded by {@link EncodingHelper}) {@code c} of a field whose
+ * first column is {@code o} becomes the entry {@code (o + c, 1.0)}. Missing categorical values produce no entry (all
+ * the columns of the field are zero), while missing numeric values are kept as an explicit {@link Double#NaN} entry so
+ * they are not confused with zero.
+ *
+ * @author agent (agent@local)
+ * @since 1.3.0
+ */
+public final class SparseOneHotEncoder implements Serializable {
+
+    /**
+     * Serial version UID.
+     */
+    private static final long serialVersionUID = 1958362250437516093L;
+
+    /**
+     * Marker used in {@link #cardinalities} to identify numeric fields, which cannot be mistaken for the cardinality
+     * of a categorical field (possibly without nominal values).
+     */
+    private static final int NUMERIC_FIELD = -1;
+
+    /**
+     * Initial number of entries allocated when building {@link CsrMatrix batches} of unknown size.
+     */
+    private static final int INITIAL_BATCH_CAPACITY = 1024;
+
+    /**
+     * The schema field index of each encoded field.
+     */
+    private final int[] fieldIndices;
+
+    /**
+     * The first output column of each encoded field, aligned with {@link #fieldIndices}.
+     */
+    private final int[] offsets;
+
+    /**
+     * The number of nominal values of each encoded categorical field, or {@link #NUMERIC_FIELD} for numeric fields.
+     */
+    private final int[] cardinalities;
+
+    /**
+     * The first output column of each schema field, or {@code -1} if the field is not encoded.
+     */
+    private final int[] offsetsByFieldIndex;
+
+    /**
+     * The total number of output columns.
+     */
+    private final int numColumns;
+
+    /**
+     * Creates a new encoder for the predictive fields of the given {@link DatasetSchema}.
+     *
+     * @param schema The {@link DatasetSchema} of the {@link Instance}s to encode.
+     */
+    public SparseOneHotEncoder(final DatasetSchema schema) {
+        Preconditions.checkNotNull(schema, "The schema must not be null.");
+
+        final int numberFields = schema.getFieldSchemas().size();
+        final int[] fieldIndices = new int[numberFields];
+        final int[] offsets = new int[numberFields];
+        final int[] cardinalities = new int[numberFields];
+        this.offsetsByFieldIndex = new int[numberFields];
+        Arrays.fill(this.offsetsByFieldIndex, -1);
+
+        int encodedFields = 0;
+        int column = 0;
+        for (final FieldSchema field : schema.getPredictiveFields()) {
+            final AbstractValueSchema valueSchema = field.getValueSchema();
+            final int width;
+            if (valueSchema instanceof NumericValueSchema) {
+                cardinalities[encodedFields] = NUMERIC_FIELD;
+                width = 1;
+            } else if (valueSchema instanceof CategoricalValueSchema) {
+                width = ((CategoricalValueSchema) valueSchema).getNominalValues().size();
+                cardinalities[encodedFields] = width;
+            } else {
+                continue;
+            }
+
+            fieldIndices[encodedFields] = field.getFieldIndex();
+            offsets[encodedFields] = column;
+            this.offsetsByFieldIndex[field.getFieldIndex()] = column;
+            encodedFields++;
+            column = Math.addExact(column, width);
+        }
+
+        this.fieldIndices = Arrays.copyOf(fieldIndices, encodedFields);
+        this.offsets = Arrays.copyOf(offsets, encodedFields);
+        this.cardinalities = Arrays.copyOf(cardinalities, encodedFields);
+        this.numColumns = column;
+    }
+
+    /**
+     * Gets the total number of output columns.
+     *
+     * @return The number of columns of the encoded rows.
+     */
+    public int getNumColumns() {
+        return this.numColumns;
+    }
+
+    /**
+     * Gets the maximum number of entries a single encoded row may have, which is the number of encoded fields. Buffers
+     * given to {@link #encode(Instance, int[], double[])} should have at least this size.
+     *
+     * @return The maximum number of non-zero entries per row.
+     */
+    public int getMaxNonZerosPerRow() {
+        return this.fieldIndices.length;
+    }
+
+    /**
+     * Gets the first output column of the field with the given index.
+     *
+     * @param fieldIndex The index of the field in the {@link DatasetSchema}.
+     * @return The first column of the field, or {@code -1} if the field is not encoded (target or string fields).
+     */
+    public int getOffset(final int fieldIndex) {
+        Preconditions.checkElementIndex(fieldIndex, this.offsetsByFieldIndex.length, "field index");
+        return this.offsetsByFieldIndex[fieldIndex];
+    }
+
+    /**
+     * Encodes the given {@link Instance} into the provided buffers, without allocating any memory. This is meant for
+     * providers that feed rows to a native library one at a time and can reuse the same buffers.
+     *
+     * @param instance The {@link Instance} to encode.
+     * @param indices  The buffer where to write the column indices, with at least {@link #getMaxNonZerosPerRow()}
+     *                 positions.
+     * @param values   The buffer where to write the values, with at least {@link #getMaxNonZerosPerRow()} positions.
+     * @return The number of entries written into the buffers.
+     * @throws IllegalArgumentException If a categorical value is not a valid index of the field's nominal values.
+     */
+    public int encode(final Instance instance, final int[] indices, final double[] values) {
+        return encode(instance, indices, values, 0);
+    }
+
+    /**
+     * Encodes the given {@link Instance} into a {@link SparseVector}.
+     *
+     * @param instance The {@link Instance} to encode.
+     * @return The encoded row.
+     * @throws IllegalArgumentException If a categorical value is not a valid index of the field's nominal values.
+     */
+    public SparseVector encode(final Instance instance) {
+        final int[] indices = new int[this.fieldIndices.length];
+        final double[] values = new double[this.fieldIndices.length];
+        final int size = encode(instance, indices, values, 0);
+        return new SparseVector(this.numColumns, Arrays.copyOf(indices, size), Arrays.copyOf(values, size));
+    }
+
+    /**
+     * Encodes all the given {@link Instance}s into a {@link CsrMatrix}, one row per instance, in iteration order.
+     *
+     * @param instances The {@link Instance}s to encode.
+     * @return The encoded batch.
+     * @throws IllegalArgumentException If a categorical value is not a valid index of the field's nominal values.
+     */
+    public CsrMatrix encode(final Iterator<Instance> instances) {
+        Preconditions.checkNotNull(instances, "instances should not be null");
+
+        int[] rowPointers = new int[INITIAL_BATCH_CAPACITY / Math.max(1, this.fieldIndices.length) + 1];
+        int[] indices = new int[Math.max(INITIAL_BATCH_CAPACITY, this.fieldIndices.length)];
+        double[] values = new double[indices.length];
+
+        int rows = 0;
+        int size = 0;
+        while (instances.hasNext()) {
+            final Instance instance = instances.next();
+
+            if (indices.length - size < this.fieldIndices.length) {
+                final int capacity = Math.max(indices.length * 2, size + this.fieldIndices.length);
+                indices = Arrays.copyOf(indices, capacity);
+                values = Arrays.copyOf(values, capacity);
+            }
+            if (rows + 1 == rowPointers.length) {
+                rowPointers = Arrays.copyOf(rowPointers, rowPointers.length * 2);
+            }
+
+            size += encode(instance, indices, values, size);
+            rows++;
+            rowPointers[rows] = size;
+        }
+
+        return new CsrMatrix(
+                this.numColumns,
+                Arrays.copyOf(rowPointers, rows + 1),
+                Arrays.copyOf(indices, size),
+                Arrays.copyOf(values, size)
+        );
+    }
+
+    /**
+     * Encodes the given {@link Instance} into the provided buffers, starting at the given position.
+     *
+     * @param instance The {@link Instance} to encode.
+     * @param indices  The buffer where to write the column indices.
+     * @param values   The buffer where to write the values.
+     * @param start    The first position of the buffers to write to.
+     * @return The number of entries written into the buffers.
+     */
+    private int encode(final Instance instance, final int[] indices, final double[] values, final int start) {
+        int position = start;
+        for (int field = 0; field < this.fieldIndices.length; field++) {
+            final double value = instance.getValue(this.fieldIndices[field]);
+            final int cardinality = this.cardinalities[field];
+
+            if (cardinality == NUMERIC_FIELD) {
+                // NaN != 0.0, so missing numeric values are kept as explicit entries
+                if (value != 0.0) {
+                    indices[position] = this.offsets[field];
+                    values[position] = value;
+                    position++;
+                }
+            } else if (!Double.isNaN(value)) {
+                final int category = (int) value;
+                if (category < 0 || category >= cardinality || category != value) {
+                    throw new IllegalArgumentException(String.format(
+                            "Invalid categorical value [%s] for the field with index [%d], which has %d nominal values.",
+                            value,
+                            this.fieldIndices[field],
+                            cardinality
+                    ));
+                }
+                indices[position] = this.offsets[field] + category;
+                values[position] = 1.0;
+                position++;
+            }
+        }
+        return position - start;
+    }
+}
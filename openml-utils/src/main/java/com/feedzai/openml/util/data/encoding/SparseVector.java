@@ -0,0 +1,164 @@
+/*
+ * Copyright 2026 Feedzai
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.feedzai.openml.util.data.encoding;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.base.Preconditions;
+
+import java.io.Serializable;
+import java.util.Arrays;
+
+/**
+ * A sparse row of doubles, represented by the (ordered) column indices of its non-zero entries and the respective
+ * values. Every column that is not present in {@link #getIndices()} holds an implicit {@code 0}.
+ *
+ * @author agent (agent@local)
+ * @since 1.3.0
+ */
+public final class SparseVector implements Serializable {
+
+    /**
+     * Serial version UID.
+     */
+    private static final long serialVersionUID = -4318210386457713370L;
+
+    /**
+     * The total number of columns of this vector (including implicit zeros).
+     */
+    private final int size;
+
+    /**
+     * The column indices of the non-zero entries, in increasing order.
+     */
+    private final int[] indices;
+
+    /**
+     * The values of the non-zero entries, aligned with {@link #indices}.
+     */
+    private final double[] values;
+
+    /**
+     * Creates a new instance.
+     *
+     * @param size    The total number of columns of this vector (including implicit zeros).
+     * @param indices The column indices of the non-zero entries, in increasing order.
+     * @param values  The values of the non-zero entries, aligned with {@code indices}.
+     */
+    public SparseVector(final int size, final int[] indices, final double[] values) {
+        Preconditions.checkNotNull(indices, "indices should not be null");
+        Preconditions.checkNotNull(values, "values should not be null");
+        Preconditions.checkArgument(indices.length == values.length, "indices and values should have the same length");
+
+        this.size = size;
+        this.indices = indices;
+        this.values = values;
+    }
+
+    /**
+     * Gets the total number of columns of this vector (including implicit zeros).
+     *
+     * @return The number of columns.
+     */
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * Gets the number of explicitly stored entries.
+     *
+     * @return The number of non-zero entries.
+     */
+    public int getNumNonZeros() {
+        return this.indices.length;
+    }
+
+    /**
+     * Gets the column indices of the non-zero entries, in increasing order.
+     * <p>
+     * The returned array is not copied and should not be modified.
+     *
+     * @return The column indices.
+     */
+    public int[] getIndices() {
+        return this.indices;
+    }
+
+    /**
+     * Gets the values of the non-zero entries, aligned with {@link #getIndices()}.
+     * <p>
+     * The returned array is not copied and should not be modified.
+     *
+     * @return The values.
+     */
+    public double[] getValues() {
+        return this.values;
+    }
+
+    /**
+     * Gets the value of the given column, which is {@code 0} for any column that is not explicitly stored.
+     *
+     * @param column The 0-based column.
+     * @return The value of the column.
+     */
+    public double get(final int column) {
+        Preconditions.checkElementIndex(column, this.size, "column");
+        final int position = Arrays.binarySearch(this.indices, column);
+        return position >= 0 ? this.values[position] : 0.0;
+    }
+
+    /**
+     * Expands this vector into its dense representation.
+     *
+     * @return A new array with {@link #size()} positions.
+     */
+    public double[] toDense() {
+        final double[] dense = new double[this.size];
+        for (int i = 0; i < this.indices.length; i++) {
+            dense[this.indices[i]] = this.values[i];
+        }
+        return dense;
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * (31 * this.size + Arrays.hashCode(this.indices)) + Arrays.hashCode(this.values);
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (obj == null || getClass() != obj.getClass()) {
+            return false;
+        }
+        final SparseVector other = (SparseVector) obj;
+        return this.size == other.size
+                && Arrays.equals(this.indices, other.indices)
+                && Arrays.equals(this.values, other.values);
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(this)
+                .add("size", this.size)
+                .add("indices", Arrays.toString(this.indices))
+                .add("values", Arrays.toString(this.values))
+                .toString();
+    }
+}
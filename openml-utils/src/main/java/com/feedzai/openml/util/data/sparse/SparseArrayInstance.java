@@ -0,0 +1,145 @@
+/*
+ * Copyright 2026 Feedzai
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.feedzai.openml.util.data.sparse;
+
+import com.feedzai.openml.data.SparseInstance;
+import com.google.common.base.MoreObjects;
+import com.google.common.base.Preconditions;
+
+import java.io.Serializable;
+import java.util.Arrays;
+
+/**
+ * A {@link SparseInstance} backed by two aligned arrays with the indices and values of the non-default features.
+ * <p>
+ * The array of default values is meant to be shared by all the instances of a {@link SparseDataset}, so each instance
+ * only costs memory proportional to its non-default features.
+ *
+ * @author agent (agent@local)
+ * @since 1.3.0
+ */
+public final class SparseArrayInstance implements SparseInstance, Serializable {
+
+    /**
+     * Serial version UID.
+     */
+    private static final long serialVersionUID = -2218873914180862216L;
+
+    /**
+     * The default value of each feature, shared with other instances of the same dataset.
+     */
+    private final double[] defaultValues;
+
+    /**
+     * The indices of the non-default features, in increasing order.
+     */
+    private final int[] indices;
+
+    /**
+     * The values of the non-default features, aligned with {@link #indices}.
+     */
+    private final double[] values;
+
+    /**
+     * Creates a new instance.
+     *
+     * @param defaultValues The default value of each feature. This array is not copied.
+     * @param indices       The indices of the non-default features, in strictly increasing order.
+     * @param values        The values of the non-default features, aligned with {@code indices}.
+     */
+    public SparseArrayInstance(final double[] defaultValues, final int[] indices, final double[] values) {
+        Preconditions.checkNotNull(defaultValues, "default values should not be null");
+        Preconditions.checkNotNull(indices, "indices should not be null");
+        Preconditions.checkNotNull(values, "values should not be null");
+        Preconditions.checkArgument(indices.length == values.length, "indices and values should have the same length");
+        for (int i = 0; i < indices.length; i++) {
+            Preconditions.checkElementIndex(indices[i], defaultValues.length, "non-default index");
+            Preconditions.checkArgument(i == 0 || indices[i - 1] < indices[i], "indices should be strictly increasing");
+        }
+
+        this.defaultValues = defaultValues;
+        this.indices = indices;
+        this.values = values;
+    }
+
+    @Override
+    public double getValue(final int index) {
+        Preconditions.checkElementIndex(index, this.defaultValues.length, "index");
+        final int position = Arrays.binarySearch(this.indices, index);
+        return position >= 0 ? this.values[position] : this.defaultValues[index];
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Sparse instances only hold numeric and categorical features, so this method always throws.
+     *
+     * @throws UnsupportedOperationException Always.
+     */
+    @Override
+    public String getStringValue(final int index) {
+        throw new UnsupportedOperationException("Sparse instances do not hold string features.");
+    }
+
+    @Override
+    public double getDefaultValue(final int index) {
+        return this.defaultValues[index];
+    }
+
+    @Override
+    public int getNumNonDefault() {
+        return this.indices.length;
+    }
+
+    @Override
+    public int[] nonDefaultIndices() {
+        return this.indices;
+    }
+
+    @Override
+    public double[] nonDefaultValues() {
+        return this.values;
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * (31 * Arrays.hashCode(this.defaultValues) + Arrays.hashCode(this.indices)) + Arrays.hashCode(this.values);
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (obj == null || getClass() != obj.getClass()) {
+            return false;
+        }
+        final SparseArrayInstance other = (SparseArrayInstance) obj;
+        return Arrays.equals(this.indices, other.indices)
+                && Arrays.equals(this.values, other.values)
+                && Arrays.equals(this.defaultValues, other.defaultValues);
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(this)
+                .add("indices", Arrays.toString(this.indices))
+                .add("values", Arrays.toString(this.values))
+                .toString();
+    }
+}
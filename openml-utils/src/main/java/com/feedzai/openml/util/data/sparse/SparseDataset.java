@@ -0,0 +1,290 @@
+/*
+ * Copyright 2026 Feedzai
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.feedzai.openml.util.data.sparse;
+
+import com.feedzai.openml.data.Dataset;
+import com.feedzai.openml.data.FeatureValues;
+import com.feedzai.openml.data.Instance;
+import com.feedzai.openml.data.PartitionedDataset;
+import com.feedzai.openml.data.SparseInstance;
+import com.feedzai.openml.data.schema.CategoricalValueSchema;
+import com.feedzai.openml.data.schema.DatasetSchema;
+import com.feedzai.openml.data.schema.FieldSchema;
+import com.feedzai.openml.data.schema.StringValueSchema;
+import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableList;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+/**
+ * A {@link Dataset} of {@link SparseInstance}s, meant for schemas with many features that are mostly zero or missing.
+ * <p>
+ * Every instance shares the same array with the default value of each field, and only stores the (index, value) pairs
+ * of the fields that differ from it. Schemas with {@link StringValueSchema string} fields are not supported.
+ *
+ * @author agent (agent@local)
+ * @since 1.3.0
+ */
+public class SparseDataset implements Dataset {
+
+    /**
+     * The schema of the dataset.
+     */
+    private final DatasetSchema schema;
+
+    /**
+     * The default value of each field, shared by all the instances.
+     */
+    private final double[] defaultValues;
+
+    /**
+     * The instances of the dataset.
+     */
+    private final List<SparseArrayInstance> instances;
+
+    /**
+     * Creates a new instance.
+     *
+     * @param schema        The schema of the dataset.
+     * @param defaultValues The default value of each field, shared by all the instances.
+     * @param instances     The instances of the dataset.
+     */
+    private SparseDataset(final DatasetSchema schema,
+                          final double[] defaultValues,
+                          final List<SparseArrayInstance> instances) {
+        this.schema = schema;
+        this.defaultValues = defaultValues;
+        this.instances = instances;
+    }
+
+    /**
+     * Creates a builder for a dataset with the given schema, where numeric fields default to {@code 0} and
+     * categorical fields default to missing ({@link Double#NaN}).
+     *
+     * @param schema The schema of the dataset.
+     * @return The builder.
+     */
+    public static Builder builder(final DatasetSchema schema) {
+        Preconditions.checkNotNull(schema, "schema should not be null");
+
+        final double[] defaultValues = schema.getFieldSchemas().stream()
+                .map(FieldSchema::getValueSchema)
+                .mapToDouble(valueSchema -> valueSchema instanceof CategoricalValueSchema ? Double.NaN : 0.0)
+                .toArray();
+
+        return builder(schema, defaultValues);
+    }
+
+    /**
+     * Creates a builder for a dataset with the given schema and default values.
+     *
+     * @param schema        The schema of the dataset.
+     * @param defaultValues The default value of each field of the schema.
+     * @return The builder.
+     */
+    public static Builder builder(final DatasetSchema schema, final double[] defaultValues) {
+        return new Builder(schema, defaultValues);
+    }
+
+    @Override
+    public DatasetSchema getSchema() {
+        return this.schema;
+    }
+
+    @Override
+    public SparseInstance instance(final int index) {
+        return this.instances.get(index);
+    }
+
+    @Override
+    public FeatureValues feature(final int index) {
+        Preconditions.checkElementIndex(index, this.defaultValues.length, "feature index");
+        return instanceIndex -> this.instances.get(instanceIndex).getValue(index);
+    }
+
+    @Override
+    public Iterator<Instance> getInstances() {
+        return Collections.<Instance>unmodifiableList(this.instances).iterator();
+    }
+
+    @Override
+    public SparseDataset filter(final Predicate<Instance> predicate) {
+        return withInstances(this.instances.stream().filter(predicate).collect(Collectors.toList()));
+    }
+
+    @Override
+    public <K> Map<K, Dataset> groupBy(final Function<Instance, K> function) {
+        return this.instances.stream()
+                .collect(Collectors.groupingBy(function))
+                .entrySet()
+                .stream()
+                .collect(Collectors.toMap(Map.Entry::getKey, entry -> withInstances(entry.getValue())));
+    }
+
+    @Override
+    public PartitionedDataset partition(final Predicate<Instance> predicate) {
+        final Map<Boolean, List<SparseArrayInstance>> partitions = this.instances.stream()
+                .collect(Collectors.partitioningBy(predicate));
+
+        final SparseDataset matched = withInstances(partitions.get(true));
+        final SparseDataset unmatched = withInstances(partitions.get(false));
+
+        return new PartitionedDataset() {
+            @Override
+            public Dataset getMatchedData() {
+                return matched;
+            }
+
+            @Override
+            public Dataset getUnmatchedData() {
+                return unmatched;
+            }
+        };
+    }
+
+    @Override
+    public SparseDataset empty() {
+        return withInstances(ImmutableList.of());
+    }
+
+    @Override
+    public int numInstances() {
+        return this.instances.size();
+    }
+
+    /**
+     * Gets the total number of non-default values stored by all the instances of this dataset.
+     *
+     * @return The number of non-default values.
+     */
+    public long getNumNonDefault() {
+        return this.instances.stream().mapToLong(SparseArrayInstance::getNumNonDefault).sum();
+    }
+
+    /**
+     * Creates a dataset with the same schema and default values as this one, but with the given instances.
+     *
+     * @param instances The instances of the new dataset.
+     * @return The new dataset.
+     */
+    private SparseDataset withInstances(final List<SparseArrayInstance> instances) {
+        return new SparseDataset(this.schema, this.defaultValues, ImmutableList.copyOf(instances));
+    }
+
+    /**
+     * Builder of {@link SparseDataset}s.
+     *
+     * @since 1.3.0
+     */
+    public static final class Builder {
+
+        /**
+         * The schema of the dataset.
+         */
+        private final DatasetSchema schema;
+
+        /**
+         * The default value of each field, shared by all the instances.
+         */
+        private final double[] defaultValues;
+
+        /**
+         * The instances added so far.
+         */
+        private final ImmutableList.Builder<SparseArrayInstance> instances = ImmutableList.builder();
+
+        /**
+         * Creates a new builder.
+         *
+         * @param schema        The schema of the dataset.
+         * @param defaultValues The default value of each field of the schema.
+         */
+        private Builder(final DatasetSchema schema, final double[] defaultValues) {
+            Preconditions.checkNotNull(schema, "schema should not be null");
+            Preconditions.checkNotNull(defaultValues, "default values should not be null");
+            Preconditions.checkArgument(
+                    defaultValues.length == schema.getFieldSchemas().size(),
+                    "there should be one default value per field of the schema"
+            );
+            Preconditions.checkArgument(
+                    schema.getFieldSchemas().stream().noneMatch(field -> field.getValueSchema() instanceof StringValueSchema),
+                    "sparse datasets do not support string fields"
+            );
+
+            this.schema = schema;
+            this.defaultValues = defaultValues.clone();
+        }
+
+        /**
+         * Adds an instance with the given non-default values.
+         *
+         * @param indices The indices of the non-default fields, in strictly increasing order.
+         * @param values  The values of the non-default fields, aligned with {@code indices}.
+         * @return {@code this} builder.
+         */
+        public Builder addInstance(final int[] indices, final double[] values) {
+            this.instances.add(new SparseArrayInstance(this.defaultValues, indices.clone(), values.clone()));
+            return this;
+        }
+
+        /**
+         * Adds a copy of the given instance, storing only the fields whose value differs from the default one.
+         *
+         * @param instance The instance to add.
+         * @return {@code this} builder.
+         */
+        public Builder addInstance(final Instance instance) {
+            final int[] indices = new int[this.defaultValues.length];
+            final double[] values = new double[this.defaultValues.length];
+
+            int size = 0;
+            for (int index = 0; index < this.defaultValues.length; index++) {
+                final double value = instance.getValue(index);
+                // compares the bits so that a missing (NaN) value matches a missing default
+                if (Double.doubleToLongBits(value) != Double.doubleToLongBits(this.defaultValues[index])) {
+                    indices[size] = index;
+                    values[size] = value;
+                    size++;
+                }
+            }
+
+            this.instances.add(new SparseArrayInstance(
+                    this.defaultValues,
+                    Arrays.copyOf(indices, size),
+                    Arrays.copyOf(values, size)
+            ));
+            return this;
+        }
+
+        /**
+         * Builds the {@link SparseDataset} with all the instances added so far.
+         *
+         * @return The dataset.
+         */
+        public SparseDataset build() {
+            return new SparseDataset(this.schema, this.defaultValues, this.instances.build());
+        }
+    }
+}
@@ -18,18 +18,19 @@
 package com.feedzai.openml.util.jackson.deserializer;
 
 import com.fasterxml.jackson.core.JsonParser;
-import com.fasterxml.jackson.core.TreeNode;
-import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.JsonDeserializer;
-import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
 import com.feedzai.openml.data.schema.AbstractValueSchema;
 import com.feedzai.openml.data.schema.CategoricalValueSchema;
 import com.feedzai.openml.data.schema.NumericValueSchema;
 import com.feedzai.openml.data.schema.StringValueSchema;
+import com.google.common.collect.ImmutableSortedSet;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.SortedSet;
 
 /**
@@ -89,18 +90,28 @@ public class AbstractValueSchemaDeserializer extends StdDeserializer<AbstractVal
     @Override
     public AbstractValueSchema deserialize(final JsonParser jsonParser,
                                            final DeserializationContext deserializationContext) throws IOException {
-        final JsonNode treeNode = jsonParser.getCodec().readTree(jsonParser);
-
-        final String fieldType = treeNode.get(VALUE_TYPE).textValue();
-        final boolean allowMissing = treeNode.get(ALLOW_MISSING).booleanValue();
+        final ValueSchemaFields fields = new ValueSchemaFields();
+        JsonFields.forEachField(jsonParser, (name, parser) -> {
+            if (VALUE_TYPE.equals(name)) {
+                fields.fieldType = parser.getValueAsString();
+            } else if (ALLOW_MISSING.equals(name)) {
+                fields.allowMissing = parser.getValueAsBoolean();
+            } else if (NOMINAL_VALUES.equals(name)) {
+                fields.nominalValues = readNominalValues(parser, deserializationContext);
+            } else {
+                parser.skipChildren();
+            }
+        });
+
+        final String fieldType = JsonFields.required(fields.fieldType, VALUE_TYPE, deserializationContext);
+        final boolean allowMissing = JsonFields.required(fields.allowMissing, ALLOW_MISSING, deserializationContext);
 
         if (CATEGORICAL_TYPE.equals(fieldType)) {
-            final TreeNode fieldNode = treeNode.get(NOMINAL_VALUES);
-            final SortedSet<String> nominalValues = jsonParser.getCodec().readValue(
-                    fieldNode.traverse(jsonParser.getCodec()),
-                    new TypeReference<SortedSet<String>>() { }
+            // sorting once here allows the schema to keep the set instead of copying it
+            final SortedSet<String> sortedValues = ImmutableSortedSet.copyOf(
+                    JsonFields.required(fields.nominalValues, NOMINAL_VALUES, deserializationContext)
             );
-            return new CategoricalValueSchema(allowMissing, nominalValues);
+            return new CategoricalValueSchema(allowMissing, sortedValues);
 
         } else if (NUMERIC_TYPE.equals(fieldType)) {
             return new NumericValueSchema(allowMissing);
@@ -113,4 +124,51 @@ public class AbstractValueSchemaDeserializer extends StdDeserializer<AbstractVal
             );
         }
     }
+
+    /**
+     * Reads the array of nominal values on which the parser is positioned.
+     *
+     * @param jsonParser             The parser, positioned on the start of the array.
+     * @param deserializationContext The context of the deserialization.
+     * @return The nominal values, in the order they were written.
+     * @throws IOException If the values are not an array of Strings.
+     */
+    private static List<String> readNominalValues(final JsonParser jsonParser,
+                                                  final DeserializationContext deserializationContext)
+            throws IOException {
+
+        if (jsonParser.getCurrentToken() != JsonToken.START_ARRAY) {
+            throw deserializationContext.wrongTokenException(jsonParser, JsonToken.START_ARRAY, NOMINAL_VALUES);
+        }
+
+        final List<String> nominalValues = new ArrayList<>();
+        for (JsonToken token = jsonParser.nextToken(); token != JsonToken.END_ARRAY; token = jsonParser.nextToken()) {
+            if (token != JsonToken.VALUE_STRING) {
+                throw deserializationContext.wrongTokenException(jsonParser, JsonToken.VALUE_STRING, NOMINAL_VALUES);
+            }
+            nominalValues.add(jsonParser.getText());
+        }
+        return nominalValues;
+    }
+
+    /**
+     * The properties of a json value schema read so far.
+     */
+    private static final class ValueSchemaFields {
+
+        /**
+         * The type of the field, or {@code null} if it was not read.
+         */
+        private String fieldType;
+
+        /**
+         * Whether missing values are allowed, or {@code null} if it was not read.
+         */
+        private Boolean allowMissing;
+
+        /**
+         * The nominal values of a categorical field, or {@code null} if they were not read.
+         */
+        private List<String> nominalValues;
+    }
 }
@@ -18,21 +18,26 @@
 package com.feedzai.openml.util.jackson.deserializer;
 
 import com.fasterxml.jackson.core.JsonParser;
-import com.fasterxml.jackson.core.TreeNode;
-import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.JsonDeserializer;
-import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
 import com.feedzai.openml.data.schema.DatasetSchema;
 import com.feedzai.openml.data.schema.FieldSchema;
+import com.feedzai.openml.util.data.DatasetSchemaFingerprint;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.Optional;
 
 /**
  * Custom {@link JsonDeserializer} for known {@link DatasetSchema} instances.
+ * <p>
+ * If the json contains the {@link DatasetSchemaFingerprint fingerprint} of the schema, computed with the current
+ * {@link DatasetSchemaFingerprint#ENCODING_VERSION encoding version}, it is verified against the deserialized schema
+ * and a warning is logged if it does not match, to flag files that were changed by hand or corrupted.
  *
  * @author Paulo Pereira (paulo.pereira@feedzai.com)
  * @since 0.1.0
@@ -49,6 +54,26 @@ public class DatasetSchemaDeserializer extends StdDeserializer<DatasetSchema> {
      */
     public static final String FIELD_SCHEMAS = "fieldSchemas";
 
+    /**
+     * Name of the json field that contains the {@link DatasetSchemaFingerprint fingerprint} of the schema.
+     *
+     * @since 1.3.0
+     */
+    public static final String FINGERPRINT = "fingerprint";
+
+    /**
+     * Name of the json field that contains the {@link DatasetSchemaFingerprint#ENCODING_VERSION encoding version} of
+     * the {@link #FINGERPRINT fingerprint}.
+     *
+     * @since 1.3.0
+     */
+    public static final String FINGERPRINT_VERSION = "fingerprintVersion";
+
+    /**
+     * Logger for this class.
+     */
+    private static final Logger logger = LoggerFactory.getLogger(DatasetSchemaDeserializer.class);
+
     /**
      * Constructor of this object.
      */
@@ -68,19 +93,88 @@ public class DatasetSchemaDeserializer extends StdDeserializer<DatasetSchema> {
     @Override
     public DatasetSchema deserialize(final JsonParser jsonParser,
                                      final DeserializationContext deserializationContext) throws IOException {
-        final JsonNode treeNode = jsonParser.getCodec().readTree(jsonParser);
+        final SchemaFields fields = new SchemaFields();
+        JsonFields.forEachField(jsonParser, (name, parser) -> {
+            if (TARGET_INDEX.equals(name)) {
+                fields.targetIndex = parser.getValueAsInt(-1);
+            } else if (FINGERPRINT.equals(name)) {
+                fields.fingerprint = parser.getValueAsString();
+            } else if (FINGERPRINT_VERSION.equals(name)) {
+                fields.fingerprintVersion = parser.getValueAsInt(-1);
+            } else if (FIELD_SCHEMAS.equals(name)) {
+                fields.fieldSchemas = readFieldSchemas(parser, deserializationContext);
+            } else {
+                parser.skipChildren();
+            }
+        });
 
-        final Optional<Integer> targetIndex = Optional.ofNullable(treeNode.get(TARGET_INDEX))
-                .map(JsonNode::intValue);
-
-        final TreeNode fieldNode = treeNode.get(FIELD_SCHEMAS);
-        final List<FieldSchema> schemaList = jsonParser.getCodec().readValue(
-                fieldNode.traverse(jsonParser.getCodec()),
-                new TypeReference<List<FieldSchema>>() { }
+        final DatasetSchema schema = new DatasetSchema(
+                fields.targetIndex,
+                JsonFields.required(fields.fieldSchemas, FIELD_SCHEMAS, deserializationContext)
         );
 
-        return targetIndex
-                .map(index -> new DatasetSchema(index, schemaList))
-                .orElse(new DatasetSchema(schemaList));
+        // schemas written before fingerprints were introduced do not have one, and fingerprints of another encoding
+        // version cannot be compared; either way, a mismatch does not prevent the schema from being used
+        if (fields.fingerprint != null && fields.fingerprintVersion == DatasetSchemaFingerprint.ENCODING_VERSION) {
+            final String expected = DatasetSchemaFingerprint.of(schema);
+            if (!fields.fingerprint.equals(expected)) {
+                logger.warn(
+                        "The fingerprint of the schema [{}] does not match its contents [{}].",
+                        fields.fingerprint,
+                        expected
+                );
+            }
+        }
+
+        return schema;
+    }
+
+    /**
+     * Reads the array of field schemas on which the parser is positioned.
+     *
+     * @param jsonParser             The parser, positioned on the start of the array.
+     * @param deserializationContext The context of the deserialization.
+     * @return The field schemas, in the order they were written.
+     * @throws IOException If the field schemas are not an array of valid field schemas.
+     */
+    private static List<FieldSchema> readFieldSchemas(final JsonParser jsonParser,
+                                                      final DeserializationContext deserializationContext)
+            throws IOException {
+
+        if (jsonParser.getCurrentToken() != JsonToken.START_ARRAY) {
+            throw deserializationContext.wrongTokenException(jsonParser, JsonToken.START_ARRAY, FIELD_SCHEMAS);
+        }
+
+        final List<FieldSchema> fieldSchemas = new ArrayList<>();
+        while (jsonParser.nextToken() != JsonToken.END_ARRAY) {
+            fieldSchemas.add(deserializationContext.readValue(jsonParser, FieldSchema.class));
+        }
+        return fieldSchemas;
+    }
+
+    /**
+     * The properties of a json schema read so far.
+     */
+    private static final class SchemaFields {
+
+        /**
+         * The index of the target field, or {@code -1} if there is none.
+         */
+        private int targetIndex = -1;
+
+        /**
+         * The fingerprint of the schema, or {@code null} if there is none.
+         */
+        private String fingerprint;
+
+        /**
+         * The encoding version of the fingerprint, or {@code -1} if there is none.
+         */
+        private int fingerprintVersion = -1;
+
+        /**
+         * The field schemas, or {@code null} if they were not read.
+         */
+        private List<FieldSchema> fieldSchemas;
     }
 }
@@ -18,11 +18,8 @@
 package com.feedzai.openml.util.jackson.deserializer;
 
 import com.fasterxml.jackson.core.JsonParser;
-import com.fasterxml.jackson.core.TreeNode;
-import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.JsonDeserializer;
-import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
 import com.feedzai.openml.data.schema.AbstractValueSchema;
 import com.feedzai.openml.data.schema.FieldSchema;
@@ -72,17 +69,44 @@ public class FieldSchemaDeserializer extends StdDeserializer<FieldSchema> {
     public FieldSchema deserialize(final JsonParser jsonParser,
                             final DeserializationContext deserializationContext) throws IOException {
 
-        final JsonNode treeNode = jsonParser.getCodec().readTree(jsonParser);
+        final FieldSchemaFields fields = new FieldSchemaFields();
+        JsonFields.forEachField(jsonParser, (name, parser) -> {
+            if (FIELD_NAME.equals(name)) {
+                fields.fieldName = parser.getValueAsString();
+            } else if (FIELD_INDEX.equals(name)) {
+                fields.fieldIndex = parser.getValueAsInt();
+            } else if (VALUE_SCHEMA.equals(name)) {
+                fields.valueSchema = deserializationContext.readValue(parser, AbstractValueSchema.class);
+            } else {
+                parser.skipChildren();
+            }
+        });
 
-        final String fieldName = treeNode.get(FIELD_NAME).textValue();
-        final int fieldIndex = (int) treeNode.get(FIELD_INDEX).numberValue();
-
-        final TreeNode valueSchemaNode = treeNode.get(VALUE_SCHEMA);
-        final AbstractValueSchema valueSchema = jsonParser.getCodec().readValue(
-                valueSchemaNode.traverse(jsonParser.getCodec()),
-                new TypeReference<AbstractValueSchema>() { }
+        return new FieldSchema(
+                JsonFields.required(fields.fieldName, FIELD_NAME, deserializationContext),
+                JsonFields.required(fields.fieldIndex, FIELD_INDEX, deserializationContext),
+                JsonFields.required(fields.valueSchema, VALUE_SCHEMA, deserializationContext)
         );
+    }
+
+    /**
+     * The properties of a json field schema read so far.
+     */
+    private static final class FieldSchemaFields {
+
+        /**
+         * The name of the field, or {@code null} if it was not read.
+         */
+        private String fieldName;
+
+        /**
+         * The index of the field, or {@code null} if it was not read.
+         */
+        private Integer fieldIndex;
 
-        return new FieldSchema(fieldName, fieldIndex, valueSchema);
+        /**
+         * The schema of the values of the field, or {@code null} if it was not read.
+         */
+        private AbstractValueSchema valueSchema;
     }
 }
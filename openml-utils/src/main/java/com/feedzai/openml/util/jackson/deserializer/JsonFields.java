@@ -0,0 +1,98 @@
+/*
+ * Copyright 2026 Feedzai
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.feedzai.openml.util.jackson.deserializer;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonMappingException;
+
+import java.io.IOException;
+
+/**
+ * Utility class for reading the fields of json objects in the deserializers of this package.
+ *
+ * @author agent (agent@local)
+ * @since 1.3.0
+ */
+final class JsonFields {
+
+    /**
+     * Reader of the value of a field of a json object.
+     */
+    @FunctionalInterface
+    interface FieldReader {
+
+        /**
+         * Reads the value of a field, which must be consumed entirely (e.g. with {@link JsonParser#skipChildren()} for
+         * the fields that are not known).
+         *
+         * @param name       The name of the field.
+         * @param jsonParser The parser, positioned on the value of the field.
+         * @throws IOException If the value cannot be read.
+         */
+        void read(String name, JsonParser jsonParser) throws IOException;
+    }
+
+    /**
+     * Private constructor for utility class.
+     */
+    private JsonFields() {
+    }
+
+    /**
+     * Reads each field of the json object on which the parser is positioned (either on its start or on its first
+     * field), leaving the parser on the end of the object.
+     *
+     * @param jsonParser The parser.
+     * @param reader     The reader of the value of each field.
+     * @throws IOException If a value cannot be read.
+     */
+    static void forEachField(final JsonParser jsonParser, final FieldReader reader) throws IOException {
+        // the fields are read directly from the token stream, in any order, without building a tree first
+        JsonToken token = jsonParser.getCurrentToken() == JsonToken.START_OBJECT
+                ? jsonParser.nextToken()
+                : jsonParser.getCurrentToken();
+        for (; token == JsonToken.FIELD_NAME; token = jsonParser.nextToken()) {
+            final String name = jsonParser.getCurrentName();
+            jsonParser.nextToken();
+            reader.read(name, jsonParser);
+        }
+    }
+
+    /**
+     * Checks that a required property of a json object was read.
+     *
+     * @param value                  The value of the property, {@code null} if it was not read.
+     * @param name                   The name of the property.
+     * @param deserializationContext The context of the deserialization.
+     * @param <T>                    The type of the value.
+     * @return The value of the property.
+     * @throws JsonMappingException If the property was not read.
+     */
+    static <T> T required(final T value,
+                          final String name,
+                          final DeserializationContext deserializationContext) throws JsonMappingException {
+        if (value == null) {
+            throw deserializationContext.mappingException(
+                    String.format("The required property [%s] is missing.", name)
+            );
+        }
+        return value;
+    }
+}
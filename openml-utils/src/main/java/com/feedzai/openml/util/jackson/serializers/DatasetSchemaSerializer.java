@@ -22,6 +22,7 @@ import com.fasterxml.jackson.databind.JsonSerializer;
 import com.fasterxml.jackson.databind.SerializerProvider;
 import com.fasterxml.jackson.databind.ser.std.StdSerializer;
 import com.feedzai.openml.data.schema.DatasetSchema;
+import com.feedzai.openml.util.data.DatasetSchemaFingerprint;
 import com.feedzai.openml.util.jackson.deserializer.DatasetSchemaDeserializer;
 
 import java.io.IOException;
@@ -29,6 +30,9 @@ import java.util.Optional;
 
 /**
  * Custom {@link JsonSerializer} for known {@link DatasetSchema} instances.
+ * <p>
+ * Besides the schema itself, its {@link DatasetSchemaFingerprint fingerprint} and the encoding version of the
+ * fingerprint are written as the first fields.
  *
  * @author Paulo Pereira (paulo.pereira@feedzai.com)
  * @since 0.1.0
@@ -62,6 +66,12 @@ public class DatasetSchemaSerializer extends StdSerializer<DatasetSchema> {
                           final SerializerProvider serializerProvider) throws IOException {
 
         jsonGenerator.writeStartObject();
+        // written first so that it can be read without parsing the whole schema
+        jsonGenerator.writeStringField(DatasetSchemaDeserializer.FINGERPRINT, DatasetSchemaFingerprint.of(datasetSchema));
+        jsonGenerator.writeNumberField(
+                DatasetSchemaDeserializer.FINGERPRINT_VERSION,
+                DatasetSchemaFingerprint.ENCODING_VERSION
+        );
         final Optional<Integer> targetIndex = datasetSchema.getTargetIndex();
         if (targetIndex.isPresent()) {
             jsonGenerator.writeNumberField(DatasetSchemaDeserializer.TARGET_INDEX, targetIndex.get());
@@ -0,0 +1,271 @@
+/*
+ * Copyright 2026 Feedzai
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.feedzai.openml.util.load;
+
+import com.feedzai.openml.model.MachineLearningModel;
+import com.feedzai.openml.provider.exception.ModelLoadingException;
+import com.feedzai.openml.provider.model.MachineLearningModelLoader;
+import com.google.common.base.Preconditions;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.IntStream;
+
+/**
+ * Loads many models in parallel, as typically needed when a scoring node starts.
+ * <p>
+ * Each {@link ModelLoadJob} is loaded through the {@link MachineLearningModelLoader} that its provider offers for its
+ * algorithm, on a pool with a bounded number of threads. A job that fails does not affect the others: its
+ * {@link ModelLoadResult} holds the failure instead of the model. Optionally, the jobs with the highest expected
+ * traffic are started first, so that the busiest models become available as soon as possible.
+ *
+ * @author agent (agent@local)
+ * @since 1.3.0
+ */
+public class BulkModelLoader {
+
+    /**
+     * Logger for this class.
+     */
+    private static final Logger logger = LoggerFactory.getLogger(BulkModelLoader.class);
+
+    /**
+     * The maximum number of models loaded at the same time.
+     */
+    private final int parallelism;
+
+    /**
+     * Whether to start the jobs by decreasing order of expected traffic.
+     */
+    private final boolean prioritizeByTraffic;
+
+    /**
+     * Creates a new loader that starts the jobs in the given order.
+     *
+     * @param parallelism The maximum number of models loaded at the same time.
+     */
+    public BulkModelLoader(final int parallelism) {
+        this(parallelism, false);
+    }
+
+    /**
+     * Creates a new loader.
+     *
+     * @param parallelism         The maximum number of models loaded at the same time.
+     * @param prioritizeByTraffic Whether to start the jobs by decreasing order of expected traffic.
+     */
+    public BulkModelLoader(final int parallelism, final boolean prioritizeByTraffic) {
+        Preconditions.checkArgument(parallelism > 0, "parallelism should be positive");
+        this.parallelism = parallelism;
+        this.prioritizeByTraffic = prioritizeByTraffic;
+    }
+
+    /**
+     * Loads the models of the given jobs, waiting for all of them to finish. A job that fails with a
+     * {@link VirtualMachineError} (e.g. an {@link OutOfMemoryError}) fails the whole load with that error, after the
+     * models already loaded are closed, since the other models cannot be expected to load on a broken JVM.
+     *
+     * @param jobs The jobs to run.
+     * @return The results, in the same order as the jobs.
+     * @throws InterruptedException If the calling thread is interrupted while waiting, in which case the loads still
+     *                              running are cancelled and the models already loaded are closed.
+     */
+    public List<ModelLoadResult> loadAll(final List<ModelLoadJob> jobs) throws InterruptedException {
+        Preconditions.checkNotNull(jobs, "jobs should not be null");
+        if (jobs.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        final ExecutorService executor = Executors.newFixedThreadPool(
+                Math.min(this.parallelism, jobs.size()),
+                new ThreadFactoryBuilder().setNameFormat("openml-bulk-loader-%d").setDaemon(true).build()
+        );
+
+        final LoadedModels loaded = new LoadedModels();
+        boolean completed = false;
+        try {
+            final List<Future<ModelLoadResult>> futures = new ArrayList<>(jobs.size());
+            jobs.forEach(job -> futures.add(null));
+
+            // the pool runs the tasks by submission order, which is the order of priority
+            for (final int index : submissionOrder(jobs)) {
+                final ModelLoadJob job = jobs.get(index);
+                futures.set(index, executor.submit(() -> loaded.add(load(job))));
+            }
+
+            final List<ModelLoadResult> results = new ArrayList<>(jobs.size());
+            for (final Future<ModelLoadResult> future : futures) {
+                results.add(getUninterruptedResult(future));
+            }
+
+            logger.info(
+                    "Loaded {} out of {} models.",
+                    results.stream().filter(ModelLoadResult::isSuccessful).count(),
+                    results.size()
+            );
+            completed = true;
+            return results;
+
+        } finally {
+            executor.shutdownNow();
+            if (!completed) {
+                loaded.abort();
+            }
+        }
+    }
+
+    /**
+     * Computes the order by which the jobs should be started.
+     *
+     * @param jobs The jobs.
+     * @return The indices of the jobs, in the order they should be started.
+     */
+    private int[] submissionOrder(final List<ModelLoadJob> jobs) {
+        final IntStream indices = IntStream.range(0, jobs.size());
+        if (!this.prioritizeByTraffic) {
+            return indices.toArray();
+        }
+        return indices.boxed()
+                .sorted(Comparator.comparingDouble((Integer index) -> jobs.get(index).getExpectedTraffic()).reversed())
+                .mapToInt(Integer::intValue)
+                .toArray();
+    }
+
+    /**
+     * Gets the result of a load, which only fails with the errors that are not contained in the result (i.e. the
+     * {@link VirtualMachineError}s).
+     *
+     * @param future The future of the result.
+     * @return The result.
+     * @throws InterruptedException If the calling thread is interrupted while waiting.
+     */
+    private static ModelLoadResult getUninterruptedResult(final Future<ModelLoadResult> future)
+            throws InterruptedException {
+        try {
+            return future.get();
+        } catch (final ExecutionException e) {
+            if (e.getCause() instanceof VirtualMachineError) {
+                throw (VirtualMachineError) e.getCause();
+            }
+            throw new IllegalStateException("Unexpected failure while loading a model.", e.getCause());
+        }
+    }
+
+    /**
+     * Runs a job.
+     *
+     * @param job The job.
+     * @return The result of the job.
+     */
+    private static ModelLoadResult load(final ModelLoadJob job) {
+        final long start = System.nanoTime();
+        MachineLearningModel model = null;
+        ModelLoadingException failure = null;
+
+        try {
+            final MachineLearningModelLoader<?> loader = job.getProvider()
+                    .getModelCreator(job.getAlgorithmName())
+                    .orElseThrow(() -> new ModelLoadingException(String.format(
+                            "Provider %s does not support algorithm %s.",
+                            job.getProvider().getName(),
+                            job.getAlgorithmName()
+                    )));
+            model = loader.loadModel(job.getModelPath(), job.getSchema());
+
+        } catch (final ModelLoadingException e) {
+            failure = e;
+        } catch (final Exception | LinkageError e) {
+            // errors such as UnsatisfiedLinkError or NoClassDefFoundError are typical of broken native providers and
+            // must not prevent the other models from being loaded
+            failure = new ModelLoadingException(String.format("Unexpected error loading model %s.", job), e);
+        }
+
+        final Duration loadTime = Duration.ofNanos(System.nanoTime() - start);
+        if (failure != null) {
+            logger.warn("Could not load model {} after {}.", job, loadTime, failure);
+        } else {
+            logger.debug("Loaded model {} in {}.", job, loadTime);
+        }
+        return new ModelLoadResult(job, model, failure, loadTime);
+    }
+
+    /**
+     * The models loaded by the jobs of a {@link #loadAll(List)}, which are closed if it is aborted, including those
+     * loaded by jobs that only finish after it was aborted.
+     */
+    private static final class LoadedModels {
+
+        /**
+         * The successful results of the jobs that finished.
+         */
+        private final List<ModelLoadResult> results = new ArrayList<>();
+
+        /**
+         * Whether the load was aborted.
+         */
+        private boolean aborted = false;
+
+        /**
+         * Adds the result of a job, closing its model if the load was already aborted.
+         *
+         * @param result The result of the job.
+         * @return The result.
+         */
+        synchronized ModelLoadResult add(final ModelLoadResult result) {
+            if (this.aborted) {
+                close(result);
+            } else if (result.isSuccessful()) {
+                this.results.add(result);
+            }
+            return result;
+        }
+
+        /**
+         * Aborts the load, closing the models loaded so far.
+         */
+        synchronized void abort() {
+            this.aborted = true;
+            this.results.forEach(LoadedModels::close);
+            this.results.clear();
+        }
+
+        /**
+         * Closes the model of a result, if any.
+         *
+         * @param result The result.
+         */
+        private static void close(final ModelLoadResult result) {
+            result.getModel().ifPresent(model -> {
+                try {
+                    model.close();
+                } catch (final Exception e) {
+                    logger.warn("Could not close model {} of an aborted load.", result.getJob(), e);
+                }
+            });
+        }
+    }
+}
@@ -0,0 +1,344 @@
+/*
+ * Copyright 2026 Feedzai
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.feedzai.openml.util.load;
+
+import com.feedzai.openml.data.schema.AbstractValueSchema;
+import com.feedzai.openml.data.schema.CategoricalValueSchema;
+import com.feedzai.openml.data.schema.DatasetSchema;
+import com.feedzai.openml.data.schema.FieldSchema;
+import com.feedzai.openml.data.schema.NumericValueSchema;
+import com.feedzai.openml.data.schema.StringValueSchema;
+import com.feedzai.openml.util.data.DatasetSchemaFingerprint;
+import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSortedSet;
+
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * A compact binary encoding of {@link DatasetSchema}, meant to be stored alongside the model.json of a model so that
+ * it can be loaded faster (see {@link LoadSchemaUtils#datasetSchemaFromPath}).
+ * <p>
+ * The encoding consists of:
+ * <ol>
+ *     <li>the {@link #MAGIC magic bytes} and the {@link #VERSION version} of the encoding;</li>
+ *     <li>the fingerprint of the json schema the encoding was created from, as a length-prefixed UTF-8 String, used
+ *     to detect encodings left behind by a change of the json schema;</li>
+ *     <li>the target index plus one ({@code 0} if there is no target), as a varint;</li>
+ *     <li>the number of fields, as a varint, followed by each field:
+ *     <ol>
+ *         <li>its name, as a length-prefixed UTF-8 String;</li>
+ *         <li>its index, as a varint;</li>
+ *         <li>its type ({@code 0} numeric, {@code 1} categorical, {@code 2} string) and whether it allows missing
+ *         values, as one byte each;</li>
+ *         <li>for categorical fields, the number of nominal values, as a varint, followed by each value (already
+ *         sorted), as a length-prefixed UTF-8 String.</li>
+ *     </ol></li>
+ * </ol>
+ * Varints use the usual 7 bits per byte encoding, with the most significant bit set on all bytes but the last.
+ *
+ * @author agent (agent@local)
+ * @since 1.3.0
+ */
+public final class DatasetSchemaBinaryCodec {
+
+    /**
+     * The magic bytes that start every encoded schema.
+     */
+    static final byte[] MAGIC = {'O', 'M', 'L', 'S'};
+
+    /**
+     * The version of the encoding.
+     */
+    static final byte VERSION = 1;
+
+    /**
+     * The code of a {@link NumericValueSchema numeric} field.
+     */
+    private static final byte NUMERIC = 0;
+
+    /**
+     * The code of a {@link CategoricalValueSchema categorical} field.
+     */
+    private static final byte CATEGORICAL = 1;
+
+    /**
+     * The code of a {@link StringValueSchema string} field.
+     */
+    private static final byte STRING = 2;
+
+    /**
+     * Private constructor for utility class.
+     */
+    private DatasetSchemaBinaryCodec() {
+    }
+
+    /**
+     * Encodes the given schema, recording the {@link DatasetSchemaFingerprint fingerprint} of the schema itself as the
+     * fingerprint of its json schema.
+     *
+     * @param schema The schema.
+     * @return The encoded schema.
+     */
+    public static byte[] encode(final DatasetSchema schema) {
+        Preconditions.checkNotNull(schema, "schema should not be null");
+        return encode(schema, DatasetSchemaFingerprint.of(schema));
+    }
+
+    /**
+     * Encodes the given schema.
+     *
+     * @param schema          The schema.
+     * @param jsonFingerprint The fingerprint of the json schema the schema was created from.
+     * @return The encoded schema.
+     */
+    public static byte[] encode(final DatasetSchema schema, final String jsonFingerprint) {
+        Preconditions.checkNotNull(schema, "schema should not be null");
+        Preconditions.checkNotNull(jsonFingerprint, "json fingerprint should not be null");
+
+        final ByteArrayOutputStream output = new ByteArrayOutputStream();
+        output.write(MAGIC, 0, MAGIC.length);
+        output.write(VERSION);
+        writeString(output, jsonFingerprint);
+        writeVarint(output, schema.getTargetIndexOrNegative() + 1);
+        writeVarint(output, schema.getFieldSchemas().size());
+
+        for (final FieldSchema field : schema.getFieldSchemas()) {
+            final AbstractValueSchema valueSchema = field.getValueSchema();
+            writeString(output, field.getFieldName());
+            writeVarint(output, field.getFieldIndex());
+
+            if (valueSchema instanceof CategoricalValueSchema) {
+                output.write(CATEGORICAL);
+                output.write(valueSchema.isAllowMissing() ? 1 : 0);
+                final CategoricalValueSchema categorical = (CategoricalValueSchema) valueSchema;
+                writeVarint(output, categorical.getNominalValues().size());
+                categorical.getNominalValues().forEach(value -> writeString(output, value));
+            } else {
+                output.write(valueSchema instanceof NumericValueSchema ? NUMERIC : STRING);
+                output.write(valueSchema.isAllowMissing() ? 1 : 0);
+            }
+        }
+
+        return output.toByteArray();
+    }
+
+    /**
+     * Encodes the given schema into an {@link OutputStream}.
+     *
+     * @param schema The schema.
+     * @param output The stream to write the encoded schema to.
+     * @throws IOException If the schema cannot be written.
+     */
+    public static void encode(final DatasetSchema schema, final OutputStream output) throws IOException {
+        output.write(encode(schema));
+    }
+
+    /**
+     * Decodes a schema.
+     *
+     * @param bytes The encoded schema.
+     * @return The schema.
+     * @throws IOException If the bytes are not a valid encoding of a schema.
+     */
+    public static DatasetSchema decode(final byte[] bytes) throws IOException {
+        final ByteBuffer buffer = ByteBuffer.wrap(bytes);
+
+        try {
+            readHeader(buffer);
+
+            final int targetIndex = readVarint(buffer) - 1;
+            final int numFields = readCount(buffer);
+            final ImmutableList.Builder<FieldSchema> fields = ImmutableList.builder();
+
+            for (int i = 0; i < numFields; i++) {
+                final String fieldName = readString(buffer);
+                final int fieldIndex = readVarint(buffer);
+                final byte type = buffer.get();
+                final boolean allowMissing = buffer.get() != 0;
+                fields.add(new FieldSchema(fieldName, fieldIndex, readValueSchema(buffer, type, allowMissing)));
+            }
+
+            if (buffer.hasRemaining()) {
+                throw new IOException("The encoded schema has trailing bytes.");
+            }
+            return new DatasetSchema(targetIndex, fields.build());
+
+        } catch (final BufferUnderflowException e) {
+            throw new EOFException("The encoded schema is truncated.");
+        } catch (final IllegalArgumentException | IndexOutOfBoundsException e) {
+            throw new IOException("The encoded schema is invalid: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Decodes the fingerprint of the json schema an encoded schema was created from, without decoding the schema.
+     *
+     * @param bytes The encoded schema.
+     * @return The fingerprint of the json schema.
+     * @throws IOException If the bytes do not start with a valid header of an encoded schema.
+     */
+    public static String decodeJsonFingerprint(final byte[] bytes) throws IOException {
+        try {
+            return readHeader(ByteBuffer.wrap(bytes));
+        } catch (final BufferUnderflowException e) {
+            throw new EOFException("The encoded schema is truncated.");
+        } catch (final IndexOutOfBoundsException e) {
+            throw new IOException("The encoded schema is invalid: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Reads the header of an encoded schema, checking its magic bytes and version.
+     *
+     * @param buffer The buffer, positioned at the start of the encoded schema.
+     * @return The fingerprint of the json schema the encoded schema was created from.
+     * @throws IOException If the header is not valid.
+     */
+    private static String readHeader(final ByteBuffer buffer) throws IOException {
+        final byte[] magic = new byte[MAGIC.length];
+        buffer.get(magic);
+        if (!Arrays.equals(magic, MAGIC)) {
+            throw new IOException("The bytes are not an encoded schema.");
+        }
+        final byte version = buffer.get();
+        if (version != VERSION) {
+            throw new IOException(String.format("Unsupported version [%d] of the encoded schema.", version));
+        }
+        return readString(buffer);
+    }
+
+    /**
+     * Decodes the value schema of a field.
+     *
+     * @param buffer       The buffer, positioned after the type of the field.
+     * @param type         The type of the field.
+     * @param allowMissing Whether the field allows missing values.
+     * @return The value schema.
+     * @throws IOException If the type is unknown.
+     */
+    private static AbstractValueSchema readValueSchema(final ByteBuffer buffer,
+                                                       final byte type,
+                                                       final boolean allowMissing) throws IOException {
+        switch (type) {
+            case NUMERIC:
+                return new NumericValueSchema(allowMissing);
+            case STRING:
+                return new StringValueSchema(allowMissing);
+            case CATEGORICAL:
+                final int numValues = readCount(buffer);
+                final String[] values = new String[numValues];
+                for (int i = 0; i < numValues; i++) {
+                    values[i] = readString(buffer);
+                }
+                // the schema keeps the immutable sorted set instead of copying it
+                return new CategoricalValueSchema(allowMissing, ImmutableSortedSet.copyOf(values));
+            default:
+                throw new IOException(String.format("Unknown field type [%d] in the encoded schema.", type));
+        }
+    }
+
+    /**
+     * Writes a non negative int as a varint.
+     *
+     * @param output The output.
+     * @param value  The value.
+     */
+    private static void writeVarint(final ByteArrayOutputStream output, final int value) {
+        int remaining = value;
+        while ((remaining & ~0x7F) != 0) {
+            output.write((remaining & 0x7F) | 0x80);
+            remaining >>>= 7;
+        }
+        output.write(remaining);
+    }
+
+    /**
+     * Reads a varint.
+     *
+     * @param buffer The buffer.
+     * @return The value.
+     * @throws IOException If the varint is longer than 5 bytes.
+     */
+    private static int readVarint(final ByteBuffer buffer) throws IOException {
+        int value = 0;
+        for (int shift = 0; shift < Integer.SIZE; shift += 7) {
+            final byte current = buffer.get();
+            value |= (current & 0x7F) << shift;
+            if ((current & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IOException("Malformed varint in the encoded schema.");
+    }
+
+    /**
+     * Reads a varint that counts elements (or bytes) that follow it in the buffer.
+     * <p>
+     * Since every element takes at least one byte, the count cannot be larger than the remaining bytes; checking it
+     * prevents a corrupted count from allocating huge (or negative sized) arrays.
+     *
+     * @param buffer The buffer.
+     * @return The count.
+     * @throws IOException If the count is malformed, negative or larger than the remaining bytes.
+     */
+    private static int readCount(final ByteBuffer buffer) throws IOException {
+        final int count = readVarint(buffer);
+        if (count < 0) {
+            throw new IOException(String.format("Negative count [%d] in the encoded schema.", count));
+        }
+        if (count > buffer.remaining()) {
+            throw new EOFException("The encoded schema is truncated.");
+        }
+        return count;
+    }
+
+    /**
+     * Writes a length-prefixed UTF-8 String.
+     *
+     * @param output The output.
+     * @param value  The String.
+     */
+    private static void writeString(final ByteArrayOutputStream output, final String value) {
+        final byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        writeVarint(output, bytes.length);
+        output.write(bytes, 0, bytes.length);
+    }
+
+    /**
+     * Reads a length-prefixed UTF-8 String.
+     *
+     * @param buffer The buffer.
+     * @return The String.
+     * @throws IOException If the length is malformed.
+     */
+    private static String readString(final ByteBuffer buffer) throws IOException {
+        final int length = readCount(buffer);
+        final String value = new String(buffer.array(), buffer.arrayOffset() + buffer.position(), length,
+                                        StandardCharsets.UTF_8);
+        buffer.position(buffer.position() + length);
+        return value;
+    }
+}
@@ -23,6 +23,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.File;
+import java.io.IOException;
 import java.nio.file.Path;
 
 /**
@@ -110,4 +111,26 @@ public final class LoadModelUtils {
 
         return modelFile.toPath();
     }
+
+    /**
+     * Maps the file with the binary of the model to be imported (see {@link #getModelFilePath(Path)}) read-only into
+     * memory.
+     * <p>
+     * The returned file should be closed when the model that reads it is closed.
+     *
+     * @param modelDirectoryPath Path of the directory with the json file and binary of the model.
+     * @return The mapped file with the binary of the model.
+     * @throws ModelLoadingException If the file cannot be found or mapped.
+     * @since 1.3.0
+     */
+    public static MappedModelFile mapModelFile(final Path modelDirectoryPath) throws ModelLoadingException {
+        final Path modelFilePath = getModelFilePath(modelDirectoryPath);
+        try {
+            return MappedModelFile.map(modelFilePath);
+        } catch (final IOException e) {
+            final String errorMsg = String.format("Cannot map the model file [%s]", modelFilePath);
+            logger.error(errorMsg, e);
+            throw new ModelLoadingException(errorMsg, e);
+        }
+    }
 }
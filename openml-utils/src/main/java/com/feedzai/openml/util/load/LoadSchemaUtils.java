@@ -17,19 +17,29 @@
 
 package com.feedzai.openml.util.load;
 
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
 import com.feedzai.openml.data.schema.AbstractValueSchema;
 import com.feedzai.openml.data.schema.CategoricalValueSchema;
 import com.feedzai.openml.data.schema.DatasetSchema;
 import com.feedzai.openml.data.schema.NumericValueSchema;
 import com.feedzai.openml.provider.exception.ModelLoadingException;
+import com.feedzai.openml.util.data.DatasetSchemaFingerprint;
+import com.feedzai.openml.util.data.DatasetSchemaInterner;
 import com.feedzai.openml.util.jackson.SerializersInModule;
+import com.feedzai.openml.util.jackson.deserializer.DatasetSchemaDeserializer;
+import com.google.common.hash.Hashing;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Optional;
 
 /**
  * Utility class for loading {@link DatasetSchema}.
@@ -50,7 +60,15 @@ public final class LoadSchemaUtils {
      *
      * @since 0.1.0
      */
-    private static final String SCHEMA_IMPORT_MODEL = "model.json";
+    static final String SCHEMA_IMPORT_MODEL = "model.json";
+
+    /**
+     * Name of the file with the {@link DatasetSchemaBinaryCodec binary encoding} of the data schema, that may exist
+     * alongside the {@link #SCHEMA_IMPORT_MODEL model.json} file.
+     *
+     * @since 1.3.0
+     */
+    public static final String SCHEMA_BINARY_FILE = "model.schema.bin";
 
     /**
      * A string that identifies a {@link AbstractValueSchema} with a categorical value.
@@ -67,6 +85,18 @@ public final class LoadSchemaUtils {
      */
     public static final String STRING = "string";
 
+    /**
+     * The factory of the streaming json parsers, which is thread-safe and expensive to create.
+     */
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    /**
+     * The reader of {@link DatasetSchema}s from json, which is thread-safe and expensive to create.
+     */
+    private static final ObjectReader SCHEMA_READER = new ObjectMapper()
+            .registerModule(new SerializersInModule())
+            .readerFor(DatasetSchema.class);
+
     /**
      * Private constructor for utility class.
      */
@@ -78,7 +108,7 @@ public final class LoadSchemaUtils {
      * data schema.
      *
      * @param filePath The directory with the binary of the model.
-     * @return a {@link DatasetSchema}.
+     * @return a {@link DatasetSchema}, {@link DatasetSchemaInterner#intern(DatasetSchema) interned}.
      * @throws ModelLoadingException In case there is an error loading the schema from the model.json file in the path.
      */
     public static DatasetSchema datasetSchemaFromJson(final Path filePath) throws ModelLoadingException {
@@ -92,12 +122,10 @@ public final class LoadSchemaUtils {
         }
 
         try {
-            final String jsonContent = new String(Files.readAllBytes(jsonFilePath));
-
-            final ObjectMapper mapper = new ObjectMapper();
-            mapper.registerModule(new SerializersInModule());
+            final DatasetSchema schema = SCHEMA_READER.readValue(Files.readAllBytes(jsonFilePath));
 
-            return mapper.readValue(jsonContent, DatasetSchema.class);
+            // models loaded from different paths often share their schema, so they share the same instance as well
+            return DatasetSchemaInterner.getDefault().intern(schema);
         } catch (final IOException e) {
             final String msg = String.format("Could not load schema for model in path %s due to %s", filePath, e.toString());
             logger.error(msg);
@@ -106,6 +134,125 @@ public final class LoadSchemaUtils {
         }
     }
 
+    /**
+     * Gets a {@link DatasetSchema} from a given path, preferring the {@link #SCHEMA_BINARY_FILE binary file} of the
+     * schema when it exists and was created from the current model.json file (i.e. the hash of the json recorded in
+     * the binary file matches the contents of the model.json file), and falling back to the model.json file otherwise
+     * (including when the binary file cannot be decoded).
+     *
+     * @param filePath The directory with the binary of the model.
+     * @return a {@link DatasetSchema}, {@link DatasetSchemaInterner#intern(DatasetSchema) interned}.
+     * @throws ModelLoadingException In case there is an error loading the schema from both files in the path.
+     * @since 1.3.0
+     */
+    public static DatasetSchema datasetSchemaFromPath(final Path filePath) throws ModelLoadingException {
+        final Path binaryFilePath = filePath.resolve(SCHEMA_BINARY_FILE);
+        final Path jsonFilePath = filePath.resolve(SCHEMA_IMPORT_MODEL);
+
+        try {
+            if (Files.isRegularFile(binaryFilePath)) {
+                final byte[] bytes = Files.readAllBytes(binaryFilePath);
+                if (!Files.exists(jsonFilePath)
+                        || DatasetSchemaBinaryCodec.decodeJsonFingerprint(bytes).equals(jsonFingerprint(filePath))) {
+                    return DatasetSchemaInterner.getDefault().intern(DatasetSchemaBinaryCodec.decode(bytes));
+                }
+                logger.debug("Binary schema in path {} is stale, falling back to json.", filePath);
+            }
+        } catch (final IOException e) {
+            logger.warn("Could not load binary schema in path {}, falling back to json: {}", filePath, e.toString());
+        }
+
+        return datasetSchemaFromJson(filePath);
+    }
+
+    /**
+     * Gets the fingerprint of the model.json file in the given path, which identifies the json schema in the
+     * {@link #SCHEMA_BINARY_FILE binary file} created from it.
+     *
+     * @param filePath The directory with the binary of the model.
+     * @return The fingerprint of the json schema.
+     * @throws IOException If the model.json file cannot be read.
+     */
+    private static String jsonFingerprint(final Path filePath) throws IOException {
+        // the contents are hashed instead of using the fingerprint field, which is kept when the json is edited by hand
+        return "sha256:" + Hashing.sha256().hashBytes(Files.readAllBytes(filePath.resolve(SCHEMA_IMPORT_MODEL)));
+    }
+
+    /**
+     * Writes the {@link DatasetSchemaBinaryCodec binary encoding} of a schema to the given path, so that it is
+     * preferred by {@link #datasetSchemaFromPath(Path)} as long as the model.json file in the path (if any) does not
+     * change. The file is first written to a temporary file and then moved, so that concurrent loads never see a
+     * partially written file.
+     *
+     * @param filePath The directory with the binary of the model.
+     * @param schema   The schema of the model.
+     * @throws IOException If the file cannot be written, or the model.json file cannot be read.
+     * @since 1.3.0
+     */
+    public static void writeBinarySchema(final Path filePath, final DatasetSchema schema) throws IOException {
+        final String jsonFingerprint = Files.exists(filePath.resolve(SCHEMA_IMPORT_MODEL))
+                ? jsonFingerprint(filePath)
+                : DatasetSchemaFingerprint.of(schema);
+
+        final Path temporaryFile = Files.createTempFile(filePath, SCHEMA_BINARY_FILE, ".tmp");
+        try {
+            Files.write(temporaryFile, DatasetSchemaBinaryCodec.encode(schema, jsonFingerprint));
+            Files.move(
+                    temporaryFile,
+                    filePath.resolve(SCHEMA_BINARY_FILE),
+                    StandardCopyOption.REPLACE_EXISTING,
+                    StandardCopyOption.ATOMIC_MOVE
+            );
+        } finally {
+            Files.deleteIfExists(temporaryFile);
+        }
+    }
+
+    /**
+     * Reads the {@link DatasetSchemaFingerprint fingerprint} of the {@link DatasetSchema} in the given path, without
+     * parsing the schema. Since the fingerprint is written before the fields of the schema, usually only the beginning
+     * of the model.json file is read.
+     *
+     * @param filePath The directory with the binary of the model.
+     * @return The fingerprint of the schema, or {@link Optional#empty()} if the schema was written without one or with
+     * another {@link DatasetSchemaFingerprint#ENCODING_VERSION encoding version}.
+     * @throws ModelLoadingException In case there is an error reading the model.json file in the path.
+     * @since 1.3.0
+     */
+    public static Optional<String> readFingerprint(final Path filePath) throws ModelLoadingException {
+        final Path jsonFilePath = filePath.resolve(SCHEMA_IMPORT_MODEL);
+        if (!Files.exists(jsonFilePath)) {
+            throw new ModelLoadingException("There is no model.json file on the model path.");
+        }
+
+        try (JsonParser parser = JSON_FACTORY.createParser(jsonFilePath.toFile())) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new ModelLoadingException(String.format("The schema in path %s is not a json object", filePath));
+            }
+
+            String fingerprint = null;
+            int fingerprintVersion = -1;
+            while ((fingerprint == null || fingerprintVersion < 0) && parser.nextToken() == JsonToken.FIELD_NAME) {
+                final String fieldName = parser.getCurrentName();
+                parser.nextToken();
+                if (DatasetSchemaDeserializer.FINGERPRINT.equals(fieldName)) {
+                    fingerprint = parser.getText();
+                } else if (DatasetSchemaDeserializer.FINGERPRINT_VERSION.equals(fieldName)) {
+                    fingerprintVersion = parser.getValueAsInt(-1);
+                }
+                parser.skipChildren();
+            }
+
+            return fingerprintVersion == DatasetSchemaFingerprint.ENCODING_VERSION
+                    ? Optional.ofNullable(fingerprint)
+                    : Optional.empty();
+        } catch (final IOException e) {
+            final String msg = String.format("Could not read schema fingerprint in path %s due to %s", filePath, e);
+            logger.error(msg);
+            throw new ModelLoadingException(msg, e);
+        }
+    }
+
     /**
      * Gets a string that identifies the type of {@code valueSchema}.
      *
@@ -0,0 +1,605 @@
+/*
+ * Copyright 2026 Feedzai
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.feedzai.openml.util.load;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.base.Preconditions;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * A model file mapped read-only into memory, so that providers can read their binaries in place instead of copying
+ * them into the heap, and models loaded from the same file share its pages through the OS cache.
+ * <p>
+ * Since a single {@link MappedByteBuffer} cannot exceed 2 GB, the file is mapped in chunks. Consecutive chunks overlap
+ * by {@value #CHUNK_OVERLAP} bytes, so the absolute getters (e.g. {@link Reader#getLong(long)}) always read a value
+ * from a single chunk.
+ * <p>
+ * The mappings are released explicitly once the file is {@link #close() closed} (typically from the model's
+ * {@link com.feedzai.openml.model.MachineLearningModel#close()}) instead of whenever the buffers are garbage collected.
+ * Since reading an unmapped buffer crashes the JVM, the mapped buffers are never exposed: each read holds a reference
+ * to the mappings, which are only released after the file is closed and the reads in progress finish. Reads that
+ * start after the file is closed fail with an {@link IllegalStateException}.
+ * <p>
+ * Since taking a reference is an atomic operation on state shared by all the readers of the file, values are either
+ * read in bulk (e.g. {@link #getDoubles(long, double[])}) or through the {@link Reader} of a {@link #read(Function)},
+ * instead of taking one reference per value.
+ *
+ * @author agent (agent@local)
+ * @since 1.3.0
+ */
+public final class MappedModelFile implements AutoCloseable {
+
+    /**
+     * Logger for this class.
+     */
+    private static final Logger logger = LoggerFactory.getLogger(MappedModelFile.class);
+
+    /**
+     * The default size of each chunk.
+     */
+    public static final int DEFAULT_CHUNK_SIZE = 1 << 30;
+
+    /**
+     * The number of bytes shared by consecutive chunks, enough to read any primitive value from a single chunk.
+     */
+    static final int CHUNK_OVERLAP = Long.BYTES - 1;
+
+    /**
+     * The path of the file.
+     */
+    private final Path file;
+
+    /**
+     * The size of the file.
+     */
+    private final long size;
+
+    /**
+     * The size of each chunk, excluding the overlap with the next one.
+     */
+    private final int chunkSize;
+
+    /**
+     * The chunks.
+     */
+    private final MappedByteBuffer[] chunks;
+
+    /**
+     * Whether the file was closed.
+     */
+    private final AtomicBoolean closed = new AtomicBoolean(false);
+
+    /**
+     * The number of references to the mappings: the one owned by this file until it is closed, plus one for each read
+     * in progress. The mappings are released when it drops to zero.
+     */
+    private final AtomicInteger references = new AtomicInteger(1);
+
+    /**
+     * Creates a new instance.
+     *
+     * @param file      The path of the file.
+     * @param size      The size of the file.
+     * @param chunkSize The size of each chunk, excluding the overlap with the next one.
+     * @param chunks    The chunks.
+     */
+    private MappedModelFile(final Path file, final long size, final int chunkSize, final MappedByteBuffer[] chunks) {
+        this.file = file;
+        this.size = size;
+        this.chunkSize = chunkSize;
+        this.chunks = chunks;
+    }
+
+    /**
+     * Maps the given file into memory, with chunks of the {@link #DEFAULT_CHUNK_SIZE default size}.
+     *
+     * @param file The path of the file.
+     * @return The mapped file.
+     * @throws IOException If the file cannot be mapped.
+     */
+    public static MappedModelFile map(final Path file) throws IOException {
+        return map(file, DEFAULT_CHUNK_SIZE);
+    }
+
+    /**
+     * Maps the given file into memory.
+     *
+     * @param file      The path of the file.
+     * @param chunkSize The size of each chunk, excluding the overlap with the next one.
+     * @return The mapped file.
+     * @throws IOException If the file cannot be mapped.
+     */
+    public static MappedModelFile map(final Path file, final int chunkSize) throws IOException {
+        Preconditions.checkNotNull(file, "file should not be null");
+        Preconditions.checkArgument(
+                chunkSize > 0 && chunkSize <= Integer.MAX_VALUE - CHUNK_OVERLAP,
+                "chunk size should be positive and leave room for the overlap between chunks"
+        );
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            final long size = channel.size();
+            final int numChunks = (int) Math.max(1, (size + chunkSize - 1) / chunkSize);
+            final MappedByteBuffer[] chunks = new MappedByteBuffer[numChunks];
+
+            try {
+                for (int chunk = 0; chunk < numChunks; chunk++) {
+                    final long position = (long) chunk * chunkSize;
+                    final long length = Math.min(size - position, (long) chunkSize + CHUNK_OVERLAP);
+                    chunks[chunk] = channel.map(FileChannel.MapMode.READ_ONLY, position, length);
+                }
+            } catch (final IOException | RuntimeException e) {
+                for (final MappedByteBuffer chunk : chunks) {
+                    Unmapper.unmap(chunk);
+                }
+                throw e;
+            }
+
+            return new MappedModelFile(file, size, chunkSize, chunks);
+        }
+    }
+
+    /**
+     * Gets the path of the file.
+     *
+     * @return The path.
+     */
+    public Path getFile() {
+        return this.file;
+    }
+
+    /**
+     * Gets the size of the file.
+     *
+     * @return The size in bytes.
+     */
+    public long size() {
+        return this.size;
+    }
+
+    /**
+     * Gets the number of chunks in which the file was mapped.
+     *
+     * @return The number of chunks.
+     */
+    public int getNumChunks() {
+        return this.chunks.length;
+    }
+
+    /**
+     * Gets the offset in the file of the first byte of a chunk.
+     *
+     * @param index The index of the chunk.
+     * @return The offset.
+     */
+    public long getChunkOffset(final int index) {
+        Preconditions.checkElementIndex(index, this.chunks.length, "chunk index");
+        return (long) index * this.chunkSize;
+    }
+
+    /**
+     * Reads a chunk through a read-only view of it, with its own position and limit. The view also covers the bytes
+     * this chunk shares with the next one.
+     * <p>
+     * The view is only valid while the reader runs: it must not be kept or used after the reader returns, since the
+     * file may be unmapped right after.
+     *
+     * @param index  The index of the chunk.
+     * @param reader The function that reads the view of the chunk.
+     * @param <T>    The type of the result of the reader.
+     * @return The result of the reader.
+     */
+    public <T> T readChunk(final int index, final Function<? super ByteBuffer, ? extends T> reader) {
+        Preconditions.checkElementIndex(index, this.chunks.length, "chunk index");
+        Preconditions.checkNotNull(reader, "reader should not be null");
+        retain();
+        try {
+            return reader.apply(this.chunks[index].asReadOnlyBuffer());
+        } finally {
+            release();
+        }
+    }
+
+    /**
+     * Reads the file through a {@link Reader}, whose absolute getters read values anywhere in the file.
+     * <p>
+     * A single reference to the mappings is held for the whole read, so the getters of the reader are plain reads of
+     * the mapped buffers; prefer reading as many values as possible in each read over many reads of a single value.
+     * The reader is only valid while the function runs and must not be shared with other threads.
+     *
+     * @param reader The function that reads the file.
+     * @param <T>    The type of the result of the reader.
+     * @return The result of the reader.
+     */
+    public <T> T read(final Function<? super Reader, ? extends T> reader) {
+        Preconditions.checkNotNull(reader, "reader should not be null");
+        retain();
+        final Reader view = new Reader();
+        try {
+            return reader.apply(view);
+        } finally {
+            view.valid = false;
+            release();
+        }
+    }
+
+    /**
+     * Copies consecutive big-endian ints of the file into an array.
+     *
+     * @param offset      The offset in the file of the first int.
+     * @param destination The array into which the ints are copied, filled entirely.
+     */
+    public void getInts(final long offset, final int[] destination) {
+        Preconditions.checkNotNull(destination, "destination should not be null");
+        checkBounds(offset, (long) destination.length * Integer.BYTES);
+        retain();
+        try {
+            for (int i = 0; i < destination.length; i++) {
+                final long position = offset + (long) i * Integer.BYTES;
+                destination[i] = chunkOf(position).getInt(positionOf(position));
+            }
+        } finally {
+            release();
+        }
+    }
+
+    /**
+     * Copies consecutive big-endian longs of the file into an array.
+     *
+     * @param offset      The offset in the file of the first long.
+     * @param destination The array into which the longs are copied, filled entirely.
+     */
+    public void getLongs(final long offset, final long[] destination) {
+        Preconditions.checkNotNull(destination, "destination should not be null");
+        checkBounds(offset, (long) destination.length * Long.BYTES);
+        retain();
+        try {
+            for (int i = 0; i < destination.length; i++) {
+                final long position = offset + (long) i * Long.BYTES;
+                destination[i] = chunkOf(position).getLong(positionOf(position));
+            }
+        } finally {
+            release();
+        }
+    }
+
+    /**
+     * Copies consecutive big-endian floats of the file into an array.
+     *
+     * @param offset      The offset in the file of the first float.
+     * @param destination The array into which the floats are copied, filled entirely.
+     */
+    public void getFloats(final long offset, final float[] destination) {
+        Preconditions.checkNotNull(destination, "destination should not be null");
+        checkBounds(offset, (long) destination.length * Float.BYTES);
+        retain();
+        try {
+            for (int i = 0; i < destination.length; i++) {
+                final long position = offset + (long) i * Float.BYTES;
+                destination[i] = chunkOf(position).getFloat(positionOf(position));
+            }
+        } finally {
+            release();
+        }
+    }
+
+    /**
+     * Copies consecutive big-endian doubles of the file into an array.
+     *
+     * @param offset      The offset in the file of the first double.
+     * @param destination The array into which the doubles are copied, filled entirely.
+     */
+    public void getDoubles(final long offset, final double[] destination) {
+        Preconditions.checkNotNull(destination, "destination should not be null");
+        checkBounds(offset, (long) destination.length * Double.BYTES);
+        retain();
+        try {
+            for (int i = 0; i < destination.length; i++) {
+                final long position = offset + (long) i * Double.BYTES;
+                destination[i] = chunkOf(position).getDouble(positionOf(position));
+            }
+        } finally {
+            release();
+        }
+    }
+
+    /**
+     * Copies bytes of the file into an array.
+     *
+     * @param offset      The offset in the file of the first byte to copy.
+     * @param destination The array into which the bytes are copied.
+     * @param start       The position in the array of the first byte to copy.
+     * @param length      The number of bytes to copy.
+     */
+    public void getBytes(final long offset, final byte[] destination, final int start, final int length) {
+        Preconditions.checkPositionIndexes(start, start + length, destination.length);
+        Preconditions.checkArgument(offset >= 0 && offset + length <= this.size, "bytes out of the file");
+        retain();
+        try {
+            int copied = 0;
+            while (copied < length) {
+                final long position = offset + copied;
+                final ByteBuffer chunk = chunkOf(position).duplicate();
+                chunk.position(positionOf(position));
+                final int count = Math.min(length - copied, this.chunkSize - chunk.position());
+                chunk.get(destination, start + copied, count);
+                copied += count;
+            }
+        } finally {
+            release();
+        }
+    }
+
+    /**
+     * Closes this file, so that no more reads are accepted. The mappings are released as soon as the reads in progress
+     * finish. Closing a file more than once has no effect.
+     */
+    @Override
+    public void close() {
+        if (this.closed.compareAndSet(false, true)) {
+            release();
+        }
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(this)
+                .add("file", this.file)
+                .add("size", this.size)
+                .add("numChunks", this.chunks.length)
+                .add("closed", this.closed.get())
+                .toString();
+    }
+
+    /**
+     * Checks that a value at the given offset of the file is within the file.
+     *
+     * @param offset The offset of the value.
+     * @param length The number of bytes of the value.
+     */
+    private void checkBounds(final long offset, final long length) {
+        if (offset < 0 || offset > this.size - length) {
+            throw new IndexOutOfBoundsException(String.format(
+                    "Cannot read %d bytes at offset %d of a file with %d bytes.", length, offset, this.size
+            ));
+        }
+    }
+
+    /**
+     * Gets the chunk from which to read a value at the given offset of the file, which should only be read while
+     * holding a reference to the mappings.
+     *
+     * @param offset The offset of the value.
+     * @return The chunk.
+     */
+    private MappedByteBuffer chunkOf(final long offset) {
+        return this.chunks[(int) (offset / this.chunkSize)];
+    }
+
+    /**
+     * Gets the position within its chunk of the given offset of the file.
+     *
+     * @param offset The offset.
+     * @return The position.
+     */
+    private int positionOf(final long offset) {
+        return (int) (offset % this.chunkSize);
+    }
+
+    /**
+     * Adds a reference to the mappings on behalf of a read, so that they are not released while it is in progress.
+     *
+     * @throws IllegalStateException If the file was closed.
+     */
+    private void retain() {
+        Preconditions.checkState(!this.closed.get(), "The model file %s was closed.", this.file);
+        while (true) {
+            final int current = this.references.get();
+            Preconditions.checkState(current > 0, "The model file %s was closed.", this.file);
+            if (this.references.compareAndSet(current, current + 1)) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Removes a reference to the mappings, releasing them if it was the last one.
+     */
+    private void release() {
+        if (this.references.decrementAndGet() == 0) {
+            for (final MappedByteBuffer chunk : this.chunks) {
+                Unmapper.unmap(chunk);
+            }
+        }
+    }
+
+    /**
+     * Reader of the values of the file within a {@link MappedModelFile#read(Function) read}, which holds the reference
+     * to the mappings for all of them.
+     */
+    public final class Reader {
+
+        /**
+         * Whether the read of this reader is still in progress. Only accessed by the thread of the read.
+         */
+        private boolean valid = true;
+
+        /**
+         * Private constructor, since readers are only created by {@link MappedModelFile#read(Function)}.
+         */
+        private Reader() {
+        }
+
+        /**
+         * Gets the byte at the given offset of the file.
+         *
+         * @param offset The offset.
+         * @return The byte.
+         */
+        public byte getByte(final long offset) {
+            checkReadable(offset, Byte.BYTES);
+            return chunkOf(offset).get(positionOf(offset));
+        }
+
+        /**
+         * Gets the big-endian int at the given offset of the file.
+         *
+         * @param offset The offset.
+         * @return The int.
+         */
+        public int getInt(final long offset) {
+            checkReadable(offset, Integer.BYTES);
+            return chunkOf(offset).getInt(positionOf(offset));
+        }
+
+        /**
+         * Gets the big-endian long at the given offset of the file.
+         *
+         * @param offset The offset.
+         * @return The long.
+         */
+        public long getLong(final long offset) {
+            checkReadable(offset, Long.BYTES);
+            return chunkOf(offset).getLong(positionOf(offset));
+        }
+
+        /**
+         * Gets the big-endian float at the given offset of the file.
+         *
+         * @param offset The offset.
+         * @return The float.
+         */
+        public float getFloat(final long offset) {
+            checkReadable(offset, Float.BYTES);
+            return chunkOf(offset).getFloat(positionOf(offset));
+        }
+
+        /**
+         * Gets the big-endian double at the given offset of the file.
+         *
+         * @param offset The offset.
+         * @return The double.
+         */
+        public double getDouble(final long offset) {
+            checkReadable(offset, Double.BYTES);
+            return chunkOf(offset).getDouble(positionOf(offset));
+        }
+
+        /**
+         * Checks that this reader is still valid and that a value at the given offset of the file is within the file.
+         *
+         * @param offset The offset of the value.
+         * @param length The number of bytes of the value.
+         * @throws IllegalStateException If the read of this reader has finished.
+         */
+        private void checkReadable(final long offset, final int length) {
+            Preconditions.checkState(this.valid, "The reader of the model file %s was used after its read.",
+                    MappedModelFile.this.file);
+            checkBounds(offset, length);
+        }
+    }
+
+    /**
+     * Releases mapped buffers explicitly, through the internal APIs of the running JVM.
+     */
+    static final class Unmapper {
+
+        /**
+         * The handle that unmaps a buffer, {@code null} if this JVM does not allow it.
+         */
+        private static final MethodHandle UNMAP = findUnmap();
+
+        /**
+         * Private constructor for utility class.
+         */
+        private Unmapper() {
+        }
+
+        /**
+         * Checks whether buffers can be unmapped explicitly in this JVM.
+         *
+         * @return {@code true} if they can, {@code false} if they are only unmapped when garbage collected.
+         */
+        static boolean isSupported() {
+            return UNMAP != null;
+        }
+
+        /**
+         * Unmaps a buffer, which must not be accessed afterwards. Does nothing if the buffer is {@code null} or this
+         * JVM does not allow it.
+         *
+         * @param buffer The buffer.
+         */
+        static void unmap(final MappedByteBuffer buffer) {
+            if (buffer == null || UNMAP == null) {
+                return;
+            }
+            try {
+                UNMAP.invoke((ByteBuffer) buffer);
+            } catch (final Throwable e) {
+                logger.warn("Could not unmap a model file; it will be unmapped when garbage collected.", e);
+            }
+        }
+
+        /**
+         * Finds how to unmap buffers in this JVM: {@code sun.misc.Unsafe#invokeCleaner} since Java 9, or the cleaner of
+         * {@code sun.nio.ch.DirectBuffer} before.
+         *
+         * @return A handle that takes a {@link ByteBuffer}, or {@code null} if none is accessible.
+         */
+        private static MethodHandle findUnmap() {
+            final MethodHandles.Lookup lookup = MethodHandles.lookup();
+            try {
+                final Class<?> unsafeClass = Class.forName("sun.misc.Unsafe");
+                final Method invokeCleaner = unsafeClass.getMethod("invokeCleaner", ByteBuffer.class);
+                final Field theUnsafe = unsafeClass.getDeclaredField("theUnsafe");
+                theUnsafe.setAccessible(true);
+                return lookup.unreflect(invokeCleaner).bindTo(theUnsafe.get(null));
+            } catch (final ReflectiveOperationException | RuntimeException e) {
+                logger.trace("sun.misc.Unsafe#invokeCleaner is not available.", e);
+            }
+
+            try {
+                final Class<?> directBuffer = Class.forName("sun.nio.ch.DirectBuffer");
+                final Method cleanerMethod = directBuffer.getMethod("cleaner");
+                final Method cleanMethod = cleanerMethod.getReturnType().getMethod("clean");
+                final MethodHandle cleaner = lookup.unreflect(cleanerMethod)
+                        .asType(MethodType.methodType(cleanerMethod.getReturnType(), ByteBuffer.class));
+                return MethodHandles.filterReturnValue(cleaner, lookup.unreflect(cleanMethod));
+            } catch (final ReflectiveOperationException | RuntimeException e) {
+                logger.warn("Mapped model files cannot be unmapped explicitly in this JVM.", e);
+                return null;
+            }
+        }
+    }
+}
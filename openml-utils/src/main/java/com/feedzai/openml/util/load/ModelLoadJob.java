@@ -0,0 +1,151 @@
+/*
+ * Copyright 2026 Feedzai
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.feedzai.openml.util.load;
+
+import com.feedzai.openml.data.schema.DatasetSchema;
+import com.feedzai.openml.provider.MachineLearningProvider;
+import com.google.common.base.MoreObjects;
+import com.google.common.base.Preconditions;
+
+import java.nio.file.Path;
+
+/**
+ * A model to be loaded by a {@link BulkModelLoader}.
+ *
+ * @author agent (agent@local)
+ * @since 1.3.0
+ */
+public final class ModelLoadJob {
+
+    /**
+     * The provider of the model.
+     */
+    private final MachineLearningProvider<?> provider;
+
+    /**
+     * The name of the algorithm of the model.
+     */
+    private final String algorithmName;
+
+    /**
+     * The path where the model was persisted.
+     */
+    private final Path modelPath;
+
+    /**
+     * The schema of the model.
+     */
+    private final DatasetSchema schema;
+
+    /**
+     * The expected traffic of the model, in any unit common to all the jobs loaded together.
+     */
+    private final double expectedTraffic;
+
+    /**
+     * Creates a new job without any expected traffic.
+     *
+     * @param provider      The provider of the model.
+     * @param algorithmName The name of the algorithm of the model.
+     * @param modelPath     The path where the model was persisted.
+     * @param schema        The schema of the model.
+     */
+    public ModelLoadJob(final MachineLearningProvider<?> provider,
+                        final String algorithmName,
+                        final Path modelPath,
+                        final DatasetSchema schema) {
+        this(provider, algorithmName, modelPath, schema, 0);
+    }
+
+    /**
+     * Creates a new job.
+     *
+     * @param provider        The provider of the model.
+     * @param algorithmName   The name of the algorithm of the model.
+     * @param modelPath       The path where the model was persisted.
+     * @param schema          The schema of the model.
+     * @param expectedTraffic The expected traffic of the model, in any unit common to all the jobs loaded together.
+     */
+    public ModelLoadJob(final MachineLearningProvider<?> provider,
+                        final String algorithmName,
+                        final Path modelPath,
+                        final DatasetSchema schema,
+                        final double expectedTraffic) {
+        this.provider = Preconditions.checkNotNull(provider, "provider should not be null");
+        this.algorithmName = Preconditions.checkNotNull(algorithmName, "algorithm name should not be null");
+        this.modelPath = Preconditions.checkNotNull(modelPath, "model path should not be null");
+        this.schema = Preconditions.checkNotNull(schema, "schema should not be null");
+        Preconditions.checkArgument(expectedTraffic >= 0, "expected traffic should not be negative");
+        this.expectedTraffic = expectedTraffic;
+    }
+
+    /**
+     * Gets the provider of the model.
+     *
+     * @return The provider.
+     */
+    public MachineLearningProvider<?> getProvider() {
+        return this.provider;
+    }
+
+    /**
+     * Gets the name of the algorithm of the model.
+     *
+     * @return The algorithm name.
+     */
+    public String getAlgorithmName() {
+        return this.algorithmName;
+    }
+
+    /**
+     * Gets the path where the model was persisted.
+     *
+     * @return The model path.
+     */
+    public Path getModelPath() {
+        return this.modelPath;
+    }
+
+    /**
+     * Gets the schema of the model.
+     *
+     * @return The schema.
+     */
+    public DatasetSchema getSchema() {
+        return this.schema;
+    }
+
+    /**
+     * Gets the expected traffic of the model.
+     *
+     * @return The expected traffic.
+     */
+    public double getExpectedTraffic() {
+        return this.expectedTraffic;
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(this)
+                .add("provider", this.provider.getName())
+                .add("algorithmName", this.algorithmName)
+                .add("modelPath", this.modelPath)
+                .add("expectedTraffic", this.expectedTraffic)
+                .toString();
+    }
+}
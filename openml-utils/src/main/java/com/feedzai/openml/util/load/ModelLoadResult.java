@@ -0,0 +1,128 @@
+/*
+ * Copyright 2026 Feedzai
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.feedzai.openml.util.load;
+
+import com.feedzai.openml.model.MachineLearningModel;
+import com.feedzai.openml.provider.exception.ModelLoadingException;
+import com.google.common.base.MoreObjects;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * The outcome of a {@link ModelLoadJob} run by a {@link BulkModelLoader}: either the loaded model or the reason why it
+ * could not be loaded, along with the time it took.
+ *
+ * @author agent (agent@local)
+ * @since 1.3.0
+ */
+public final class ModelLoadResult {
+
+    /**
+     * The job that was run.
+     */
+    private final ModelLoadJob job;
+
+    /**
+     * The loaded model, {@code null} if the load failed.
+     */
+    private final MachineLearningModel model;
+
+    /**
+     * The reason why the load failed, {@code null} if it succeeded.
+     */
+    private final ModelLoadingException failure;
+
+    /**
+     * The time it took to load (or fail to load) the model.
+     */
+    private final Duration loadTime;
+
+    /**
+     * Creates a new instance.
+     *
+     * @param job      The job that was run.
+     * @param model    The loaded model, {@code null} if the load failed.
+     * @param failure  The reason why the load failed, {@code null} if it succeeded.
+     * @param loadTime The time it took to load (or fail to load) the model.
+     */
+    ModelLoadResult(final ModelLoadJob job,
+                    final MachineLearningModel model,
+                    final ModelLoadingException failure,
+                    final Duration loadTime) {
+        this.job = job;
+        this.model = model;
+        this.failure = failure;
+        this.loadTime = loadTime;
+    }
+
+    /**
+     * Gets the job that was run.
+     *
+     * @return The job.
+     */
+    public ModelLoadJob getJob() {
+        return this.job;
+    }
+
+    /**
+     * Checks whether the model was loaded.
+     *
+     * @return {@code true} if the model was loaded, {@code false} otherwise.
+     */
+    public boolean isSuccessful() {
+        return this.model != null;
+    }
+
+    /**
+     * Gets the loaded model.
+     *
+     * @return The model, or an empty optional if the load failed.
+     */
+    public Optional<MachineLearningModel> getModel() {
+        return Optional.ofNullable(this.model);
+    }
+
+    /**
+     * Gets the reason why the load failed.
+     *
+     * @return The failure, or an empty optional if the load succeeded.
+     */
+    public Optional<ModelLoadingException> getFailure() {
+        return Optional.ofNullable(this.failure);
+    }
+
+    /**
+     * Gets the time it took to load (or fail to load) the model, excluding the time waiting for a free thread.
+     *
+     * @return The load time.
+     */
+    public Duration getLoadTime() {
+        return this.loadTime;
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(this)
+                .add("job", this.job)
+                .add("successful", isSuccessful())
+                .add("failure", this.failure)
+                .add("loadTime", this.loadTime)
+                .toString();
+    }
+}
@@ -0,0 +1,370 @@
+/*
+ * Copyright 2026 Feedzai
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.feedzai.openml.util.load;
+
+import com.feedzai.openml.data.schema.DatasetSchema;
+import com.feedzai.openml.provider.exception.ModelLoadingException;
+import com.google.common.base.MoreObjects;
+import com.google.common.base.Preconditions;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A thread-safe service that loads the {@link DatasetSchema} of model directories (see
+ * {@link LoadSchemaUtils#datasetSchemaFromPath(Path)}) and caches them, so that repeated loads and validations of the
+ * same models do not read and parse the schema files again.
+ * <p>
+ * The cache is bounded and keyed by the directory of the model. Each cached schema remembers the size and modification
+ * time of the files it was loaded from, and it is reloaded as soon as any of them changes. Concurrent loads of the same
+ * directory are performed only once.
+ *
+ * @author agent (agent@local)
+ * @since 1.3.0
+ */
+public final class SchemaLoadingService {
+
+    /**
+     * The default maximum number of cached schemas.
+     */
+    public static final int DEFAULT_MAXIMUM_SIZE = 1024;
+
+    /**
+     * The service shared by the whole JVM.
+     */
+    private static final SchemaLoadingService DEFAULT = new SchemaLoadingService(DEFAULT_MAXIMUM_SIZE);
+
+    /**
+     * The cached schemas, by the normalized absolute path of the model directory.
+     */
+    private final Cache<Path, CachedSchema> cache;
+
+    /**
+     * The number of loads served from the cache.
+     */
+    private final LongAdder hits = new LongAdder();
+
+    /**
+     * The number of loads that had to read the schema files.
+     */
+    private final LongAdder misses = new LongAdder();
+
+    /**
+     * The number of cached schemas discarded because their files changed.
+     */
+    private final LongAdder invalidations = new LongAdder();
+
+    /**
+     * Creates a new service.
+     *
+     * @param maximumSize The maximum number of cached schemas.
+     */
+    public SchemaLoadingService(final int maximumSize) {
+        Preconditions.checkArgument(maximumSize > 0, "maximum size should be positive");
+        this.cache = CacheBuilder.newBuilder()
+                .maximumSize(maximumSize)
+                .build();
+    }
+
+    /**
+     * Gets the service shared by the whole JVM.
+     *
+     * @return The default service.
+     */
+    public static SchemaLoadingService getDefault() {
+        return DEFAULT;
+    }
+
+    /**
+     * Loads the schema of the model in the given directory, from the cache if its files did not change since it was
+     * cached.
+     *
+     * @param modelPath The directory of the model.
+     * @return The schema.
+     * @throws ModelLoadingException If the schema cannot be loaded.
+     */
+    public DatasetSchema loadSchema(final Path modelPath) throws ModelLoadingException {
+        Preconditions.checkNotNull(modelPath, "model path should not be null");
+
+        final Path key = modelPath.toAbsolutePath().normalize();
+        final FilesStamp stamp = FilesStamp.of(key);
+
+        final CachedSchema cached = this.cache.getIfPresent(key);
+        if (cached != null) {
+            if (cached.stamp.equals(stamp)) {
+                this.hits.increment();
+                return cached.schema;
+            }
+            this.cache.asMap().remove(key, cached);
+            this.invalidations.increment();
+        }
+
+        try {
+            return this.cache.get(key, () -> {
+                this.misses.increment();
+                return new CachedSchema(stamp, LoadSchemaUtils.datasetSchemaFromPath(key));
+            }).schema;
+
+        } catch (final ExecutionException | UncheckedExecutionException e) {
+            if (e.getCause() instanceof ModelLoadingException) {
+                throw (ModelLoadingException) e.getCause();
+            }
+            throw new ModelLoadingException("Could not load schema for model in path " + modelPath, e.getCause());
+        }
+    }
+
+    /**
+     * Discards the cached schema of the model in the given directory, if any.
+     *
+     * @param modelPath The directory of the model.
+     */
+    public void invalidate(final Path modelPath) {
+        this.cache.invalidate(modelPath.toAbsolutePath().normalize());
+    }
+
+    /**
+     * Discards all the cached schemas.
+     */
+    public void invalidateAll() {
+        this.cache.invalidateAll();
+    }
+
+    /**
+     * Gets a snapshot of the metrics of this service.
+     *
+     * @return The metrics.
+     */
+    public Stats getStats() {
+        return new Stats(this.hits.sum(), this.misses.sum(), this.invalidations.sum(), this.cache.size());
+    }
+
+    /**
+     * A schema in the cache, along with the stamp of the files it was loaded from.
+     */
+    private static final class CachedSchema {
+
+        /**
+         * The stamp of the files when the schema was loaded (or just before).
+         */
+        private final FilesStamp stamp;
+
+        /**
+         * The schema.
+         */
+        private final DatasetSchema schema;
+
+        /**
+         * Creates a new instance.
+         *
+         * @param stamp  The stamp of the files.
+         * @param schema The schema.
+         */
+        CachedSchema(final FilesStamp stamp, final DatasetSchema schema) {
+            this.stamp = stamp;
+            this.schema = schema;
+        }
+    }
+
+    /**
+     * The size and modification time of the schema files of a model directory.
+     */
+    private static final class FilesStamp {
+
+        /**
+         * The size and modification time of the json file, or {@code -1} if it does not exist.
+         */
+        private final long jsonSize, jsonModified;
+
+        /**
+         * The size and modification time of the binary file, or {@code -1} if it does not exist.
+         */
+        private final long binarySize, binaryModified;
+
+        /**
+         * Creates a new instance.
+         *
+         * @param json   The attributes of the json file, {@code null} if it does not exist.
+         * @param binary The attributes of the binary file, {@code null} if it does not exist.
+         */
+        private FilesStamp(final BasicFileAttributes json, final BasicFileAttributes binary) {
+            this.jsonSize = json == null ? -1 : json.size();
+            this.jsonModified = json == null ? -1 : json.lastModifiedTime().toMillis();
+            this.binarySize = binary == null ? -1 : binary.size();
+            this.binaryModified = binary == null ? -1 : binary.lastModifiedTime().toMillis();
+        }
+
+        /**
+         * Gets the current stamp of the schema files of a model directory.
+         *
+         * @param modelPath The directory of the model.
+         * @return The stamp.
+         * @throws ModelLoadingException If the attributes of the files cannot be read.
+         */
+        static FilesStamp of(final Path modelPath) throws ModelLoadingException {
+            return new FilesStamp(
+                    readAttributes(modelPath.resolve(LoadSchemaUtils.SCHEMA_IMPORT_MODEL)),
+                    readAttributes(modelPath.resolve(LoadSchemaUtils.SCHEMA_BINARY_FILE))
+            );
+        }
+
+        /**
+         * Reads the attributes of a file.
+         *
+         * @param file The file.
+         * @return The attributes, or {@code null} if the file does not exist.
+         * @throws ModelLoadingException If the attributes cannot be read.
+         */
+        private static BasicFileAttributes readAttributes(final Path file) throws ModelLoadingException {
+            try {
+                return Files.readAttributes(file, BasicFileAttributes.class);
+            } catch (final NoSuchFileException e) {
+                return null;
+            } catch (final IOException e) {
+                throw new ModelLoadingException("Could not read the attributes of " + file, e);
+            }
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(this.jsonSize, this.jsonModified, this.binarySize, this.binaryModified);
+        }
+
+        @Override
+        public boolean equals(final Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (obj == null || getClass() != obj.getClass()) {
+                return false;
+            }
+            final FilesStamp other = (FilesStamp) obj;
+            return this.jsonSize == other.jsonSize
+                    && this.jsonModified == other.jsonModified
+                    && this.binarySize == other.binarySize
+                    && this.binaryModified == other.binaryModified;
+        }
+    }
+
+    /**
+     * A snapshot of the metrics of a {@link SchemaLoadingService}.
+     *
+     * @since 1.3.0
+     */
+    public static final class Stats {
+
+        /**
+         * The number of loads served from the cache.
+         */
+        private final long hitCount;
+
+        /**
+         * The number of loads that had to read the schema files.
+         */
+        private final long missCount;
+
+        /**
+         * The number of cached schemas discarded because their files changed.
+         */
+        private final long invalidationCount;
+
+        /**
+         * The number of cached schemas.
+         */
+        private final long size;
+
+        /**
+         * Creates a new instance.
+         *
+         * @param hitCount          The number of loads served from the cache.
+         * @param missCount         The number of loads that had to read the schema files.
+         * @param invalidationCount The number of cached schemas discarded because their files changed.
+         * @param size              The number of cached schemas.
+         */
+        Stats(final long hitCount, final long missCount, final long invalidationCount, final long size) {
+            this.hitCount = hitCount;
+            this.missCount = missCount;
+            this.invalidationCount = invalidationCount;
+            this.size = size;
+        }
+
+        /**
+         * Gets the number of loads served from the cache.
+         *
+         * @return The number of hits.
+         */
+        public long getHitCount() {
+            return this.hitCount;
+        }
+
+        /**
+         * Gets the number of loads that had to read the schema files.
+         *
+         * @return The number of misses.
+         */
+        public long getMissCount() {
+            return this.missCount;
+        }
+
+        /**
+         * Gets the number of cached schemas discarded because their files changed.
+         *
+         * @return The number of invalidations.
+         */
+        public long getInvalidationCount() {
+            return this.invalidationCount;
+        }
+
+        /**
+         * Gets the number of cached schemas.
+         *
+         * @return The size of the cache.
+         */
+        public long getSize() {
+            return this.size;
+        }
+
+        /**
+         * Gets the ratio of loads served from the cache.
+         *
+         * @return The hit rate, {@code 1.0} if there were no loads.
+         */
+        public double getHitRate() {
+            final long requests = this.hitCount + this.missCount;
+            return requests == 0 ? 1.0 : (double) this.hitCount / requests;
+        }
+
+        @Override
+        public String toString() {
+            return MoreObjects.toStringHelper(this)
+                    .add("hitCount", this.hitCount)
+                    .add("missCount", this.missCount)
+                    .add("invalidationCount", this.invalidationCount)
+                    .add("size", this.size)
+                    .toString();
+        }
+    }
+}
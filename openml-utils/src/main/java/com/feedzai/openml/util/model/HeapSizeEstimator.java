@@ -0,0 +1,346 @@
+/*
+ * Copyright 2026 Feedzai
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.feedzai.openml.util.model;
+
+import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableList;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.management.ManagementFactory;
+import java.lang.reflect.Array;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Estimates the number of bytes of the Java heap retained by an object graph, by walking it reflectively.
+ * <p>
+ * The estimate follows the usual HotSpot object layout (object headers, reference sizes with or without compressed
+ * oops, and 8 byte alignment), but ignores the packing of fields. Classes, class loaders, threads and enum constants
+ * are not counted, since they are shared by the whole JVM. Objects whose fields cannot be accessed reflectively (e.g.
+ * JDK internals on Java 9 or later without {@code --add-opens}) are estimated from their public API when they are
+ * strings, collections or maps, and by their shallow size otherwise.
+ * <p>
+ * Walking a large graph takes time proportional to its number of objects, so estimates should be computed once (e.g.
+ * when a model is loaded) rather than on every use.
+ *
+ * @author agent (agent@local)
+ * @since 1.3.0
+ */
+public final class HeapSizeEstimator {
+
+    /**
+     * Logger for this class.
+     */
+    private static final Logger logger = LoggerFactory.getLogger(HeapSizeEstimator.class);
+
+    /**
+     * The alignment of objects in the heap.
+     */
+    private static final int ALIGNMENT = 8;
+
+    /**
+     * The estimator for the layout of the running JVM.
+     */
+    private static final HeapSizeEstimator DEFAULT = forRunningJvm();
+
+    /**
+     * The size of the header of an object.
+     */
+    private final int objectHeaderSize;
+
+    /**
+     * The size of the header of an array, including its length.
+     */
+    private final int arrayHeaderSize;
+
+    /**
+     * The size of a reference.
+     */
+    private final int referenceSize;
+
+    /**
+     * The layout of each class, computed once.
+     */
+    private final ClassValue<ClassLayout> layouts = new ClassValue<ClassLayout>() {
+        @Override
+        protected ClassLayout computeValue(final Class<?> type) {
+            return new ClassLayout(type);
+        }
+    };
+
+    /**
+     * Creates a new estimator.
+     *
+     * @param objectHeaderSize The size of the header of an object.
+     * @param arrayHeaderSize  The size of the header of an array, including its length.
+     * @param referenceSize    The size of a reference.
+     */
+    HeapSizeEstimator(final int objectHeaderSize, final int arrayHeaderSize, final int referenceSize) {
+        this.objectHeaderSize = objectHeaderSize;
+        this.arrayHeaderSize = arrayHeaderSize;
+        this.referenceSize = referenceSize;
+    }
+
+    /**
+     * Gets the estimator for the object layout of the running JVM.
+     *
+     * @return The estimator.
+     */
+    public static HeapSizeEstimator getDefault() {
+        return DEFAULT;
+    }
+
+    /**
+     * Estimates the number of bytes retained by the given object, i.e., the sum of the sizes of all the objects
+     * reachable from it.
+     *
+     * @param root The object.
+     * @return The estimated number of bytes, {@code 0} for {@code null}.
+     */
+    public long estimate(final Object root) {
+        final Set<Object> visited = Collections.newSetFromMap(new IdentityHashMap<>());
+        final Deque<Object> pending = new ArrayDeque<>();
+        long total = 0;
+
+        push(root, visited, pending);
+        while (!pending.isEmpty()) {
+            final Object object = pending.pop();
+            final Class<?> type = object.getClass();
+
+            if (type.isArray()) {
+                total += arraySize(object);
+                if (!type.getComponentType().isPrimitive()) {
+                    for (final Object element : (Object[]) object) {
+                        push(element, visited, pending);
+                    }
+                }
+                continue;
+            }
+
+            final ClassLayout layout = this.layouts.get(type);
+            total += layout.shallowSize;
+            if (layout.opaque) {
+                total += estimateOpaque(object, visited, pending);
+            }
+            for (final Field field : layout.referenceFields) {
+                try {
+                    push(field.get(object), visited, pending);
+                } catch (final IllegalAccessException e) {
+                    logger.trace("Cannot read field {}.", field, e);
+                }
+            }
+        }
+        return total;
+    }
+
+    /**
+     * Estimates the size of the given object alone, without the objects it references.
+     *
+     * @param object The object.
+     * @return The estimated number of bytes.
+     */
+    public long shallowSize(final Object object) {
+        Preconditions.checkNotNull(object, "object should not be null");
+        return object.getClass().isArray() ? arraySize(object) : this.layouts.get(object.getClass()).shallowSize;
+    }
+
+    /**
+     * Estimates the contents of an object whose fields cannot be read, from its public API.
+     *
+     * @param object  The object.
+     * @param visited The objects already visited.
+     * @param pending The objects still to visit.
+     * @return The estimated number of bytes of the contents, besides the shallow size of the object.
+     */
+    private long estimateOpaque(final Object object, final Set<Object> visited, final Deque<Object> pending) {
+        if (object instanceof String) {
+            return align(this.arrayHeaderSize + (long) ((String) object).length() * Character.BYTES);
+        }
+        if (object instanceof Collection) {
+            final Collection<?> collection = (Collection<?>) object;
+            collection.forEach(element -> push(element, visited, pending));
+            return align(this.arrayHeaderSize + (long) collection.size() * this.referenceSize);
+        }
+        if (object instanceof Map) {
+            final Map<?, ?> map = (Map<?, ?>) object;
+            map.forEach((key, value) -> {
+                push(key, visited, pending);
+                push(value, visited, pending);
+            });
+            final long entrySize = align(this.objectHeaderSize + 3L * this.referenceSize + Integer.BYTES);
+            return align(this.arrayHeaderSize + (long) map.size() * this.referenceSize) + map.size() * entrySize;
+        }
+        return 0;
+    }
+
+    /**
+     * Schedules an object to be visited, unless it was visited already or is shared by the whole JVM.
+     *
+     * @param object  The object.
+     * @param visited The objects already visited.
+     * @param pending The objects still to visit.
+     */
+    private static void push(final Object object, final Set<Object> visited, final Deque<Object> pending) {
+        if (object == null
+                || object instanceof Class
+                || object instanceof ClassLoader
+                || object instanceof Thread
+                || object instanceof Enum) {
+            return;
+        }
+        if (visited.add(object)) {
+            pending.push(object);
+        }
+    }
+
+    /**
+     * Computes the size of an array.
+     *
+     * @param array The array.
+     * @return The number of bytes.
+     */
+    private long arraySize(final Object array) {
+        final Class<?> componentType = array.getClass().getComponentType();
+        final int elementSize = componentType.isPrimitive() ? primitiveSize(componentType) : this.referenceSize;
+        return align(this.arrayHeaderSize + (long) Array.getLength(array) * elementSize);
+    }
+
+    /**
+     * Gets the size of a value of a primitive type.
+     *
+     * @param type The primitive type.
+     * @return The number of bytes.
+     */
+    private static int primitiveSize(final Class<?> type) {
+        if (type == long.class || type == double.class) {
+            return Long.BYTES;
+        }
+        if (type == int.class || type == float.class) {
+            return Integer.BYTES;
+        }
+        if (type == short.class || type == char.class) {
+            return Short.BYTES;
+        }
+        return Byte.BYTES;
+    }
+
+    /**
+     * Rounds a size up to the {@link #ALIGNMENT}.
+     *
+     * @param size The size.
+     * @return The aligned size.
+     */
+    private static long align(final long size) {
+        return (size + ALIGNMENT - 1) / ALIGNMENT * ALIGNMENT;
+    }
+
+    /**
+     * Creates the estimator for the object layout of the running JVM.
+     *
+     * @return The estimator.
+     */
+    private static HeapSizeEstimator forRunningJvm() {
+        if ("32".equals(System.getProperty("sun.arch.data.model"))) {
+            return new HeapSizeEstimator(8, 12, 4);
+        }
+        return usesCompressedOops() ? new HeapSizeEstimator(12, 16, 4) : new HeapSizeEstimator(16, 24, 8);
+    }
+
+    /**
+     * Checks whether the running JVM uses compressed references, assuming it does if that cannot be determined (as is
+     * the default for heaps up to 32 GB).
+     *
+     * @return {@code true} if references take 4 bytes, {@code false} if they take 8 bytes.
+     */
+    private static boolean usesCompressedOops() {
+        try {
+            return Boolean.parseBoolean(
+                    ManagementFactory.getPlatformMXBean(com.sun.management.HotSpotDiagnosticMXBean.class)
+                            .getVMOption("UseCompressedOops")
+                            .getValue()
+            );
+        } catch (final RuntimeException | LinkageError e) {
+            logger.debug("Could not determine whether the JVM uses compressed references.", e);
+            return true;
+        }
+    }
+
+    /**
+     * The layout of the instances of a class.
+     */
+    private final class ClassLayout {
+
+        /**
+         * The size of an instance, without the objects it references.
+         */
+        private final long shallowSize;
+
+        /**
+         * The accessible instance fields that hold references.
+         */
+        private final List<Field> referenceFields;
+
+        /**
+         * Whether some of the reference fields cannot be read.
+         */
+        private final boolean opaque;
+
+        /**
+         * Computes the layout of a class.
+         *
+         * @param type The class.
+         */
+        ClassLayout(final Class<?> type) {
+            final ImmutableList.Builder<Field> fields = ImmutableList.builder();
+            long size = HeapSizeEstimator.this.objectHeaderSize;
+            boolean inaccessible = false;
+
+            for (Class<?> current = type; current != null; current = current.getSuperclass()) {
+                for (final Field field : current.getDeclaredFields()) {
+                    if (Modifier.isStatic(field.getModifiers())) {
+                        continue;
+                    }
+                    if (field.getType().isPrimitive()) {
+                        size += primitiveSize(field.getType());
+                        continue;
+                    }
+                    size += HeapSizeEstimator.this.referenceSize;
+                    try {
+                        field.setAccessible(true);
+                        fields.add(field);
+                    } catch (final RuntimeException e) {
+                        inaccessible = true;
+                    }
+                }
+            }
+
+            this.shallowSize = align(size);
+            this.referenceFields = fields.build();
+            this.opaque = inaccessible;
+        }
+    }
+}
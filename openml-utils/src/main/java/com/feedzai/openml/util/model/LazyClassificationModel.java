@@ -0,0 +1,370 @@
+/*
+ * Copyright 2026 Feedzai
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.feedzai.openml.util.model;
+
+import com.feedzai.openml.data.Instance;
+import com.feedzai.openml.data.schema.DatasetSchema;
+import com.feedzai.openml.model.ClassificationMLModel;
+import com.feedzai.openml.model.MemoryFootprint;
+import com.feedzai.openml.model.MemoryFootprintAware;
+import com.feedzai.openml.provider.exception.ModelLoadingException;
+import com.feedzai.openml.provider.model.MachineLearningModelLoader;
+import com.google.common.base.MoreObjects;
+import com.google.common.base.Preconditions;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * A {@link ClassificationMLModel} that only loads the underlying model on its first use, and optionally unloads it
+ * again after it is not used for a while, so that rarely used models do not take memory all the time.
+ * <p>
+ * Only the path and the schema of the model are kept while it is not loaded. Concurrent calls that find the model
+ * unloaded wait for a single load. An unloaded model is {@link ClassificationMLModel#close() closed} once the calls
+ * still using it finish, and is loaded again by the next call.
+ * <p>
+ * Since the scoring methods cannot throw checked exceptions, a failure to load the model on demand is thrown as an
+ * {@link IllegalStateException} caused by the {@link ModelLoadingException}. The next call tries to load it again.
+ *
+ * @author agent (agent@local)
+ * @since 1.3.0
+ */
+public final class LazyClassificationModel implements ClassificationMLModel, MemoryFootprintAware {
+
+    /**
+     * Logger for this class.
+     */
+    private static final Logger logger = LoggerFactory.getLogger(LazyClassificationModel.class);
+
+    /**
+     * The path where the model was persisted.
+     */
+    private final Path modelPath;
+
+    /**
+     * The schema of the model.
+     */
+    private final DatasetSchema schema;
+
+    /**
+     * The loader of the model.
+     */
+    private final MachineLearningModelLoader<? extends ClassificationMLModel> loader;
+
+    /**
+     * The time without use after which the model is unloaded, {@code null} to never unload it.
+     */
+    private final Duration idleTimeout;
+
+    /**
+     * The scheduler of the checks for idleness, {@code null} if the model is never unloaded.
+     */
+    private final ScheduledExecutorService scheduler;
+
+    /**
+     * The loaded model, along with the reference owned by this proxy. {@code null} while the model is not loaded.
+     */
+    private final AtomicReference<RefCountedModel<ClassificationMLModel>> loaded = new AtomicReference<>();
+
+    /**
+     * Lock held while loading the model, so that it is loaded only once.
+     */
+    private final Object loadLock = new Object();
+
+    /**
+     * Whether the model {@link ClassificationMLModel#isThreadSafe() is thread-safe}, {@code null} until it is loaded
+     * for the first time.
+     */
+    private volatile Boolean threadSafe;
+
+    /**
+     * The {@link System#nanoTime()} of the last use of the model.
+     */
+    private volatile long lastUseNanos;
+
+    /**
+     * Whether this proxy was closed. Only changed while holding the {@link #loadLock}.
+     */
+    private volatile boolean closed = false;
+
+    /**
+     * Creates a new proxy that never unloads the model.
+     *
+     * @param modelPath The path where the model was persisted.
+     * @param schema    The schema of the model.
+     * @param loader    The loader of the model.
+     */
+    public LazyClassificationModel(final Path modelPath,
+                                   final DatasetSchema schema,
+                                   final MachineLearningModelLoader<? extends ClassificationMLModel> loader) {
+        this(modelPath, schema, loader, null, null);
+    }
+
+    /**
+     * Creates a new proxy that unloads the model after it is not used for a while.
+     *
+     * @param modelPath   The path where the model was persisted.
+     * @param schema      The schema of the model.
+     * @param loader      The loader of the model.
+     * @param idleTimeout The time without use after which the model is unloaded, {@code null} to never unload it.
+     * @param scheduler   The scheduler of the checks for idleness, which can be shared by many proxies.
+     */
+    public LazyClassificationModel(final Path modelPath,
+                                   final DatasetSchema schema,
+                                   final MachineLearningModelLoader<? extends ClassificationMLModel> loader,
+                                   final Duration idleTimeout,
+                                   final ScheduledExecutorService scheduler) {
+        this.modelPath = Preconditions.checkNotNull(modelPath, "model path should not be null");
+        this.schema = Preconditions.checkNotNull(schema, "schema should not be null");
+        this.loader = Preconditions.checkNotNull(loader, "loader should not be null");
+        Preconditions.checkArgument(
+                idleTimeout == null || (!idleTimeout.isNegative() && !idleTimeout.isZero()),
+                "idle timeout should be positive"
+        );
+        Preconditions.checkArgument(
+                idleTimeout == null || scheduler != null,
+                "a scheduler is needed to unload idle models"
+        );
+        this.idleTimeout = idleTimeout;
+        this.scheduler = scheduler;
+    }
+
+    /**
+     * Creates a new proxy for the model in the given path, with the {@link MachineLearningModelLoader#loadSchema(Path)
+     * schema} persisted along with it.
+     *
+     * @param modelPath   The path where the model was persisted.
+     * @param loader      The loader of the model.
+     * @param idleTimeout The time without use after which the model is unloaded, {@code null} to never unload it.
+     * @param scheduler   The scheduler of the checks for idleness, {@code null} if the model is never unloaded.
+     * @return The proxy.
+     * @throws ModelLoadingException If the schema could not be loaded.
+     */
+    public static LazyClassificationModel of(final Path modelPath,
+                                             final MachineLearningModelLoader<? extends ClassificationMLModel> loader,
+                                             final Duration idleTimeout,
+                                             final ScheduledExecutorService scheduler) throws ModelLoadingException {
+        return new LazyClassificationModel(modelPath, loader.loadSchema(modelPath), loader, idleTimeout, scheduler);
+    }
+
+    /**
+     * Checks whether the underlying model is currently loaded.
+     *
+     * @return {@code true} if the model is loaded, {@code false} otherwise.
+     */
+    public boolean isLoaded() {
+        return this.loaded.get() != null;
+    }
+
+    /**
+     * Unloads the underlying model, which is closed once the calls still using it finish. The next call loads it
+     * again.
+     */
+    public void unload() {
+        final RefCountedModel<ClassificationMLModel> model = this.loaded.getAndSet(null);
+        if (model != null) {
+            logger.debug("Unloading model in path {}.", this.modelPath);
+            model.release();
+        }
+    }
+
+    @Override
+    public double[] getClassDistribution(final Instance instance) {
+        final RefCountedModel<ClassificationMLModel> model = acquire();
+        try {
+            return model.getModel().getClassDistribution(instance);
+        } finally {
+            model.release();
+        }
+    }
+
+    @Override
+    public double[][] getClassDistributions(final List<? extends Instance> instances) {
+        final RefCountedModel<ClassificationMLModel> model = acquire();
+        try {
+            return model.getModel().getClassDistributions(instances);
+        } finally {
+            model.release();
+        }
+    }
+
+    @Override
+    @Deprecated
+    public int classify(final Instance instance) {
+        final RefCountedModel<ClassificationMLModel> model = acquire();
+        try {
+            return model.getModel().classify(instance);
+        } finally {
+            model.release();
+        }
+    }
+
+    @Override
+    public boolean save(final Path dir, final String name) {
+        final RefCountedModel<ClassificationMLModel> model = acquire();
+        try {
+            return model.getModel().save(dir, name);
+        } finally {
+            model.release();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The schema is known without loading the model.
+     */
+    @Override
+    public DatasetSchema getSchema() {
+        return this.schema;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * This is only known once the model is loaded, so the model is loaded if it never was (which the callers
+     * interested in this are about to do anyway). It is remembered after the model is unloaded.
+     */
+    @Override
+    public boolean isThreadSafe() {
+        if (this.threadSafe == null) {
+            acquire().release();
+        }
+        return this.threadSafe;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * This is the {@link ModelFootprints#of footprint} of the loaded model, or {@link MemoryFootprint#EMPTY} while it
+     * is not loaded; getting it never loads the model.
+     */
+    @Override
+    public MemoryFootprint getMemoryFootprint() {
+        final RefCountedModel<ClassificationMLModel> model = this.loaded.get();
+        if (model == null || !model.retain()) {
+            return MemoryFootprint.EMPTY;
+        }
+        try {
+            return ModelFootprints.of(model.getModel());
+        } finally {
+            model.release();
+        }
+    }
+
+    /**
+     * Closes this proxy, unloading the model. No more calls are accepted afterwards.
+     */
+    @Override
+    public void close() {
+        synchronized (this.loadLock) {
+            this.closed = true;
+        }
+        unload();
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(this)
+                .add("modelPath", this.modelPath)
+                .add("loaded", isLoaded())
+                .add("idleTimeout", this.idleTimeout)
+                .toString();
+    }
+
+    /**
+     * Adds a reference to the loaded model on behalf of a call, loading it if needed.
+     *
+     * @return The model, which must be released when the call finishes.
+     * @throws IllegalStateException If this proxy was closed or the model could not be loaded.
+     */
+    private RefCountedModel<ClassificationMLModel> acquire() {
+        this.lastUseNanos = System.nanoTime();
+        while (true) {
+            final RefCountedModel<ClassificationMLModel> model = this.loaded.get();
+            if (model != null && model.retain()) {
+                return model;
+            }
+            // the model is not loaded, or it was unloaded between being read and retained
+            load();
+        }
+    }
+
+    /**
+     * Loads the model, unless another thread already did.
+     *
+     * @throws IllegalStateException If this proxy was closed or the model could not be loaded.
+     */
+    private void load() {
+        synchronized (this.loadLock) {
+            Preconditions.checkState(!this.closed, "The model was closed.");
+            if (this.loaded.get() != null) {
+                return;
+            }
+
+            final long start = System.nanoTime();
+            final RefCountedModel<ClassificationMLModel> model;
+            try {
+                model = new RefCountedModel<>(this.loader.loadModel(this.modelPath, this.schema));
+            } catch (final ModelLoadingException e) {
+                throw new IllegalStateException(String.format("Could not load model in path %s.", this.modelPath), e);
+            }
+            logger.debug(
+                    "Loaded model in path {} in {} ms.",
+                    this.modelPath,
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)
+            );
+            this.threadSafe = model.getModel().isThreadSafe();
+            this.loaded.set(model);
+            if (this.idleTimeout != null) {
+                scheduleIdleCheck(model, this.idleTimeout.toNanos());
+            }
+        }
+    }
+
+    /**
+     * Schedules a check that unloads the given model if it was not used for the {@link #idleTimeout}. The checks stop
+     * once the model is no longer the loaded one.
+     *
+     * @param model      The loaded model.
+     * @param delayNanos The delay of the check.
+     */
+    private void scheduleIdleCheck(final RefCountedModel<ClassificationMLModel> model, final long delayNanos) {
+        this.scheduler.schedule(() -> {
+            if (this.loaded.get() != model) {
+                return;
+            }
+            final long idleNanos = System.nanoTime() - this.lastUseNanos;
+            final long remainingNanos = this.idleTimeout.toNanos() - idleNanos;
+            if (remainingNanos <= 0) {
+                if (this.loaded.compareAndSet(model, null)) {
+                    logger.debug("Unloading model in path {} after being idle.", this.modelPath);
+                    model.release();
+                }
+            } else {
+                scheduleIdleCheck(model, remainingNanos);
+            }
+        }, delayNanos, TimeUnit.NANOSECONDS);
+    }
+}
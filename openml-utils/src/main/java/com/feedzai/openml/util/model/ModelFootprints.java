@@ -0,0 +1,74 @@
+/*
+ * Copyright 2026 Feedzai
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.feedzai.openml.util.model;
+
+import com.feedzai.openml.model.MachineLearningModel;
+import com.feedzai.openml.model.MemoryFootprint;
+import com.feedzai.openml.model.MemoryFootprintAware;
+import com.google.common.base.Preconditions;
+
+import java.util.function.ToIntFunction;
+
+/**
+ * Utility methods to get the {@link MemoryFootprint} of {@link MachineLearningModel}s, namely to bound a
+ * {@link ModelRegistry} by the memory its models use.
+ *
+ * @author agent (agent@local)
+ * @since 1.3.0
+ */
+public final class ModelFootprints {
+
+    /**
+     * The number of bytes in a kilobyte.
+     */
+    private static final long KILOBYTE = 1024;
+
+    /**
+     * Private constructor for utility class.
+     */
+    private ModelFootprints() {
+    }
+
+    /**
+     * Gets the memory used by a model: the footprint it reports if it is {@link MemoryFootprintAware}, or otherwise
+     * the heap size {@link HeapSizeEstimator#getDefault() estimated} by walking the model.
+     *
+     * @param model The model.
+     * @return The footprint of the model.
+     */
+    public static MemoryFootprint of(final MachineLearningModel model) {
+        Preconditions.checkNotNull(model, "model should not be null");
+        if (model instanceof MemoryFootprintAware) {
+            return ((MemoryFootprintAware) model).getMemoryFootprint();
+        }
+        return new MemoryFootprint(HeapSizeEstimator.getDefault().estimate(model), 0);
+    }
+
+    /**
+     * Gets a weigher of models by their total {@link #of(MachineLearningModel) footprint} in kilobytes, to be used
+     * with {@link ModelRegistry.Builder#maximumWeight} so that the maximum weight is a memory budget in kilobytes.
+     *
+     * @return The weigher.
+     */
+    public static ToIntFunction<MachineLearningModel> weigherInKilobytes() {
+        return model -> {
+            final long kilobytes = (of(model).getTotalBytes() + KILOBYTE - 1) / KILOBYTE;
+            return (int) Math.min(Integer.MAX_VALUE, kilobytes);
+        };
+    }
+}
@@ -0,0 +1,76 @@
+/*
+ * Copyright 2026 Feedzai
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.feedzai.openml.util.model;
+
+import com.feedzai.openml.model.MachineLearningModel;
+import com.google.common.base.Preconditions;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * A lease on a {@link MachineLearningModel} handed out by a {@link ModelRegistry}. While the lease is open the model
+ * is guaranteed not to be closed, even if the registry evicts it in the meantime.
+ * <p>
+ * Leases should be used in a try-with-resources block, and the model must not be used after the lease is closed.
+ *
+ * @param <M> The type of the model.
+ * @author agent (agent@local)
+ * @since 1.3.0
+ */
+public final class ModelLease<M extends MachineLearningModel> implements AutoCloseable {
+
+    /**
+     * The leased model.
+     */
+    private final RefCountedModel<M> model;
+
+    /**
+     * Whether this lease was already closed.
+     */
+    private final AtomicBoolean closed = new AtomicBoolean(false);
+
+    /**
+     * Creates a new lease on a model that was already retained on its behalf.
+     *
+     * @param model The leased model.
+     */
+    ModelLease(final RefCountedModel<M> model) {
+        this.model = model;
+    }
+
+    /**
+     * Gets the leased model.
+     *
+     * @return The model.
+     * @throws IllegalStateException If this lease was already closed.
+     */
+    public M get() {
+        Preconditions.checkState(!this.closed.get(), "The lease was already closed.");
+        return this.model.getModel();
+    }
+
+    /**
+     * Releases this lease. Closing a lease more than once has no effect.
+     */
+    @Override
+    public void close() {
+        if (this.closed.compareAndSet(false, true)) {
+            this.model.release();
+        }
+    }
+}
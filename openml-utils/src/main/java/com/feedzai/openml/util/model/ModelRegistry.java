@@ -0,0 +1,333 @@
+/*
+ * Copyright 2026 Feedzai
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.feedzai.openml.util.model;
+
+import com.feedzai.openml.data.schema.DatasetSchema;
+import com.feedzai.openml.model.MachineLearningModel;
+import com.feedzai.openml.provider.exception.ModelLoadingException;
+import com.feedzai.openml.provider.model.MachineLearningModelLoader;
+import com.google.common.base.Preconditions;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.RemovalListener;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+
+import java.nio.file.Path;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.ToIntFunction;
+
+/**
+ * A registry of loaded {@link MachineLearningModel}s that bounds how many of them are kept in memory.
+ * <p>
+ * Models are obtained with {@link #acquire(Object)}, which loads the model if it is not in the registry yet. Concurrent
+ * requests for the same model that is being loaded wait for that single load instead of loading it again. When the
+ * registry exceeds its maximum size (or weight) the least recently used models are evicted, but an evicted model is
+ * only {@link MachineLearningModel#close() closed} once all its {@link ModelLease leases} are closed, so that no
+ * in-flight scoring ever sees a closed model.
+ *
+ * @param <K> The type of the keys that identify the models.
+ * @param <M> The type of the models.
+ * @author agent (agent@local)
+ * @since 1.3.0
+ */
+public final class ModelRegistry<K, M extends MachineLearningModel> implements AutoCloseable {
+
+    /**
+     * The default maximum number of models in a registry.
+     */
+    public static final long DEFAULT_MAXIMUM_SIZE = 16;
+
+    /**
+     * The function that loads the models.
+     */
+    private final Loader<? super K, ? extends M> loader;
+
+    /**
+     * The loaded models. Each entry owns a reference to its model, released on removal.
+     */
+    private final Cache<K, RefCountedModel<M>> models;
+
+    /**
+     * Whether this registry was closed.
+     */
+    private final AtomicBoolean closed = new AtomicBoolean(false);
+
+    /**
+     * Creates a new registry.
+     *
+     * @param builder The builder with the configuration of the registry.
+     */
+    private ModelRegistry(final Builder<K, M> builder) {
+        this.loader = builder.loader;
+
+        // the cache splits its maximum size (or weight) evenly by its segments, so a single segment is used to bound
+        // the registry as a whole; otherwise a model heavier than the share of its segment is evicted right away
+        final CacheBuilder<Object, Object> cacheBuilder = CacheBuilder.newBuilder().concurrencyLevel(1);
+        if (builder.weigher != null) {
+            final ToIntFunction<? super M> weigher = builder.weigher;
+            cacheBuilder.maximumWeight(builder.maximumWeight)
+                    .<K, RefCountedModel<M>>weigher((key, model) -> weigher.applyAsInt(model.getModel()));
+        } else {
+            cacheBuilder.maximumSize(builder.maximumSize);
+        }
+        this.models = cacheBuilder
+                .removalListener((RemovalListener<K, RefCountedModel<M>>) removal -> removal.getValue().release())
+                .build();
+    }
+
+    /**
+     * Creates a builder for a registry that loads its models with the given function.
+     *
+     * @param loader The function that loads the models.
+     * @param <K>    The type of the keys that identify the models.
+     * @param <M>    The type of the models.
+     * @return The builder.
+     */
+    public static <K, M extends MachineLearningModel> Builder<K, M> builder(
+            final Loader<? super K, ? extends M> loader) {
+        return new Builder<>(loader);
+    }
+
+    /**
+     * Creates a builder for a registry of models identified by the path where they were persisted, that are loaded with
+     * the {@link MachineLearningModelLoader#loadSchema(Path) schema} found in that path.
+     *
+     * @param modelLoader The loader of the models.
+     * @param <M>         The type of the models.
+     * @return The builder.
+     */
+    public static <M extends MachineLearningModel> Builder<Path, M> forLoader(
+            final MachineLearningModelLoader<? extends M> modelLoader) {
+        Preconditions.checkNotNull(modelLoader, "model loader should not be null");
+        return builder(modelPath -> {
+            final DatasetSchema schema = modelLoader.loadSchema(modelPath);
+            return modelLoader.loadModel(modelPath, schema);
+        });
+    }
+
+    /**
+     * Acquires a lease on the model identified by the given key, loading it if needed.
+     *
+     * @param key The key of the model.
+     * @return The lease, which must be closed once the model is no longer used.
+     * @throws ModelLoadingException If the model could not be loaded.
+     * @throws IllegalStateException If this registry was closed.
+     */
+    public ModelLease<M> acquire(final K key) throws ModelLoadingException {
+        Preconditions.checkNotNull(key, "key should not be null");
+
+        while (true) {
+            Preconditions.checkState(!this.closed.get(), "The registry was closed.");
+
+            final ModelLease<M> lease = tryAcquire(key);
+            if (lease != null) {
+                if (this.closed.get()) {
+                    // the registry was closed while the model was being loaded, possibly before it was published, so
+                    // it must be removed here or it would never be closed
+                    this.models.invalidate(key);
+                    lease.close();
+                    throw new IllegalStateException("The registry was closed.");
+                }
+                return lease;
+            }
+            // the model was evicted and closed between being looked up and retained, so it must be loaded again
+        }
+    }
+
+    /**
+     * Tries to acquire a lease on the model identified by the given key, loading it if needed.
+     * <p>
+     * A freshly loaded model is retained before it is published in the registry, so that the caller gets it even if it
+     * is immediately evicted (e.g. when it alone exceeds the maximum weight of the registry).
+     *
+     * @param key The key of the model.
+     * @return The lease, or {@code null} if the model was closed before it could be retained.
+     * @throws ModelLoadingException If the model could not be loaded.
+     */
+    private ModelLease<M> tryAcquire(final K key) throws ModelLoadingException {
+        final AtomicReference<RefCountedModel<M>> loaded = new AtomicReference<>();
+        final RefCountedModel<M> model;
+        try {
+            model = this.models.get(key, () -> {
+                final RefCountedModel<M> created = new RefCountedModel<>(this.loader.load(key));
+                created.retain();
+                loaded.set(created);
+                return created;
+            });
+
+        } catch (final ExecutionException | UncheckedExecutionException e) {
+            final Throwable cause = e.getCause();
+            if (cause instanceof ModelLoadingException) {
+                throw (ModelLoadingException) cause;
+            }
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new ModelLoadingException(String.format("Could not load model %s.", key), cause);
+        }
+
+        if (model == loaded.get() || model.retain()) {
+            return new ModelLease<>(model);
+        }
+        return null;
+    }
+
+    /**
+     * Checks whether the model identified by the given key is loaded in this registry.
+     *
+     * @param key The key of the model.
+     * @return {@code true} if the model is loaded, {@code false} otherwise.
+     */
+    public boolean contains(final K key) {
+        return this.models.getIfPresent(key) != null;
+    }
+
+    /**
+     * Removes the model identified by the given key from the registry. The model is closed as soon as all its leases
+     * are closed.
+     *
+     * @param key The key of the model.
+     */
+    public void invalidate(final K key) {
+        this.models.invalidate(key);
+    }
+
+    /**
+     * Removes all the models from the registry. Each model is closed as soon as all its leases are closed.
+     */
+    public void invalidateAll() {
+        this.models.invalidateAll();
+    }
+
+    /**
+     * Gets the number of models in the registry.
+     *
+     * @return The number of models.
+     */
+    public long size() {
+        return this.models.size();
+    }
+
+    /**
+     * Closes this registry, removing all its models. No more models can be acquired afterwards.
+     */
+    @Override
+    public void close() {
+        if (this.closed.compareAndSet(false, true)) {
+            invalidateAll();
+        }
+    }
+
+    /**
+     * Function that loads the model identified by a key.
+     *
+     * @param <K> The type of the keys that identify the models.
+     * @param <M> The type of the models.
+     * @since 1.3.0
+     */
+    @FunctionalInterface
+    public interface Loader<K, M extends MachineLearningModel> {
+
+        /**
+         * Loads the model identified by the given key.
+         *
+         * @param key The key of the model.
+         * @return The model.
+         * @throws ModelLoadingException If the model could not be loaded.
+         */
+        M load(K key) throws ModelLoadingException;
+    }
+
+    /**
+     * Builder of {@link ModelRegistry}s.
+     *
+     * @param <K> The type of the keys that identify the models.
+     * @param <M> The type of the models.
+     * @since 1.3.0
+     */
+    public static final class Builder<K, M extends MachineLearningModel> {
+
+        /**
+         * The function that loads the models.
+         */
+        private final Loader<? super K, ? extends M> loader;
+
+        /**
+         * The maximum number of models, used when there is no {@link #weigher}.
+         */
+        private long maximumSize = DEFAULT_MAXIMUM_SIZE;
+
+        /**
+         * The maximum total weight of the models.
+         */
+        private long maximumWeight;
+
+        /**
+         * The function that computes the weight of each model, {@code null} to bound the number of models instead.
+         */
+        private ToIntFunction<? super M> weigher;
+
+        /**
+         * Creates a new builder.
+         *
+         * @param loader The function that loads the models.
+         */
+        private Builder(final Loader<? super K, ? extends M> loader) {
+            this.loader = Preconditions.checkNotNull(loader, "loader should not be null");
+        }
+
+        /**
+         * Bounds the registry by the number of models it holds.
+         *
+         * @param maximumSize The maximum number of models.
+         * @return {@code this} builder.
+         */
+        public Builder<K, M> maximumSize(final long maximumSize) {
+            Preconditions.checkArgument(maximumSize > 0, "maximum size should be positive");
+            this.maximumSize = maximumSize;
+            this.weigher = null;
+            return this;
+        }
+
+        /**
+         * Bounds the registry by the total weight of the models it holds. The weight of each model is computed once,
+         * when it is loaded.
+         *
+         * @param maximumWeight The maximum total weight.
+         * @param weigher       The function that computes the (non-negative) weight of a model.
+         * @return {@code this} builder.
+         */
+        public Builder<K, M> maximumWeight(final long maximumWeight, final ToIntFunction<? super M> weigher) {
+            Preconditions.checkArgument(maximumWeight > 0, "maximum weight should be positive");
+            this.maximumWeight = maximumWeight;
+            this.weigher = Preconditions.checkNotNull(weigher, "weigher should not be null");
+            return this;
+        }
+
+        /**
+         * Builds the registry.
+         *
+         * @return The registry.
+         */
+        public ModelRegistry<K, M> build() {
+            return new ModelRegistry<>(this);
+        }
+    }
+}
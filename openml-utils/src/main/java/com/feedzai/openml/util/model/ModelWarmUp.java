@@ -0,0 +1,331 @@
+/*
+ * Copyright 2026 Feedzai
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.feedzai.openml.util.model;
+
+import com.feedzai.openml.data.Instance;
+import com.feedzai.openml.mocks.MockDataset;
+import com.feedzai.openml.model.ClassificationMLModel;
+import com.google.common.base.Preconditions;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.Arrays;
+
+/**
+ * Warms up a freshly loaded {@link ClassificationMLModel} before it is exposed to traffic, so that the JIT compilation
+ * of the provider's code does not show up as latency spikes on the first real scores.
+ * <p>
+ * The model scores random instances generated from its schema (see {@link MockDataset#randomInstances}), or the
+ * given instances, in windows of a fixed number of scores. The warm-up stops when the median latency of a number of
+ * consecutive windows stays within a tolerance of the previous window, or when its time or score budget expires,
+ * whichever comes first.
+ *
+ * @author agent (agent@local)
+ * @since 1.3.0
+ */
+public final class ModelWarmUp {
+
+    /**
+     * Logger for this class.
+     */
+    private static final Logger logger = LoggerFactory.getLogger(ModelWarmUp.class);
+
+    /**
+     * The initial capacity of the median latencies of the windows.
+     */
+    private static final int INITIAL_MEDIANS = 64;
+
+    /**
+     * The maximum number of windows, bounded by the maximum size of an array.
+     */
+    private static final int MAX_WINDOWS = Integer.MAX_VALUE - 8;
+
+    /**
+     * The number of distinct instances generated to score.
+     */
+    private final int numInstances;
+
+    /**
+     * The number of scores in each window.
+     */
+    private final int windowSize;
+
+    /**
+     * The maximum relative change of the median latency between windows for them to be considered stable.
+     */
+    private final double tolerance;
+
+    /**
+     * The number of consecutive stable windows after which the latency is considered stabilised.
+     */
+    private final int stableWindows;
+
+    /**
+     * The maximum time to spend warming up.
+     */
+    private final Duration maxDuration;
+
+    /**
+     * The maximum number of scores.
+     */
+    private final long maxScores;
+
+    /**
+     * The seed of the random generator of the instances.
+     */
+    private final long seed;
+
+    /**
+     * Sink of the scores, so that the JIT cannot eliminate the scoring as dead code.
+     */
+    private volatile double sink;
+
+    /**
+     * Creates a new instance.
+     *
+     * @param builder The builder with the configuration of the warm-up.
+     */
+    private ModelWarmUp(final Builder builder) {
+        this.numInstances = builder.numInstances;
+        this.windowSize = builder.windowSize;
+        this.tolerance = builder.tolerance;
+        this.stableWindows = builder.stableWindows;
+        this.maxDuration = builder.maxDuration;
+        this.maxScores = builder.maxScores;
+        this.seed = builder.seed;
+    }
+
+    /**
+     * Creates a builder of warm-ups, with the default configuration.
+     *
+     * @return The builder.
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Warms up the given model with random instances generated from its schema.
+     *
+     * @param model The model.
+     * @return The report of the warm-up.
+     */
+    public WarmUpReport warmUp(final ClassificationMLModel model) {
+        Preconditions.checkNotNull(model, "model should not be null");
+        return warmUp(model, MockDataset.randomInstances(model.getSchema(), this.numInstances, this.seed));
+    }
+
+    /**
+     * Warms up the given model with the given instances, which are scored repeatedly. The number of instances and the
+     * seed of this warm-up are not used.
+     *
+     * @param model     The model.
+     * @param instances The instances to score.
+     * @return The report of the warm-up.
+     */
+    public WarmUpReport warmUp(final ClassificationMLModel model, final Instance[] instances) {
+        Preconditions.checkNotNull(model, "model should not be null");
+        Preconditions.checkNotNull(instances, "instances should not be null");
+        Preconditions.checkArgument(instances.length > 0, "instances should not be empty");
+
+        final long[] window = new long[this.windowSize];
+        // the medians grow with the windows, since the score budget may allow far more windows than ever happen
+        long[] medians = new long[INITIAL_MEDIANS];
+        final long start = System.nanoTime();
+        final long deadline = start + this.maxDuration.toNanos();
+
+        int numWindows = 0;
+        int stable = 0;
+        long numScores = 0;
+        double sum = 0;
+
+        while (stable < this.stableWindows
+                && numScores < this.maxScores
+                && numWindows < MAX_WINDOWS
+                && System.nanoTime() - deadline < 0) {
+            // the last window is cut short so that the score budget is never exceeded
+            final int size = (int) Math.min(this.windowSize, this.maxScores - numScores);
+            for (int i = 0; i < size; i++) {
+                final Instance instance = instances[(int) (numScores++ % instances.length)];
+                final long before = System.nanoTime();
+                sum += model.getClassDistribution(instance)[0];
+                window[i] = System.nanoTime() - before;
+            }
+
+            Arrays.sort(window, 0, size);
+            final long median = window[size / 2];
+            if (numWindows > 0 && isStable(medians[numWindows - 1], median)) {
+                stable++;
+            } else {
+                stable = 0;
+            }
+            if (numWindows == medians.length) {
+                medians = Arrays.copyOf(medians, (int) Math.min(MAX_WINDOWS, 2L * medians.length));
+            }
+            medians[numWindows++] = median;
+        }
+        this.sink = sum;
+
+        final WarmUpReport report = new WarmUpReport(
+                Arrays.copyOf(medians, numWindows),
+                numScores,
+                Duration.ofNanos(System.nanoTime() - start),
+                stable >= this.stableWindows
+        );
+        logger.debug("Warmed up model {}: {}.", model, report);
+        return report;
+    }
+
+    /**
+     * Checks whether the median latency of a window is within the tolerance of the previous one.
+     *
+     * @param previous The median latency of the previous window.
+     * @param current  The median latency of the current window.
+     * @return {@code true} if the latency is stable, {@code false} otherwise.
+     */
+    private boolean isStable(final long previous, final long current) {
+        return Math.abs(current - previous) <= this.tolerance * Math.max(previous, 1);
+    }
+
+    /**
+     * Builder of {@link ModelWarmUp}s.
+     *
+     * @since 1.3.0
+     */
+    public static final class Builder {
+
+        /**
+         * The number of distinct instances generated to score.
+         */
+        private int numInstances = 1024;
+
+        /**
+         * The number of scores in each window.
+         */
+        private int windowSize = 500;
+
+        /**
+         * The maximum relative change of the median latency between windows for them to be considered stable.
+         */
+        private double tolerance = 0.1;
+
+        /**
+         * The number of consecutive stable windows after which the latency is considered stabilised.
+         */
+        private int stableWindows = 5;
+
+        /**
+         * The maximum time to spend warming up.
+         */
+        private Duration maxDuration = Duration.ofSeconds(30);
+
+        /**
+         * The maximum number of scores.
+         */
+        private long maxScores = 1_000_000;
+
+        /**
+         * The seed of the random generator of the instances.
+         */
+        private long seed = 0;
+
+        /**
+         * Creates a new builder.
+         */
+        private Builder() {
+        }
+
+        /**
+         * Sets the number of distinct instances generated to score, which are scored repeatedly.
+         *
+         * @param numInstances The number of instances.
+         * @return {@code this} builder.
+         */
+        public Builder numInstances(final int numInstances) {
+            Preconditions.checkArgument(numInstances > 0, "number of instances should be positive");
+            this.numInstances = numInstances;
+            return this;
+        }
+
+        /**
+         * Sets the number of scores in each window, from which a median latency is computed.
+         *
+         * @param windowSize The window size.
+         * @return {@code this} builder.
+         */
+        public Builder windowSize(final int windowSize) {
+            Preconditions.checkArgument(windowSize > 0, "window size should be positive");
+            this.windowSize = windowSize;
+            return this;
+        }
+
+        /**
+         * Sets when the latency is considered stabilised: after a number of consecutive windows whose median latency
+         * changed at most the given ratio from the previous window.
+         *
+         * @param tolerance     The maximum relative change of the median latency between windows.
+         * @param stableWindows The number of consecutive stable windows.
+         * @return {@code this} builder.
+         */
+        public Builder stability(final double tolerance, final int stableWindows) {
+            Preconditions.checkArgument(tolerance >= 0, "tolerance should not be negative");
+            Preconditions.checkArgument(stableWindows > 0, "number of stable windows should be positive");
+            this.tolerance = tolerance;
+            this.stableWindows = stableWindows;
+            return this;
+        }
+
+        /**
+         * Sets the budget of the warm-up, which stops when either limit is reached even if the latency did not
+         * stabilise. The time budget is only checked between windows.
+         *
+         * @param maxDuration The maximum time to spend warming up.
+         * @param maxScores   The maximum number of scores.
+         * @return {@code this} builder.
+         */
+        public Builder budget(final Duration maxDuration, final long maxScores) {
+            Preconditions.checkNotNull(maxDuration, "maximum duration should not be null");
+            Preconditions.checkArgument(!maxDuration.isNegative(), "maximum duration should not be negative");
+            Preconditions.checkArgument(maxScores > 0, "maximum number of scores should be positive");
+            this.maxDuration = maxDuration;
+            this.maxScores = maxScores;
+            return this;
+        }
+
+        /**
+         * Sets the seed of the random generator of the instances.
+         *
+         * @param seed The seed.
+         * @return {@code this} builder.
+         */
+        public Builder seed(final long seed) {
+            this.seed = seed;
+            return this;
+        }
+
+        /**
+         * Builds the warm-up.
+         *
+         * @return The warm-up.
+         */
+        public ModelWarmUp build() {
+            return new ModelWarmUp(this);
+        }
+    }
+}
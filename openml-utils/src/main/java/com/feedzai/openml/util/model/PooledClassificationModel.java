@@ -0,0 +1,284 @@
+/*
+ * Copyright 2026 Feedzai
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.feedzai.openml.util.model;
+
+import com.feedzai.openml.data.Instance;
+import com.feedzai.openml.data.schema.DatasetSchema;
+import com.feedzai.openml.model.ClassificationMLModel;
+import com.feedzai.openml.model.MachineLearningModel;
+import com.feedzai.openml.model.MemoryFootprint;
+import com.feedzai.openml.model.MemoryFootprintAware;
+import com.feedzai.openml.provider.exception.ModelLoadingException;
+import com.feedzai.openml.provider.model.MachineLearningModelLoader;
+import com.google.common.base.MoreObjects;
+import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableList;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.function.Function;
+
+/**
+ * A {@link ClassificationMLModel} backed by a pool of instances of the same model, each used by one thread at a time,
+ * so that models that are not {@link MachineLearningModel#isThreadSafe() thread-safe} can still be scored
+ * concurrently by as many threads as there are instances.
+ * <p>
+ * Each call borrows a free instance, preferring the one last used by the calling thread so that it keeps working on
+ * the same (cache-warm) instance, and returns it when the call finishes. Borrowing is lock-free while there are free
+ * instances; calls only wait when all the instances are in use.
+ *
+ * @author agent (agent@local)
+ * @since 1.3.0
+ */
+public final class PooledClassificationModel implements ClassificationMLModel, MemoryFootprintAware {
+
+    /**
+     * Logger for this class.
+     */
+    private static final Logger logger = LoggerFactory.getLogger(PooledClassificationModel.class);
+
+    /**
+     * Value of a slot whose instance is free.
+     */
+    private static final int FREE = 0;
+
+    /**
+     * Value of a slot whose instance is in use.
+     */
+    private static final int IN_USE = 1;
+
+    /**
+     * The instances of the model.
+     */
+    private final ImmutableList<ClassificationMLModel> instances;
+
+    /**
+     * Whether each instance is {@link #FREE} or {@link #IN_USE}.
+     */
+    private final AtomicIntegerArray slots;
+
+    /**
+     * The number of free instances, on which calls wait when all the instances are in use.
+     */
+    private final Semaphore available;
+
+    /**
+     * The instance last used by each thread.
+     */
+    private final ThreadLocal<int[]> lastSlot = ThreadLocal.withInitial(() -> new int[1]);
+
+    /**
+     * Whether this pool was closed.
+     */
+    private final AtomicBoolean closed = new AtomicBoolean();
+
+    /**
+     * Creates a new pool with the given instances, which are closed along with the pool.
+     *
+     * @param instances The instances of the model, which must all have the same schema.
+     */
+    public PooledClassificationModel(final List<? extends ClassificationMLModel> instances) {
+        Preconditions.checkArgument(!instances.isEmpty(), "there should be at least one instance");
+        final DatasetSchema schema = instances.get(0).getSchema();
+        Preconditions.checkArgument(
+                instances.stream().allMatch(instance -> instance.getSchema().equals(schema)),
+                "all the instances should have the same schema"
+        );
+
+        this.instances = ImmutableList.copyOf(instances);
+        this.slots = new AtomicIntegerArray(instances.size());
+        this.available = new Semaphore(instances.size());
+    }
+
+    /**
+     * Loads a pool of instances of a model.
+     *
+     * @param modelPath The path where the model was persisted.
+     * @param schema    The schema of the model.
+     * @param loader    The loader of the model.
+     * @param size      The number of instances to load, usually the number of threads that score the model.
+     * @return The pool.
+     * @throws ModelLoadingException If an instance could not be loaded, in which case the ones already loaded are
+     *                               closed.
+     */
+    public static PooledClassificationModel load(
+            final Path modelPath,
+            final DatasetSchema schema,
+            final MachineLearningModelLoader<? extends ClassificationMLModel> loader,
+            final int size) throws ModelLoadingException {
+        Preconditions.checkArgument(size > 0, "size should be positive");
+
+        final List<ClassificationMLModel> instances = new ArrayList<>(size);
+        try {
+            for (int i = 0; i < size; i++) {
+                instances.add(loader.loadModel(modelPath, schema));
+            }
+        } catch (final ModelLoadingException | RuntimeException e) {
+            instances.forEach(PooledClassificationModel::closeQuietly);
+            throw e;
+        }
+        return new PooledClassificationModel(instances);
+    }
+
+    /**
+     * Gets the number of instances in this pool.
+     *
+     * @return The number of instances.
+     */
+    public int size() {
+        return this.instances.size();
+    }
+
+    @Override
+    public double[] getClassDistribution(final Instance instance) {
+        return withInstance(model -> model.getClassDistribution(instance));
+    }
+
+    @Override
+    public double[][] getClassDistributions(final List<? extends Instance> instances) {
+        return withInstance(model -> model.getClassDistributions(instances));
+    }
+
+    @Override
+    @Deprecated
+    public int classify(final Instance instance) {
+        return withInstance(model -> model.classify(instance));
+    }
+
+    @Override
+    public boolean save(final Path dir, final String name) {
+        return withInstance(model -> model.save(dir, name));
+    }
+
+    @Override
+    public DatasetSchema getSchema() {
+        return this.instances.get(0).getSchema();
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * A pool can always be used concurrently, since each of its instances is only used by one thread at a time.
+     */
+    @Override
+    public boolean isThreadSafe() {
+        return true;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * This is the sum of the {@link ModelFootprints#of footprints} of the instances, so that the ones that report
+     * memory outside the heap are accounted for.
+     */
+    @Override
+    public MemoryFootprint getMemoryFootprint() {
+        return this.instances.stream()
+                .map(ModelFootprints::of)
+                .reduce(MemoryFootprint.EMPTY, MemoryFootprint::plus);
+    }
+
+    /**
+     * Closes this pool, after waiting for the calls still using its instances to finish. No more calls are accepted.
+     * Closing a pool more than once has no effect.
+     */
+    @Override
+    public void close() {
+        if (this.closed.compareAndSet(false, true)) {
+            this.available.acquireUninterruptibly(this.instances.size());
+            this.instances.forEach(PooledClassificationModel::closeQuietly);
+            // calls that acquire the permits from now on fail because the pool is closed, instead of waiting forever
+            this.available.release(this.instances.size());
+        }
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(this)
+                .add("size", this.instances.size())
+                .add("available", this.available.availablePermits())
+                .add("closed", this.closed.get())
+                .toString();
+    }
+
+    /**
+     * Runs a call with a free instance of the model.
+     *
+     * @param call The call.
+     * @param <R>  The type of the result of the call.
+     * @return The result of the call.
+     * @throws IllegalStateException If this pool was closed.
+     */
+    private <R> R withInstance(final Function<ClassificationMLModel, R> call) {
+        this.available.acquireUninterruptibly();
+        if (this.closed.get()) {
+            this.available.release();
+            throw new IllegalStateException("The model was closed.");
+        }
+
+        final int slot = borrow();
+        try {
+            return call.apply(this.instances.get(slot));
+        } finally {
+            this.slots.set(slot, FREE);
+            this.available.release();
+        }
+    }
+
+    /**
+     * Marks a free instance as in use. There must be a free instance, i.e. a permit must have been acquired from
+     * {@link #available}.
+     *
+     * @return The slot of the instance.
+     */
+    private int borrow() {
+        final int[] last = this.lastSlot.get();
+        final int size = this.instances.size();
+
+        // a slot can be taken by another thread between being seen free and being claimed, but having a permit
+        // guarantees that some slot is free, so the scan eventually succeeds
+        while (true) {
+            for (int i = 0; i < size; i++) {
+                final int slot = (last[0] + i) % size;
+                if (this.slots.get(slot) == FREE && this.slots.compareAndSet(slot, FREE, IN_USE)) {
+                    last[0] = slot;
+                    return slot;
+                }
+            }
+        }
+    }
+
+    /**
+     * Closes an instance of the model, logging any failure.
+     *
+     * @param instance The instance.
+     */
+    private static void closeQuietly(final ClassificationMLModel instance) {
+        try {
+            instance.close();
+        } catch (final Exception e) {
+            logger.warn("Could not close model {}.", instance, e);
+        }
+    }
+}
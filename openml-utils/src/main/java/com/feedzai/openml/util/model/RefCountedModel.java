@@ -0,0 +1,122 @@
+/*
+ * Copyright 2026 Feedzai
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.feedzai.openml.util.model;
+
+import com.feedzai.openml.model.MachineLearningModel;
+import com.google.common.base.MoreObjects;
+import com.google.common.base.Preconditions;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Holds a {@link MachineLearningModel} along with a count of the references to it, and closes the model once the count
+ * drops to zero.
+ * <p>
+ * The holder starts with a single reference, owned by whoever created it. Once the count reaches zero it cannot be
+ * retained again, so the model is closed exactly once and never handed out afterwards.
+ *
+ * @param <M> The type of the model.
+ * @author agent (agent@local)
+ * @since 1.3.0
+ */
+final class RefCountedModel<M extends MachineLearningModel> {
+
+    /**
+     * Logger for this class.
+     */
+    private static final Logger logger = LoggerFactory.getLogger(RefCountedModel.class);
+
+    /**
+     * The model.
+     */
+    private final M model;
+
+    /**
+     * The number of references to the model.
+     */
+    private final AtomicInteger references = new AtomicInteger(1);
+
+    /**
+     * Creates a new instance holding the single reference of its creator.
+     *
+     * @param model The model.
+     */
+    RefCountedModel(final M model) {
+        this.model = Preconditions.checkNotNull(model, "model should not be null");
+    }
+
+    /**
+     * Gets the model, which should only be used while holding a reference.
+     *
+     * @return The model.
+     */
+    M getModel() {
+        return this.model;
+    }
+
+    /**
+     * Adds a reference to the model, unless it was already released for good.
+     *
+     * @return {@code true} if a reference was added, {@code false} if the model is closed (or being closed).
+     */
+    boolean retain() {
+        while (true) {
+            final int current = this.references.get();
+            if (current == 0) {
+                return false;
+            }
+            if (this.references.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Removes a reference to the model, closing it if it was the last one.
+     */
+    void release() {
+        final int remaining = this.references.decrementAndGet();
+        Preconditions.checkState(remaining >= 0, "The model was released more times than it was retained.");
+        if (remaining == 0) {
+            try {
+                this.model.close();
+            } catch (final Exception e) {
+                logger.warn("Could not close model {}.", this.model, e);
+            }
+        }
+    }
+
+    /**
+     * Gets the current number of references to the model.
+     *
+     * @return The number of references.
+     */
+    int getReferenceCount() {
+        return this.references.get();
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(this)
+                .add("model", this.model)
+                .add("references", this.references.get())
+                .toString();
+    }
+}
@@ -0,0 +1,243 @@
+/*
+ * Copyright 2026 Feedzai
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.feedzai.openml.util.model;
+
+import com.feedzai.openml.data.Instance;
+import com.feedzai.openml.data.schema.DatasetSchema;
+import com.feedzai.openml.model.ClassificationMLModel;
+import com.feedzai.openml.model.MemoryFootprint;
+import com.feedzai.openml.model.MemoryFootprintAware;
+import com.feedzai.openml.provider.exception.ModelLoadingException;
+import com.feedzai.openml.provider.model.MachineLearningModelLoader;
+import com.google.common.base.Preconditions;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+
+/**
+ * A {@link ClassificationMLModel} that delegates to another model, which can be replaced at any time without
+ * interrupting scoring.
+ * <p>
+ * Every call is served by the model that was current when the call started, which is kept open until the call
+ * returns. After a {@link #swap(ClassificationMLModel) swap} new calls go to the replacement, and the replaced model is
+ * {@link ClassificationMLModel#close() closed} as soon as the calls still using it finish. Scoring never waits on a
+ * swap: it only adds and removes a reference to the current model.
+ * <p>
+ * The {@link #getMemoryFootprint() footprint} of the handle is the one of the current model, since an estimate that
+ * walks the handle would not see through its {@link AtomicReference}.
+ *
+ * @author agent (agent@local)
+ * @since 1.3.0
+ */
+public final class SwappableClassificationModel implements ClassificationMLModel, MemoryFootprintAware {
+
+    /**
+     * The current model, along with the reference owned by this handle. {@code null} once this handle is closed.
+     */
+    private final AtomicReference<RefCountedModel<ClassificationMLModel>> current;
+
+    /**
+     * Creates a new handle.
+     *
+     * @param initial The initial model.
+     */
+    public SwappableClassificationModel(final ClassificationMLModel initial) {
+        this.current = new AtomicReference<>(new RefCountedModel<>(initial));
+    }
+
+    /**
+     * Replaces the current model, which is closed once the calls still using it finish.
+     *
+     * @param replacement The new model, which must have the same schema as the current one.
+     * @throws IllegalArgumentException If the replacement has a different schema, in which case it is closed.
+     * @throws IllegalStateException    If this handle was closed, in which case the replacement is closed as well.
+     */
+    public void swap(final ClassificationMLModel replacement) {
+        Preconditions.checkNotNull(replacement, "replacement should not be null");
+        final RefCountedModel<ClassificationMLModel> swapped = new RefCountedModel<>(replacement);
+
+        while (true) {
+            final RefCountedModel<ClassificationMLModel> previous = this.current.get();
+            if (previous == null) {
+                swapped.release();
+                throw new IllegalStateException("The model was closed.");
+            }
+            if (!previous.getModel().getSchema().equals(replacement.getSchema())) {
+                swapped.release();
+                throw new IllegalArgumentException(
+                        "The replacement model should have the same schema as the current one."
+                );
+            }
+            if (this.current.compareAndSet(previous, swapped)) {
+                previous.release();
+                return;
+            }
+        }
+    }
+
+    /**
+     * Loads a new model with the schema of the current one, prepares it and then {@link #swap swaps} it for the
+     * current model. The current model keeps serving calls while the new one is loaded and prepared.
+     *
+     * @param modelPath The path where the new model was persisted.
+     * @param loader    The loader of the new model.
+     * @param warmUp    The preparation of the new model before it starts serving calls (e.g. scoring a few instances
+     *                  to warm it up).
+     * @throws ModelLoadingException If the new model could not be loaded or prepared, in which case the current model
+     *                               remains in use.
+     * @throws IllegalStateException If this handle was closed.
+     */
+    public void loadAndSwap(final Path modelPath,
+                            final MachineLearningModelLoader<? extends ClassificationMLModel> loader,
+                            final Consumer<? super ClassificationMLModel> warmUp) throws ModelLoadingException {
+        final ClassificationMLModel replacement = loader.loadModel(modelPath, getSchema());
+        try {
+            warmUp.accept(replacement);
+        } catch (final RuntimeException e) {
+            try {
+                replacement.close();
+            } catch (final Exception closeFailure) {
+                e.addSuppressed(closeFailure);
+            }
+            throw new ModelLoadingException(String.format("Could not prepare model in path %s.", modelPath), e);
+        }
+        swap(replacement);
+    }
+
+    @Override
+    public double[] getClassDistribution(final Instance instance) {
+        final RefCountedModel<ClassificationMLModel> model = acquire();
+        try {
+            return model.getModel().getClassDistribution(instance);
+        } finally {
+            model.release();
+        }
+    }
+
+    @Override
+    public double[][] getClassDistributions(final List<? extends Instance> instances) {
+        final RefCountedModel<ClassificationMLModel> model = acquire();
+        try {
+            return model.getModel().getClassDistributions(instances);
+        } finally {
+            model.release();
+        }
+    }
+
+    @Override
+    @Deprecated
+    public int classify(final Instance instance) {
+        final RefCountedModel<ClassificationMLModel> model = acquire();
+        try {
+            return model.getModel().classify(instance);
+        } finally {
+            model.release();
+        }
+    }
+
+    @Override
+    public boolean save(final Path dir, final String name) {
+        final RefCountedModel<ClassificationMLModel> model = acquire();
+        try {
+            return model.getModel().save(dir, name);
+        } finally {
+            model.release();
+        }
+    }
+
+    @Override
+    public DatasetSchema getSchema() {
+        final RefCountedModel<ClassificationMLModel> model = acquire();
+        try {
+            return model.getModel().getSchema();
+        } finally {
+            model.release();
+        }
+    }
+
+    @Override
+    public boolean isThreadSafe() {
+        final RefCountedModel<ClassificationMLModel> model = acquire();
+        try {
+            return model.getModel().isThreadSafe();
+        } finally {
+            model.release();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * This is the {@link ModelFootprints#of footprint} of the current model, or {@link MemoryFootprint#EMPTY} once this
+     * handle is closed.
+     */
+    @Override
+    public MemoryFootprint getMemoryFootprint() {
+        final RefCountedModel<ClassificationMLModel> model = tryAcquire();
+        if (model == null) {
+            return MemoryFootprint.EMPTY;
+        }
+        try {
+            return ModelFootprints.of(model.getModel());
+        } finally {
+            model.release();
+        }
+    }
+
+    /**
+     * Closes this handle. The current model is closed as soon as the calls still using it finish, and no more calls
+     * are accepted. Closing a handle more than once has no effect.
+     */
+    @Override
+    public void close() {
+        final RefCountedModel<ClassificationMLModel> previous = this.current.getAndSet(null);
+        if (previous != null) {
+            previous.release();
+        }
+    }
+
+    /**
+     * Adds a reference to the current model, on behalf of a call.
+     *
+     * @return The current model, which must be released when the call finishes.
+     * @throws IllegalStateException If this handle was closed.
+     */
+    private RefCountedModel<ClassificationMLModel> acquire() {
+        final RefCountedModel<ClassificationMLModel> model = tryAcquire();
+        Preconditions.checkState(model != null, "The model was closed.");
+        return model;
+    }
+
+    /**
+     * Adds a reference to the current model, on behalf of a call, unless this handle was closed.
+     *
+     * @return The current model, which must be released when the call finishes, or {@code null} if this handle was
+     * closed.
+     */
+    private RefCountedModel<ClassificationMLModel> tryAcquire() {
+        while (true) {
+            final RefCountedModel<ClassificationMLModel> model = this.current.get();
+            if (model == null || model.retain()) {
+                return model;
+            }
+            // the model was swapped and closed between being read and retained, so the replacement is read again
+        }
+    }
+}
@@ -0,0 +1,126 @@
+/*
+ * Copyright 2026 Feedzai
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.feedzai.openml.util.model;
+
+import com.google.common.base.MoreObjects;
+
+import java.time.Duration;
+
+/**
+ * The outcome of a {@link ModelWarmUp}: the latency curve of the model while it was warmed up and whether its latency
+ * stabilised before the budget expired.
+ *
+ * @author agent (agent@local)
+ * @since 1.3.0
+ */
+public final class WarmUpReport {
+
+    /**
+     * The median latency of each window of scores, in nanoseconds.
+     */
+    private final long[] windowMedianNanos;
+
+    /**
+     * The number of instances scored.
+     */
+    private final long numScores;
+
+    /**
+     * The time spent warming up.
+     */
+    private final Duration elapsedTime;
+
+    /**
+     * Whether the latency stabilised before the budget expired.
+     */
+    private final boolean stabilized;
+
+    /**
+     * Creates a new instance.
+     *
+     * @param windowMedianNanos The median latency of each window of scores, in nanoseconds.
+     * @param numScores         The number of instances scored.
+     * @param elapsedTime       The time spent warming up.
+     * @param stabilized        Whether the latency stabilised before the budget expired.
+     */
+    WarmUpReport(final long[] windowMedianNanos,
+                 final long numScores,
+                 final Duration elapsedTime,
+                 final boolean stabilized) {
+        this.windowMedianNanos = windowMedianNanos;
+        this.numScores = numScores;
+        this.elapsedTime = elapsedTime;
+        this.stabilized = stabilized;
+    }
+
+    /**
+     * Gets the latency curve of the warm-up: the median latency of each consecutive window of scores.
+     *
+     * @return The median latencies, in nanoseconds.
+     */
+    public long[] getLatencyCurveNanos() {
+        return this.windowMedianNanos.clone();
+    }
+
+    /**
+     * Gets the median latency of the last window of scores.
+     *
+     * @return The median latency, in nanoseconds, or {@code -1} if no window was completed.
+     */
+    public long getFinalMedianNanos() {
+        return this.windowMedianNanos.length == 0 ? -1 : this.windowMedianNanos[this.windowMedianNanos.length - 1];
+    }
+
+    /**
+     * Gets the number of instances scored.
+     *
+     * @return The number of scores.
+     */
+    public long getNumScores() {
+        return this.numScores;
+    }
+
+    /**
+     * Gets the time spent warming up.
+     *
+     * @return The elapsed time.
+     */
+    public Duration getElapsedTime() {
+        return this.elapsedTime;
+    }
+
+    /**
+     * Checks whether the latency stabilised before the budget expired.
+     *
+     * @return {@code true} if the latency stabilised, {@code false} if the warm-up stopped due to its budget.
+     */
+    public boolean isStabilized() {
+        return this.stabilized;
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(this)
+                .add("stabilized", this.stabilized)
+                .add("numScores", this.numScores)
+                .add("elapsedTime", this.elapsedTime)
+                .add("numWindows", this.windowMedianNanos.length)
+                .add("finalMedianNanos", getFinalMedianNanos())
+                .toString();
+    }
+}
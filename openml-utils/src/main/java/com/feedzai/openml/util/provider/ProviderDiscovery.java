@@ -0,0 +1,251 @@
+/*
+ * Copyright 2026 Feedzai
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.feedzai.openml.util.provider;
+
+import com.feedzai.openml.provider.MachineLearningProvider;
+import com.feedzai.openml.provider.descriptor.MLAlgorithmDescriptor;
+import com.google.common.base.Preconditions;
+import com.google.common.base.Throwables;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.lang.reflect.InvocationTargetException;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.ServiceLoader;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Discovers the {@link MachineLearningProvider}s registered for the {@link ServiceLoader} and initializes them
+ * concurrently, instead of one after the other as the {@link ServiceLoader} does.
+ * <p>
+ * The provider classes are read from the {@code META-INF/services} files of the class path, and each one is loaded
+ * (running its static initializers, which may e.g. load native libraries), instantiated and asked for its algorithms
+ * in its own thread. Providers that fail, or do not finish within the timeout, are left out of the resulting
+ * {@link ProviderRegistry} without delaying the others, and are reported in the {@link ProviderDiscoveryReport}.
+ *
+ * @author agent (agent@local)
+ * @since 1.3.0
+ */
+public final class ProviderDiscovery {
+
+    /**
+     * Logger for this class.
+     */
+    private static final Logger logger = LoggerFactory.getLogger(ProviderDiscovery.class);
+
+    /**
+     * The resource that lists the provider classes in each jar.
+     */
+    static final String SERVICES_RESOURCE = "META-INF/services/" + MachineLearningProvider.class.getName();
+
+    /**
+     * Private constructor for utility class.
+     */
+    private ProviderDiscovery() {
+    }
+
+    /**
+     * Discovers and initializes the providers in the class path of the given class loader.
+     *
+     * @param classLoader The class loader.
+     * @param timeout     The maximum time to wait for each provider to initialize.
+     * @return The report of the discovery, with the registry of the initialized providers.
+     * @throws InterruptedException If the calling thread is interrupted while waiting for the providers.
+     */
+    public static ProviderDiscoveryReport discover(final ClassLoader classLoader, final Duration timeout)
+            throws InterruptedException {
+        Preconditions.checkNotNull(classLoader, "class loader should not be null");
+        Preconditions.checkArgument(!timeout.isNegative(), "timeout should not be negative");
+
+        final List<String> classNames = readProviderClassNames(classLoader);
+        final Map<String, Future<InitializedProvider>> futures = new LinkedHashMap<>();
+        final ExecutorService executor = Executors.newCachedThreadPool(
+                new ThreadFactoryBuilder().setNameFormat("openml-provider-init-%d").setDaemon(true).build()
+        );
+
+        try {
+            // every provider starts right away, so a single deadline gives each one the whole timeout
+            classNames.forEach(className -> futures.put(
+                    className,
+                    executor.submit(() -> initialize(className, classLoader))
+            ));
+            final long deadline = System.nanoTime() + timeout.toNanos();
+
+            final List<MachineLearningProvider<?>> providers = new ArrayList<>();
+            final Map<MachineLearningProvider<?>, Set<MLAlgorithmDescriptor>> algorithms = new IdentityHashMap<>();
+            final ImmutableMap.Builder<String, Duration> initTimes = ImmutableMap.builder();
+            final ImmutableMap.Builder<String, Throwable> failures = ImmutableMap.builder();
+
+            for (final Map.Entry<String, Future<InitializedProvider>> entry : futures.entrySet()) {
+                final String className = entry.getKey();
+                try {
+                    final long remaining = Math.max(0, deadline - System.nanoTime());
+                    final InitializedProvider initialized = entry.getValue().get(remaining, TimeUnit.NANOSECONDS);
+                    providers.add(initialized.provider);
+                    algorithms.put(initialized.provider, initialized.algorithms);
+                    initTimes.put(className, initialized.initTime);
+
+                } catch (final ExecutionException e) {
+                    logger.error("Could not initialize provider {}.", className, e.getCause());
+                    failures.put(className, e.getCause());
+                } catch (final TimeoutException e) {
+                    logger.error("Provider {} did not initialize within {}.", className, timeout);
+                    entry.getValue().cancel(true);
+                    failures.put(className, e);
+                }
+            }
+
+            final ProviderDiscoveryReport report = new ProviderDiscoveryReport(
+                    // the algorithms read while initializing are reused, so no provider is called outside the timeout
+                    ProviderRegistry.of(providers, algorithms::get),
+                    initTimes.build(),
+                    failures.build()
+            );
+            logger.info("Discovered providers: {}.", report);
+            return report;
+
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Reads the names of the provider classes listed in the {@link #SERVICES_RESOURCE services files}, following the
+     * format expected by the {@link ServiceLoader}.
+     *
+     * @param classLoader The class loader.
+     * @return The class names, without duplicates, in the order they were found.
+     */
+    static List<String> readProviderClassNames(final ClassLoader classLoader) {
+        final Set<String> classNames = new LinkedHashSet<>();
+        try {
+            for (final URL resource : Collections.list(classLoader.getResources(SERVICES_RESOURCE))) {
+                try (InputStream stream = resource.openStream();
+                     BufferedReader reader = new BufferedReader(
+                             new InputStreamReader(stream, StandardCharsets.UTF_8)
+                     )) {
+                    String line;
+                    while ((line = reader.readLine()) != null) {
+                        final int comment = line.indexOf('#');
+                        final String className = (comment >= 0 ? line.substring(0, comment) : line).trim();
+                        if (!className.isEmpty()) {
+                            classNames.add(className);
+                        }
+                    }
+                } catch (final IOException e) {
+                    logger.error("Could not read the providers listed in {}.", resource, e);
+                }
+            }
+        } catch (final IOException e) {
+            logger.error("Could not list the resources {}.", SERVICES_RESOURCE, e);
+        }
+        return ImmutableList.copyOf(classNames);
+    }
+
+    /**
+     * Loads, instantiates and reads the algorithms of a provider.
+     *
+     * @param className   The name of the class of the provider.
+     * @param classLoader The class loader.
+     * @return The initialized provider.
+     * @throws Exception If the provider cannot be initialized.
+     */
+    private static InitializedProvider initialize(final String className, final ClassLoader classLoader)
+            throws Exception {
+        final long start = System.nanoTime();
+
+        final Class<?> type = Class.forName(className, true, classLoader);
+        if (!MachineLearningProvider.class.isAssignableFrom(type)) {
+            throw new ClassCastException(String.format(
+                    "%s is not a %s.", className, MachineLearningProvider.class.getName()
+            ));
+        }
+        final MachineLearningProvider<?> provider;
+        try {
+            provider = (MachineLearningProvider<?>) type.getConstructor().newInstance();
+        } catch (final InvocationTargetException e) {
+            // report what the constructor threw rather than the reflection wrapper
+            Throwables.throwIfUnchecked(e.getCause());
+            Throwables.throwIfInstanceOf(e.getCause(), Exception.class);
+            throw e;
+        }
+        final Set<MLAlgorithmDescriptor> algorithms = provider.getAlgorithms();
+
+        final Duration initTime = Duration.ofNanos(System.nanoTime() - start);
+        logger.debug("Initialized provider {} in {}.", className, initTime);
+        return new InitializedProvider(provider, algorithms, initTime);
+    }
+
+    /**
+     * A provider along with its algorithms and the time it took to initialize.
+     */
+    private static final class InitializedProvider {
+
+        /**
+         * The provider.
+         */
+        private final MachineLearningProvider<?> provider;
+
+        /**
+         * The algorithms of the provider.
+         */
+        private final Set<MLAlgorithmDescriptor> algorithms;
+
+        /**
+         * The time the provider took to initialize.
+         */
+        private final Duration initTime;
+
+        /**
+         * Creates a new instance.
+         *
+         * @param provider   The provider.
+         * @param algorithms The algorithms of the provider.
+         * @param initTime   The time the provider took to initialize.
+         */
+        InitializedProvider(final MachineLearningProvider<?> provider,
+                            final Set<MLAlgorithmDescriptor> algorithms,
+                            final Duration initTime) {
+            this.provider = provider;
+            this.algorithms = algorithms;
+            this.initTime = initTime;
+        }
+    }
+}
@@ -0,0 +1,114 @@
+/*
+ * Copyright 2026 Feedzai
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.feedzai.openml.util.provider;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableMap;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.TimeoutException;
+import java.util.stream.Collectors;
+
+/**
+ * The outcome of a {@link ProviderDiscovery}: the registry of the providers that were initialized, how long each one
+ * took, and why the others failed.
+ *
+ * @author agent (agent@local)
+ * @since 1.3.0
+ */
+public final class ProviderDiscoveryReport {
+
+    /**
+     * The registry of the providers that were initialized.
+     */
+    private final ProviderRegistry registry;
+
+    /**
+     * The time each provider took to initialize, by class name.
+     */
+    private final ImmutableMap<String, Duration> initTimes;
+
+    /**
+     * The reason why each provider failed to initialize, by class name.
+     */
+    private final ImmutableMap<String, Throwable> failures;
+
+    /**
+     * Creates a new instance.
+     *
+     * @param registry  The registry of the providers that were initialized.
+     * @param initTimes The time each provider took to initialize, by class name.
+     * @param failures  The reason why each provider failed to initialize, by class name.
+     */
+    ProviderDiscoveryReport(final ProviderRegistry registry,
+                            final ImmutableMap<String, Duration> initTimes,
+                            final ImmutableMap<String, Throwable> failures) {
+        this.registry = registry;
+        this.initTimes = initTimes;
+        this.failures = failures;
+    }
+
+    /**
+     * Gets the registry of the providers that were initialized.
+     *
+     * @return The registry.
+     */
+    public ProviderRegistry getRegistry() {
+        return this.registry;
+    }
+
+    /**
+     * Gets the time each provider took to initialize, including loading its class and reading its algorithms.
+     *
+     * @return The initialization times, by class name of the provider.
+     */
+    public ImmutableMap<String, Duration> getInitTimes() {
+        return this.initTimes;
+    }
+
+    /**
+     * Gets the reason why each provider that was not initialized failed. Providers that did not initialize in time fail
+     * with a {@link TimeoutException}.
+     *
+     * @return The failures, by class name of the provider.
+     */
+    public ImmutableMap<String, Throwable> getFailures() {
+        return this.failures;
+    }
+
+    /**
+     * Gets the providers that did not initialize in time.
+     *
+     * @return The class names of the providers.
+     */
+    public Set<String> getTimedOut() {
+        return this.failures.entrySet().stream()
+                .filter(entry -> entry.getValue() instanceof TimeoutException)
+                .map(entry -> entry.getKey())
+                .collect(Collectors.toSet());
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(this)
+                .add("initTimes", this.initTimes)
+                .add("failures", this.failures.keySet())
+                .toString();
+    }
+}
@@ -0,0 +1,269 @@
+/*
+ * Copyright 2026 Feedzai
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.feedzai.openml.util.provider;
+
+import com.feedzai.openml.provider.MachineLearningProvider;
+import com.feedzai.openml.provider.descriptor.MLAlgorithmDescriptor;
+import com.feedzai.openml.provider.model.MachineLearningModelLoader;
+import com.google.common.base.MoreObjects;
+import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableListMultimap;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.ServiceLoader;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * An immutable index of {@link MachineLearningProvider}s and of the algorithms they provide.
+ * <p>
+ * The providers are usually {@link #discover() discovered} once through the {@link ServiceLoader}, and their
+ * {@link MachineLearningProvider#getAlgorithms() algorithms} are read once and indexed by name, so that looking up a
+ * provider, an algorithm or a model creator takes constant time instead of a scan over all of them.
+ * <p>
+ * Model creators are obtained from the provider the first time they are requested and then reused, since a
+ * {@link MachineLearningModelLoader} is expected to load any number of models.
+ *
+ * @author agent (agent@local)
+ * @since 1.3.0
+ */
+public final class ProviderRegistry {
+
+    /**
+     * Logger for this class.
+     */
+    private static final Logger logger = LoggerFactory.getLogger(ProviderRegistry.class);
+
+    /**
+     * The providers, by name.
+     */
+    private final ImmutableMap<String, MachineLearningProvider<?>> providers;
+
+    /**
+     * The algorithms of each provider, by provider name.
+     */
+    private final ImmutableMap<String, ImmutableSet<MLAlgorithmDescriptor>> algorithms;
+
+    /**
+     * The algorithms of each provider, by provider name and then by algorithm name.
+     */
+    private final ImmutableMap<String, ImmutableMap<String, MLAlgorithmDescriptor>> algorithmsByName;
+
+    /**
+     * The providers of each algorithm, by algorithm name.
+     */
+    private final ImmutableListMultimap<String, MachineLearningProvider<?>> providersByAlgorithm;
+
+    /**
+     * The model creators already obtained, by provider name and then by algorithm name.
+     */
+    private final Map<String, Map<String, Optional<MachineLearningModelLoader<?>>>> modelCreators =
+            new ConcurrentHashMap<>();
+
+    /**
+     * Creates a new registry.
+     *
+     * @param providers    The providers, by name.
+     * @param algorithmsOf The function that gets the algorithms of each provider.
+     */
+    private ProviderRegistry(
+            final Map<String, MachineLearningProvider<?>> providers,
+            final Function<? super MachineLearningProvider<?>, ? extends Set<MLAlgorithmDescriptor>> algorithmsOf) {
+        final ImmutableMap.Builder<String, ImmutableSet<MLAlgorithmDescriptor>> algorithmsBuilder =
+                ImmutableMap.builder();
+        final ImmutableMap.Builder<String, ImmutableMap<String, MLAlgorithmDescriptor>> byNameBuilder =
+                ImmutableMap.builder();
+        final ImmutableListMultimap.Builder<String, MachineLearningProvider<?>> byAlgorithmBuilder =
+                ImmutableListMultimap.builder();
+
+        providers.forEach((name, provider) -> {
+            final ImmutableSet<MLAlgorithmDescriptor> descriptors = ImmutableSet.copyOf(algorithmsOf.apply(provider));
+            algorithmsBuilder.put(name, descriptors);
+
+            final Map<String, MLAlgorithmDescriptor> byName = new LinkedHashMap<>();
+            descriptors.forEach(descriptor -> byName.putIfAbsent(descriptor.getAlgorithmName(), descriptor));
+            byNameBuilder.put(name, ImmutableMap.copyOf(byName));
+            byName.keySet().forEach(algorithmName -> byAlgorithmBuilder.put(algorithmName, provider));
+        });
+
+        this.providers = ImmutableMap.copyOf(providers);
+        this.algorithms = algorithmsBuilder.build();
+        this.algorithmsByName = byNameBuilder.build();
+        this.providersByAlgorithm = byAlgorithmBuilder.build();
+    }
+
+    /**
+     * Discovers the providers available in the class path of the current thread's context class loader.
+     *
+     * @return The registry of the discovered providers.
+     */
+    public static ProviderRegistry discover() {
+        return discover(Thread.currentThread().getContextClassLoader());
+    }
+
+    /**
+     * Discovers the providers available in the class path of the given class loader, initializing them one after the
+     * other. See {@link ProviderDiscovery} to initialize them concurrently.
+     *
+     * @param classLoader The class loader.
+     * @return The registry of the discovered providers.
+     */
+    @SuppressWarnings("rawtypes")
+    public static ProviderRegistry discover(final ClassLoader classLoader) {
+        final ImmutableList.Builder<MachineLearningProvider<?>> providers = ImmutableList.builder();
+        for (final MachineLearningProvider provider : ServiceLoader.load(MachineLearningProvider.class, classLoader)) {
+            providers.add(provider);
+        }
+        return of(providers.build());
+    }
+
+    /**
+     * Creates a registry of the given providers. If several providers have the same name, only the first one is kept.
+     *
+     * @param providers The providers.
+     * @return The registry.
+     */
+    public static ProviderRegistry of(final Iterable<? extends MachineLearningProvider<?>> providers) {
+        return of(providers, MachineLearningProvider::getAlgorithms);
+    }
+
+    /**
+     * Creates a registry of the given providers, whose algorithms were already read. If several providers have the
+     * same name, only the first one is kept.
+     *
+     * @param providers    The providers.
+     * @param algorithmsOf The function that gets the algorithms already read from each provider.
+     * @return The registry.
+     */
+    static ProviderRegistry of(
+            final Iterable<? extends MachineLearningProvider<?>> providers,
+            final Function<? super MachineLearningProvider<?>, ? extends Set<MLAlgorithmDescriptor>> algorithmsOf) {
+        Preconditions.checkNotNull(providers, "providers should not be null");
+        Preconditions.checkNotNull(algorithmsOf, "algorithms should not be null");
+
+        final Map<String, MachineLearningProvider<?>> byName = new LinkedHashMap<>();
+        for (final MachineLearningProvider<?> provider : providers) {
+            final MachineLearningProvider<?> previous = byName.putIfAbsent(provider.getName(), provider);
+            if (previous != null) {
+                logger.warn(
+                        "Ignoring provider {} since provider {} has the same name '{}'.",
+                        provider.getClass().getName(),
+                        previous.getClass().getName(),
+                        provider.getName()
+                );
+            }
+        }
+        logger.debug("Registered providers {}.", byName.keySet());
+        return new ProviderRegistry(byName, algorithmsOf);
+    }
+
+    /**
+     * Gets all the providers in this registry.
+     *
+     * @return The providers, by name.
+     */
+    public ImmutableMap<String, MachineLearningProvider<?>> getProviders() {
+        return this.providers;
+    }
+
+    /**
+     * Gets the provider with the given name.
+     *
+     * @param providerName The name of the provider.
+     * @return The provider, or an empty optional if there is none with the given name.
+     */
+    public Optional<MachineLearningProvider<?>> getProvider(final String providerName) {
+        return Optional.ofNullable(this.providers.get(providerName));
+    }
+
+    /**
+     * Gets the algorithms of the provider with the given name, as reported when this registry was created.
+     *
+     * @param providerName The name of the provider.
+     * @return The algorithms, empty if there is no provider with the given name.
+     */
+    public ImmutableSet<MLAlgorithmDescriptor> getAlgorithms(final String providerName) {
+        return this.algorithms.getOrDefault(providerName, ImmutableSet.of());
+    }
+
+    /**
+     * Gets the descriptor of an algorithm of a provider.
+     *
+     * @param providerName  The name of the provider.
+     * @param algorithmName The name of the algorithm.
+     * @return The descriptor, or an empty optional if the provider or the algorithm do not exist.
+     */
+    public Optional<MLAlgorithmDescriptor> getAlgorithm(final String providerName, final String algorithmName) {
+        return Optional.ofNullable(this.algorithmsByName.getOrDefault(providerName, ImmutableMap.of())
+                                           .get(algorithmName));
+    }
+
+    /**
+     * Gets the providers that offer an algorithm with the given name.
+     *
+     * @param algorithmName The name of the algorithm.
+     * @return The providers, in the order they were registered.
+     */
+    public List<MachineLearningProvider<?>> getProvidersOf(final String algorithmName) {
+        return this.providersByAlgorithm.get(algorithmName);
+    }
+
+    /**
+     * Gets the model creator of an algorithm of a provider.
+     *
+     * @param providerName  The name of the provider.
+     * @param algorithmName The name of the algorithm.
+     * @return The model creator, or an empty optional if the provider or the algorithm do not exist.
+     */
+    public Optional<MachineLearningModelLoader<?>> getModelCreator(final String providerName,
+                                                                   final String algorithmName) {
+        if (!getAlgorithm(providerName, algorithmName).isPresent()) {
+            return Optional.empty();
+        }
+        return this.modelCreators
+                .computeIfAbsent(providerName, name -> new ConcurrentHashMap<>())
+                .computeIfAbsent(algorithmName, createModelCreator(this.providers.get(providerName)));
+    }
+
+    /**
+     * Creates the function that obtains the model creator of an algorithm from a provider.
+     *
+     * @param provider The provider.
+     * @return The function from the name of the algorithm to its model creator.
+     */
+    private static Function<String, Optional<MachineLearningModelLoader<?>>> createModelCreator(
+            final MachineLearningProvider<?> provider) {
+        return algorithmName -> provider.getModelCreator(algorithmName).map(creator -> creator);
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(this)
+                .add("providers", this.providers.keySet())
+                .toString();
+    }
+}
@@ -0,0 +1,117 @@
+/*
+ * Copyright 2026 Feedzai
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.feedzai.openml.util.scoring;
+
+/**
+ * The interfaces of reactive streams with backpressure, with the same contract as {@code java.util.concurrent.Flow}
+ * (available since Java 9), for use on Java 8. Implementations can be adapted to the JDK interfaces by delegating each
+ * method to the one with the same name.
+ *
+ * @author agent (agent@local)
+ * @since 1.3.0
+ */
+public final class Flow {
+
+    /**
+     * Private constructor for utility class.
+     */
+    private Flow() {
+    }
+
+    /**
+     * A producer of items that are received by {@link Subscriber subscribers}, only as many as they requested.
+     *
+     * @param <T> The type of the items.
+     */
+    @FunctionalInterface
+    public interface Publisher<T> {
+
+        /**
+         * Adds the given subscriber, which is then given a {@link Subscription} with
+         * {@link Subscriber#onSubscribe(Subscription)}.
+         *
+         * @param subscriber The subscriber.
+         */
+        void subscribe(Subscriber<? super T> subscriber);
+    }
+
+    /**
+     * A receiver of items. The methods are invoked in order, never concurrently: {@link #onSubscribe} once, then
+     * {@link #onNext} at most as many times as requested, and finally either {@link #onError} or {@link #onComplete}.
+     *
+     * @param <T> The type of the items.
+     */
+    public interface Subscriber<T> {
+
+        /**
+         * Invoked before any other method, with the subscription used to request items.
+         *
+         * @param subscription The subscription.
+         */
+        void onSubscribe(Subscription subscription);
+
+        /**
+         * Invoked with the next item.
+         *
+         * @param item The item.
+         */
+        void onNext(T item);
+
+        /**
+         * Invoked when the publisher failed, after which no other method is invoked.
+         *
+         * @param throwable The failure.
+         */
+        void onError(Throwable throwable);
+
+        /**
+         * Invoked when there are no more items, after which no other method is invoked.
+         */
+        void onComplete();
+    }
+
+    /**
+     * The link between a {@link Publisher} and a {@link Subscriber}, through which the subscriber controls the flow of
+     * items.
+     */
+    public interface Subscription {
+
+        /**
+         * Adds the given number of items to the demand of the subscriber. Requesting a non-positive number of items
+         * fails the subscription with an {@link IllegalArgumentException}.
+         *
+         * @param n The number of items.
+         */
+        void request(long n);
+
+        /**
+         * Stops receiving items, possibly after a few that were already in transit.
+         */
+        void cancel();
+    }
+
+    /**
+     * A component that is both a {@link Subscriber} and a {@link Publisher}, usually transforming the items it
+     * receives.
+     *
+     * @param <T> The type of the items received.
+     * @param <R> The type of the items published.
+     */
+    public interface Processor<T, R> extends Subscriber<T>, Publisher<R> {
+    }
+}
@@ -0,0 +1,240 @@
+/*
+ * Copyright 2026 Feedzai
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.feedzai.openml.util.scoring;
+
+import com.feedzai.openml.data.Dataset;
+import com.feedzai.openml.data.Instance;
+import com.feedzai.openml.data.schema.CategoricalValueSchema;
+import com.feedzai.openml.data.schema.FieldSchema;
+import com.feedzai.openml.model.ClassificationMLModel;
+import com.google.common.base.Preconditions;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Scores all the instances of a {@link Dataset} with a {@link ClassificationMLModel} in parallel, writing their class
+ * probabilities distributions into a {@link ScoreMatrix} in the order of the instances in the dataset.
+ * <p>
+ * The range of instance indices is split in halves by fork/join tasks until each task has at most a batch of
+ * instances, which it scores with a single call to {@link ClassificationMLModel#getClassDistributions(List)}. Idle
+ * threads of the {@link ForkJoinPool} steal the pending halves, so uneven scoring costs are balanced across threads.
+ * <p>
+ * The instances are read with {@link Dataset#instance(int)}, so the dataset must support concurrent random access.
+ * Models that are not {@link ClassificationMLModel#isThreadSafe() thread-safe} are scored in the calling thread only.
+ *
+ * @author agent (agent@local)
+ * @since 1.3.0
+ */
+public final class ParallelDatasetScorer {
+
+    /**
+     * Logger for this class.
+     */
+    private static final Logger logger = LoggerFactory.getLogger(ParallelDatasetScorer.class);
+
+    /**
+     * The default maximum number of instances scored by each task.
+     */
+    public static final int DEFAULT_BATCH_SIZE = 256;
+
+    /**
+     * The pool that runs the scoring tasks.
+     */
+    private final ForkJoinPool pool;
+
+    /**
+     * The maximum number of instances scored by each task.
+     */
+    private final int batchSize;
+
+    /**
+     * Creates a new scorer that runs on the {@link ForkJoinPool#commonPool() common pool}, with the
+     * {@link #DEFAULT_BATCH_SIZE default batch size}.
+     */
+    public ParallelDatasetScorer() {
+        this(ForkJoinPool.commonPool(), DEFAULT_BATCH_SIZE);
+    }
+
+    /**
+     * Creates a new scorer.
+     *
+     * @param pool      The pool that runs the scoring tasks.
+     * @param batchSize The maximum number of instances scored by each task.
+     */
+    public ParallelDatasetScorer(final ForkJoinPool pool, final int batchSize) {
+        Preconditions.checkNotNull(pool, "pool should not be null");
+        Preconditions.checkArgument(batchSize > 0, "batch size should be positive");
+        this.pool = pool;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Scores all the instances of a dataset.
+     * <p>
+     * The number of classes is the number of values of the model's categorical target or, if the model's schema does
+     * not have one, the size of the distribution of the first instance.
+     *
+     * @param model   The model.
+     * @param dataset The dataset.
+     * @return The distributions of the instances, in the order of the dataset.
+     * @throws IllegalStateException If the model yields a distribution with a different number of classes.
+     */
+    public ScoreMatrix score(final ClassificationMLModel model, final Dataset dataset) {
+        Preconditions.checkNotNull(model, "model should not be null");
+        Preconditions.checkNotNull(dataset, "dataset should not be null");
+
+        final int numInstances = dataset.numInstances();
+        final ScoreMatrix matrix = new ScoreMatrix(numInstances, getNumClasses(model, dataset, numInstances));
+        final ScoringTask task = new ScoringTask(model, dataset, matrix, 0, numInstances);
+
+        if (model.isThreadSafe()) {
+            this.pool.invoke(task);
+        } else {
+            logger.debug("Scoring {} instances sequentially, since model {} is not thread-safe.", numInstances, model);
+            for (int from = 0; from < numInstances; from += this.batchSize) {
+                task.scoreBatch(from, Math.min(numInstances, from + this.batchSize));
+            }
+        }
+        return matrix;
+    }
+
+    /**
+     * Gets the number of classes of the distributions yielded by a model.
+     *
+     * @param model        The model.
+     * @param dataset      The dataset to score.
+     * @param numInstances The number of instances of the dataset.
+     * @return The number of classes.
+     */
+    private static int getNumClasses(final ClassificationMLModel model,
+                                     final Dataset dataset,
+                                     final int numInstances) {
+        final Optional<CategoricalValueSchema> target = model.getSchema().getTargetFieldSchema()
+                .map(FieldSchema::getValueSchema)
+                .filter(CategoricalValueSchema.class::isInstance)
+                .map(CategoricalValueSchema.class::cast);
+        if (target.isPresent()) {
+            return target.get().getNominalValues().size();
+        }
+
+        Preconditions.checkArgument(
+                numInstances > 0,
+                "The number of classes of a model without a categorical target cannot be inferred from an empty "
+                        + "dataset."
+        );
+        return model.getClassDistribution(dataset.instance(0)).length;
+    }
+
+    /**
+     * Scores a range of instances, splitting it in halves until it has at most {@link #batchSize} instances.
+     */
+    private final class ScoringTask extends RecursiveAction {
+
+        /**
+         * The serial version UID.
+         */
+        private static final long serialVersionUID = 1L;
+
+        /**
+         * The model.
+         */
+        private final ClassificationMLModel model;
+
+        /**
+         * The dataset.
+         */
+        private final Dataset dataset;
+
+        /**
+         * The matrix where the distributions are written.
+         */
+        private final ScoreMatrix matrix;
+
+        /**
+         * The first instance of the range (inclusive).
+         */
+        private final int from;
+
+        /**
+         * The last instance of the range (exclusive).
+         */
+        private final int to;
+
+        /**
+         * Creates a new task.
+         *
+         * @param model   The model.
+         * @param dataset The dataset.
+         * @param matrix  The matrix where the distributions are written.
+         * @param from    The first instance of the range (inclusive).
+         * @param to      The last instance of the range (exclusive).
+         */
+        ScoringTask(final ClassificationMLModel model,
+                    final Dataset dataset,
+                    final ScoreMatrix matrix,
+                    final int from,
+                    final int to) {
+            this.model = model;
+            this.dataset = dataset;
+            this.matrix = matrix;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (this.to - this.from <= ParallelDatasetScorer.this.batchSize) {
+                scoreBatch(this.from, this.to);
+            } else {
+                final int middle = (this.from + this.to) >>> 1;
+                invokeAll(
+                        new ScoringTask(this.model, this.dataset, this.matrix, this.from, middle),
+                        new ScoringTask(this.model, this.dataset, this.matrix, middle, this.to)
+                );
+            }
+        }
+
+        /**
+         * Scores a batch of instances with a single call to the model.
+         *
+         * @param batchFrom The first instance of the batch (inclusive).
+         * @param batchTo   The last instance of the batch (exclusive).
+         */
+        void scoreBatch(final int batchFrom, final int batchTo) {
+            final List<Instance> batch = new ArrayList<>(batchTo - batchFrom);
+            for (int i = batchFrom; i < batchTo; i++) {
+                batch.add(this.dataset.instance(i));
+            }
+
+            final double[][] distributions = this.model.getClassDistributions(batch);
+            Preconditions.checkState(
+                    distributions.length == batch.size(),
+                    "The model yielded %s distributions for %s instances.", distributions.length, batch.size()
+            );
+            for (int i = 0; i < distributions.length; i++) {
+                this.matrix.setDistribution(batchFrom + i, distributions[i]);
+            }
+        }
+    }
+}
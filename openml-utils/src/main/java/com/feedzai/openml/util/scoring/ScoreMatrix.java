@@ -0,0 +1,144 @@
+/*
+ * Copyright 2026 Feedzai
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.feedzai.openml.util.scoring;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.base.Preconditions;
+
+import java.util.Arrays;
+
+/**
+ * The class probabilities distributions of the instances of a dataset, held in a single contiguous array with the
+ * distribution of each instance after the previous one (i.e. in row-major order).
+ *
+ * @author agent (agent@local)
+ * @since 1.3.0
+ */
+public final class ScoreMatrix {
+
+    /**
+     * The number of instances (rows).
+     */
+    private final int numInstances;
+
+    /**
+     * The number of classes (columns).
+     */
+    private final int numClasses;
+
+    /**
+     * The distributions, in row-major order.
+     */
+    private final double[] values;
+
+    /**
+     * Creates a new matrix, with all the values set to zero.
+     *
+     * @param numInstances The number of instances (rows).
+     * @param numClasses   The number of classes (columns).
+     */
+    ScoreMatrix(final int numInstances, final int numClasses) {
+        Preconditions.checkArgument(numInstances >= 0, "number of instances should not be negative");
+        Preconditions.checkArgument(numClasses > 0, "number of classes should be positive");
+        Preconditions.checkArgument(
+                (long) numInstances * numClasses <= Integer.MAX_VALUE - 8,
+                "%s instances with %s classes do not fit in an array", numInstances, numClasses
+        );
+
+        this.numInstances = numInstances;
+        this.numClasses = numClasses;
+        this.values = new double[numInstances * numClasses];
+    }
+
+    /**
+     * Gets the number of instances (rows) of this matrix.
+     *
+     * @return The number of instances.
+     */
+    public int getNumInstances() {
+        return this.numInstances;
+    }
+
+    /**
+     * Gets the number of classes (columns) of this matrix.
+     *
+     * @return The number of classes.
+     */
+    public int getNumClasses() {
+        return this.numClasses;
+    }
+
+    /**
+     * Gets the probability of a class for an instance.
+     *
+     * @param instance   The index of the instance.
+     * @param classIndex The index of the class.
+     * @return The probability.
+     */
+    public double get(final int instance, final int classIndex) {
+        Preconditions.checkElementIndex(instance, this.numInstances, "instance index");
+        Preconditions.checkElementIndex(classIndex, this.numClasses, "class index");
+        return this.values[instance * this.numClasses + classIndex];
+    }
+
+    /**
+     * Gets a copy of the class probabilities distribution of an instance.
+     *
+     * @param instance The index of the instance.
+     * @return The distribution.
+     */
+    public double[] getDistribution(final int instance) {
+        Preconditions.checkElementIndex(instance, this.numInstances, "instance index");
+        final int offset = instance * this.numClasses;
+        return Arrays.copyOfRange(this.values, offset, offset + this.numClasses);
+    }
+
+    /**
+     * Gets the underlying array with all the distributions, in row-major order: the probability of class {@code c}
+     * for instance {@code i} is at {@code i * getNumClasses() + c}. The array is not copied.
+     *
+     * @return The array.
+     */
+    public double[] getValues() {
+        return this.values;
+    }
+
+    /**
+     * Sets the class probabilities distribution of an instance.
+     *
+     * @param instance     The index of the instance.
+     * @param distribution The distribution.
+     * @throws IllegalStateException If the distribution does not have one probability per class.
+     */
+    void setDistribution(final int instance, final double[] distribution) {
+        Preconditions.checkState(
+                distribution.length == this.numClasses,
+                "The distribution of instance %s has %s classes instead of %s.",
+                instance, distribution.length, this.numClasses
+        );
+        System.arraycopy(distribution, 0, this.values, instance * this.numClasses, this.numClasses);
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(this)
+                .add("numInstances", this.numInstances)
+                .add("numClasses", this.numClasses)
+                .toString();
+    }
+}
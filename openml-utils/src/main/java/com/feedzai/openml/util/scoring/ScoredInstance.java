@@ -0,0 +1,94 @@
+/*
+ * Copyright 2026 Feedzai
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.feedzai.openml.util.scoring;
+
+import com.feedzai.openml.data.Instance;
+import com.google.common.base.MoreObjects;
+
+/**
+ * An {@link Instance} along with its class probabilities distribution, as published by a {@link ScoringProcessor}.
+ *
+ * @author agent (agent@local)
+ * @since 1.3.0
+ */
+public final class ScoredInstance {
+
+    /**
+     * The position of the instance in the input stream, starting at zero.
+     */
+    private final long sequence;
+
+    /**
+     * The instance.
+     */
+    private final Instance instance;
+
+    /**
+     * The class probabilities distribution of the instance.
+     */
+    private final double[] distribution;
+
+    /**
+     * Creates a new instance.
+     *
+     * @param sequence     The position of the instance in the input stream, starting at zero.
+     * @param instance     The instance.
+     * @param distribution The class probabilities distribution of the instance.
+     */
+    ScoredInstance(final long sequence, final Instance instance, final double[] distribution) {
+        this.sequence = sequence;
+        this.instance = instance;
+        this.distribution = distribution;
+    }
+
+    /**
+     * Gets the position of the instance in the input stream, which allows to match the output with the input when the
+     * instances are published out of order.
+     *
+     * @return The position, starting at zero.
+     */
+    public long getSequence() {
+        return this.sequence;
+    }
+
+    /**
+     * Gets the scored instance.
+     *
+     * @return The instance.
+     */
+    public Instance getInstance() {
+        return this.instance;
+    }
+
+    /**
+     * Gets the class probabilities distribution of the instance, as yielded by the model.
+     *
+     * @return The distribution.
+     */
+    public double[] getDistribution() {
+        return this.distribution;
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(this)
+                .add("sequence", this.sequence)
+                .add("distribution", this.distribution)
+                .toString();
+    }
+}
@@ -0,0 +1,549 @@
+/*
+ * Copyright 2026 Feedzai
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.feedzai.openml.util.scoring;
+
+import com.feedzai.openml.data.Instance;
+import com.feedzai.openml.model.ClassificationMLModel;
+import com.google.common.base.MoreObjects;
+import com.google.common.base.Preconditions;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * A {@link Flow.Processor} that scores the {@link Instance instances} received from an upstream publisher with a
+ * {@link ClassificationMLModel} and publishes them downstream as {@link ScoredInstance scored instances}.
+ * <p>
+ * At most {@link Builder#capacity(int) capacity} instances are held at any time, from being received until their
+ * scores are published: the processor only requests more instances from upstream as the downstream subscriber takes
+ * the scored ones. So when the model, or the downstream subscriber, is slower than the input, the upstream publisher
+ * is slowed down instead of the memory growing.
+ * <p>
+ * The instances are scored by up to {@link Builder#concurrency(int) concurrency} tasks of an {@link Executor}, and
+ * published either in the order they were received or as soon as they are scored. A failure of the model cancels the
+ * upstream subscription and fails the downstream subscriber. The processor accepts a single downstream subscriber.
+ *
+ * @author agent (agent@local)
+ * @since 1.3.0
+ */
+public final class ScoringProcessor implements Flow.Processor<Instance, ScoredInstance> {
+
+    /**
+     * The model that scores the instances.
+     */
+    private final ClassificationMLModel model;
+
+    /**
+     * The maximum number of instances held at any time.
+     */
+    private final int capacity;
+
+    /**
+     * The maximum number of tasks scoring instances at the same time.
+     */
+    private final int concurrency;
+
+    /**
+     * Whether the instances are published in the order they were received.
+     */
+    private final boolean ordered;
+
+    /**
+     * The executor that runs the scoring tasks.
+     */
+    private final Executor executor;
+
+    /**
+     * The instances received and not yet taken by a scoring task.
+     */
+    private final Queue<ReceivedInstance> received = new ConcurrentLinkedQueue<>();
+
+    /**
+     * The scored instances not yet published when the output is ordered, at the position of their sequence modulo
+     * {@link #capacity}.
+     */
+    private final AtomicReferenceArray<ScoredInstance> scoredInOrder;
+
+    /**
+     * The scored instances not yet published when the output is unordered.
+     */
+    private final Queue<ScoredInstance> scored = new ConcurrentLinkedQueue<>();
+
+    /**
+     * The number of scoring tasks running.
+     */
+    private final AtomicInteger activeTasks = new AtomicInteger();
+
+    /**
+     * The number of instances requested by the downstream subscriber and not yet published.
+     */
+    private final AtomicLong demand = new AtomicLong();
+
+    /**
+     * The number of instances received from upstream.
+     */
+    private final AtomicLong numReceived = new AtomicLong();
+
+    /**
+     * The number of pending calls to {@link #drain()}, which serializes the calls to the downstream subscriber.
+     */
+    private final AtomicInteger pendingDrains = new AtomicInteger();
+
+    /**
+     * The failure of the upstream publisher or of the model, if any.
+     */
+    private final AtomicReference<Throwable> failure = new AtomicReference<>();
+
+    /**
+     * The upstream subscription.
+     */
+    private final AtomicReference<Flow.Subscription> upstream = new AtomicReference<>();
+
+    /**
+     * The downstream subscriber.
+     */
+    private final AtomicReference<Flow.Subscriber<? super ScoredInstance>> downstream = new AtomicReference<>();
+
+    /**
+     * The number of instances published downstream. Only written by {@link #drain()}.
+     */
+    private volatile long numPublished;
+
+    /**
+     * Whether the upstream publisher completed.
+     */
+    private volatile boolean upstreamDone;
+
+    /**
+     * Whether the downstream subscriber cancelled its subscription.
+     */
+    private volatile boolean cancelled;
+
+    /**
+     * Whether the downstream subscriber was completed or failed. Only accessed by {@link #drain()}.
+     */
+    private boolean terminated;
+
+    /**
+     * Creates a new processor.
+     *
+     * @param builder The builder with the configuration of the processor.
+     */
+    private ScoringProcessor(final Builder builder) {
+        this.model = builder.model;
+        this.capacity = builder.capacity;
+        this.concurrency = builder.concurrency;
+        this.ordered = builder.ordered;
+        this.executor = builder.executor;
+        this.scoredInOrder = this.ordered ? new AtomicReferenceArray<>(this.capacity) : null;
+    }
+
+    /**
+     * Creates a builder of processors that score instances with the given model.
+     *
+     * @param model The model.
+     * @return The builder.
+     */
+    public static Builder builder(final ClassificationMLModel model) {
+        return new Builder(model);
+    }
+
+    @Override
+    public void onSubscribe(final Flow.Subscription subscription) {
+        Preconditions.checkNotNull(subscription, "subscription should not be null");
+        if (!this.upstream.compareAndSet(null, subscription) || this.cancelled) {
+            subscription.cancel();
+            return;
+        }
+        subscription.request(this.capacity);
+    }
+
+    @Override
+    public void onNext(final Instance instance) {
+        Preconditions.checkNotNull(instance, "instance should not be null");
+        final long sequence = this.numReceived.getAndIncrement();
+        if (sequence - this.numPublished >= this.capacity) {
+            fail(new IllegalStateException("The upstream publisher sent more instances than requested."));
+            return;
+        }
+        this.received.offer(new ReceivedInstance(sequence, instance));
+        drain();
+    }
+
+    @Override
+    public void onError(final Throwable throwable) {
+        Preconditions.checkNotNull(throwable, "throwable should not be null");
+        this.failure.compareAndSet(null, throwable);
+        drain();
+    }
+
+    @Override
+    public void onComplete() {
+        this.upstreamDone = true;
+        drain();
+    }
+
+    @Override
+    public void subscribe(final Flow.Subscriber<? super ScoredInstance> subscriber) {
+        Preconditions.checkNotNull(subscriber, "subscriber should not be null");
+        if (!this.downstream.compareAndSet(null, subscriber)) {
+            subscriber.onSubscribe(new Flow.Subscription() {
+                @Override
+                public void request(final long n) {
+                }
+
+                @Override
+                public void cancel() {
+                }
+            });
+            subscriber.onError(new IllegalStateException("The processor accepts a single subscriber."));
+            return;
+        }
+
+        subscriber.onSubscribe(new Flow.Subscription() {
+            @Override
+            public void request(final long n) {
+                if (n <= 0) {
+                    fail(new IllegalArgumentException("The number of requested instances should be positive."));
+                    return;
+                }
+                ScoringProcessor.this.demand.accumulateAndGet(n, (current, added) -> {
+                    final long total = current + added;
+                    return total < 0 ? Long.MAX_VALUE : total;
+                });
+                drain();
+            }
+
+            @Override
+            public void cancel() {
+                ScoringProcessor.this.cancelled = true;
+                cancelUpstream();
+                drain();
+            }
+        });
+        drain();
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(this)
+                .add("model", this.model)
+                .add("capacity", this.capacity)
+                .add("concurrency", this.concurrency)
+                .add("ordered", this.ordered)
+                .add("numReceived", this.numReceived.get())
+                .add("numPublished", this.numPublished)
+                .toString();
+    }
+
+    /**
+     * Records a failure and cancels the upstream subscription.
+     *
+     * @param throwable The failure.
+     */
+    private void fail(final Throwable throwable) {
+        this.failure.compareAndSet(null, throwable);
+        cancelUpstream();
+        drain();
+    }
+
+    /**
+     * Cancels the upstream subscription, if there is one.
+     */
+    private void cancelUpstream() {
+        final Flow.Subscription subscription = this.upstream.get();
+        if (subscription != null) {
+            subscription.cancel();
+        }
+    }
+
+    /**
+     * Starts scoring tasks for the instances received and publishes the scored ones that were requested downstream.
+     * <p>
+     * This method is called whenever something changes (an instance is received or scored, the downstream subscriber
+     * requests more instances, ...), by whichever thread made the change. Only one thread runs it at a time, which runs
+     * it again if it was called meanwhile, so that the downstream subscriber is never called concurrently.
+     */
+    private void drain() {
+        if (this.pendingDrains.getAndIncrement() != 0) {
+            return;
+        }
+
+        int missed = 1;
+        do {
+            if (this.cancelled || this.terminated) {
+                this.received.clear();
+                this.scored.clear();
+            } else {
+                startTasks();
+                publish();
+            }
+            missed = this.pendingDrains.addAndGet(-missed);
+        } while (missed != 0);
+    }
+
+    /**
+     * Starts scoring tasks while there are instances to score, up to the {@link #concurrency}.
+     */
+    private void startTasks() {
+        while (!this.received.isEmpty() && this.activeTasks.get() < this.concurrency) {
+            this.activeTasks.incrementAndGet();
+            try {
+                this.executor.execute(this::score);
+            } catch (final RejectedExecutionException e) {
+                this.activeTasks.decrementAndGet();
+                this.failure.compareAndSet(null, e);
+                cancelUpstream();
+                return;
+            }
+        }
+    }
+
+    /**
+     * Publishes the scored instances that were requested downstream, and completes or fails the downstream subscriber
+     * when there is nothing else to publish.
+     */
+    private void publish() {
+        final Flow.Subscriber<? super ScoredInstance> subscriber = this.downstream.get();
+        if (subscriber == null) {
+            return;
+        }
+
+        final Throwable throwable = this.failure.get();
+        if (throwable != null) {
+            this.terminated = true;
+            subscriber.onError(throwable);
+            return;
+        }
+
+        final long requested = this.demand.get();
+        long published = 0;
+        while (published != requested && !this.cancelled) {
+            final ScoredInstance next = pollScored();
+            if (next == null) {
+                break;
+            }
+            subscriber.onNext(next);
+            published++;
+        }
+
+        if (published > 0) {
+            if (requested != Long.MAX_VALUE) {
+                this.demand.addAndGet(-published);
+            }
+            this.upstream.get().request(published);
+        }
+
+        if (this.upstreamDone && this.numPublished == this.numReceived.get() && !this.cancelled) {
+            this.terminated = true;
+            subscriber.onComplete();
+        }
+    }
+
+    /**
+     * Takes the next scored instance to publish.
+     *
+     * @return The scored instance, or {@code null} if the next one to publish was not scored yet.
+     */
+    private ScoredInstance pollScored() {
+        final ScoredInstance next;
+        if (this.ordered) {
+            final int slot = (int) (this.numPublished % this.capacity);
+            next = this.scoredInOrder.getAndSet(slot, null);
+        } else {
+            next = this.scored.poll();
+        }
+        if (next != null) {
+            this.numPublished++;
+        }
+        return next;
+    }
+
+    /**
+     * Scores the received instances until there are none left, as one of the scoring tasks.
+     */
+    private void score() {
+        try {
+            ReceivedInstance next;
+            while (!this.cancelled && this.failure.get() == null && (next = this.received.poll()) != null) {
+                final ScoredInstance result = new ScoredInstance(
+                        next.sequence,
+                        next.instance,
+                        this.model.getClassDistribution(next.instance)
+                );
+                if (this.ordered) {
+                    this.scoredInOrder.set((int) (next.sequence % this.capacity), result);
+                } else {
+                    this.scored.offer(result);
+                }
+                drain();
+            }
+        } catch (final Throwable e) {
+            // errors are recorded as well, otherwise the instance being scored is lost and the stream never ends
+            this.failure.compareAndSet(null, e);
+            cancelUpstream();
+            if (e instanceof VirtualMachineError) {
+                // still thrown to the executor, after the failure is published
+                throw (VirtualMachineError) e;
+            }
+        } finally {
+            this.activeTasks.decrementAndGet();
+            // an instance received after the queue was found empty, but before the task ended, needs a new task
+            drain();
+        }
+    }
+
+    /**
+     * An instance received from upstream, along with its position in the input stream.
+     */
+    private static final class ReceivedInstance {
+
+        /**
+         * The position of the instance in the input stream.
+         */
+        private final long sequence;
+
+        /**
+         * The instance.
+         */
+        private final Instance instance;
+
+        /**
+         * Creates a new instance.
+         *
+         * @param sequence The position of the instance in the input stream.
+         * @param instance The instance.
+         */
+        ReceivedInstance(final long sequence, final Instance instance) {
+            this.sequence = sequence;
+            this.instance = instance;
+        }
+    }
+
+    /**
+     * Builder of {@link ScoringProcessor}s.
+     *
+     * @since 1.3.0
+     */
+    public static final class Builder {
+
+        /**
+         * The model that scores the instances.
+         */
+        private final ClassificationMLModel model;
+
+        /**
+         * The maximum number of instances held at any time.
+         */
+        private int capacity = 256;
+
+        /**
+         * The maximum number of tasks scoring instances at the same time.
+         */
+        private int concurrency = 1;
+
+        /**
+         * Whether the instances are published in the order they were received.
+         */
+        private boolean ordered = true;
+
+        /**
+         * The executor that runs the scoring tasks.
+         */
+        private Executor executor = ForkJoinPool.commonPool();
+
+        /**
+         * Creates a new builder.
+         *
+         * @param model The model that scores the instances.
+         */
+        private Builder(final ClassificationMLModel model) {
+            this.model = Preconditions.checkNotNull(model, "model should not be null");
+        }
+
+        /**
+         * Sets the maximum number of instances held by the processor at any time, from being received until their
+         * scores are published downstream.
+         *
+         * @param capacity The capacity.
+         * @return {@code this} builder.
+         */
+        public Builder capacity(final int capacity) {
+            Preconditions.checkArgument(capacity > 0, "capacity should be positive");
+            this.capacity = capacity;
+            return this;
+        }
+
+        /**
+         * Sets the maximum number of tasks scoring instances at the same time. Models that are not
+         * {@link ClassificationMLModel#isThreadSafe() thread-safe} only support a single task.
+         *
+         * @param concurrency The number of tasks.
+         * @return {@code this} builder.
+         */
+        public Builder concurrency(final int concurrency) {
+            Preconditions.checkArgument(concurrency > 0, "concurrency should be positive");
+            this.concurrency = concurrency;
+            return this;
+        }
+
+        /**
+         * Sets whether the instances are published in the order they were received, or as soon as they are scored.
+         * Ordered output may hold back scored instances behind a slow one, up to the capacity.
+         *
+         * @param ordered {@code true} to publish in order, {@code false} otherwise.
+         * @return {@code this} builder.
+         */
+        public Builder ordered(final boolean ordered) {
+            this.ordered = ordered;
+            return this;
+        }
+
+        /**
+         * Sets the executor that runs the scoring tasks.
+         *
+         * @param executor The executor.
+         * @return {@code this} builder.
+         */
+        public Builder executor(final Executor executor) {
+            this.executor = Preconditions.checkNotNull(executor, "executor should not be null");
+            return this;
+        }
+
+        /**
+         * Builds the processor.
+         *
+         * @return The processor.
+         * @throws IllegalArgumentException If the model is not thread-safe and the concurrency is greater than one.
+         */
+        public ScoringProcessor build() {
+            Preconditions.checkArgument(
+                    this.concurrency == 1 || this.model.isThreadSafe(),
+                    "A model that is not thread-safe only supports a concurrency of 1."
+            );
+            return new ScoringProcessor(this);
+        }
+    }
+}
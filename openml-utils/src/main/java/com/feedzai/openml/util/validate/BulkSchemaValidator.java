@@ -0,0 +1,129 @@
+/*
+ * Copyright 2026 Feedzai
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.feedzai.openml.util.validate;
+
+import com.feedzai.openml.data.schema.AbstractValueSchema;
+import com.feedzai.openml.data.schema.DatasetSchema;
+import com.feedzai.openml.data.schema.FieldSchema;
+import com.google.common.base.Preconditions;
+
+import java.util.BitSet;
+import java.util.List;
+import java.util.stream.IntStream;
+
+/**
+ * Validates batches of raw records against a {@link DatasetSchema}, e.g. when ingesting a training extract.
+ * <p>
+ * Instead of stopping at the first invalid value, the records are validated column by column (optionally with one
+ * column per thread), and the invalid values of each field are collected into a {@link BitSet}, available in the
+ * resulting {@link BulkValidationResult}.
+ * <p>
+ * A raw record is a {@code String[]} with one value per field of the schema, where {@code null} represents a
+ * {@link AbstractValueSchema#MISSING_VALUE missing value}. Records with a different number of values are reported as
+ * malformed and their values are not validated.
+ *
+ * @author agent (agent@local)
+ * @since 1.3.0
+ */
+public final class BulkSchemaValidator {
+
+    /**
+     * The value schema of each field of the schema.
+     */
+    private final AbstractValueSchema[] valueSchemas;
+
+    /**
+     * Whether the columns are validated in parallel.
+     */
+    private final boolean parallel;
+
+    /**
+     * Creates a new validator that validates the columns sequentially.
+     *
+     * @param schema The schema to validate the records against.
+     */
+    public BulkSchemaValidator(final DatasetSchema schema) {
+        this(schema, false);
+    }
+
+    /**
+     * Creates a new validator.
+     *
+     * @param schema   The schema to validate the records against.
+     * @param parallel Whether to validate the columns in parallel, in the common fork-join pool.
+     */
+    public BulkSchemaValidator(final DatasetSchema schema, final boolean parallel) {
+        Preconditions.checkNotNull(schema, "schema should not be null");
+
+        this.valueSchemas = schema.getFieldSchemas().stream()
+                .map(FieldSchema::getValueSchema)
+                .toArray(AbstractValueSchema[]::new);
+        this.parallel = parallel;
+    }
+
+    /**
+     * Validates a batch of raw records.
+     *
+     * @param records The raw records.
+     * @return The {@link BulkValidationResult} with the invalid values of each field.
+     */
+    public BulkValidationResult validate(final List<String[]> records) {
+        Preconditions.checkNotNull(records, "records should not be null");
+
+        final int numFields = this.valueSchemas.length;
+        final String[][] rows = records.toArray(new String[0][]);
+
+        final BitSet malformed = new BitSet(rows.length);
+        for (int row = 0; row < rows.length; row++) {
+            if (rows[row] == null || rows[row].length != numFields) {
+                malformed.set(row);
+            }
+        }
+
+        IntStream fields = IntStream.range(0, numFields);
+        if (this.parallel) {
+            fields = fields.parallel();
+        }
+        final BitSet[] errors = fields
+                .mapToObj(field -> validateColumn(rows, field, malformed))
+                .toArray(BitSet[]::new);
+
+        return new BulkValidationResult(rows.length, errors, malformed);
+    }
+
+    /**
+     * Validates the values of a field on all the records.
+     *
+     * @param rows      The raw records.
+     * @param field     The index of the field.
+     * @param malformed The records that are malformed, which are not validated.
+     * @return The records where the value of the field is invalid.
+     */
+    private BitSet validateColumn(final String[][] rows, final int field, final BitSet malformed) {
+        final AbstractValueSchema valueSchema = this.valueSchemas[field];
+        final BitSet errors = new BitSet(rows.length);
+
+        for (int row = 0; row < rows.length; row++) {
+            if (!malformed.get(row) && !valueSchema.validate(rows[row][field])) {
+                errors.set(row);
+            }
+        }
+
+        return errors;
+    }
+}
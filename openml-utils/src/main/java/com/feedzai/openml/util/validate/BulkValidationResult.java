@@ -0,0 +1,132 @@
+/*
+ * Copyright 2026 Feedzai
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.feedzai.openml.util.validate;
+
+import com.google.common.base.MoreObjects;
+
+import java.util.Arrays;
+import java.util.BitSet;
+
+/**
+ * The result of validating a batch of raw records with a {@link BulkSchemaValidator}.
+ * <p>
+ * The invalid values of each field are kept in a {@link BitSet}, where the bit of each record (in the order of the
+ * batch) is set if its value of the field is invalid.
+ *
+ * @author agent (agent@local)
+ * @since 1.3.0
+ */
+public final class BulkValidationResult {
+
+    /**
+     * The number of validated records.
+     */
+    private final int numRecords;
+
+    /**
+     * The records with an invalid value, per field.
+     */
+    private final BitSet[] fieldErrors;
+
+    /**
+     * The records that do not have one value per field.
+     */
+    private final BitSet malformedRecords;
+
+    /**
+     * Creates a new instance.
+     *
+     * @param numRecords       The number of validated records.
+     * @param fieldErrors      The records with an invalid value, per field.
+     * @param malformedRecords The records that do not have one value per field.
+     */
+    BulkValidationResult(final int numRecords, final BitSet[] fieldErrors, final BitSet malformedRecords) {
+        this.numRecords = numRecords;
+        this.fieldErrors = fieldErrors;
+        this.malformedRecords = malformedRecords;
+    }
+
+    /**
+     * Gets the number of validated records.
+     *
+     * @return The number of records.
+     */
+    public int getNumRecords() {
+        return this.numRecords;
+    }
+
+    /**
+     * Checks whether all the records are valid.
+     *
+     * @return {@code true} if there are no malformed records nor invalid values, {@code false} otherwise.
+     */
+    public boolean isValid() {
+        return this.malformedRecords.isEmpty() && Arrays.stream(this.fieldErrors).allMatch(BitSet::isEmpty);
+    }
+
+    /**
+     * Gets the records with an invalid value on the given field.
+     *
+     * @param fieldIndex The index of the field.
+     * @return A copy of the bitmap of the records with an invalid value on the field.
+     */
+    public BitSet getFieldErrors(final int fieldIndex) {
+        return (BitSet) this.fieldErrors[fieldIndex].clone();
+    }
+
+    /**
+     * Gets the number of records with an invalid value on the given field.
+     *
+     * @param fieldIndex The index of the field.
+     * @return The number of invalid values.
+     */
+    public int getNumFieldErrors(final int fieldIndex) {
+        return this.fieldErrors[fieldIndex].cardinality();
+    }
+
+    /**
+     * Gets the records that do not have one value per field of the schema.
+     *
+     * @return A copy of the bitmap of the malformed records.
+     */
+    public BitSet getMalformedRecords() {
+        return (BitSet) this.malformedRecords.clone();
+    }
+
+    /**
+     * Gets the records that are malformed or have at least one invalid value.
+     *
+     * @return A bitmap of the invalid records.
+     */
+    public BitSet getInvalidRecords() {
+        final BitSet invalid = getMalformedRecords();
+        for (final BitSet errors : this.fieldErrors) {
+            invalid.or(errors);
+        }
+        return invalid;
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(this)
+                .add("numRecords", this.numRecords)
+                .add("numInvalidRecords", getInvalidRecords().cardinality())
+                .add("numMalformedRecords", this.malformedRecords.cardinality())
+                .toString();
+    }
+}
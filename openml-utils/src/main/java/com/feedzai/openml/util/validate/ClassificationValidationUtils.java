@@ -17,20 +17,27 @@
 
 package com.feedzai.openml.util.validate;
 
+import com.feedzai.openml.data.Instance;
 import com.feedzai.openml.data.schema.DatasetSchema;
 import com.feedzai.openml.mocks.MockDataset;
 import com.feedzai.openml.model.ClassificationMLModel;
 import com.feedzai.openml.provider.descriptor.fieldtype.ParamValidationError;
 import com.feedzai.openml.provider.exception.ModelLoadingException;
 import com.feedzai.openml.provider.model.MachineLearningModelLoader;
+import com.feedzai.openml.util.model.ModelWarmUp;
+import com.feedzai.openml.util.model.WarmUpReport;
 import com.google.common.base.Preconditions;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
 import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
-import java.util.Random;
 import java.util.stream.Collectors;
 
 /**
@@ -46,6 +53,11 @@ public final class ClassificationValidationUtils {
      */
     private static final Logger logger = LoggerFactory.getLogger(ClassificationValidationUtils.class);
 
+    /**
+     * The maximum time to spend warming up a model before qualifying it.
+     */
+    private static final Duration MAX_WARM_UP_DURATION = Duration.ofSeconds(30);
+
     /**
      * Constructor for utility class.
      */
@@ -63,9 +75,9 @@ public final class ClassificationValidationUtils {
         Preconditions.checkNotNull(schema, "schema cannot be null");
         Preconditions.checkNotNull(model, "model cannot be null");
 
-        final MockDataset mockDataset = new MockDataset(schema, 1, new Random(0));
+        final Instance instance = MockDataset.randomInstances(schema, 1, 0)[0];
         try {
-            model.classify(mockDataset.instance(0));
+            model.classify(instance);
         } catch (final RuntimeException e) {
             final String msg = String.format("Model classification is not compatible with the given schema %s.", schema);
 
@@ -73,7 +85,7 @@ public final class ClassificationValidationUtils {
             throw new ModelLoadingException(msg, e);
         }
         try {
-            model.getClassDistribution(mockDataset.instance(0));
+            model.getClassDistribution(instance);
         } catch (final RuntimeException e) {
             final String msg = "Model does not support class distribution.";
 
@@ -82,6 +94,138 @@ public final class ClassificationValidationUtils {
         }
     }
 
+    /**
+     * Qualifies a classification model for production traffic: after {@link #validateClassificationModel validating}
+     * it, scores random instances generated from the schema (see {@link MockDataset#randomInstances}) and checks that
+     * the median and 99th percentile latencies, and the memory allocated per score, are within the given budget. The
+     * model is first warmed up with the same instances by a {@link ModelWarmUp}, which stops before the warm-up scores
+     * of the budget if the latency stabilises.
+     * <p>
+     * The scores run on the calling thread, which should therefore not be shared with other work while qualifying.
+     *
+     * @param schema Schema of the loaded model.
+     * @param model  Loaded model.
+     * @param budget The budget that the model must meet.
+     * @return The measurements of the model.
+     * @throws ModelLoadingException If the model has validation problems, fails to score or exceeds the budget.
+     * @since 1.3.0
+     */
+    public static QualificationReport qualifyClassificationModel(final DatasetSchema schema,
+                                                                 final ClassificationMLModel model,
+                                                                 final QualificationBudget budget)
+            throws ModelLoadingException {
+        Preconditions.checkNotNull(budget, "budget cannot be null");
+        validateClassificationModel(schema, model);
+
+        final Instance[] instances = MockDataset.randomInstances(schema, budget.getNumInstances(), budget.getSeed());
+
+        final long[] latencies = new long[budget.getNumScores()];
+        double sink = 0;
+        try {
+            if (budget.getWarmUpScores() > 0) {
+                final WarmUpReport warmUp = ModelWarmUp.builder()
+                        .budget(MAX_WARM_UP_DURATION, budget.getWarmUpScores())
+                        .build()
+                        .warmUp(model, instances);
+                logger.debug("Warmed up model {} before qualifying it: {}.", model, warmUp);
+            }
+
+            final long allocatedBefore = allocatedBytes();
+            for (int i = 0; i < latencies.length; i++) {
+                final long before = System.nanoTime();
+                sink += model.getClassDistribution(instances[i % instances.length])[0];
+                latencies[i] = System.nanoTime() - before;
+            }
+            final long allocatedAfter = allocatedBytes();
+
+            Arrays.sort(latencies);
+            final QualificationReport report = new QualificationReport(
+                    latencies.length,
+                    percentile(latencies, 0.5),
+                    percentile(latencies, 0.99),
+                    allocatedBefore < 0 ? -1 : (double) (allocatedAfter - allocatedBefore) / latencies.length
+            );
+            logger.debug("Qualifying model {} (checksum {}): {}.", model, sink, report);
+
+            checkBudget(report, budget);
+            return report;
+
+        } catch (final RuntimeException e) {
+            final String msg = "Model failed to score the qualification instances.";
+
+            logger.error(msg, e);
+            throw new ModelLoadingException(msg, e);
+        }
+    }
+
+    /**
+     * Checks that the measurements of a model are within a budget.
+     *
+     * @param report The measurements of the model.
+     * @param budget The budget.
+     * @throws ModelLoadingException If the model exceeds the budget.
+     */
+    private static void checkBudget(final QualificationReport report,
+                                    final QualificationBudget budget) throws ModelLoadingException {
+        final List<String> violations = new ArrayList<>();
+
+        budget.getMaxMedianLatency()
+                .filter(max -> report.getMedianLatency().compareTo(max) > 0)
+                .ifPresent(max -> violations.add(String.format(
+                        "median latency %s exceeds %s", report.getMedianLatency(), max
+                )));
+        budget.getMaxP99Latency()
+                .filter(max -> report.getP99Latency().compareTo(max) > 0)
+                .ifPresent(max -> violations.add(String.format(
+                        "p99 latency %s exceeds %s", report.getP99Latency(), max
+                )));
+        if (budget.getMaxAllocatedBytesPerScore().isPresent() && report.getAllocatedBytesPerScore() >= 0) {
+            final long max = budget.getMaxAllocatedBytesPerScore().getAsLong();
+            if (report.getAllocatedBytesPerScore() > max) {
+                violations.add(String.format(
+                        "allocation of %.1f bytes per score exceeds %d", report.getAllocatedBytesPerScore(), max
+                ));
+            }
+        }
+
+        if (!violations.isEmpty()) {
+            final String msg = String.format(
+                    "Model exceeds the qualification budget: %s.", String.join(", ", violations)
+            );
+
+            logger.error(msg);
+            throw new ModelLoadingException(msg);
+        }
+    }
+
+    /**
+     * Gets a percentile of the given values.
+     *
+     * @param sorted     The values, in ascending order.
+     * @param percentile The percentile, between 0 and 1.
+     * @return The smallest value that is greater than or equal to the given percentage of the values.
+     */
+    private static long percentile(final long[] sorted, final double percentile) {
+        final int index = (int) Math.ceil(percentile * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(sorted.length - 1, index))];
+    }
+
+    /**
+     * Gets the number of bytes allocated so far by the current thread.
+     *
+     * @return The number of bytes, or {@code -1} if the JVM cannot measure it.
+     */
+    private static long allocatedBytes() {
+        final ThreadMXBean threadBean = ManagementFactory.getThreadMXBean();
+        if (threadBean instanceof com.sun.management.ThreadMXBean) {
+            final com.sun.management.ThreadMXBean allocationBean = (com.sun.management.ThreadMXBean) threadBean;
+            if (allocationBean.isThreadAllocatedMemorySupported() && allocationBean.isThreadAllocatedMemoryEnabled()) {
+                return allocationBean.getThreadAllocatedBytes(Thread.currentThread().getId());
+            }
+        }
+        return -1;
+    }
+
     /**
      * Validates that the model to load can be used with the given parameters.
      *
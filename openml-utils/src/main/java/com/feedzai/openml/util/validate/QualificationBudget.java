@@ -0,0 +1,308 @@
+/*
+ * Copyright 2026 Feedzai
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.feedzai.openml.util.validate;
+
+import com.feedzai.openml.model.ClassificationMLModel;
+import com.google.common.base.MoreObjects;
+import com.google.common.base.Preconditions;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.OptionalLong;
+
+/**
+ * The budgets that a {@link ClassificationMLModel} must meet to be qualified for production traffic by
+ * {@link ClassificationValidationUtils#qualifyClassificationModel}, along with how the measurements are taken.
+ * <p>
+ * Every budget is optional: a qualification without budgets only measures the model.
+ *
+ * @author agent (agent@local)
+ * @since 1.3.0
+ */
+public final class QualificationBudget {
+
+    /**
+     * The number of scores that are not measured, to let the JIT compile the provider's code.
+     */
+    private final int warmUpScores;
+
+    /**
+     * The number of measured scores.
+     */
+    private final int numScores;
+
+    /**
+     * The number of distinct instances generated to score.
+     */
+    private final int numInstances;
+
+    /**
+     * The seed of the random generator of the instances.
+     */
+    private final long seed;
+
+    /**
+     * The maximum median latency of a score, or {@code null} if unlimited.
+     */
+    private final Duration maxMedianLatency;
+
+    /**
+     * The maximum 99th percentile latency of a score, or {@code null} if unlimited.
+     */
+    private final Duration maxP99Latency;
+
+    /**
+     * The maximum number of bytes allocated per score, or {@code -1} if unlimited.
+     */
+    private final long maxAllocatedBytesPerScore;
+
+    /**
+     * Creates a new instance.
+     *
+     * @param builder The builder with the configuration of the budget.
+     */
+    private QualificationBudget(final Builder builder) {
+        this.warmUpScores = builder.warmUpScores;
+        this.numScores = builder.numScores;
+        this.numInstances = builder.numInstances;
+        this.seed = builder.seed;
+        this.maxMedianLatency = builder.maxMedianLatency;
+        this.maxP99Latency = builder.maxP99Latency;
+        this.maxAllocatedBytesPerScore = builder.maxAllocatedBytesPerScore;
+    }
+
+    /**
+     * Creates a builder of budgets, without any limit.
+     *
+     * @return The builder.
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Gets the maximum number of scores that are not measured, to let the JIT compile the provider's code. Fewer are
+     * run if the latency stabilises first.
+     *
+     * @return The number of warm-up scores.
+     */
+    public int getWarmUpScores() {
+        return this.warmUpScores;
+    }
+
+    /**
+     * Gets the number of measured scores.
+     *
+     * @return The number of scores.
+     */
+    public int getNumScores() {
+        return this.numScores;
+    }
+
+    /**
+     * Gets the number of distinct instances generated to score, which are scored repeatedly.
+     *
+     * @return The number of instances.
+     */
+    public int getNumInstances() {
+        return this.numInstances;
+    }
+
+    /**
+     * Gets the seed of the random generator of the instances.
+     *
+     * @return The seed.
+     */
+    public long getSeed() {
+        return this.seed;
+    }
+
+    /**
+     * Gets the maximum median latency of a score.
+     *
+     * @return The maximum latency, or empty if unlimited.
+     */
+    public Optional<Duration> getMaxMedianLatency() {
+        return Optional.ofNullable(this.maxMedianLatency);
+    }
+
+    /**
+     * Gets the maximum 99th percentile latency of a score.
+     *
+     * @return The maximum latency, or empty if unlimited.
+     */
+    public Optional<Duration> getMaxP99Latency() {
+        return Optional.ofNullable(this.maxP99Latency);
+    }
+
+    /**
+     * Gets the maximum number of bytes allocated per score.
+     *
+     * @return The maximum number of bytes, or empty if unlimited.
+     */
+    public OptionalLong getMaxAllocatedBytesPerScore() {
+        return this.maxAllocatedBytesPerScore < 0
+                ? OptionalLong.empty()
+                : OptionalLong.of(this.maxAllocatedBytesPerScore);
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(this)
+                .add("warmUpScores", this.warmUpScores)
+                .add("numScores", this.numScores)
+                .add("numInstances", this.numInstances)
+                .add("maxMedianLatency", this.maxMedianLatency)
+                .add("maxP99Latency", this.maxP99Latency)
+                .add("maxAllocatedBytesPerScore", this.maxAllocatedBytesPerScore)
+                .toString();
+    }
+
+    /**
+     * Builder of {@link QualificationBudget}s.
+     *
+     * @since 1.3.0
+     */
+    public static final class Builder {
+
+        /**
+         * The number of scores that are not measured.
+         */
+        private int warmUpScores = 1000;
+
+        /**
+         * The number of measured scores.
+         */
+        private int numScores = 10_000;
+
+        /**
+         * The number of distinct instances generated to score.
+         */
+        private int numInstances = 1024;
+
+        /**
+         * The seed of the random generator of the instances.
+         */
+        private long seed = 0;
+
+        /**
+         * The maximum median latency of a score, or {@code null} if unlimited.
+         */
+        private Duration maxMedianLatency;
+
+        /**
+         * The maximum 99th percentile latency of a score, or {@code null} if unlimited.
+         */
+        private Duration maxP99Latency;
+
+        /**
+         * The maximum number of bytes allocated per score, or {@code -1} if unlimited.
+         */
+        private long maxAllocatedBytesPerScore = -1;
+
+        /**
+         * Creates a new builder.
+         */
+        private Builder() {
+        }
+
+        /**
+         * Sets the number of scores, split in the ones that warm up the model and the ones that are measured.
+         *
+         * @param warmUpScores The maximum number of scores that are not measured.
+         * @param numScores    The number of measured scores.
+         * @return {@code this} builder.
+         */
+        public Builder scores(final int warmUpScores, final int numScores) {
+            Preconditions.checkArgument(warmUpScores >= 0, "number of warm-up scores should not be negative");
+            Preconditions.checkArgument(numScores > 0, "number of scores should be positive");
+            this.warmUpScores = warmUpScores;
+            this.numScores = numScores;
+            return this;
+        }
+
+        /**
+         * Sets the number of distinct instances generated to score, which are scored repeatedly.
+         *
+         * @param numInstances The number of instances.
+         * @return {@code this} builder.
+         */
+        public Builder numInstances(final int numInstances) {
+            Preconditions.checkArgument(numInstances > 0, "number of instances should be positive");
+            this.numInstances = numInstances;
+            return this;
+        }
+
+        /**
+         * Sets the seed of the random generator of the instances.
+         *
+         * @param seed The seed.
+         * @return {@code this} builder.
+         */
+        public Builder seed(final long seed) {
+            this.seed = seed;
+            return this;
+        }
+
+        /**
+         * Sets the maximum median latency of a score.
+         *
+         * @param maxMedianLatency The maximum latency.
+         * @return {@code this} builder.
+         */
+        public Builder maxMedianLatency(final Duration maxMedianLatency) {
+            Preconditions.checkArgument(!maxMedianLatency.isNegative(), "maximum latency should not be negative");
+            this.maxMedianLatency = maxMedianLatency;
+            return this;
+        }
+
+        /**
+         * Sets the maximum 99th percentile latency of a score.
+         *
+         * @param maxP99Latency The maximum latency.
+         * @return {@code this} builder.
+         */
+        public Builder maxP99Latency(final Duration maxP99Latency) {
+            Preconditions.checkArgument(!maxP99Latency.isNegative(), "maximum latency should not be negative");
+            this.maxP99Latency = maxP99Latency;
+            return this;
+        }
+
+        /**
+         * Sets the maximum number of bytes allocated per score, on average. This budget is only enforced on JVMs that
+         * can measure the memory allocated by a thread.
+         *
+         * @param maxAllocatedBytesPerScore The maximum number of bytes.
+         * @return {@code this} builder.
+         */
+        public Builder maxAllocatedBytesPerScore(final long maxAllocatedBytesPerScore) {
+            Preconditions.checkArgument(maxAllocatedBytesPerScore >= 0, "maximum bytes should not be negative");
+            this.maxAllocatedBytesPerScore = maxAllocatedBytesPerScore;
+            return this;
+        }
+
+        /**
+         * Builds the budget.
+         *
+         * @return The budget.
+         */
+        public QualificationBudget build() {
+            return new QualificationBudget(this);
+        }
+    }
+}
@@ -0,0 +1,117 @@
+/*
+ * Copyright 2026 Feedzai
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.feedzai.openml.util.validate;
+
+import com.google.common.base.MoreObjects;
+
+import java.time.Duration;
+
+/**
+ * The measurements taken by {@link ClassificationValidationUtils#qualifyClassificationModel} of a model that was
+ * qualified for production traffic.
+ *
+ * @author agent (agent@local)
+ * @since 1.3.0
+ */
+public final class QualificationReport {
+
+    /**
+     * The number of measured scores.
+     */
+    private final int numScores;
+
+    /**
+     * The median latency of a score, in nanoseconds.
+     */
+    private final long medianLatencyNanos;
+
+    /**
+     * The 99th percentile latency of a score, in nanoseconds.
+     */
+    private final long p99LatencyNanos;
+
+    /**
+     * The average number of bytes allocated per score, or {@code -1} if it could not be measured.
+     */
+    private final double allocatedBytesPerScore;
+
+    /**
+     * Creates a new instance.
+     *
+     * @param numScores              The number of measured scores.
+     * @param medianLatencyNanos     The median latency of a score, in nanoseconds.
+     * @param p99LatencyNanos        The 99th percentile latency of a score, in nanoseconds.
+     * @param allocatedBytesPerScore The average number of bytes allocated per score, or {@code -1} if it could not be
+     *                               measured.
+     */
+    QualificationReport(final int numScores,
+                        final long medianLatencyNanos,
+                        final long p99LatencyNanos,
+                        final double allocatedBytesPerScore) {
+        this.numScores = numScores;
+        this.medianLatencyNanos = medianLatencyNanos;
+        this.p99LatencyNanos = p99LatencyNanos;
+        this.allocatedBytesPerScore = allocatedBytesPerScore;
+    }
+
+    /**
+     * Gets the number of measured scores.
+     *
+     * @return The number of scores.
+     */
+    public int getNumScores() {
+        return this.numScores;
+    }
+
+    /**
+     * Gets the median latency of a score.
+     *
+     * @return The latency.
+     */
+    public Duration getMedianLatency() {
+        return Duration.ofNanos(this.medianLatencyNanos);
+    }
+
+    /**
+     * Gets the 99th percentile latency of a score.
+     *
+     * @return The latency.
+     */
+    public Duration getP99Latency() {
+        return Duration.ofNanos(this.p99LatencyNanos);
+    }
+
+    /**
+     * Gets the average number of bytes allocated per score, which includes the allocations of the model's result.
+     *
+     * @return The number of bytes, or {@code -1} if the JVM cannot measure the memory allocated by a thread.
+     */
+    public double getAllocatedBytesPerScore() {
+        return this.allocatedBytesPerScore;
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(this)
+                .add("numScores", this.numScores)
+                .add("medianLatencyNanos", this.medianLatencyNanos)
+                .add("p99LatencyNanos", this.p99LatencyNanos)
+                .add("allocatedBytesPerScore", this.allocatedBytesPerScore)
+                .toString();
+    }
+}
@@ -0,0 +1,168 @@
+/*
+ * Copyright 2026 Feedzai
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.feedzai.openml.mocks;
+
+import com.feedzai.openml.data.Instance;
+import com.feedzai.openml.data.schema.DatasetSchema;
+import com.feedzai.openml.model.ClassificationMLModel;
+
+import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * Mock class implementation for a classification model, to use in tests.
+ * <p>
+ * Its distributions are computed by a given function, and it counts how many instances it scored and how many times
+ * it was closed. Tests that need more behaviour (e.g. blocking while scoring) extend it.
+ *
+ * @author agent (agent@local)
+ * @since 1.3.0
+ */
+public class MockClassificationModel implements ClassificationMLModel {
+
+    /**
+     * The schema of the model.
+     */
+    private final DatasetSchema schema;
+
+    /**
+     * Whether the model is thread-safe.
+     */
+    private final boolean threadSafe;
+
+    /**
+     * The function that computes the distribution of each instance.
+     */
+    private final Function<? super Instance, double[]> distribution;
+
+    /**
+     * The number of instances scored.
+     */
+    private final AtomicInteger scores = new AtomicInteger();
+
+    /**
+     * The number of times the model was closed.
+     */
+    private final AtomicInteger closes = new AtomicInteger();
+
+    /**
+     * Creates a new thread-safe instance that always returns the same distribution.
+     *
+     * @param schema       The schema of the model.
+     * @param distribution The distribution of every instance.
+     */
+    public MockClassificationModel(final DatasetSchema schema, final double... distribution) {
+        this(schema, true, distribution);
+    }
+
+    /**
+     * Creates a new thread-safe instance.
+     *
+     * @param schema       The schema of the model.
+     * @param distribution The function that computes the distribution of each instance.
+     */
+    public MockClassificationModel(final DatasetSchema schema,
+                                   final Function<? super Instance, double[]> distribution) {
+        this(schema, true, distribution);
+    }
+
+    /**
+     * Creates a new instance that always returns the same distribution.
+     *
+     * @param schema       The schema of the model.
+     * @param threadSafe   Whether the model is thread-safe.
+     * @param distribution The distribution of every instance.
+     */
+    public MockClassificationModel(final DatasetSchema schema,
+                                   final boolean threadSafe,
+                                   final double... distribution) {
+        this(schema, threadSafe, instance -> distribution.clone());
+    }
+
+    /**
+     * Creates a new instance.
+     *
+     * @param schema       The schema of the model.
+     * @param threadSafe   Whether the model is thread-safe.
+     * @param distribution The function that computes the distribution of each instance.
+     */
+    public MockClassificationModel(final DatasetSchema schema,
+                                   final boolean threadSafe,
+                                   final Function<? super Instance, double[]> distribution) {
+        this.schema = schema;
+        this.threadSafe = threadSafe;
+        this.distribution = distribution;
+    }
+
+    @Override
+    public double[] getClassDistribution(final Instance instance) {
+        this.scores.incrementAndGet();
+        return this.distribution.apply(instance);
+    }
+
+    @Override
+    public int classify(final Instance instance) {
+        final double[] classDistribution = this.distribution.apply(instance);
+        int best = 0;
+        for (int i = 1; i < classDistribution.length; i++) {
+            if (classDistribution[i] > classDistribution[best]) {
+                best = i;
+            }
+        }
+        return best;
+    }
+
+    @Override
+    public boolean save(final Path dir, final String name) {
+        return false;
+    }
+
+    @Override
+    public DatasetSchema getSchema() {
+        return this.schema;
+    }
+
+    @Override
+    public boolean isThreadSafe() {
+        return this.threadSafe;
+    }
+
+    @Override
+    public void close() {
+        this.closes.incrementAndGet();
+    }
+
+    /**
+     * Gets the number of instances scored.
+     *
+     * @return The number of instances scored.
+     */
+    public int getScores() {
+        return this.scores.get();
+    }
+
+    /**
+     * Gets the number of times the model was closed.
+     *
+     * @return The number of times the model was closed.
+     */
+    public int getCloses() {
+        return this.closes.get();
+    }
+}
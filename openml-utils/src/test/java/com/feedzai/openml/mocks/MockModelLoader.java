@@ -0,0 +1,117 @@
+/*
+ * Copyright 2026 Feedzai
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.feedzai.openml.mocks;
+
+import com.feedzai.openml.data.schema.DatasetSchema;
+import com.feedzai.openml.model.MachineLearningModel;
+import com.feedzai.openml.provider.descriptor.fieldtype.ParamValidationError;
+import com.feedzai.openml.provider.exception.ModelLoadingException;
+import com.feedzai.openml.provider.model.MachineLearningModelLoader;
+import com.google.common.collect.ImmutableList;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntPredicate;
+import java.util.function.Supplier;
+
+/**
+ * Mock class implementation for a model loader, to use in tests.
+ * <p>
+ * It creates the models with a given supplier, records the models it loads, and fails the load attempts chosen by a
+ * given predicate.
+ *
+ * @param <M> The type of the models.
+ * @author agent (agent@local)
+ * @since 1.3.0
+ */
+public class MockModelLoader<M extends MachineLearningModel> implements MachineLearningModelLoader<M> {
+
+    /**
+     * The schema of the models.
+     */
+    private final DatasetSchema schema;
+
+    /**
+     * Whether the load attempt with a given index (starting at {@code 0}) fails.
+     */
+    private final IntPredicate failures;
+
+    /**
+     * The supplier of the models.
+     */
+    private final Supplier<? extends M> models;
+
+    /**
+     * The number of load attempts.
+     */
+    private final AtomicInteger attempts = new AtomicInteger();
+
+    /**
+     * The models loaded, by the order they were loaded.
+     */
+    private final List<M> loadedModels = new CopyOnWriteArrayList<>();
+
+    /**
+     * Creates a new instance.
+     *
+     * @param schema   The schema of the models.
+     * @param failures Whether the load attempt with a given index (starting at {@code 0}) fails.
+     * @param models   The supplier of the models.
+     */
+    public MockModelLoader(final DatasetSchema schema,
+                           final IntPredicate failures,
+                           final Supplier<? extends M> models) {
+        this.schema = schema;
+        this.failures = failures;
+        this.models = models;
+    }
+
+    @Override
+    public M loadModel(final Path modelPath, final DatasetSchema schema) throws ModelLoadingException {
+        if (this.failures.test(this.attempts.getAndIncrement())) {
+            throw new ModelLoadingException(String.format("Could not load model %s.", modelPath));
+        }
+        final M model = this.models.get();
+        this.loadedModels.add(model);
+        return model;
+    }
+
+    @Override
+    public List<ParamValidationError> validateForLoad(final Path modelPath,
+                                                      final DatasetSchema schema,
+                                                      final Map<String, String> params) {
+        return ImmutableList.of();
+    }
+
+    @Override
+    public DatasetSchema loadSchema(final Path modelPath) {
+        return this.schema;
+    }
+
+    /**
+     * Gets the models loaded, by the order they were loaded.
+     *
+     * @return The models loaded.
+     */
+    public List<M> getLoadedModels() {
+        return this.loadedModels;
+    }
+}
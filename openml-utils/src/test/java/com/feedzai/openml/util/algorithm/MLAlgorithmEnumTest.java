@@ -156,6 +156,83 @@ public class MLAlgorithmEnumTest {
                 .isPresent()
                 .contains(DummyAlgorithmEnum.DUMMY);
 
+        assertThat(MLAlgorithmEnum.getByName(new DummyAlgorithmEnum[0], DummyAlgorithmEnum.DUMMY.getName()))
+                .as("The get by name for an existing name not in the given values")
+                .isEmpty();
+
+        final PairAlgorithmEnum[] repeated = {PairAlgorithmEnum.FIRST, PairAlgorithmEnum.FIRST};
+        assertThat(MLAlgorithmEnum.getByName(repeated, PairAlgorithmEnum.SECOND.getName()))
+                .as("The get by name for a name not in values with as many elements as the enum has constants")
+                .isEmpty();
+        assertThat(MLAlgorithmEnum.getByName(repeated, PairAlgorithmEnum.FIRST.getName()))
+                .as("The get by name for a name in values with as many elements as the enum has constants")
+                .contains(PairAlgorithmEnum.FIRST);
+    }
+
+    /**
+     * Tests that the {@link MLAlgorithmEnum#getByName(MLAlgorithmEnum[], String)} finds the algorithms when the same
+     * array of values is passed on every call, as well as when other arrays are passed between those calls.
+     */
+    @Test
+    public void testGetByNameCachedValues() {
+        final PairAlgorithmEnum[] values = PairAlgorithmEnum.values();
+
+        for (int i = 0; i < 3; i++) {
+            assertThat(MLAlgorithmEnum.getByName(values, PairAlgorithmEnum.SECOND.getName()))
+                    .as("The get by name with the same array of values, on call %d", i)
+                    .contains(PairAlgorithmEnum.SECOND);
+        }
+
+        final PairAlgorithmEnum[] other = {PairAlgorithmEnum.SECOND};
+        assertThat(MLAlgorithmEnum.getByName(other, PairAlgorithmEnum.FIRST.getName()))
+                .as("The get by name with another array, for a name not in it")
+                .isEmpty();
+        assertThat(MLAlgorithmEnum.getByName(PairAlgorithmEnum.values(), PairAlgorithmEnum.FIRST.getName()))
+                .as("The get by name with a new array of all the values")
+                .contains(PairAlgorithmEnum.FIRST);
+        assertThat(MLAlgorithmEnum.getByName(values, PairAlgorithmEnum.FIRST.getName()))
+                .as("The get by name with the first array of values again")
+                .contains(PairAlgorithmEnum.FIRST);
+    }
+
+    /**
+     * An enum with two algorithms.
+     */
+    private enum PairAlgorithmEnum implements MLAlgorithmEnum {
+
+        /**
+         * The first algorithm.
+         */
+        FIRST("First Algorithm"),
+
+        /**
+         * The second algorithm.
+         */
+        SECOND("Second Algorithm");
+
+        /**
+         * {@link MLAlgorithmDescriptor} for this algorithm.
+         */
+        private final MLAlgorithmDescriptor descriptor;
+
+        /**
+         * Constructor.
+         *
+         * @param name The name of the algorithm.
+         */
+        PairAlgorithmEnum(final String name) {
+            this.descriptor = MLAlgorithmEnum.createDescriptor(
+                    name,
+                    ImmutableSet.of(),
+                    MachineLearningAlgorithmType.MULTI_CLASSIFICATION,
+                    "https://feedzai.com/"
+            );
+        }
+
+        @Override
+        public MLAlgorithmDescriptor getAlgorithmDescriptor() {
+            return this.descriptor;
+        }
     }
 
 }
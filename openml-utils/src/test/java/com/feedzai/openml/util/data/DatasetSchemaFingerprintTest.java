@@ -0,0 +1,117 @@
+/*
+ * Copyright 2026 Feedzai
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.feedzai.openml.util.data;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.feedzai.openml.data.schema.CategoricalValueSchema;
+import com.feedzai.openml.data.schema.DatasetSchema;
+import com.feedzai.openml.data.schema.FieldSchema;
+import com.feedzai.openml.data.schema.NumericValueSchema;
+import com.feedzai.openml.util.jackson.SerializersInModule;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for the {@link DatasetSchemaFingerprint}.
+ *
+ * @author agent (agent@local)
+ * @since 1.3.0
+ */
+public class DatasetSchemaFingerprintTest {
+
+    /**
+     * Tests that equal schemas have the same fingerprint, and that any structural change changes it.
+     */
+    @Test
+    public void testFingerprint() {
+        final String fingerprint = DatasetSchemaFingerprint.of(createSchema(1, false, "a", "b"));
+
+        assertThat(fingerprint)
+                .as("The fingerprint is 128 bits in hexadecimal")
+                .matches("[0-9a-f]{32}");
+        assertThat(DatasetSchemaFingerprint.of(createSchema(1, false, "b", "a")))
+                .as("The fingerprint of an equal schema")
+                .isEqualTo(fingerprint);
+
+        assertThat(DatasetSchemaFingerprint.of(createSchema(-1, false, "a", "b")))
+                .as("The fingerprint of a schema with a different target")
+                .isNotEqualTo(fingerprint);
+        assertThat(DatasetSchemaFingerprint.of(createSchema(1, true, "a", "b")))
+                .as("The fingerprint of a schema that allows different missing values")
+                .isNotEqualTo(fingerprint);
+        assertThat(DatasetSchemaFingerprint.of(createSchema(1, false, "a", "c")))
+                .as("The fingerprint of a schema with different nominal values")
+                .isNotEqualTo(fingerprint);
+        assertThat(DatasetSchemaFingerprint.of(createSchema(1, false, "ab")))
+                .as("The fingerprint of a schema with concatenated nominal values")
+                .isNotEqualTo(fingerprint);
+    }
+
+    /**
+     * Tests that the fingerprint is written in the json of the schema, and that a schema that does not match it, or
+     * whose fingerprint has another encoding version, is still read.
+     *
+     * @throws Exception If the schema cannot be serialized.
+     */
+    @Test
+    public void testJsonFingerprint() throws Exception {
+        final ObjectMapper mapper = new ObjectMapper();
+        mapper.registerModule(new SerializersInModule());
+
+        final DatasetSchema schema = createSchema(1, false, "a", "b");
+        final String fingerprint = DatasetSchemaFingerprint.of(schema);
+        final String json = mapper.writeValueAsString(schema);
+
+        assertThat(json)
+                .as("The json of the schema starts with the fingerprint")
+                .startsWith("{\"fingerprint\":\"" + fingerprint + "\",\"fingerprintVersion\":1,");
+        assertThat(mapper.readValue(json, DatasetSchema.class))
+                .as("The schema read from json")
+                .isEqualTo(schema);
+
+        final String tampered = json.replace("\"b\"", "\"c\"");
+        assertThat(mapper.readValue(tampered, DatasetSchema.class))
+                .as("The schema read from json that does not match its fingerprint")
+                .isEqualTo(createSchema(1, false, "a", "c"));
+
+        final String otherVersion = json.replace("\"fingerprintVersion\":1", "\"fingerprintVersion\":2");
+        assertThat(mapper.readValue(otherVersion, DatasetSchema.class))
+                .as("The schema read from json with a fingerprint of another encoding version")
+                .isEqualTo(schema);
+    }
+
+    /**
+     * Creates a schema with a numeric field and a categorical field.
+     *
+     * @param targetIndex   The index of the target field.
+     * @param allowMissing  Whether the categorical field allows missing values.
+     * @param nominalValues The nominal values of the categorical field.
+     * @return The schema.
+     */
+    private static DatasetSchema createSchema(final int targetIndex,
+                                              final boolean allowMissing,
+                                              final String... nominalValues) {
+        return new DatasetSchema(targetIndex, ImmutableList.of(
+                new FieldSchema("numeric", 0, new NumericValueSchema(false)),
+                new FieldSchema("category", 1, new CategoricalValueSchema(allowMissing, ImmutableSet.copyOf(nominalValues)))
+        ));
+    }
+}
@@ -0,0 +1,101 @@
+/*
+ * Copyright 2026 Feedzai
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.feedzai.openml.util.data;
+
+import com.feedzai.openml.data.schema.CategoricalValueSchema;
+import com.feedzai.openml.data.schema.DatasetSchema;
+import com.feedzai.openml.data.schema.FieldSchema;
+import com.feedzai.openml.data.schema.NumericValueSchema;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for the {@link DatasetSchemaInterner}.
+ *
+ * @author agent (agent@local)
+ * @since 1.3.0
+ */
+public class DatasetSchemaInternerTest {
+
+    /**
+     * Tests that structurally equal schemas are interned into the same instance, sharing all their parts.
+     */
+    @Test
+    public void testEqualSchemasAreInterned() {
+        final DatasetSchemaInterner interner = new DatasetSchemaInterner();
+
+        final DatasetSchema first = interner.intern(createSchema("a", "b", "c"));
+        final DatasetSchema second = interner.intern(createSchema("a", "b", "c"));
+
+        assertThat(second)
+                .as("The canonical instance of an equal schema")
+                .isSameAs(first);
+        assertThat(interner.intern(first))
+                .as("Interning a canonical schema")
+                .isSameAs(first);
+    }
+
+    /**
+     * Tests that different schemas keep being different, but share their common fields and nominal values.
+     */
+    @Test
+    public void testCommonPartsAreShared() {
+        final DatasetSchemaInterner interner = new DatasetSchemaInterner();
+
+        final DatasetSchema first = interner.intern(createSchema("a", "b", "c"));
+        final DatasetSchema withOtherTarget = interner.intern(
+                new DatasetSchema(-1, createSchema("a", "b", "c").getFieldSchemas())
+        );
+
+        assertThat(withOtherTarget)
+                .as("The canonical instance of a schema with a different target")
+                .isNotSameAs(first)
+                .isEqualTo(new DatasetSchema(-1, first.getFieldSchemas()));
+        assertThat(withOtherTarget.getFieldSchemas().get(1))
+                .as("The common field of both schemas")
+                .isSameAs(first.getFieldSchemas().get(1));
+
+        final CategoricalValueSchema target = (CategoricalValueSchema) first.getFieldSchemas().get(1).getValueSchema();
+        final CategoricalValueSchema withMissing = (CategoricalValueSchema) interner.intern(
+                new CategoricalValueSchema(true, ImmutableSet.of("c", "b", "a"))
+        );
+
+        assertThat(withMissing)
+                .as("A categorical value schema with different missing values")
+                .isNotEqualTo(target);
+        assertThat(withMissing.getNominalValues())
+                .as("The nominal values of categorical value schemas with the same values")
+                .isSameAs(target.getNominalValues());
+    }
+
+    /**
+     * Creates a schema with a numeric field and a categorical target with the given values.
+     *
+     * @param nominalValues The nominal values of the target.
+     * @return The schema.
+     */
+    private static DatasetSchema createSchema(final String... nominalValues) {
+        return new DatasetSchema(1, ImmutableList.of(
+                new FieldSchema("numeric", 0, new NumericValueSchema(false)),
+                new FieldSchema("target", 1, new CategoricalValueSchema(false, ImmutableSet.copyOf(nominalValues)))
+        ));
+    }
+}
@@ -0,0 +1,115 @@
+/*
+ * Copyright 2026 Feedzai
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.feedzai.openml.util.data;
+
+import com.feedzai.openml.data.Instance;
+import com.feedzai.openml.data.schema.CategoricalValueSchema;
+import com.feedzai.openml.data.schema.DatasetSchema;
+import com.feedzai.openml.data.schema.FieldSchema;
+import com.feedzai.openml.data.schema.NumericValueSchema;
+import com.feedzai.openml.data.schema.StringValueSchema;
+import com.feedzai.openml.mocks.MockInstance;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for the {@link SchemaProjection}.
+ *
+ * @author agent (agent@local)
+ * @since 1.3.0
+ */
+public class SchemaProjectionTest {
+
+    /**
+     * The schema of the events, a superset of the {@link #MODEL_SCHEMA} in a different order.
+     */
+    private static final DatasetSchema EVENT_SCHEMA = new DatasetSchema(ImmutableList.of(
+            new FieldSchema("country", 0, new CategoricalValueSchema(true, ImmutableSet.of("PT", "UK", "US"))),
+            new FieldSchema("unused", 1, new StringValueSchema(true)),
+            new FieldSchema("amount", 2, new NumericValueSchema(false))
+    ));
+
+    /**
+     * The schema of the model, with a label that does not exist in the events.
+     */
+    private static final DatasetSchema MODEL_SCHEMA = new DatasetSchema(2, ImmutableList.of(
+            new FieldSchema("amount", 0, new NumericValueSchema(false)),
+            new FieldSchema("country", 1, new CategoricalValueSchema(true, ImmutableSet.of("ES", "PT", "US"))),
+            new FieldSchema("fraud", 2, new CategoricalValueSchema(true, ImmutableSet.of("false", "true")))
+    ));
+
+    /**
+     * Tests that the values of the projected instances follow the target schema.
+     */
+    @Test
+    public void testProjection() {
+        final SchemaProjection projection = SchemaProjection.compile(EVENT_SCHEMA, MODEL_SCHEMA);
+
+        assertThat(projection.getSourceIndex(0))
+                .as("The source index of the first field")
+                .isEqualTo(2);
+        assertThat(projection.getSourceIndex(2))
+                .as("The source index of the label")
+                .isEqualTo(-1);
+
+        // PT is code 0 in the events and code 1 in the model
+        final Instance projected = projection.project(new MockInstance(new double[]{0.0, 0.0, 12.5}));
+        assertThat(projected.getValue(0))
+                .as("The numeric value")
+                .isEqualTo(12.5);
+        assertThat(projected.getValue(1))
+                .as("The remapped categorical value")
+                .isEqualTo(1.0);
+        assertThat(Double.isNaN(projected.getValue(2)))
+                .as("The label is missing")
+                .isTrue();
+
+        // UK does not exist in the model
+        final SchemaProjection.ProjectedInstance view = projection.newView();
+        assertThat(Double.isNaN(view.wrap(new MockInstance(new double[]{1.0, 0.0, 1.0})).getValue(1)))
+                .as("An unknown categorical value is missing")
+                .isTrue();
+        assertThat(view.wrap(new MockInstance(new double[]{2.0, 0.0, 1.0})).getValue(1))
+                .as("The remapped categorical value of a reused view")
+                .isEqualTo(2.0);
+        assertThat(Double.isNaN(view.wrap(new MockInstance(new double[]{Double.NaN, 0.0, 1.0})).getValue(1)))
+                .as("A missing categorical value is kept missing")
+                .isTrue();
+    }
+
+    /**
+     * Tests that schemas that cannot be projected are rejected.
+     */
+    @Test
+    public void testIncompatibleSchemas() {
+        assertThatThrownBy(() -> SchemaProjection.compile(MODEL_SCHEMA, EVENT_SCHEMA))
+                .as("Projecting into a schema with a predictive field that does not exist in the source")
+                .isInstanceOf(IllegalArgumentException.class);
+
+        final DatasetSchema stringAmount = new DatasetSchema(ImmutableList.of(
+                new FieldSchema("amount", 0, new StringValueSchema(false))
+        ));
+        assertThatThrownBy(() -> SchemaProjection.compile(EVENT_SCHEMA, stringAmount))
+                .as("Projecting into a schema with a field of a different type")
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,233 @@
+/*
+ * Copyright 2026 Feedzai
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.feedzai.openml.util.data.columnar;
+
+import com.feedzai.openml.data.Dataset;
+import com.feedzai.openml.data.Instance;
+import com.feedzai.openml.data.InstanceCursor;
+import com.feedzai.openml.data.PartitionedDataset;
+import com.feedzai.openml.data.schema.DatasetSchema;
+import com.feedzai.openml.mocks.MockInstance;
+import com.feedzai.openml.util.data.schema.TestDatasetSchemaBuilder;
+import com.google.common.collect.ImmutableList;
+import org.junit.Test;
+
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for the {@link ColumnarDataset}.
+ *
+ * @author agent (agent@local)
+ * @since 1.3.0
+ */
+public class ColumnarDatasetTest {
+
+    /**
+     * A schema with 2 numeric fields followed by a categorical target.
+     */
+    private static final DatasetSchema SCHEMA = TestDatasetSchemaBuilder.builder()
+            .withNumericalFields(2)
+            .withCategoricalFields(1)
+            .build();
+
+    /**
+     * Tests that {@link StorageMode#DOUBLE} keeps the exact values, while {@link StorageMode#COMPACT} rounds numeric
+     * values to float precision.
+     */
+    @Test
+    public void testStorageModes() {
+        final Instance instance = new MockInstance(new double[]{0.1, 3.0, 1.0});
+
+        final ColumnarDataset doubles = ColumnarDataset.builder(SCHEMA, StorageMode.DOUBLE)
+                .addInstance(instance)
+                .build();
+        final ColumnarDataset compact = ColumnarDataset.builder(SCHEMA, StorageMode.COMPACT)
+                .addInstance(instance)
+                .build();
+
+        assertThat(doubles.instance(0).getValue(0))
+                .as("The numeric value in double precision")
+                .isEqualTo(0.1);
+        assertThat(compact.instance(0).getValue(0))
+                .as("The numeric value in compact precision")
+                .isEqualTo((double) 0.1f);
+        assertThat(compact.instance(0).getValue(1))
+                .as("An exactly representable numeric value in compact precision")
+                .isEqualTo(3.0);
+        assertThat(compact.instance(0).getValue(2))
+                .as("The categorical value in compact precision")
+                .isEqualTo(1.0);
+
+        // 2 doubles + 1 double vs 2 floats + 1 byte
+        assertThat(doubles.getDataSizeInBytes())
+                .as("The size of the dataset in double precision")
+                .isEqualTo(24L);
+        assertThat(compact.getDataSizeInBytes())
+                .as("The size of the dataset in compact precision")
+                .isEqualTo(9L);
+    }
+
+    /**
+     * Tests that categorical fields use the smallest code type able to index their nominal values, and that missing
+     * values are preserved.
+     */
+    @Test
+    public void testCategoricalCodes() {
+        final Set<String> nominalValues = IntStream.range(0, 200)
+                .mapToObj(String::valueOf)
+                .collect(Collectors.toSet());
+        final DatasetSchema schema = TestDatasetSchemaBuilder.builder()
+                .withCategoricalFields(1, nominalValues)
+                .build();
+
+        final ColumnarDataset dataset = ColumnarDataset.builder(schema, StorageMode.COMPACT)
+                .addInstance(new MockInstance(new double[]{199.0}))
+                .addInstance(new MockInstance(new double[]{Double.NaN}))
+                .build();
+
+        assertThat(dataset.getDataSizeInBytes())
+                .as("The size of a column with 200 nominal values")
+                .isEqualTo(2L * Short.BYTES);
+        assertThat(dataset.instance(0).getValue(0))
+                .as("The value beyond the range of a byte")
+                .isEqualTo(199.0);
+        assertThat(Double.isNaN(dataset.instance(1).getValue(0)))
+                .as("The missing value is preserved")
+                .isTrue();
+
+        assertThatThrownBy(() -> ColumnarDataset.builder(schema, StorageMode.COMPACT)
+                .addInstance(new MockInstance(new double[]{200.0})))
+                .as("Adding an unknown categorical value")
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    /**
+     * Tests that string fields are kept as they are.
+     */
+    @Test
+    public void testStringFields() {
+        final DatasetSchema schema = TestDatasetSchemaBuilder.builder()
+                .withNumericalFields(1)
+                .withStringFields(1)
+                .build();
+
+        final ColumnarDataset dataset = ColumnarDataset.builder(schema, StorageMode.COMPACT)
+                .addInstance(new MockInstance(ImmutableList.of(1.0, "value")))
+                .build();
+
+        assertThat(dataset.instance(0).getStringValue(1))
+                .as("The string value")
+                .isEqualTo("value");
+        assertThatThrownBy(() -> dataset.instance(0).getStringValue(0))
+                .as("Getting a numeric value as a string")
+                .isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    /**
+     * Tests the {@link Dataset} operations of the {@link ColumnarDataset}.
+     */
+    @Test
+    public void testDatasetOperations() {
+        final ColumnarDataset.Builder builder = ColumnarDataset.builder(SCHEMA, StorageMode.COMPACT);
+        for (int i = 0; i < 2000; i++) {
+            builder.addInstance(new MockInstance(new double[]{i, -i, i % 2}));
+        }
+        final ColumnarDataset dataset = builder.build();
+
+        assertThat(dataset.numInstances())
+                .as("The number of instances, beyond the initial capacity")
+                .isEqualTo(2000);
+        assertThat(dataset.feature(0).getValue(1500))
+                .as("The value of a feature")
+                .isEqualTo(1500.0);
+        assertThat(dataset.empty().numInstances())
+                .as("The number of instances of an empty dataset")
+                .isEqualTo(0);
+
+        final ColumnarDataset filtered = dataset.filter(instance -> instance.getValue(0) >= 1000);
+        assertThat(filtered.numInstances())
+                .as("The number of filtered instances")
+                .isEqualTo(1000);
+        assertThat(filtered.instance(0).getValue(1))
+                .as("The first value of the filtered dataset")
+                .isEqualTo(-1000.0);
+
+        final PartitionedDataset partitions = dataset.partition(instance -> instance.getValue(2) == 1.0);
+        assertThat(((ColumnarDataset) partitions.getMatchedData()).numInstances())
+                .as("The number of matched instances")
+                .isEqualTo(1000);
+        assertThat(partitions.getUnmatchedData().instance(0).getValue(0))
+                .as("The first unmatched instance")
+                .isEqualTo(0.0);
+
+        assertThat(dataset.groupBy(instance -> instance.getValue(2)).keySet())
+                .as("The keys of the groups")
+                .containsOnly(0.0, 1.0);
+
+        assertThatThrownBy(() -> dataset.instance(2000))
+                .as("Getting an instance beyond the dataset")
+                .isInstanceOf(IndexOutOfBoundsException.class);
+    }
+
+    /**
+     * Tests that the {@link InstanceCursor} of a {@link ColumnarDataset} goes through all the instances reusing the
+     * same {@link Instance} view.
+     */
+    @Test
+    public void testCursor() {
+        final ColumnarDataset dataset = ColumnarDataset.builder(SCHEMA, StorageMode.DOUBLE)
+                .addInstance(new MockInstance(new double[]{1.0, 2.0, 0.0}))
+                .addInstance(new MockInstance(new double[]{3.0, 4.0, 1.0}))
+                .build();
+
+        final InstanceCursor cursor = dataset.cursor();
+        assertThatThrownBy(cursor::current)
+                .as("Getting the instance before positioning the cursor")
+                .isInstanceOf(IllegalStateException.class);
+
+        assertThat(cursor.next())
+                .as("Moving to the first instance")
+                .isTrue();
+        final Instance first = cursor.current();
+        assertThat(first.getValue(1))
+                .as("The value of the first instance")
+                .isEqualTo(2.0);
+
+        assertThat(cursor.next())
+                .as("Moving to the second instance")
+                .isTrue();
+        assertThat(cursor.current())
+                .as("The instance view is reused")
+                .isSameAs(first);
+        assertThat(first.getValue(1))
+                .as("The value of the repositioned instance")
+                .isEqualTo(4.0);
+
+        assertThat(cursor.next())
+                .as("Moving beyond the last instance")
+                .isFalse();
+        assertThat(cursor.next())
+                .as("Moving again beyond the last instance")
+                .isFalse();
+    }
+}
@@ -0,0 +1,231 @@
+/*
+ * Copyright 2026 Feedzai
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.feedzai.openml.util.data.encoding;
+
+import com.feedzai.openml.data.Instance;
+import com.feedzai.openml.data.schema.CategoricalValueSchema;
+import com.feedzai.openml.data.schema.DatasetSchema;
+import com.feedzai.openml.data.schema.FieldSchema;
+import com.feedzai.openml.data.schema.NumericValueSchema;
+import com.feedzai.openml.data.schema.StringValueSchema;
+import com.feedzai.openml.mocks.MockInstance;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+import org.junit.Test;
+
+import java.io.Serializable;
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for the {@link SparseOneHotEncoder}.
+ *
+ * @author agent (agent@local)
+ * @since 1.3.0
+ */
+public class SparseOneHotEncoderTest {
+
+    /**
+     * A schema with a categorical target, a numeric field, a categorical field with 3 values, a string field and
+     * another numeric field.
+     */
+    private static final DatasetSchema SCHEMA = new DatasetSchema(
+            0,
+            ImmutableList.of(
+                    new FieldSchema("target", 0, new CategoricalValueSchema(false, ImmutableSet.of("false", "true"))),
+                    new FieldSchema("amount", 1, new NumericValueSchema(true)),
+                    new FieldSchema("country", 2, new CategoricalValueSchema(true, ImmutableSet.of("ES", "PT", "UK"))),
+                    new FieldSchema("description", 3, new StringValueSchema(true)),
+                    new FieldSchema("age", 4, new NumericValueSchema(true))
+            )
+    );
+
+    /**
+     * Tests the behaviour of the {@link SparseOneHotEncoder} constructor with null arguments.
+     */
+    @Test
+    public void testNull() {
+        assertThatThrownBy(() -> new SparseOneHotEncoder(null))
+                .as("The error thrown by an incorrect construction of a SparseOneHotEncoder")
+                .isInstanceOf(NullPointerException.class);
+    }
+
+    /**
+     * Tests that the column offsets are computed from the nominal values of each categorical field, skipping the
+     * target and string fields.
+     */
+    @Test
+    public void testOffsets() {
+        final SparseOneHotEncoder encoder = new SparseOneHotEncoder(SCHEMA);
+
+        assertThat(encoder.getNumColumns())
+                .as("The number of columns")
+                .isEqualTo(5);
+
+        assertThat(encoder.getMaxNonZerosPerRow())
+                .as("The maximum number of entries per row")
+                .isEqualTo(3);
+
+        assertThat(new int[]{encoder.getOffset(0), encoder.getOffset(1), encoder.getOffset(2), encoder.getOffset(3), encoder.getOffset(4)})
+                .as("The offsets of each field")
+                .containsExactly(-1, 0, 1, -1, 4);
+    }
+
+    /**
+     * Tests the encoding of a single instance, including zero and missing values.
+     */
+    @Test
+    public void testEncodeInstance() {
+        final SparseOneHotEncoder encoder = new SparseOneHotEncoder(SCHEMA);
+
+        final SparseVector row = encoder.encode(instance(1.0, 2.5, 2.0, "some text", 0.0));
+        assertThat(row.getIndices())
+                .as("The columns of the encoded row")
+                .containsExactly(0, 3);
+        assertThat(row.getValues())
+                .as("The values of the encoded row")
+                .containsExactly(2.5, 1.0);
+        assertThat(row.toDense())
+                .as("The dense representation of the encoded row")
+                .containsExactly(2.5, 0.0, 0.0, 1.0, 0.0);
+
+        final SparseVector missing = encoder.encode(instance(0.0, Double.NaN, Double.NaN, null, 7.0));
+        assertThat(missing.getIndices())
+                .as("The columns of a row with missing values")
+                .containsExactly(0, 4);
+        assertThat(Double.isNaN(missing.get(0)))
+                .as("A missing numeric value is kept as NaN")
+                .isTrue();
+        assertThat(missing.get(4))
+                .as("The value of the last numeric field")
+                .isEqualTo(7.0);
+    }
+
+    /**
+     * Tests that encoding into reusable buffers yields the same entries as {@link SparseOneHotEncoder#encode(Instance)}.
+     */
+    @Test
+    public void testEncodeIntoBuffers() {
+        final SparseOneHotEncoder encoder = new SparseOneHotEncoder(SCHEMA);
+        final int[] indices = new int[encoder.getMaxNonZerosPerRow()];
+        final double[] values = new double[encoder.getMaxNonZerosPerRow()];
+
+        final int size = encoder.encode(instance(1.0, -1.0, 0.0, "", 3.0), indices, values);
+
+        assertThat(size)
+                .as("The number of entries written")
+                .isEqualTo(3);
+        assertThat(Arrays.copyOf(indices, size))
+                .as("The columns written")
+                .containsExactly(0, 1, 4);
+        assertThat(Arrays.copyOf(values, size))
+                .as("The values written")
+                .containsExactly(-1.0, 1.0, 3.0);
+    }
+
+    /**
+     * Tests the encoding of a batch of instances into the CSR format.
+     */
+    @Test
+    public void testEncodeBatch() {
+        final SparseOneHotEncoder encoder = new SparseOneHotEncoder(SCHEMA);
+
+        final CsrMatrix matrix = encoder.encode(ImmutableList.of(
+                instance(1.0, 2.5, 2.0, "a", 0.0),
+                instance(0.0, 0.0, Double.NaN, "b", 0.0),
+                instance(0.0, 1.0, 1.0, "c", 2.0)
+        ).iterator());
+
+        assertThat(matrix.getNumRows())
+                .as("The number of rows")
+                .isEqualTo(3);
+        assertThat(matrix.getRowPointers())
+                .as("The row pointers")
+                .containsExactly(0, 2, 2, 5);
+        assertThat(matrix.getColumnIndices())
+                .as("The column indices")
+                .containsExactly(0, 3, 0, 2, 4);
+        assertThat(matrix.getValues())
+                .as("The values")
+                .containsExactly(2.5, 1.0, 1.0, 1.0, 2.0);
+        assertThat(matrix.getRow(2))
+                .as("A single row of the batch")
+                .isEqualTo(encoder.encode(instance(0.0, 1.0, 1.0, "c", 2.0)));
+    }
+
+    /**
+     * Tests that categorical values outside of the nominal values of the field are rejected.
+     */
+    @Test
+    public void testInvalidCategoricalValue() {
+        final SparseOneHotEncoder encoder = new SparseOneHotEncoder(SCHEMA);
+
+        assertThatThrownBy(() -> encoder.encode(instance(0.0, 1.0, 3.0, "", 0.0)))
+                .as("Encoding a categorical value with an index too large")
+                .isInstanceOf(IllegalArgumentException.class);
+
+        assertThatThrownBy(() -> encoder.encode(instance(0.0, 1.0, 0.5, "", 0.0)))
+                .as("Encoding a categorical value that is not an index")
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    /**
+     * Tests that a categorical field without nominal values takes no columns, instead of being encoded as numeric.
+     */
+    @Test
+    public void testCategoricalFieldWithoutValues() {
+        final SparseOneHotEncoder encoder = new SparseOneHotEncoder(new DatasetSchema(
+                0,
+                ImmutableList.of(
+                        new FieldSchema("target", 0, new CategoricalValueSchema(false, ImmutableSet.of("false", "true"))),
+                        new FieldSchema("empty", 1, new CategoricalValueSchema(true, ImmutableSet.of())),
+                        new FieldSchema("amount", 2, new NumericValueSchema(true))
+                )
+        ));
+
+        assertThat(encoder.getNumColumns())
+                .as("The number of columns")
+                .isEqualTo(1);
+        assertThat(encoder.encode(new MockInstance(new double[]{0.0, Double.NaN, 2.0})).getIndices())
+                .as("The columns of a row with a missing value for the field without values")
+                .containsExactly(0);
+        assertThatThrownBy(() -> encoder.encode(new MockInstance(new double[]{0.0, 0.0, 2.0})))
+                .as("Encoding a value of a categorical field without nominal values")
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    /**
+     * Creates an {@link Instance} for {@link #SCHEMA}.
+     *
+     * @param target      The target value.
+     * @param amount      The value of the amount field.
+     * @param country     The value of the country field.
+     * @param description The value of the description field.
+     * @param age         The value of the age field.
+     * @return The {@link Instance}.
+     */
+    private static Instance instance(final double target,
+                                     final double amount,
+                                     final double country,
+                                     final String description,
+                                     final double age) {
+        return new MockInstance(Arrays.<Serializable>asList(target, amount, country, description, age));
+    }
+}
@@ -0,0 +1,159 @@
+/*
+ * Copyright 2026 Feedzai
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.feedzai.openml.util.data.sparse;
+
+import com.feedzai.openml.data.Dataset;
+import com.feedzai.openml.data.PartitionedDataset;
+import com.feedzai.openml.data.SparseInstance;
+import com.feedzai.openml.data.schema.DatasetSchema;
+import com.feedzai.openml.mocks.MockInstance;
+import com.feedzai.openml.util.data.schema.TestDatasetSchemaBuilder;
+import org.junit.Test;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for the {@link SparseDataset} and {@link SparseArrayInstance}.
+ *
+ * @author agent (agent@local)
+ * @since 1.3.0
+ */
+public class SparseDatasetTest {
+
+    /**
+     * A schema with 3 numeric fields followed by a categorical target.
+     */
+    private static final DatasetSchema SCHEMA = TestDatasetSchemaBuilder.builder()
+            .withNumericalFields(3)
+            .withCategoricalFields(1)
+            .build();
+
+    /**
+     * Tests that the values of a sparse instance fall back to the default value of each field.
+     */
+    @Test
+    public void testDefaultValues() {
+        final SparseDataset dataset = SparseDataset.builder(SCHEMA)
+                .addInstance(new int[]{1, 3}, new double[]{5.0, 1.0})
+                .build();
+
+        final SparseInstance instance = dataset.instance(0);
+
+        assertThat(new double[]{instance.getValue(0), instance.getValue(1), instance.getValue(2)})
+                .as("The numeric values of the instance")
+                .containsExactly(0.0, 5.0, 0.0);
+        assertThat(instance.getValue(3))
+                .as("The categorical value of the instance")
+                .isEqualTo(1.0);
+        assertThat(instance.nonDefaultIndices())
+                .as("The indices of the non-default fields")
+                .containsExactly(1, 3);
+        assertThat(instance.nonDefaultValues())
+                .as("The values of the non-default fields")
+                .containsExactly(5.0, 1.0);
+        assertThat(Double.isNaN(instance.getDefaultValue(3)))
+                .as("Categorical fields default to missing")
+                .isTrue();
+
+        assertThatThrownBy(() -> instance.getValue(4))
+                .as("Getting a value of an unknown field")
+                .isInstanceOf(IndexOutOfBoundsException.class);
+        assertThatThrownBy(() -> instance.getStringValue(0))
+                .as("Getting a string value")
+                .isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    /**
+     * Tests that adding a dense instance only stores the values that differ from the defaults.
+     */
+    @Test
+    public void testAddDenseInstance() {
+        final SparseDataset dataset = SparseDataset.builder(SCHEMA, new double[]{0.0, 0.0, Double.NaN, Double.NaN})
+                .addInstance(new MockInstance(new double[]{0.0, 2.0, Double.NaN, 0.0}))
+                .build();
+
+        assertThat(dataset.instance(0).nonDefaultIndices())
+                .as("The indices of the non-default fields")
+                .containsExactly(1, 3);
+        assertThat(dataset.getNumNonDefault())
+                .as("The number of non-default values in the dataset")
+                .isEqualTo(2L);
+    }
+
+    /**
+     * Tests that invalid sparse instances are rejected.
+     */
+    @Test
+    public void testInvalidInstances() {
+        final SparseDataset.Builder builder = SparseDataset.builder(SCHEMA);
+
+        assertThatThrownBy(() -> builder.addInstance(new int[]{2, 1}, new double[]{1.0, 1.0}))
+                .as("Adding an instance with unsorted indices")
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> builder.addInstance(new int[]{4}, new double[]{1.0}))
+                .as("Adding an instance with an unknown field")
+                .isInstanceOf(IndexOutOfBoundsException.class);
+        assertThatThrownBy(() -> builder.addInstance(new int[]{1}, new double[]{1.0, 2.0}))
+                .as("Adding an instance with more values than indices")
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> SparseDataset.builder(TestDatasetSchemaBuilder.builder().withStringFields(1).build()))
+                .as("Creating a dataset with string fields")
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    /**
+     * Tests the {@link Dataset} operations of the {@link SparseDataset}.
+     */
+    @Test
+    public void testDatasetOperations() {
+        final SparseDataset dataset = SparseDataset.builder(SCHEMA)
+                .addInstance(new int[]{0, 3}, new double[]{1.0, 0.0})
+                .addInstance(new int[]{0, 3}, new double[]{2.0, 1.0})
+                .addInstance(new int[]{3}, new double[]{1.0})
+                .build();
+
+        assertThat(dataset.numInstances())
+                .as("The number of instances")
+                .isEqualTo(3);
+        assertThat(dataset.feature(0).getValue(1))
+                .as("The value of a feature")
+                .isEqualTo(2.0);
+        assertThat(dataset.filter(instance -> instance.getValue(0) > 0).numInstances())
+                .as("The number of filtered instances")
+                .isEqualTo(2);
+        assertThat(dataset.empty().numInstances())
+                .as("The number of instances of an empty dataset")
+                .isEqualTo(0);
+
+        final PartitionedDataset partitions = dataset.partition(instance -> instance.getValue(3) == 1.0);
+        assertThat(((SparseDataset) partitions.getMatchedData()).numInstances())
+                .as("The number of matched instances")
+                .isEqualTo(2);
+        assertThat(((SparseDataset) partitions.getUnmatchedData()).numInstances())
+                .as("The number of unmatched instances")
+                .isEqualTo(1);
+
+        final Map<Double, Dataset> groups = dataset.groupBy(instance -> instance.getValue(3));
+        assertThat(groups.keySet())
+                .as("The keys of the groups")
+                .containsOnly(0.0, 1.0);
+    }
+}
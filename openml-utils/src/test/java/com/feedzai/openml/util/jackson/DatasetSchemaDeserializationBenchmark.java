@@ -0,0 +1,224 @@
+/*
+ * Copyright 2026 Feedzai
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.feedzai.openml.util.jackson;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.feedzai.openml.data.schema.AbstractValueSchema;
+import com.feedzai.openml.data.schema.CategoricalValueSchema;
+import com.feedzai.openml.data.schema.DatasetSchema;
+import com.feedzai.openml.data.schema.FieldSchema;
+import com.feedzai.openml.data.schema.NumericValueSchema;
+import com.feedzai.openml.util.jackson.serializers.AbstractValueSchemaSerializer;
+import com.feedzai.openml.util.jackson.serializers.DatasetSchemaSerializer;
+import com.feedzai.openml.util.jackson.serializers.FieldSchemaSerializer;
+import com.google.common.collect.ImmutableList;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Set;
+import java.util.SortedSet;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Benchmark that compares the streaming deserializers of the {@link SerializersInModule} with the tree based
+ * deserializers they replaced, on synthetic schemas with huge categorical fields.
+ * <p>
+ * It is not run as part of the tests: run its {@link #main(String[])} method, optionally with the number of nominal
+ * values per categorical field as argument.
+ *
+ * @author agent (agent@local)
+ * @since 1.3.0
+ */
+public final class DatasetSchemaDeserializationBenchmark {
+
+    /**
+     * The number of categorical fields of the synthetic schema.
+     */
+    private static final int NUM_CATEGORICAL_FIELDS = 4;
+
+    /**
+     * The default number of nominal values of each categorical field.
+     */
+    private static final int DEFAULT_NUM_NOMINAL_VALUES = 250_000;
+
+    /**
+     * The number of deserializations to warm up the JVM.
+     */
+    private static final int WARM_UP_ITERATIONS = 5;
+
+    /**
+     * The number of measured deserializations.
+     */
+    private static final int MEASURED_ITERATIONS = 10;
+
+    /**
+     * Private constructor for a class with only a main method.
+     */
+    private DatasetSchemaDeserializationBenchmark() {
+    }
+
+    /**
+     * Runs the benchmark.
+     *
+     * @param args Optionally, the number of nominal values of each categorical field.
+     * @throws IOException If a schema cannot be (de)serialized.
+     */
+    public static void main(final String[] args) throws IOException {
+        final int numNominalValues = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_NUM_NOMINAL_VALUES;
+
+        final ObjectMapper streaming = new ObjectMapper();
+        streaming.registerModule(new SerializersInModule());
+
+        final ObjectMapper tree = new ObjectMapper();
+        tree.registerModule(new TreeModule());
+
+        final DatasetSchema schema = createSchema(numNominalValues);
+        final byte[] json = streaming.writeValueAsBytes(schema);
+        System.out.printf("Schema with %d categorical fields of %d values: %d bytes%n",
+                          NUM_CATEGORICAL_FIELDS, numNominalValues, json.length);
+
+        if (!streaming.readValue(json, DatasetSchema.class).equals(tree.readValue(json, DatasetSchema.class))) {
+            throw new IllegalStateException("The deserializers yield different schemas.");
+        }
+
+        measure("tree", tree, json);
+        measure("streaming", streaming, json);
+    }
+
+    /**
+     * Measures the time and the allocated memory to deserialize the schema.
+     *
+     * @param name   The name of the deserializers being measured.
+     * @param mapper The mapper with the deserializers.
+     * @param json   The serialized schema.
+     * @throws IOException If the schema cannot be deserialized.
+     */
+    private static void measure(final String name, final ObjectMapper mapper, final byte[] json) throws IOException {
+        for (int i = 0; i < WARM_UP_ITERATIONS; i++) {
+            mapper.readValue(json, DatasetSchema.class);
+        }
+
+        final com.sun.management.ThreadMXBean threadBean =
+                (com.sun.management.ThreadMXBean) java.lang.management.ManagementFactory.getThreadMXBean();
+        final long threadId = Thread.currentThread().getId();
+
+        final long startBytes = threadBean.getThreadAllocatedBytes(threadId);
+        final long start = System.nanoTime();
+        for (int i = 0; i < MEASURED_ITERATIONS; i++) {
+            mapper.readValue(json, DatasetSchema.class);
+        }
+        final long elapsed = System.nanoTime() - start;
+        final long allocated = threadBean.getThreadAllocatedBytes(threadId) - startBytes;
+
+        System.out.printf("%-10s %8.1f ms/op %10.1f MB/op%n",
+                          name,
+                          (double) TimeUnit.NANOSECONDS.toMicros(elapsed) / 1000 / MEASURED_ITERATIONS,
+                          (double) allocated / (1024 * 1024) / MEASURED_ITERATIONS);
+    }
+
+    /**
+     * Creates a synthetic schema with a numeric field followed by huge categorical fields.
+     *
+     * @param numNominalValues The number of nominal values of each categorical field.
+     * @return The schema.
+     */
+    private static DatasetSchema createSchema(final int numNominalValues) {
+        final ImmutableList.Builder<FieldSchema> fields = ImmutableList.builder();
+        fields.add(new FieldSchema("numeric", 0, new NumericValueSchema(false)));
+
+        for (int field = 1; field <= NUM_CATEGORICAL_FIELDS; field++) {
+            final String prefix = "field" + field + "-value";
+            final Set<String> nominalValues = IntStream.range(0, numNominalValues)
+                    .mapToObj(value -> prefix + value)
+                    .collect(Collectors.toSet());
+            fields.add(new FieldSchema("categorical" + field, field, new CategoricalValueSchema(true, nominalValues)));
+        }
+
+        return new DatasetSchema(NUM_CATEGORICAL_FIELDS, fields.build());
+    }
+
+    /**
+     * A module with the tree based deserializers, as they were before being replaced by streaming ones.
+     */
+    private static final class TreeModule extends SimpleModule {
+
+        /**
+         * Constructor of this object.
+         */
+        TreeModule() {
+            addSerializer(AbstractValueSchema.class, new AbstractValueSchemaSerializer());
+            addSerializer(FieldSchema.class, new FieldSchemaSerializer());
+            addSerializer(DatasetSchema.class, new DatasetSchemaSerializer());
+
+            addDeserializer(AbstractValueSchema.class, new StdDeserializer<AbstractValueSchema>(AbstractValueSchema.class) {
+                @Override
+                public AbstractValueSchema deserialize(final JsonParser parser, final DeserializationContext context)
+                        throws IOException {
+                    final JsonNode node = parser.getCodec().readTree(parser);
+                    final boolean allowMissing = node.get("allowMissing").booleanValue();
+                    if (!"categorical".equals(node.get("@type").textValue())) {
+                        return new NumericValueSchema(allowMissing);
+                    }
+                    final SortedSet<String> nominalValues = parser.getCodec().readValue(
+                            node.get("nominalValues").traverse(parser.getCodec()),
+                            new TypeReference<SortedSet<String>>() { }
+                    );
+                    return new CategoricalValueSchema(allowMissing, nominalValues);
+                }
+            });
+
+            addDeserializer(FieldSchema.class, new StdDeserializer<FieldSchema>(FieldSchema.class) {
+                @Override
+                public FieldSchema deserialize(final JsonParser parser, final DeserializationContext context)
+                        throws IOException {
+                    final JsonNode node = parser.getCodec().readTree(parser);
+                    final AbstractValueSchema valueSchema = parser.getCodec().readValue(
+                            node.get("valueSchema").traverse(parser.getCodec()),
+                            new TypeReference<AbstractValueSchema>() { }
+                    );
+                    return new FieldSchema(
+                            node.get("fieldName").textValue(),
+                            node.get("fieldIndex").intValue(),
+                            valueSchema
+                    );
+                }
+            });
+
+            addDeserializer(DatasetSchema.class, new StdDeserializer<DatasetSchema>(DatasetSchema.class) {
+                @Override
+                public DatasetSchema deserialize(final JsonParser parser, final DeserializationContext context)
+                        throws IOException {
+                    final JsonNode node = parser.getCodec().readTree(parser);
+                    final List<FieldSchema> fields = parser.getCodec().readValue(
+                            node.get("fieldSchemas").traverse(parser.getCodec()),
+                            new TypeReference<List<FieldSchema>>() { }
+                    );
+                    return new DatasetSchema(node.get("targetIndex").intValue(), fields);
+                }
+            });
+        }
+    }
+}
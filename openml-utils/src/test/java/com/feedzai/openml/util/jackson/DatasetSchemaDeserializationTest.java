@@ -0,0 +1,186 @@
+/*
+ * Copyright 2026 Feedzai
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.feedzai.openml.util.jackson;
+
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.feedzai.openml.data.schema.CategoricalValueSchema;
+import com.feedzai.openml.data.schema.DatasetSchema;
+import com.feedzai.openml.data.schema.FieldSchema;
+import com.feedzai.openml.data.schema.NumericValueSchema;
+import com.feedzai.openml.data.schema.StringValueSchema;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests for the streaming deserialization of {@link DatasetSchema}.
+ *
+ * @author agent (agent@local)
+ * @since 1.3.0
+ */
+public class DatasetSchemaDeserializationTest {
+
+    /**
+     * The mapper with the {@link SerializersInModule}.
+     */
+    private ObjectMapper mapper;
+
+    /**
+     * Sets up the mapper.
+     */
+    @Before
+    public void setUp() {
+        this.mapper = new ObjectMapper();
+        this.mapper.registerModule(new SerializersInModule());
+    }
+
+    /**
+     * Tests that the fields of the json objects can be in any order, and that unknown fields are ignored.
+     *
+     * @throws Exception If the schema cannot be deserialized.
+     */
+    @Test
+    public void testAnyFieldOrder() throws Exception {
+        final String json = "{"
+                + "\"fieldSchemas\":["
+                + "  {\"valueSchema\":{\"allowMissing\":true,\"@type\":\"numeric\"},\"fieldName\":\"a\",\"fieldIndex\":0},"
+                + "  {\"fieldIndex\":1,\"unknown\":{\"x\":[1,2]},\"valueSchema\":"
+                + "    {\"nominalValues\":[\"z\",\"y\"],\"@type\":\"categorical\",\"allowMissing\":false},\"fieldName\":\"b\"},"
+                + "  {\"fieldName\":\"c\",\"fieldIndex\":2,\"valueSchema\":{\"@type\":\"string\",\"allowMissing\":false}}"
+                + "],"
+                + "\"targetIndex\":1"
+                + "}";
+
+        final DatasetSchema expected = new DatasetSchema(1, ImmutableList.of(
+                new FieldSchema("a", 0, new NumericValueSchema(true)),
+                new FieldSchema("b", 1, new CategoricalValueSchema(false, ImmutableSet.of("y", "z"))),
+                new FieldSchema("c", 2, new StringValueSchema(false))
+        ));
+
+        assertThat(this.mapper.readValue(json, DatasetSchema.class))
+                .as("The schema deserialized from json with fields in an arbitrary order")
+                .isEqualTo(expected);
+    }
+
+    /**
+     * Tests the round trip of a schema with a huge number of nominal values.
+     *
+     * @throws Exception If the schema cannot be serialized.
+     */
+    @Test
+    public void testHugeCategoricalField() throws Exception {
+        final Set<String> nominalValues = IntStream.range(0, 100_000)
+                .mapToObj(value -> "value" + value)
+                .collect(Collectors.toSet());
+        final DatasetSchema schema = new DatasetSchema(0, ImmutableList.of(
+                new FieldSchema("huge", 0, new CategoricalValueSchema(false, nominalValues))
+        ));
+
+        final DatasetSchema deserialized = this.mapper.readValue(this.mapper.writeValueAsString(schema), DatasetSchema.class);
+
+        assertThat(deserialized)
+                .as("The deserialized schema with a huge categorical field")
+                .isEqualTo(schema);
+    }
+
+    /**
+     * Tests that nominal values that are not an array of Strings are rejected.
+     */
+    @Test
+    public void testInvalidNominalValues() {
+        final String json = "{\"fieldSchemas\":[{\"fieldName\":\"a\",\"fieldIndex\":0,"
+                + "\"valueSchema\":{\"@type\":\"categorical\",\"allowMissing\":false,\"nominalValues\":[{}]}}]}";
+
+        assertThatThrownBy(() -> this.mapper.readValue(json, DatasetSchema.class))
+                .as("Deserializing nominal values that are not Strings")
+                .isInstanceOf(JsonMappingException.class);
+    }
+
+    /**
+     * Tests that a schema without its field schemas is rejected.
+     */
+    @Test
+    public void testMissingFieldSchemas() {
+        assertMissingProperty("{\"targetIndex\":0}", "fieldSchemas");
+    }
+
+    /**
+     * Tests that field schemas without their name, index or value schema are rejected.
+     */
+    @Test
+    public void testMissingFieldSchemaProperties() {
+        final String valueSchema = "\"valueSchema\":{\"@type\":\"numeric\",\"allowMissing\":false}";
+
+        assertMissingProperty(fieldSchemas("{\"fieldIndex\":0," + valueSchema + "}"), "fieldName");
+        assertMissingProperty(fieldSchemas("{\"fieldName\":\"a\"," + valueSchema + "}"), "fieldIndex");
+        assertMissingProperty(fieldSchemas("{\"fieldName\":\"a\",\"fieldIndex\":0}"), "valueSchema");
+    }
+
+    /**
+     * Tests that value schemas without their type, whether they allow missing values, or the nominal values of a
+     * categorical field are rejected.
+     */
+    @Test
+    public void testMissingValueSchemaProperties() {
+        assertMissingProperty(valueSchema("{\"allowMissing\":false}"), "@type");
+        assertMissingProperty(valueSchema("{\"@type\":\"numeric\"}"), "allowMissing");
+        assertMissingProperty(valueSchema("{\"@type\":\"categorical\",\"allowMissing\":false}"), "nominalValues");
+    }
+
+    /**
+     * Asserts that deserializing a schema fails because of a missing required property.
+     *
+     * @param json     The json of the schema.
+     * @param property The name of the missing property.
+     */
+    private void assertMissingProperty(final String json, final String property) {
+        assertThatThrownBy(() -> this.mapper.readValue(json, DatasetSchema.class))
+                .as("Deserializing a schema without the property %s", property)
+                .isInstanceOf(JsonMappingException.class)
+                .hasMessageContaining(property);
+    }
+
+    /**
+     * Creates the json of a schema with a single field.
+     *
+     * @param fieldSchema The json of the field schema.
+     * @return The json of the schema.
+     */
+    private static String fieldSchemas(final String fieldSchema) {
+        return "{\"fieldSchemas\":[" + fieldSchema + "]}";
+    }
+
+    /**
+     * Creates the json of a schema with a single field with the given value schema.
+     *
+     * @param valueSchema The json of the value schema.
+     * @return The json of the schema.
+     */
+    private static String valueSchema(final String valueSchema) {
+        return fieldSchemas("{\"fieldName\":\"a\",\"fieldIndex\":0,\"valueSchema\":" + valueSchema + "}");
+    }
+}
@@ -0,0 +1,318 @@
+/*
+ * Copyright 2026 Feedzai
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.feedzai.openml.util.load;
+
+import com.feedzai.openml.data.schema.DatasetSchema;
+import com.feedzai.openml.mocks.MockClassificationModel;
+import com.feedzai.openml.provider.MachineLearningProvider;
+import com.feedzai.openml.provider.descriptor.MLAlgorithmDescriptor;
+import com.feedzai.openml.provider.descriptor.fieldtype.ParamValidationError;
+import com.feedzai.openml.provider.exception.ModelLoadingException;
+import com.feedzai.openml.provider.model.MachineLearningModelLoader;
+import com.feedzai.openml.util.data.schema.TestDatasetSchemaBuilder;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.util.concurrent.Uninterruptibles;
+import org.junit.Test;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for the {@link BulkModelLoader}.
+ *
+ * @author agent (agent@local)
+ * @since 1.3.0
+ */
+public class BulkModelLoaderTest {
+
+    /**
+     * The name of the algorithm supported by the {@link TestProvider}.
+     */
+    private static final String ALGORITHM = "test";
+
+    /**
+     * The schema of the models.
+     */
+    private static final DatasetSchema SCHEMA = TestDatasetSchemaBuilder.builder().withCategoricalFields(1).build();
+
+    /**
+     * Tests that the results are returned in the order of the jobs, with the failures of the jobs that could not be
+     * loaded.
+     *
+     * @throws Exception If the test fails unexpectedly.
+     */
+    @Test
+    public void testResults() throws Exception {
+        final TestProvider provider = new TestProvider();
+        final List<ModelLoadJob> jobs = ImmutableList.of(
+                new ModelLoadJob(provider, ALGORITHM, Paths.get("a"), SCHEMA),
+                new ModelLoadJob(provider, ALGORITHM, Paths.get("broken"), SCHEMA),
+                new ModelLoadJob(provider, "unknown", Paths.get("c"), SCHEMA),
+                new ModelLoadJob(provider, ALGORITHM, Paths.get("d"), SCHEMA),
+                new ModelLoadJob(provider, ALGORITHM, Paths.get("error"), SCHEMA)
+        );
+
+        final List<ModelLoadResult> results = new BulkModelLoader(3).loadAll(jobs);
+
+        assertThat(results)
+                .as("The number of results")
+                .hasSize(5);
+        for (int i = 0; i < jobs.size(); i++) {
+            assertThat(results.get(i).getJob())
+                    .as("The job of each result")
+                    .isSameAs(jobs.get(i));
+            assertThat(results.get(i).getLoadTime().isNegative())
+                    .as("Whether the load time is negative")
+                    .isFalse();
+        }
+
+        assertThat(results.get(0).getModel().map(model -> ((TestModel) model).path))
+                .as("The path of the first loaded model")
+                .contains(Paths.get("a"));
+        assertThat(results.get(1).getFailure().map(Throwable::getMessage))
+                .as("The failure of a model that could not be loaded")
+                .contains("Broken model.");
+        assertThat(results.get(2).isSuccessful())
+                .as("Whether a model of an unknown algorithm was loaded")
+                .isFalse();
+        assertThat(results.get(3).isSuccessful())
+                .as("Whether the fourth model was loaded")
+                .isTrue();
+        assertThat(results.get(4).getFailure().map(failure -> failure.getCause().getClass()))
+                .as("The cause of the failure of a model that could not be loaded due to an error")
+                .contains(NoClassDefFoundError.class);
+    }
+
+    /**
+     * Tests that interrupting a load closes the models already loaded, as well as those that finish loading later.
+     *
+     * @throws Exception If the test fails unexpectedly.
+     */
+    @Test
+    public void testInterruptClosesLoadedModels() throws Exception {
+        final TestProvider provider = new TestProvider();
+        final List<ModelLoadJob> jobs = ImmutableList.of(
+                new ModelLoadJob(provider, ALGORITHM, Paths.get("a"), SCHEMA),
+                new ModelLoadJob(provider, ALGORITHM, Paths.get("slow"), SCHEMA)
+        );
+
+        final AtomicReference<Throwable> failure = new AtomicReference<>();
+        final Thread thread = new Thread(() -> {
+            try {
+                new BulkModelLoader(2).loadAll(jobs);
+            } catch (final Throwable e) {
+                failure.set(e);
+            }
+        });
+        thread.start();
+
+        assertThat(provider.slowLoading.await(10, TimeUnit.SECONDS))
+                .as("Whether the slow model started loading")
+                .isTrue();
+        while (provider.loadedModels.isEmpty()) {
+            Thread.sleep(1);
+        }
+        thread.interrupt();
+        thread.join(TimeUnit.SECONDS.toMillis(10));
+
+        assertThat(failure.get())
+                .as("The failure of the interrupted load")
+                .isInstanceOf(InterruptedException.class);
+        assertThat(awaitClosed(provider.loadedModels.get(0)))
+                .as("Whether the model loaded before the interruption was closed")
+                .isTrue();
+
+        provider.slowRelease.countDown();
+        while (provider.loadedModels.size() < 2) {
+            Thread.sleep(1);
+        }
+        assertThat(awaitClosed(provider.loadedModels.get(1)))
+                .as("Whether the model loaded after the interruption was closed")
+                .isTrue();
+    }
+
+    /**
+     * Tests that a {@link VirtualMachineError} is not contained in the result of its job, but fails the whole load
+     * after closing the models already loaded.
+     *
+     * @throws Exception If the test fails unexpectedly.
+     */
+    @Test
+    public void testVirtualMachineError() throws Exception {
+        final TestProvider provider = new TestProvider();
+        final List<ModelLoadJob> jobs = ImmutableList.of(
+                new ModelLoadJob(provider, ALGORITHM, Paths.get("a"), SCHEMA),
+                new ModelLoadJob(provider, ALGORITHM, Paths.get("oom"), SCHEMA)
+        );
+
+        assertThatThrownBy(() -> new BulkModelLoader(1).loadAll(jobs))
+                .as("Loading models when one of them fails with a virtual machine error")
+                .isInstanceOf(OutOfMemoryError.class);
+        assertThat(provider.loadedModels.get(0).getCloses())
+                .as("The number of times the model loaded before the error was closed")
+                .isEqualTo(1);
+    }
+
+    /**
+     * Waits for a model to be closed, for at most 10 seconds.
+     *
+     * @param model The model.
+     * @return Whether the model was closed.
+     * @throws InterruptedException If interrupted while waiting.
+     */
+    private static boolean awaitClosed(final TestModel model) throws InterruptedException {
+        final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (model.getCloses() == 0 && System.nanoTime() < deadline) {
+            Thread.sleep(1);
+        }
+        return model.getCloses() > 0;
+    }
+
+    /**
+     * Tests that jobs are started by decreasing order of expected traffic when requested.
+     *
+     * @throws Exception If the test fails unexpectedly.
+     */
+    @Test
+    public void testPrioritizeByTraffic() throws Exception {
+        final TestProvider provider = new TestProvider();
+        final List<ModelLoadJob> jobs = ImmutableList.of(
+                new ModelLoadJob(provider, ALGORITHM, Paths.get("low"), SCHEMA, 1),
+                new ModelLoadJob(provider, ALGORITHM, Paths.get("high"), SCHEMA, 100),
+                new ModelLoadJob(provider, ALGORITHM, Paths.get("medium"), SCHEMA, 10)
+        );
+
+        new BulkModelLoader(1, true).loadAll(jobs);
+
+        assertThat(provider.loadedPaths)
+                .as("The order by which the models were loaded")
+                .containsExactly(Paths.get("high"), Paths.get("medium"), Paths.get("low"));
+    }
+
+    /**
+     * A provider that records the paths of the models it loads, fails to load models named "broken" (and "error",
+     * with an {@link Error}, and "oom", with an {@link OutOfMemoryError}), and only finishes loading models named
+     * "slow" when {@link #slowRelease} is released.
+     */
+    private static final class TestProvider
+            implements MachineLearningProvider<MachineLearningModelLoader<TestModel>>,
+                       MachineLearningModelLoader<TestModel> {
+
+        /**
+         * The paths of the loaded models, by the order they were loaded.
+         */
+        private final List<Path> loadedPaths = new CopyOnWriteArrayList<>();
+
+        /**
+         * The loaded models, by the order they finished loading.
+         */
+        private final List<TestModel> loadedModels = new CopyOnWriteArrayList<>();
+
+        /**
+         * Released when a model named "slow" starts loading.
+         */
+        private final CountDownLatch slowLoading = new CountDownLatch(1);
+
+        /**
+         * Released to let models named "slow" finish loading.
+         */
+        private final CountDownLatch slowRelease = new CountDownLatch(1);
+
+        @Override
+        public String getName() {
+            return "test";
+        }
+
+        @Override
+        public Set<MLAlgorithmDescriptor> getAlgorithms() {
+            return ImmutableSet.of();
+        }
+
+        @Override
+        public Optional<MachineLearningModelLoader<TestModel>> getModelCreator(final String algorithmName) {
+            return ALGORITHM.equals(algorithmName) ? Optional.of(this) : Optional.empty();
+        }
+
+        @Override
+        public TestModel loadModel(final Path modelPath, final DatasetSchema schema) throws ModelLoadingException {
+            this.loadedPaths.add(modelPath);
+            if (modelPath.endsWith("broken")) {
+                throw new ModelLoadingException("Broken model.");
+            }
+            if (modelPath.endsWith("error")) {
+                throw new NoClassDefFoundError("Missing class.");
+            }
+            if (modelPath.endsWith("oom")) {
+                throw new OutOfMemoryError("Out of memory.");
+            }
+            if (modelPath.endsWith("slow")) {
+                this.slowLoading.countDown();
+                Uninterruptibles.awaitUninterruptibly(this.slowRelease, 10, TimeUnit.SECONDS);
+            }
+            final TestModel model = new TestModel(modelPath, schema);
+            this.loadedModels.add(model);
+            return model;
+        }
+
+        @Override
+        public List<ParamValidationError> validateForLoad(final Path modelPath,
+                                                          final DatasetSchema schema,
+                                                          final Map<String, String> params) {
+            return ImmutableList.of();
+        }
+
+        @Override
+        public DatasetSchema loadSchema(final Path modelPath) {
+            return SCHEMA;
+        }
+    }
+
+    /**
+     * A model that knows the path it was loaded from.
+     */
+    private static final class TestModel extends MockClassificationModel {
+
+        /**
+         * The path the model was loaded from.
+         */
+        private final Path path;
+
+        /**
+         * Creates a new instance.
+         *
+         * @param path   The path the model was loaded from.
+         * @param schema The schema of the model.
+         */
+        TestModel(final Path path, final DatasetSchema schema) {
+            super(schema);
+            this.path = path;
+        }
+    }
+}
@@ -0,0 +1,163 @@
+/*
+ * Copyright 2026 Feedzai
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.feedzai.openml.util.load;
+
+import com.feedzai.openml.data.schema.CategoricalValueSchema;
+import com.feedzai.openml.data.schema.DatasetSchema;
+import com.feedzai.openml.data.schema.FieldSchema;
+import com.feedzai.openml.data.schema.NumericValueSchema;
+import com.feedzai.openml.data.schema.StringValueSchema;
+import com.feedzai.openml.util.data.DatasetSchemaFingerprint;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+import org.junit.Test;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests for the {@link DatasetSchemaBinaryCodec}.
+ *
+ * @author agent (agent@local)
+ * @since 1.3.0
+ */
+public class DatasetSchemaBinaryCodecTest {
+
+    /**
+     * Tests that schemas survive a round trip through the binary encoding.
+     *
+     * @throws IOException If the schema cannot be decoded.
+     */
+    @Test
+    public void testRoundTrip() throws IOException {
+        final Set<String> nominalValues = IntStream.range(0, 1000)
+                .mapToObj(value -> "v\u00e1lue-" + value)
+                .collect(Collectors.toSet());
+
+        final DatasetSchema withTarget = new DatasetSchema(2, ImmutableList.of(
+                new FieldSchema("numeric", 0, new NumericValueSchema(true)),
+                new FieldSchema("string", 1, new StringValueSchema(false)),
+                new FieldSchema("categorical", 2, new CategoricalValueSchema(false, nominalValues))
+        ));
+        final DatasetSchema withoutTarget = new DatasetSchema(withTarget.getFieldSchemas());
+
+        assertThat(DatasetSchemaBinaryCodec.decode(DatasetSchemaBinaryCodec.encode(withTarget)))
+                .as("The decoded schema with a target")
+                .isEqualTo(withTarget);
+        assertThat(DatasetSchemaBinaryCodec.decode(DatasetSchemaBinaryCodec.encode(withoutTarget)))
+                .as("The decoded schema without a target")
+                .isEqualTo(withoutTarget);
+    }
+
+    /**
+     * Tests that the fingerprint of the json schema is decoded from the header of the encoded schema.
+     *
+     * @throws IOException If the fingerprint cannot be decoded.
+     */
+    @Test
+    public void testJsonFingerprint() throws IOException {
+        final DatasetSchema schema = new DatasetSchema(ImmutableList.of(
+                new FieldSchema("numeric", 0, new NumericValueSchema(false))
+        ));
+
+        assertThat(DatasetSchemaBinaryCodec.decodeJsonFingerprint(DatasetSchemaBinaryCodec.encode(schema)))
+                .as("The json fingerprint of a schema encoded without one")
+                .isEqualTo(DatasetSchemaFingerprint.of(schema));
+
+        final byte[] encoded = DatasetSchemaBinaryCodec.encode(schema, "fingerprint");
+        assertThat(DatasetSchemaBinaryCodec.decodeJsonFingerprint(encoded))
+                .as("The json fingerprint of a schema encoded with one")
+                .isEqualTo("fingerprint");
+        assertThat(DatasetSchemaBinaryCodec.decode(encoded))
+                .as("The decoded schema encoded with a json fingerprint")
+                .isEqualTo(schema);
+    }
+
+    /**
+     * Tests that invalid encodings are rejected.
+     */
+    @Test
+    public void testInvalidEncodings() {
+        final byte[] encoded = DatasetSchemaBinaryCodec.encode(new DatasetSchema(0, ImmutableList.of(
+                new FieldSchema("field", 0, new CategoricalValueSchema(false, ImmutableSet.of("a", "b")))
+        )));
+
+        assertThatThrownBy(() -> DatasetSchemaBinaryCodec.decode(Arrays.copyOf(encoded, encoded.length - 1)))
+                .as("Decoding a truncated schema")
+                .isInstanceOf(EOFException.class);
+        assertThatThrownBy(() -> DatasetSchemaBinaryCodec.decode(Arrays.copyOf(encoded, encoded.length + 1)))
+                .as("Decoding a schema with trailing bytes")
+                .isInstanceOf(IOException.class);
+
+        final byte[] wrongMagic = encoded.clone();
+        wrongMagic[0] = '{';
+        assertThatThrownBy(() -> DatasetSchemaBinaryCodec.decode(wrongMagic))
+                .as("Decoding bytes that are not a schema")
+                .isInstanceOf(IOException.class);
+
+        final byte[] wrongVersion = encoded.clone();
+        wrongVersion[DatasetSchemaBinaryCodec.MAGIC.length] = DatasetSchemaBinaryCodec.VERSION + 1;
+        assertThatThrownBy(() -> DatasetSchemaBinaryCodec.decode(wrongVersion))
+                .as("Decoding a schema with an unknown version")
+                .isInstanceOf(IOException.class)
+                .hasMessageContaining("version");
+    }
+
+    /**
+     * Tests that corrupted counts of fields are rejected with an {@link IOException} instead of being used to size
+     * arrays.
+     */
+    @Test
+    public void testCorruptedCounts() {
+        // the magic bytes, the version, an empty json fingerprint and no target, followed by the number of fields
+        final byte[] header = Arrays.copyOf(DatasetSchemaBinaryCodec.MAGIC, DatasetSchemaBinaryCodec.MAGIC.length + 3);
+        header[DatasetSchemaBinaryCodec.MAGIC.length] = DatasetSchemaBinaryCodec.VERSION;
+
+        final byte[] hugeCount = withSuffix(header, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0x07);
+        assertThatThrownBy(() -> DatasetSchemaBinaryCodec.decode(hugeCount))
+                .as("Decoding a schema with more fields than bytes")
+                .isInstanceOf(EOFException.class);
+
+        final byte[] negativeCount =
+                withSuffix(header, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0x0F);
+        assertThatThrownBy(() -> DatasetSchemaBinaryCodec.decode(negativeCount))
+                .as("Decoding a schema with a negative number of fields")
+                .isInstanceOf(IOException.class)
+                .hasMessageContaining("Negative");
+    }
+
+    /**
+     * Appends bytes to an array.
+     *
+     * @param prefix The array.
+     * @param suffix The bytes to append.
+     * @return A new array with the bytes of both.
+     */
+    private static byte[] withSuffix(final byte[] prefix, final byte... suffix) {
+        final byte[] result = Arrays.copyOf(prefix, prefix.length + suffix.length);
+        System.arraycopy(suffix, 0, result, prefix.length, suffix.length);
+        return result;
+    }
+}
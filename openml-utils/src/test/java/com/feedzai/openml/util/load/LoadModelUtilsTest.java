@@ -59,4 +59,23 @@ public class LoadModelUtilsTest {
                 .isInstanceOf(ModelLoadingException.class)
                 .hasMessageContaining("should be a directory");
     }
+
+    /**
+     * Tests that the binary of the model can be mapped into memory.
+     *
+     * @throws ModelLoadingException If any error was found.
+     */
+    @Test
+    public void mapModelFileTest() throws ModelLoadingException {
+        final String directoryPath = getClass().getResource("/random_forest").getPath();
+
+        try (MappedModelFile modelFile = LoadModelUtils.mapModelFile(Paths.get(directoryPath))) {
+            assertThat(modelFile.getFile())
+                    .as("path of the mapped binary of the model")
+                    .isEqualTo(Paths.get(directoryPath + "/model/dummy_model"));
+            assertThat(modelFile.size())
+                    .as("size of the mapped binary of the model")
+                    .isEqualTo(Paths.get(directoryPath + "/model/dummy_model").toFile().length());
+        }
+    }
 }
@@ -17,18 +17,28 @@
 
 package com.feedzai.openml.util.load;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.feedzai.openml.data.schema.AbstractValueSchema;
 import com.feedzai.openml.data.schema.CategoricalValueSchema;
 import com.feedzai.openml.data.schema.DatasetSchema;
 import com.feedzai.openml.data.schema.NumericValueSchema;
 import com.feedzai.openml.data.schema.StringValueSchema;
 import com.feedzai.openml.provider.exception.ModelLoadingException;
+import com.feedzai.openml.util.data.DatasetSchemaFingerprint;
+import com.feedzai.openml.util.jackson.SerializersInModule;
+import com.feedzai.openml.util.jackson.deserializer.DatasetSchemaDeserializer;
 import com.google.common.collect.ImmutableSet;
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
 
 import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.attribute.FileTime;
 
 import static org.assertj.core.api.Java6Assertions.assertThat;
 import static org.assertj.core.api.Java6Assertions.assertThatThrownBy;
@@ -41,6 +51,12 @@ import static org.assertj.core.api.Java6Assertions.assertThatThrownBy;
  */
 public class LoadSchemaUtilsTest {
 
+    /**
+     * Folder to write schemas into.
+     */
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
     /**
      * Tests that is possible to get the {@link DatasetSchema} from a json file.
      *
@@ -99,4 +115,108 @@ public class LoadSchemaUtilsTest {
                 .as("The string representation of a NumericValueSchema")
                 .isEqualTo(LoadSchemaUtils.NUMERIC);
     }
+
+    /**
+     * Tests that {@link LoadSchemaUtils#readFingerprint(Path)} reads the fingerprint written with the schema, and
+     * nothing when the schema was written without one.
+     *
+     * @throws Exception In case of error writing or reading the schema.
+     * @since 1.3.0
+     */
+    @Test
+    public void readFingerprintTest() throws Exception {
+        final Path withoutFingerprint = Paths.get(getClass().getResource(File.separator + "random_forest").getPath());
+        assertThat(LoadSchemaUtils.readFingerprint(withoutFingerprint).isPresent())
+                .as("The fingerprint of a schema written without one")
+                .isFalse();
+
+        final DatasetSchema schema = LoadSchemaUtils.datasetSchemaFromJson(withoutFingerprint);
+        final ObjectMapper mapper = new ObjectMapper();
+        mapper.registerModule(new SerializersInModule());
+        final File directory = this.temporaryFolder.newFolder("model");
+        mapper.writeValue(new File(directory, "model.json"), schema);
+
+        assertThat(LoadSchemaUtils.readFingerprint(directory.toPath()).orElse(null))
+                .as("The fingerprint of a schema written with one")
+                .isEqualTo(DatasetSchemaFingerprint.of(schema));
+        assertThat(LoadSchemaUtils.datasetSchemaFromJson(directory.toPath()))
+                .as("The schema written with a fingerprint")
+                .isEqualTo(schema);
+    }
+
+    /**
+     * Tests that {@link LoadSchemaUtils#datasetSchemaFromPath(Path)} prefers the binary schema, unless it was created
+     * from another json schema or cannot be decoded.
+     *
+     * @throws Exception In case of error writing or reading the schema.
+     * @since 1.3.0
+     */
+    @Test
+    public void schemaFromPathTest() throws Exception {
+        final Path original = Paths.get(getClass().getResource(File.separator + "random_forest").getPath());
+        final DatasetSchema jsonSchema = LoadSchemaUtils.datasetSchemaFromJson(original);
+
+        final Path directory = this.temporaryFolder.newFolder("binary").toPath();
+        assertThat(LoadSchemaUtils.datasetSchemaFromPath(copyJson(original, directory)))
+                .as("The schema loaded from a path with only the json file")
+                .isEqualTo(jsonSchema);
+
+        final DatasetSchema binarySchema = new DatasetSchema(jsonSchema.getFieldSchemas());
+        LoadSchemaUtils.writeBinarySchema(directory, binarySchema);
+        assertThat(LoadSchemaUtils.datasetSchemaFromPath(directory))
+                .as("The schema loaded from a path with an up to date binary file")
+                .isEqualTo(binarySchema);
+
+        final Path binaryFile = directory.resolve(LoadSchemaUtils.SCHEMA_BINARY_FILE);
+        Files.setLastModifiedTime(binaryFile, FileTime.fromMillis(0));
+        assertThat(LoadSchemaUtils.datasetSchemaFromPath(directory))
+                .as("The schema loaded from a path with a binary file older than the unchanged json file")
+                .isEqualTo(binarySchema);
+
+        final ObjectMapper mapper = new ObjectMapper();
+        mapper.registerModule(new SerializersInModule());
+        mapper.writeValue(directory.resolve("model.json").toFile(), jsonSchema);
+        assertThat(LoadSchemaUtils.datasetSchemaFromPath(directory))
+                .as("The schema loaded from a path with a stale binary file")
+                .isEqualTo(jsonSchema);
+
+        LoadSchemaUtils.writeBinarySchema(directory, binarySchema);
+        assertThat(LoadSchemaUtils.datasetSchemaFromPath(directory))
+                .as("The schema loaded from a path with a binary file created from a json file with a fingerprint")
+                .isEqualTo(binarySchema);
+
+        // edited by hand, keeping the fingerprint of the schema it was written with
+        final Path jsonFile = directory.resolve("model.json");
+        final String json = new String(Files.readAllBytes(jsonFile), StandardCharsets.UTF_8);
+        assertThat(json)
+                .as("The json file with a fingerprint")
+                .contains(DatasetSchemaDeserializer.FINGERPRINT)
+                .contains("\"amount\"");
+        Files.write(jsonFile, json.replace("\"amount\"", "\"value\"").getBytes(StandardCharsets.UTF_8));
+        final DatasetSchema editedSchema = LoadSchemaUtils.datasetSchemaFromJson(directory);
+        assertThat(editedSchema.getFieldSchemas().get(1).getFieldName())
+                .as("The name of the field edited by hand")
+                .isEqualTo("value");
+        assertThat(LoadSchemaUtils.datasetSchemaFromPath(directory))
+                .as("The schema loaded from a path with a json file edited by hand that kept its fingerprint")
+                .isEqualTo(editedSchema);
+
+        Files.write(binaryFile, new byte[]{1, 2, 3});
+        assertThat(LoadSchemaUtils.datasetSchemaFromPath(directory))
+                .as("The schema loaded from a path with a corrupted binary file")
+                .isEqualTo(editedSchema);
+    }
+
+    /**
+     * Copies the model.json file of a directory into another.
+     *
+     * @param source      The source directory.
+     * @param destination The destination directory.
+     * @return The destination directory.
+     * @throws IOException If the file cannot be copied.
+     */
+    private static Path copyJson(final Path source, final Path destination) throws IOException {
+        Files.copy(source.resolve("model.json"), destination.resolve("model.json"));
+        return destination;
+    }
 }
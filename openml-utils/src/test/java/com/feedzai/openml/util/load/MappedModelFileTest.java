@@ -0,0 +1,209 @@
+/*
+ * Copyright 2026 Feedzai
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.feedzai.openml.util.load;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.DataOutputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for the {@link MappedModelFile}.
+ *
+ * @author agent (agent@local)
+ * @since 1.3.0
+ */
+public class MappedModelFileTest {
+
+    /**
+     * The number of longs written to the test file.
+     */
+    private static final int NUM_LONGS = 100;
+
+    /**
+     * Folder where the test file is created.
+     */
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    /**
+     * Tests that values are read correctly from a file mapped in many chunks, including values that cross the boundary
+     * between chunks.
+     *
+     * @throws Exception If the test fails unexpectedly.
+     */
+    @Test
+    public void testChunkedReads() throws Exception {
+        final Path file = writeLongs();
+
+        try (MappedModelFile mapped = MappedModelFile.map(file, 13)) {
+            assertThat(mapped.size())
+                    .as("The size of the mapped file")
+                    .isEqualTo((long) NUM_LONGS * Long.BYTES);
+            assertThat(mapped.getNumChunks())
+                    .as("The number of chunks")
+                    .isEqualTo((NUM_LONGS * Long.BYTES + 12) / 13);
+            assertThat(mapped.getChunkOffset(2))
+                    .as("The offset of a chunk")
+                    .isEqualTo(26L);
+
+            final long[] longs = mapped.read(reader -> {
+                final long[] values = new long[NUM_LONGS];
+                for (int i = 0; i < NUM_LONGS; i++) {
+                    values[i] = reader.getLong((long) i * Long.BYTES);
+                }
+                return values;
+            });
+            final long[] bulkLongs = new long[NUM_LONGS];
+            mapped.getLongs(0, bulkLongs);
+            for (int i = 0; i < NUM_LONGS; i++) {
+                assertThat(longs[i])
+                        .as("The long at index %d", i)
+                        .isEqualTo(i * 1_000_003L);
+                assertThat(bulkLongs[i])
+                        .as("The long at index %d copied in bulk", i)
+                        .isEqualTo(i * 1_000_003L);
+            }
+            final int secondInt = mapped.read(reader -> reader.getInt(4));
+            assertThat(secondInt)
+                    .as("The int at offset 4")
+                    .isEqualTo(0);
+            final int[] ints = new int[3];
+            mapped.getInts(12, ints);
+            assertThat(ints[0])
+                    .as("The int at offset 12, across two chunks")
+                    .isEqualTo(1_000_003);
+            assertThat(ints[2])
+                    .as("The int at offset 20, across two chunks")
+                    .isEqualTo(2 * 1_000_003);
+
+            final byte[] bytes = new byte[40];
+            mapped.getBytes(8, bytes, 0, bytes.length);
+            final ByteBuffer expected = ByteBuffer.allocate(40);
+            for (int i = 1; i <= 5; i++) {
+                expected.putLong(i * 1_000_003L);
+            }
+            assertThat(Arrays.equals(bytes, expected.array()))
+                    .as("Whether the bytes copied across chunks are correct")
+                    .isTrue();
+
+            final long first = mapped.readChunk(1, chunk -> chunk.getLong(0));
+            assertThat(first)
+                    .as("The first long of the view of the second chunk")
+                    .isEqualTo(ByteBuffer.wrap(expected.array(), 5, 8).getLong());
+            final boolean readOnly = mapped.readChunk(1, ByteBuffer::isReadOnly);
+            assertThat(readOnly)
+                    .as("Whether the view of a chunk is read-only")
+                    .isTrue();
+
+            assertThatThrownBy(() -> mapped.read(reader -> reader.getLong(mapped.size() - 4)))
+                    .as("Reading past the end of the file")
+                    .isInstanceOf(IndexOutOfBoundsException.class);
+            assertThatThrownBy(() -> mapped.getDoubles(8, new double[NUM_LONGS]))
+                    .as("Copying values past the end of the file")
+                    .isInstanceOf(IndexOutOfBoundsException.class);
+
+            final MappedModelFile.Reader escaped = mapped.read(reader -> reader);
+            assertThatThrownBy(() -> escaped.getLong(0))
+                    .as("Reading with a reader after its read")
+                    .isInstanceOf(IllegalStateException.class);
+
+            mapped.close();
+            assertThatThrownBy(() -> mapped.read(reader -> reader.getLong(0)))
+                    .as("Reading a closed file")
+                    .isInstanceOf(IllegalStateException.class);
+            assertThatThrownBy(() -> mapped.getLongs(0, new long[1]))
+                    .as("Copying values of a closed file")
+                    .isInstanceOf(IllegalStateException.class);
+            assertThatThrownBy(() -> mapped.readChunk(0, ByteBuffer::capacity))
+                    .as("Reading a chunk of a closed file")
+                    .isInstanceOf(IllegalStateException.class);
+        }
+    }
+
+    /**
+     * Tests that closing a file while a chunk is being read only releases the mappings once the read finishes.
+     *
+     * @throws Exception If the test fails unexpectedly.
+     */
+    @Test
+    public void testCloseDuringRead() throws Exception {
+        final MappedModelFile mapped = MappedModelFile.map(writeLongs());
+
+        final long last = mapped.readChunk(0, chunk -> {
+            mapped.close();
+            assertThatThrownBy(() -> mapped.read(reader -> reader.getLong(0)))
+                    .as("Reading a file closed during another read")
+                    .isInstanceOf(IllegalStateException.class);
+            return chunk.getLong((NUM_LONGS - 1) * Long.BYTES);
+        });
+
+        assertThat(last)
+                .as("The last long read from a chunk of a file closed during the read")
+                .isEqualTo((NUM_LONGS - 1) * 1_000_003L);
+    }
+
+    /**
+     * Tests that a file smaller than a chunk is mapped in a single chunk.
+     *
+     * @throws Exception If the test fails unexpectedly.
+     */
+    @Test
+    public void testSingleChunk() throws Exception {
+        try (MappedModelFile mapped = MappedModelFile.map(writeLongs())) {
+            assertThat(mapped.getNumChunks())
+                    .as("The number of chunks")
+                    .isEqualTo(1);
+            final double last = mapped.read(reader -> reader.getDouble((NUM_LONGS - 1) * Long.BYTES));
+            assertThat(last)
+                    .as("The last value read as a double")
+                    .isEqualTo(Double.longBitsToDouble((NUM_LONGS - 1) * 1_000_003L));
+            final float[] floats = new float[2];
+            mapped.getFloats((NUM_LONGS - 1) * Long.BYTES, floats);
+            assertThat(floats[1])
+                    .as("The last value read as a float")
+                    .isEqualTo(Float.intBitsToFloat((int) ((NUM_LONGS - 1) * 1_000_003L)));
+        }
+    }
+
+    /**
+     * Writes a file with {@link #NUM_LONGS} longs, the i-th being {@code i * 1_000_003}.
+     *
+     * @return The path of the file.
+     * @throws Exception If the file cannot be written.
+     */
+    private Path writeLongs() throws Exception {
+        final Path file = this.temporaryFolder.newFile("model.bin").toPath();
+        try (OutputStream stream = Files.newOutputStream(file);
+             DataOutputStream output = new DataOutputStream(stream)) {
+            for (int i = 0; i < NUM_LONGS; i++) {
+                output.writeLong(i * 1_000_003L);
+            }
+        }
+        return file;
+    }
+}
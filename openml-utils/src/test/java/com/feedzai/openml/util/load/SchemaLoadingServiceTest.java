@@ -0,0 +1,119 @@
+/*
+ * Copyright 2026 Feedzai
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.feedzai.openml.util.load;
+
+import com.feedzai.openml.data.schema.DatasetSchema;
+import com.feedzai.openml.provider.exception.ModelLoadingException;
+import com.google.common.collect.ImmutableList;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for the {@link SchemaLoadingService}.
+ *
+ * @author agent (agent@local)
+ * @since 1.3.0
+ */
+public class SchemaLoadingServiceTest {
+
+    /**
+     * Folder where the model directories are created.
+     */
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    /**
+     * Tests that repeated loads are served from the cache until the schema files change.
+     *
+     * @throws Exception If the test fails unexpectedly.
+     */
+    @Test
+    public void testCacheAndInvalidation() throws Exception {
+        final Path original = Paths.get(getClass().getResource(File.separator + "random_forest").getPath());
+        final Path directory = this.temporaryFolder.newFolder("model").toPath();
+        Files.copy(original.resolve(LoadSchemaUtils.SCHEMA_IMPORT_MODEL),
+                   directory.resolve(LoadSchemaUtils.SCHEMA_IMPORT_MODEL));
+
+        final SchemaLoadingService service = new SchemaLoadingService(10);
+
+        final DatasetSchema first = service.loadSchema(directory);
+        final DatasetSchema second = service.loadSchema(directory.resolve("..").resolve("model"));
+
+        assertThat(second)
+                .as("The schema loaded again through an equivalent path")
+                .isSameAs(first);
+        assertThat(service.getStats().getHitCount())
+                .as("The number of hits")
+                .isEqualTo(1L);
+        assertThat(service.getStats().getMissCount())
+                .as("The number of misses")
+                .isEqualTo(1L);
+        assertThat(service.getStats().getHitRate())
+                .as("The hit rate")
+                .isEqualTo(0.5);
+
+        final DatasetSchema changed = new DatasetSchema(ImmutableList.of(first.getFieldSchemas().get(0)));
+        LoadSchemaUtils.writeBinarySchema(directory, changed);
+
+        assertThat(service.loadSchema(directory))
+                .as("The schema loaded after the files changed")
+                .isEqualTo(changed);
+        assertThat(service.getStats().getInvalidationCount())
+                .as("The number of invalidations")
+                .isEqualTo(1L);
+        assertThat(service.getStats().getSize())
+                .as("The number of cached schemas")
+                .isEqualTo(1L);
+
+        service.invalidateAll();
+        assertThat(service.getStats().getSize())
+                .as("The number of cached schemas after invalidating all")
+                .isEqualTo(0L);
+    }
+
+    /**
+     * Tests that failures to load a schema are reported and not cached.
+     *
+     * @throws Exception If the test fails unexpectedly.
+     */
+    @Test
+    public void testLoadFailure() throws Exception {
+        final SchemaLoadingService service = new SchemaLoadingService(10);
+        final Path directory = this.temporaryFolder.newFolder("empty").toPath();
+
+        assertThatThrownBy(() -> service.loadSchema(directory))
+                .as("Loading the schema of a directory without schema files")
+                .isInstanceOf(ModelLoadingException.class);
+        assertThat(service.getStats().getSize())
+                .as("The number of cached schemas")
+                .isEqualTo(0L);
+
+        assertThatThrownBy(() -> new SchemaLoadingService(0))
+                .as("Creating a service without capacity")
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,127 @@
+/*
+ * Copyright 2026 Feedzai
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.feedzai.openml.util.model;
+
+import com.google.common.collect.ImmutableList;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for the {@link HeapSizeEstimator}.
+ *
+ * @author agent (agent@local)
+ * @since 1.3.0
+ */
+public class HeapSizeEstimatorTest {
+
+    /**
+     * An estimator for a 64 bit JVM with compressed references.
+     */
+    private static final HeapSizeEstimator ESTIMATOR = new HeapSizeEstimator(12, 16, 4);
+
+    /**
+     * Tests the estimated sizes of arrays.
+     */
+    @Test
+    public void testArrays() {
+        assertThat(ESTIMATOR.estimate(new long[10]))
+                .as("The size of an array of 10 longs")
+                .isEqualTo(96L);
+        assertThat(ESTIMATOR.estimate(new byte[3]))
+                .as("The size of an array of 3 bytes, aligned")
+                .isEqualTo(24L);
+        assertThat(ESTIMATOR.estimate(new Object[]{new byte[0], null}))
+                .as("The size of an array of references and the arrays it references")
+                .isEqualTo(24L + 16L);
+        assertThat(ESTIMATOR.estimate(null))
+                .as("The size of null")
+                .isEqualTo(0L);
+    }
+
+    /**
+     * Tests that the estimated size of an object graph counts every reachable object once.
+     */
+    @Test
+    public void testObjectGraph() {
+        final byte[] shared = new byte[4];
+        final Node first = new Node(shared);
+        final Node second = new Node(shared);
+        first.next = second;
+        second.next = first;
+
+        assertThat(ESTIMATOR.shallowSize(first))
+                .as("The shallow size of a node")
+                .isEqualTo(24L);
+        assertThat(ESTIMATOR.estimate(first))
+                .as("The size of a cycle of two nodes sharing an array")
+                .isEqualTo(24L + 24L + 24L);
+        assertThat(ESTIMATOR.estimate(new Node(null)))
+                .as("The size of a node without references")
+                .isEqualTo(24L);
+    }
+
+    /**
+     * Tests that the estimated size of collections grows with their contents.
+     */
+    @Test
+    public void testCollections() {
+        final List<String> small = new ArrayList<>(ImmutableList.of("a"));
+        final List<String> large = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            large.add("value " + i);
+        }
+
+        assertThat(HeapSizeEstimator.getDefault().estimate(large))
+                .as("The size of a large list compared with a small one")
+                .isGreaterThan(HeapSizeEstimator.getDefault().estimate(small) + 100 * 16);
+    }
+
+    /**
+     * A node of a graph, with a header (12 bytes), two references and an int (4 bytes each), so 24 bytes in total.
+     */
+    private static final class Node {
+
+        /**
+         * The next node.
+         */
+        private Node next;
+
+        /**
+         * The data of the node.
+         */
+        private final byte[] data;
+
+        /**
+         * A value.
+         */
+        private final int value = 1;
+
+        /**
+         * Creates a new instance.
+         *
+         * @param data The data of the node.
+         */
+        Node(final byte[] data) {
+            this.data = data;
+        }
+    }
+}
@@ -0,0 +1,224 @@
+/*
+ * Copyright 2026 Feedzai
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.feedzai.openml.util.model;
+
+import com.feedzai.openml.data.Instance;
+import com.feedzai.openml.data.schema.DatasetSchema;
+import com.feedzai.openml.mocks.MockClassificationModel;
+import com.feedzai.openml.mocks.MockInstance;
+import com.feedzai.openml.mocks.MockModelLoader;
+import com.feedzai.openml.model.MemoryFootprint;
+import com.feedzai.openml.provider.exception.ModelLoadingException;
+import com.feedzai.openml.util.data.schema.TestDatasetSchemaBuilder;
+import org.junit.Test;
+
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for the {@link LazyClassificationModel}.
+ *
+ * @author agent (agent@local)
+ * @since 1.3.0
+ */
+public class LazyClassificationModelTest {
+
+    /**
+     * The schema of the model.
+     */
+    private static final DatasetSchema SCHEMA = TestDatasetSchemaBuilder.builder()
+            .withNumericalFields(1)
+            .withCategoricalFields(1)
+            .build();
+
+    /**
+     * An instance to score.
+     */
+    private static final Instance INSTANCE = new MockInstance(new double[]{1.0, 0.0});
+
+    /**
+     * Tests that the model is only loaded on its first use, once, even with concurrent calls.
+     *
+     * @throws Exception If the test fails unexpectedly.
+     */
+    @Test
+    public void testLoadOnFirstUse() throws Exception {
+        final MockModelLoader<MockClassificationModel> loader = loader(0);
+        final LazyClassificationModel model = LazyClassificationModel.of(Paths.get("model"), loader, null, null);
+
+        assertThat(model.getSchema())
+                .as("The schema of the model before it is loaded")
+                .isEqualTo(SCHEMA);
+        assertThat(model.isLoaded())
+                .as("Whether the model is loaded before its first use")
+                .isFalse();
+
+        final ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            final List<Future<double[]>> scores = IntStream.range(0, 8)
+                    .mapToObj(i -> executor.submit(() -> model.getClassDistribution(INSTANCE)))
+                    .collect(Collectors.toList());
+            for (final Future<double[]> score : scores) {
+                assertThat(score.get(10, TimeUnit.SECONDS))
+                        .as("The scores of each concurrent call")
+                        .containsExactly(0.5, 0.5);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(loader.getLoadedModels())
+                .as("The models loaded")
+                .hasSize(1);
+
+        model.close();
+        assertThat(loader.getLoadedModels().get(0).getCloses())
+                .as("The number of times the model was closed with the proxy")
+                .isEqualTo(1);
+        assertThatThrownBy(() -> model.getClassDistribution(INSTANCE))
+                .as("Scoring with a closed proxy")
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    /**
+     * Tests that the model is unloaded after being idle, and loaded again on the next use.
+     *
+     * @throws Exception If the test fails unexpectedly.
+     */
+    @Test
+    public void testIdleUnload() throws Exception {
+        final MockModelLoader<MockClassificationModel> loader = loader(0);
+        final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+        try {
+            final LazyClassificationModel model = LazyClassificationModel.of(
+                    Paths.get("model"), loader, Duration.ofMillis(20), scheduler
+            );
+
+            model.getClassDistribution(INSTANCE);
+            final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+            while (model.isLoaded() && System.nanoTime() < deadline) {
+                Thread.sleep(5);
+            }
+
+            assertThat(model.isLoaded())
+                    .as("Whether the model is loaded after being idle")
+                    .isFalse();
+            assertThat(loader.getLoadedModels().get(0).getCloses())
+                    .as("The number of times the idle model was closed")
+                    .isEqualTo(1);
+
+            model.getClassDistribution(INSTANCE);
+            assertThat(loader.getLoadedModels())
+                    .as("The models loaded after using the model again")
+                    .hasSize(2);
+            model.close();
+        } finally {
+            scheduler.shutdownNow();
+        }
+    }
+
+    /**
+     * Tests that failures to load the model are thrown to the caller and retried on the next call.
+     */
+    @Test
+    public void testLoadFailure() {
+        final MockModelLoader<MockClassificationModel> loader = loader(1);
+        final LazyClassificationModel model = new LazyClassificationModel(Paths.get("model"), SCHEMA, loader);
+
+        assertThatThrownBy(() -> model.getClassDistribution(INSTANCE))
+                .as("Scoring with a model that fails to load")
+                .isInstanceOf(IllegalStateException.class)
+                .hasCauseInstanceOf(ModelLoadingException.class);
+        assertThat(model.getClassDistribution(INSTANCE))
+                .as("The scores after a successful retry")
+                .containsExactly(0.5, 0.5);
+    }
+
+    /**
+     * Tests that the proxy is only thread-safe if the model is, and that this is remembered after the model is
+     * unloaded.
+     */
+    @Test
+    public void testThreadSafety() {
+        final MockModelLoader<MockClassificationModel> loader = loader(0);
+        final LazyClassificationModel model = new LazyClassificationModel(Paths.get("model"), SCHEMA, loader);
+
+        assertThat(model.isThreadSafe())
+                .as("Whether a proxy of a model that is not thread-safe is thread-safe")
+                .isFalse();
+
+        model.unload();
+        assertThat(model.isThreadSafe())
+                .as("Whether the proxy is thread-safe after unloading the model")
+                .isFalse();
+        assertThat(loader.getLoadedModels())
+                .as("The models loaded")
+                .hasSize(1);
+        assertThat(model.isLoaded())
+                .as("Whether the model is loaded again to know whether it is thread-safe")
+                .isFalse();
+    }
+
+    /**
+     * Tests that the footprint of the proxy is the one of the loaded model, and that getting it does not load the
+     * model.
+     */
+    @Test
+    public void testMemoryFootprint() {
+        final MockModelLoader<MockClassificationModel> loader = loader(0);
+        final LazyClassificationModel model = new LazyClassificationModel(Paths.get("model"), SCHEMA, loader);
+
+        assertThat(model.getMemoryFootprint())
+                .as("The footprint of the proxy before the model is loaded")
+                .isEqualTo(MemoryFootprint.EMPTY);
+        assertThat(model.isLoaded())
+                .as("Whether the model is loaded to get the footprint of the proxy")
+                .isFalse();
+
+        model.getClassDistribution(INSTANCE);
+        assertThat(model.getMemoryFootprint())
+                .as("The footprint of the proxy after the model is loaded")
+                .isEqualTo(ModelFootprints.of(loader.getLoadedModels().get(0)));
+    }
+
+    /**
+     * Creates a loader of models that are not thread-safe and always return the same scores, which fails a given
+     * number of times first.
+     *
+     * @param failures The number of loads that should fail.
+     * @return The loader.
+     */
+    private static MockModelLoader<MockClassificationModel> loader(final int failures) {
+        return new MockModelLoader<>(
+                SCHEMA,
+                attempt -> attempt < failures,
+                () -> new MockClassificationModel(SCHEMA, false, 0.5, 0.5)
+        );
+    }
+}
@@ -0,0 +1,147 @@
+/*
+ * Copyright 2026 Feedzai
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.feedzai.openml.util.model;
+
+import com.feedzai.openml.data.schema.DatasetSchema;
+import com.feedzai.openml.mocks.MockClassificationModel;
+import com.feedzai.openml.model.MemoryFootprint;
+import com.feedzai.openml.model.MemoryFootprintAware;
+import com.feedzai.openml.util.data.schema.TestDatasetSchemaBuilder;
+import com.google.common.collect.ImmutableList;
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for the {@link ModelFootprints}.
+ *
+ * @author agent (agent@local)
+ * @since 1.3.0
+ */
+public class ModelFootprintsTest {
+
+    /**
+     * The schema of the models.
+     */
+    private static final DatasetSchema SCHEMA = TestDatasetSchemaBuilder.builder().withCategoricalFields(1).build();
+
+    /**
+     * Tests that the footprint reported by a model is preferred over the estimate.
+     */
+    @Test
+    public void testReportedFootprint() {
+        final MemoryFootprint footprint = new MemoryFootprint(1000, 25);
+        final TestModel model = new ReportingModel(footprint);
+
+        assertThat(ModelFootprints.of(model))
+                .as("The footprint of a model that reports it")
+                .isEqualTo(footprint);
+        assertThat(ModelFootprints.weigherInKilobytes().applyAsInt(model))
+                .as("The weight of a model that reports 1025 bytes")
+                .isEqualTo(2);
+    }
+
+    /**
+     * Tests that the heap size of a model that does not report its footprint is estimated.
+     */
+    @Test
+    public void testEstimatedFootprint() {
+        final TestModel model = new TestModel(new double[100_000]);
+        final MemoryFootprint footprint = ModelFootprints.of(model);
+
+        assertThat(footprint.getHeapBytes())
+                .as("The estimated heap bytes of a model with 100000 doubles")
+                .isGreaterThan(800_000L);
+        assertThat(footprint.getOffHeapBytes())
+                .as("The estimated off-heap bytes of a model")
+                .isEqualTo(0L);
+    }
+
+    /**
+     * Tests that the models that wrap other models report the footprint of the wrapped models, which an estimate
+     * would not see through.
+     */
+    @Test
+    public void testWrappedFootprint() {
+        final MemoryFootprint footprint = new MemoryFootprint(1000, 25);
+
+        final SwappableClassificationModel swappable = new SwappableClassificationModel(new ReportingModel(footprint));
+        assertThat(ModelFootprints.of(swappable))
+                .as("The footprint of a swappable model")
+                .isEqualTo(footprint);
+        swappable.close();
+        assertThat(ModelFootprints.of(swappable))
+                .as("The footprint of a closed swappable model")
+                .isEqualTo(MemoryFootprint.EMPTY);
+
+        final PooledClassificationModel pool = new PooledClassificationModel(ImmutableList.of(
+                new ReportingModel(footprint),
+                new ReportingModel(footprint)
+        ));
+        assertThat(ModelFootprints.of(pool))
+                .as("The footprint of a pool of two models")
+                .isEqualTo(footprint.plus(footprint));
+    }
+
+    /**
+     * A model with some weights.
+     */
+    private static class TestModel extends MockClassificationModel {
+
+        /**
+         * The weights of the model.
+         */
+        private final double[] weights;
+
+        /**
+         * Creates a new instance.
+         *
+         * @param weights The weights of the model.
+         */
+        TestModel(final double[] weights) {
+            super(SCHEMA, 1.0, 0.0);
+            this.weights = weights;
+        }
+    }
+
+    /**
+     * A model that reports its footprint.
+     */
+    private static final class ReportingModel extends TestModel implements MemoryFootprintAware {
+
+        /**
+         * The footprint of the model.
+         */
+        private final MemoryFootprint footprint;
+
+        /**
+         * Creates a new instance.
+         *
+         * @param footprint The footprint of the model.
+         */
+        ReportingModel(final MemoryFootprint footprint) {
+            super(new double[0]);
+            this.footprint = footprint;
+        }
+
+        @Override
+        public MemoryFootprint getMemoryFootprint() {
+            return this.footprint;
+        }
+    }
+}
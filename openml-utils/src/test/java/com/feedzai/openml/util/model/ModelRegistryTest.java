@@ -0,0 +1,295 @@
+/*
+ * Copyright 2026 Feedzai
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.feedzai.openml.util.model;
+
+import com.feedzai.openml.mocks.MockClassificationModel;
+import com.feedzai.openml.provider.exception.ModelLoadingException;
+import org.junit.Test;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for the {@link ModelRegistry}.
+ *
+ * @author agent (agent@local)
+ * @since 1.3.0
+ */
+public class ModelRegistryTest {
+
+    /**
+     * Tests that concurrent acquisitions of the same model only load it once.
+     *
+     * @throws Exception If the test fails unexpectedly.
+     */
+    @Test
+    public void testSingleFlightLoad() throws Exception {
+        final AtomicInteger loads = new AtomicInteger();
+        final CountDownLatch loading = new CountDownLatch(1);
+        final ModelRegistry<String, TestModel> registry = ModelRegistry.<String, TestModel>builder(key -> {
+            loads.incrementAndGet();
+            awaitUninterruptibly(loading);
+            return new TestModel(key, 1);
+        }).build();
+
+        final ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            final List<Future<ModelLease<TestModel>>> leases = IntStream.range(0, 4)
+                    .mapToObj(i -> executor.submit(() -> registry.acquire("model")))
+                    .collect(Collectors.toList());
+            loading.countDown();
+
+            final TestModel first = leases.get(0).get(10, TimeUnit.SECONDS).get();
+            for (final Future<ModelLease<TestModel>> lease : leases) {
+                assertThat(lease.get(10, TimeUnit.SECONDS).get())
+                        .as("The model of each concurrent lease")
+                        .isSameAs(first);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(loads.get())
+                .as("The number of times the model was loaded")
+                .isEqualTo(1);
+    }
+
+    /**
+     * Tests that evicted models are only closed after all their leases are closed.
+     *
+     * @throws Exception If the test fails unexpectedly.
+     */
+    @Test
+    public void testEvictionWaitsForLeases() throws Exception {
+        final ModelRegistry<String, TestModel> registry = ModelRegistry.<String, TestModel>builder(
+                key -> new TestModel(key, 1)
+        ).maximumSize(1).build();
+
+        final ModelLease<TestModel> lease = registry.acquire("first");
+        final TestModel first = lease.get();
+
+        registry.acquire("second").close();
+
+        assertThat(registry.contains("first"))
+                .as("Whether the least recently used model is still in the registry")
+                .isFalse();
+        assertThat(first.getCloses())
+                .as("The number of times an evicted but leased model was closed")
+                .isEqualTo(0);
+
+        lease.close();
+        lease.close();
+        assertThat(first.getCloses())
+                .as("The number of times an evicted model was closed after its lease")
+                .isEqualTo(1);
+        assertThatThrownBy(lease::get)
+                .as("Getting the model of a closed lease")
+                .isInstanceOf(IllegalStateException.class);
+
+        try (ModelLease<TestModel> reloaded = registry.acquire("first")) {
+            assertThat(reloaded.get())
+                    .as("The model acquired again after being evicted")
+                    .isNotSameAs(first);
+        }
+
+        registry.close();
+        assertThat(registry.size())
+                .as("The number of models after closing the registry")
+                .isEqualTo(0L);
+        assertThatThrownBy(() -> registry.acquire("first"))
+                .as("Acquiring a model from a closed registry")
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    /**
+     * Tests that a registry bounded by weight evicts models to stay under its maximum weight.
+     *
+     * @throws Exception If the test fails unexpectedly.
+     */
+    @Test
+    public void testWeightBound() throws Exception {
+        final ModelRegistry<Integer, TestModel> registry = ModelRegistry.<Integer, TestModel>builder(
+                key -> new TestModel(String.valueOf(key), key)
+        ).maximumWeight(10, model -> model.weight).build();
+
+        registry.acquire(4).close();
+        registry.acquire(5).close();
+        assertThat(registry.size())
+                .as("The number of models under the maximum weight")
+                .isEqualTo(2L);
+
+        try (ModelLease<TestModel> lease = registry.acquire(20)) {
+            assertThat(lease.get().weight)
+                    .as("The weight of a model heavier than the whole registry")
+                    .isEqualTo(20);
+            assertThat(lease.get().getCloses())
+                    .as("The number of times a leased model heavier than the registry was closed")
+                    .isEqualTo(0);
+        }
+        assertThat(registry.contains(20))
+                .as("Whether a model heavier than the whole registry is kept")
+                .isFalse();
+    }
+
+    /**
+     * Tests that the maximum weight bounds the registry as a whole, so that a model heavier than a fraction of it is
+     * kept and not reloaded on every acquisition.
+     *
+     * @throws Exception If the test fails unexpectedly.
+     */
+    @Test
+    public void testWeightBoundIsGlobal() throws Exception {
+        final AtomicInteger loads = new AtomicInteger();
+        final ModelRegistry<Integer, TestModel> registry = ModelRegistry.<Integer, TestModel>builder(key -> {
+            loads.incrementAndGet();
+            return new TestModel(String.valueOf(key), key);
+        }).maximumWeight(1000, model -> model.weight).build();
+
+        registry.acquire(300).close();
+        registry.acquire(300).close();
+        registry.acquire(600).close();
+
+        assertThat(registry.contains(300))
+                .as("Whether a model heavier than a quarter of the registry is kept")
+                .isTrue();
+        assertThat(registry.contains(600))
+                .as("Whether a model heavier than half of the registry is kept")
+                .isTrue();
+        assertThat(loads.get())
+                .as("The number of times the models were loaded")
+                .isEqualTo(2);
+    }
+
+    /**
+     * Tests that a model loaded while the registry is closed is closed as well, instead of being left in the registry.
+     *
+     * @throws Exception If the test fails unexpectedly.
+     */
+    @Test
+    public void testCloseWhileLoading() throws Exception {
+        final CountDownLatch loading = new CountDownLatch(1);
+        final CountDownLatch closed = new CountDownLatch(1);
+        final AtomicReference<TestModel> loaded = new AtomicReference<>();
+        final ModelRegistry<String, TestModel> registry = ModelRegistry.<String, TestModel>builder(key -> {
+            loading.countDown();
+            awaitUninterruptibly(closed);
+            loaded.set(new TestModel(key, 1));
+            return loaded.get();
+        }).build();
+
+        final ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            final Future<ModelLease<TestModel>> lease = executor.submit(() -> registry.acquire("model"));
+            awaitUninterruptibly(loading);
+            registry.close();
+            closed.countDown();
+
+            assertThatThrownBy(() -> lease.get(10, TimeUnit.SECONDS))
+                    .as("Acquiring a model while the registry is closed")
+                    .hasCauseInstanceOf(IllegalStateException.class);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(registry.size())
+                .as("The number of models after closing the registry")
+                .isEqualTo(0L);
+        assertThat(loaded.get().getCloses())
+                .as("The number of times the model loaded while closing the registry was closed")
+                .isEqualTo(1);
+    }
+
+    /**
+     * Tests that failures to load a model are propagated and not cached.
+     */
+    @Test
+    public void testLoadFailure() {
+        final AtomicInteger attempts = new AtomicInteger();
+        final ModelRegistry<String, TestModel> registry = ModelRegistry.<String, TestModel>builder(key -> {
+            attempts.incrementAndGet();
+            throw new ModelLoadingException("Could not load " + key);
+        }).build();
+
+        assertThatThrownBy(() -> registry.acquire("model"))
+                .as("Acquiring a model that fails to load")
+                .isInstanceOf(ModelLoadingException.class);
+        assertThatThrownBy(() -> registry.acquire("model"))
+                .as("Acquiring again a model that fails to load")
+                .isInstanceOf(ModelLoadingException.class);
+        assertThat(attempts.get())
+                .as("The number of attempts to load the model")
+                .isEqualTo(2);
+    }
+
+    /**
+     * Waits for a latch, ignoring interruptions.
+     *
+     * @param latch The latch.
+     */
+    private static void awaitUninterruptibly(final CountDownLatch latch) {
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * A model with a name and a weight.
+     */
+    private static final class TestModel extends MockClassificationModel {
+
+        /**
+         * The name of the model.
+         */
+        private final String name;
+
+        /**
+         * The weight of the model.
+         */
+        private final int weight;
+
+        /**
+         * Creates a new instance.
+         *
+         * @param name   The name of the model.
+         * @param weight The weight of the model.
+         */
+        TestModel(final String name, final int weight) {
+            super(null);
+            this.name = name;
+            this.weight = weight;
+        }
+
+        @Override
+        public String toString() {
+            return this.name;
+        }
+    }
+}
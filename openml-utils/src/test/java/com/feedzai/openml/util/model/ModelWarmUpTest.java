@@ -0,0 +1,204 @@
+/*
+ * Copyright 2026 Feedzai
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.feedzai.openml.util.model;
+
+import com.feedzai.openml.data.Instance;
+import com.feedzai.openml.data.schema.DatasetSchema;
+import com.feedzai.openml.mocks.MockClassificationModel;
+import com.feedzai.openml.mocks.MockDataset;
+import com.feedzai.openml.util.data.schema.TestDatasetSchemaBuilder;
+import com.google.common.collect.Sets;
+import org.junit.Test;
+
+import java.time.Duration;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for the {@link ModelWarmUp}.
+ *
+ * @author agent (agent@local)
+ * @since 1.3.0
+ */
+public class ModelWarmUpTest {
+
+    /**
+     * The schema of the model.
+     */
+    private static final DatasetSchema SCHEMA = TestDatasetSchemaBuilder.builder()
+            .withNumericalFields(3)
+            .withStringFields(1)
+            .withCategoricalFields(1)
+            .build();
+
+    /**
+     * Tests that the warm-up stops once the latency is considered stable.
+     */
+    @Test
+    public void testStopsWhenStable() {
+        final MockClassificationModel model = newModel();
+        final WarmUpReport report = ModelWarmUp.builder()
+                .windowSize(50)
+                .stability(Double.MAX_VALUE, 2)
+                .build()
+                .warmUp(model);
+
+        assertThat(report.isStabilized())
+                .as("Whether the latency stabilised")
+                .isTrue();
+        assertThat(report.getLatencyCurveNanos())
+                .as("The latency curve")
+                .hasSize(3);
+        assertThat(report.getNumScores())
+                .as("The number of scores")
+                .isEqualTo(150L);
+        assertThat(model.getScores())
+                .as("The number of times the model scored")
+                .isEqualTo(150);
+        assertThat(report.getFinalMedianNanos())
+                .as("The final median latency")
+                .isGreaterThanOrEqualTo(0L);
+    }
+
+    /**
+     * Tests that the warm-up stops when its budget expires, even if the latency did not stabilise.
+     */
+    @Test
+    public void testStopsWhenBudgetExpires() {
+        final WarmUpReport report = ModelWarmUp.builder()
+                .windowSize(100)
+                .stability(0, Integer.MAX_VALUE)
+                .budget(Duration.ofMinutes(1), 1000)
+                .build()
+                .warmUp(newModel());
+
+        assertThat(report.isStabilized())
+                .as("Whether the latency stabilised")
+                .isFalse();
+        assertThat(report.getNumScores())
+                .as("The number of scores")
+                .isEqualTo(1000L);
+        assertThat(report.getLatencyCurveNanos())
+                .as("The latency curve")
+                .hasSize(10);
+
+        final WarmUpReport timedOut = ModelWarmUp.builder()
+                .stability(0, Integer.MAX_VALUE)
+                .budget(Duration.ZERO, 1000)
+                .build()
+                .warmUp(newModel());
+        assertThat(timedOut.getNumScores())
+                .as("The number of scores without time budget")
+                .isEqualTo(0L);
+        assertThat(timedOut.getFinalMedianNanos())
+                .as("The final median latency without any window")
+                .isEqualTo(-1L);
+
+        assertThatThrownBy(() -> ModelWarmUp.builder().windowSize(0))
+                .as("Setting an empty window")
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    /**
+     * Tests that the score budget is never exceeded, even when it is not a multiple of the window size, and that a
+     * large score budget does not take memory upfront.
+     */
+    @Test
+    public void testScoreBudget() {
+        final WarmUpReport partialWindow = ModelWarmUp.builder()
+                .windowSize(100)
+                .stability(0, Integer.MAX_VALUE)
+                .budget(Duration.ofMinutes(1), 150)
+                .build()
+                .warmUp(newModel());
+        assertThat(partialWindow.getNumScores())
+                .as("The number of scores with a budget that ends in the middle of a window")
+                .isEqualTo(150L);
+        assertThat(partialWindow.getLatencyCurveNanos())
+                .as("The latency curve with a budget that ends in the middle of a window")
+                .hasSize(2);
+
+        final WarmUpReport smallBudget = ModelWarmUp.builder()
+                .windowSize(100)
+                .stability(0, Integer.MAX_VALUE)
+                .budget(Duration.ofMinutes(1), 30)
+                .build()
+                .warmUp(newModel());
+        assertThat(smallBudget.getNumScores())
+                .as("The number of scores with a budget smaller than a window")
+                .isEqualTo(30L);
+
+        final WarmUpReport largeBudget = ModelWarmUp.builder()
+                .windowSize(1)
+                .stability(Double.MAX_VALUE, 1)
+                .budget(Duration.ofMinutes(1), Long.MAX_VALUE)
+                .build()
+                .warmUp(newModel());
+        assertThat(largeBudget.isStabilized())
+                .as("Whether the latency stabilised with a large score budget")
+                .isTrue();
+        assertThat(largeBudget.getNumScores())
+                .as("The number of scores with a large score budget")
+                .isEqualTo(2L);
+    }
+
+    /**
+     * Tests that the warm-up only scores the given instances, when there are any.
+     */
+    @Test
+    public void testGivenInstances() {
+        final Instance[] instances = MockDataset.randomInstances(SCHEMA, 3, 7);
+        final Set<Instance> scored = Sets.newIdentityHashSet();
+        final MockClassificationModel model = new MockClassificationModel(SCHEMA, instance -> {
+            scored.add(instance);
+            return new double[]{0.5, 0.5};
+        });
+
+        final WarmUpReport report = ModelWarmUp.builder()
+                .windowSize(10)
+                .stability(0, Integer.MAX_VALUE)
+                .budget(Duration.ofMinutes(1), 30)
+                .build()
+                .warmUp(model, instances);
+
+        assertThat(report.getNumScores())
+                .as("The number of scores")
+                .isEqualTo(30L);
+        assertThat(scored)
+                .as("The instances scored")
+                .containsOnly(instances);
+
+        assertThatThrownBy(() -> ModelWarmUp.builder().build().warmUp(model, new Instance[0]))
+                .as("Warming up without instances")
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    /**
+     * Creates a model whose scores depend on the first field of the instance.
+     *
+     * @return The model.
+     */
+    private static MockClassificationModel newModel() {
+        return new MockClassificationModel(SCHEMA, instance -> {
+            final double value = instance.getValue(0) > 0 ? 0.75 : 0.25;
+            return new double[]{value, 1 - value};
+        });
+    }
+}
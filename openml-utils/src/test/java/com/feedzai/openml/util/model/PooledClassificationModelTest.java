@@ -0,0 +1,174 @@
+/*
+ * Copyright 2026 Feedzai
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.feedzai.openml.util.model;
+
+import com.feedzai.openml.data.Instance;
+import com.feedzai.openml.data.schema.DatasetSchema;
+import com.feedzai.openml.mocks.MockClassificationModel;
+import com.feedzai.openml.mocks.MockInstance;
+import com.feedzai.openml.mocks.MockModelLoader;
+import com.feedzai.openml.provider.exception.ModelLoadingException;
+import com.feedzai.openml.util.data.schema.TestDatasetSchemaBuilder;
+import com.google.common.collect.ImmutableList;
+import com.google.common.util.concurrent.Uninterruptibles;
+import org.junit.Test;
+
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for the {@link PooledClassificationModel}.
+ *
+ * @author agent (agent@local)
+ * @since 1.3.0
+ */
+public class PooledClassificationModelTest {
+
+    /**
+     * The schema of the models.
+     */
+    private static final DatasetSchema SCHEMA = TestDatasetSchemaBuilder.builder()
+            .withNumericalFields(1)
+            .withCategoricalFields(1)
+            .build();
+
+    /**
+     * An instance to score.
+     */
+    private static final Instance INSTANCE = new MockInstance(new double[]{1.0, 0.0});
+
+    /**
+     * Tests that scoring a pool from more threads than instances never uses an instance concurrently.
+     *
+     * @throws Exception If the test fails unexpectedly.
+     */
+    @Test
+    public void testConcurrentScoring() throws Exception {
+        final List<TestModel> instances = ImmutableList.of(new TestModel(), new TestModel(), new TestModel());
+        final PooledClassificationModel pool = new PooledClassificationModel(instances);
+        final ExecutorService executor = Executors.newFixedThreadPool(8);
+
+        try {
+            final List<Future<?>> calls = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                calls.add(executor.submit(() -> {
+                    for (int j = 0; j < 50; j++) {
+                        assertThat(pool.getClassDistribution(INSTANCE))
+                                .as("The scores of the pool")
+                                .containsExactly(0.25, 0.75);
+                    }
+                }));
+            }
+            for (final Future<?> call : calls) {
+                call.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(pool.isThreadSafe())
+                .as("Whether the pool is thread-safe")
+                .isTrue();
+        assertThat(instances.stream().mapToInt(MockClassificationModel::getScores).sum())
+                .as("The number of calls served by the instances")
+                .isEqualTo(400);
+        assertThat(instances.stream().mapToInt(instance -> instance.concurrentCalls.get()).sum())
+                .as("The number of calls that used an instance already in use")
+                .isEqualTo(0);
+
+        pool.close();
+        pool.close();
+        assertThat(instances.stream().mapToInt(MockClassificationModel::getCloses).toArray())
+                .as("The number of times each instance was closed")
+                .containsExactly(1, 1, 1);
+        assertThatThrownBy(() -> pool.getClassDistribution(INSTANCE))
+                .as("Scoring with a closed pool")
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    /**
+     * Tests loading a pool, and that the loaded instances are closed if one of them fails to load.
+     *
+     * @throws Exception If the test fails unexpectedly.
+     */
+    @Test
+    public void testLoad() throws Exception {
+        final MockModelLoader<TestModel> loader = new MockModelLoader<>(SCHEMA, attempt -> false, TestModel::new);
+        try (PooledClassificationModel pool = PooledClassificationModel.load(Paths.get("model"), SCHEMA, loader, 4)) {
+            assertThat(pool.size())
+                    .as("The number of instances in the pool")
+                    .isEqualTo(4);
+            assertThat(pool.getSchema())
+                    .as("The schema of the pool")
+                    .isEqualTo(SCHEMA);
+        }
+
+        final MockModelLoader<TestModel> failingLoader = new MockModelLoader<>(
+                SCHEMA, attempt -> attempt >= 2, TestModel::new
+        );
+        assertThatThrownBy(() -> PooledClassificationModel.load(Paths.get("model"), SCHEMA, failingLoader, 4))
+                .as("Loading a pool with an instance that fails to load")
+                .isInstanceOf(ModelLoadingException.class);
+        assertThat(failingLoader.getLoadedModels().stream().mapToInt(MockClassificationModel::getCloses).toArray())
+                .as("The number of times each loaded instance was closed")
+                .containsExactly(1, 1);
+    }
+
+    /**
+     * A model that is not thread-safe, which detects being used by several threads at the same time.
+     */
+    private static final class TestModel extends MockClassificationModel {
+
+        /**
+         * The number of calls using this model right now.
+         */
+        private final AtomicInteger inUse = new AtomicInteger();
+
+        /**
+         * The number of calls that started while another one was using this model.
+         */
+        private final AtomicInteger concurrentCalls = new AtomicInteger();
+
+        /**
+         * Creates a new instance.
+         */
+        TestModel() {
+            super(SCHEMA, false, 0.25, 0.75);
+        }
+
+        @Override
+        public double[] getClassDistribution(final Instance instance) {
+            if (this.inUse.incrementAndGet() > 1) {
+                this.concurrentCalls.incrementAndGet();
+            }
+            Uninterruptibles.sleepUninterruptibly(100, TimeUnit.MICROSECONDS);
+            final double[] distribution = super.getClassDistribution(instance);
+            this.inUse.decrementAndGet();
+            return distribution;
+        }
+    }
+}
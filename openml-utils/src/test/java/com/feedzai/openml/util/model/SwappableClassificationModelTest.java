@@ -0,0 +1,178 @@
+/*
+ * Copyright 2026 Feedzai
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.feedzai.openml.util.model;
+
+import com.feedzai.openml.data.Instance;
+import com.feedzai.openml.data.schema.DatasetSchema;
+import com.feedzai.openml.mocks.MockClassificationModel;
+import com.feedzai.openml.mocks.MockInstance;
+import com.feedzai.openml.util.data.schema.TestDatasetSchemaBuilder;
+import org.junit.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for the {@link SwappableClassificationModel}.
+ *
+ * @author agent (agent@local)
+ * @since 1.3.0
+ */
+public class SwappableClassificationModelTest {
+
+    /**
+     * The schema of the models.
+     */
+    private static final DatasetSchema SCHEMA = TestDatasetSchemaBuilder.builder()
+            .withNumericalFields(1)
+            .withCategoricalFields(1)
+            .build();
+
+    /**
+     * An instance to score.
+     */
+    private static final Instance INSTANCE = new MockInstance(new double[]{1.0, 0.0});
+
+    /**
+     * Tests that a swapped model is only closed after the calls using it finish, while new calls go to the
+     * replacement.
+     *
+     * @throws Exception If the test fails unexpectedly.
+     */
+    @Test
+    public void testSwapWaitsForInFlightCalls() throws Exception {
+        final CountDownLatch scoring = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        final TestModel first = new TestModel(0.25, scoring, release);
+        final TestModel second = new TestModel(0.75, null, null);
+
+        final SwappableClassificationModel model = new SwappableClassificationModel(first);
+        final ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            final Future<double[]> inFlight = executor.submit(() -> model.getClassDistribution(INSTANCE));
+            assertThat(scoring.await(10, TimeUnit.SECONDS))
+                    .as("Whether the in-flight call started")
+                    .isTrue();
+
+            model.swap(second);
+
+            assertThat(model.getClassDistribution(INSTANCE))
+                    .as("The scores of a call after the swap")
+                    .containsExactly(0.25, 0.75);
+            assertThat(first.getCloses())
+                    .as("The number of times the swapped model was closed while in use")
+                    .isEqualTo(0);
+
+            release.countDown();
+            assertThat(inFlight.get(10, TimeUnit.SECONDS))
+                    .as("The scores of the call in flight during the swap")
+                    .containsExactly(0.75, 0.25);
+            assertThat(first.getCloses())
+                    .as("The number of times the swapped model was closed after its calls finished")
+                    .isEqualTo(1);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        model.close();
+        model.close();
+        assertThat(second.getCloses())
+                .as("The number of times the current model was closed with the handle")
+                .isEqualTo(1);
+        assertThatThrownBy(() -> model.getClassDistribution(INSTANCE))
+                .as("Scoring with a closed handle")
+                .isInstanceOf(IllegalStateException.class);
+
+        final TestModel third = new TestModel(0.5, null, null);
+        assertThatThrownBy(() -> model.swap(third))
+                .as("Swapping the model of a closed handle")
+                .isInstanceOf(IllegalStateException.class);
+        assertThat(third.getCloses())
+                .as("The number of times a model swapped into a closed handle was closed")
+                .isEqualTo(1);
+    }
+
+    /**
+     * Tests that a model with a different schema cannot be swapped in, and is closed instead.
+     */
+    @Test
+    public void testSwapWithDifferentSchema() {
+        final SwappableClassificationModel model = new SwappableClassificationModel(new TestModel(0.5, null, null));
+        final TestModel other = new TestModel(0.5, null, null) {
+            @Override
+            public DatasetSchema getSchema() {
+                return TestDatasetSchemaBuilder.builder().withCategoricalFields(1).build();
+            }
+        };
+
+        assertThatThrownBy(() -> model.swap(other))
+                .as("Swapping in a model with a different schema")
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThat(other.getCloses())
+                .as("The number of times the rejected model was closed")
+                .isEqualTo(1);
+    }
+
+    /**
+     * A model that always returns the same scores and can block while scoring.
+     */
+    private static class TestModel extends MockClassificationModel {
+
+        /**
+         * Latch counted down when scoring starts, {@code null} to not signal.
+         */
+        private final CountDownLatch scoring;
+
+        /**
+         * Latch awaited before scoring returns, {@code null} to not wait.
+         */
+        private final CountDownLatch release;
+
+        /**
+         * Creates a new instance.
+         *
+         * @param probability The probability of the second class.
+         * @param scoring     Latch counted down when scoring starts, {@code null} to not signal.
+         * @param release     Latch awaited before scoring returns, {@code null} to not wait.
+         */
+        TestModel(final double probability, final CountDownLatch scoring, final CountDownLatch release) {
+            super(SCHEMA, 1 - probability, probability);
+            this.scoring = scoring;
+            this.release = release;
+        }
+
+        @Override
+        public double[] getClassDistribution(final Instance instance) {
+            if (this.scoring != null) {
+                this.scoring.countDown();
+                try {
+                    this.release.await(10, TimeUnit.SECONDS);
+                } catch (final InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            return super.getClassDistribution(instance);
+        }
+    }
+}
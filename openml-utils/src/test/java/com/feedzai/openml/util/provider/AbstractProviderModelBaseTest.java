@@ -47,6 +47,7 @@ import java.util.stream.IntStream;
 import static junit.framework.TestCase.fail;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.within;
+import static org.junit.Assume.assumeTrue;
 
 /**
  * Contains the base tests to be run for every Provider.
@@ -172,14 +173,16 @@ public abstract class AbstractProviderModelBaseTest<M extends ClassificationMLMo
      * The model will evaluate two different instances, that will be injected at the same frequency (half of
      * {@link #maxNumberOfThreads}). Afterwards, the results of the class distributions are asserted to verify that
      * there are only two distinct results with the same frequency (half of {@link #maxNumberOfThreads}).
+     * Skipped for models that are not {@link ClassificationMLModel#isThreadSafe() thread-safe}.
      *
      * @throws ModelLoadingException If anything goes wrong during loading.
      * @throws ModelTrainingException If anything goes wrong during training.
      */
     @Test
     public void createOneModelAndEvaluateInMultipleThreadsTest() throws ModelLoadingException, ModelTrainingException {
-        final ExecutorService executor = Executors.newFixedThreadPool(this.maxNumberOfThreads);
         final M firstModel = getFirstModel();
+        assumeTrue(firstModel.isThreadSafe());
+        final ExecutorService executor = Executors.newFixedThreadPool(this.maxNumberOfThreads);
 
         final List<Future<double[]>> evaluationsList = classDistTwoInstancesInParallel(firstModel, executor);
 
@@ -200,15 +203,17 @@ public abstract class AbstractProviderModelBaseTest<M extends ClassificationMLMo
 
     /**
      * Evaluates two models created (loaded/trained) in the main thread in multiple threads concurrently.
+     * Skipped for models that are not {@link ClassificationMLModel#isThreadSafe() thread-safe}.
      *
      * @throws ModelLoadingException If anything goes wrong during loading.
      * @throws ModelTrainingException If anything goes wrong during training.
      */
     @Test
     public void createTwoModelsInMultipleThreadsTest() throws ModelLoadingException, ModelTrainingException {
-        final ExecutorService executor = Executors.newFixedThreadPool(this.maxNumberOfThreads * 2);
         final M firstModel = getFirstModel();
         final M secondModel = getSecondModel();
+        assumeTrue(firstModel.isThreadSafe() && secondModel.isThreadSafe());
+        final ExecutorService executor = Executors.newFixedThreadPool(this.maxNumberOfThreads * 2);
 
         final List<List<Future<Integer>>> evaluationsList = classifyInstancesInParallel(
                 ImmutableList.of(firstModel, secondModel),
@@ -222,11 +227,11 @@ public abstract class AbstractProviderModelBaseTest<M extends ClassificationMLMo
 
     /**
      * Creates (loads/trains) two models in multiple threads concurrently and then evaluate them in multiple new threads.
+     * Skipped for models that are not {@link ClassificationMLModel#isThreadSafe() thread-safe}.
      */
     @Test
     public void createModelsInThreadsAndEvaluateInOtherThreadsTest() {
         final ExecutorService executorGet = Executors.newFixedThreadPool(this.maxNumberOfThreads);
-        final ExecutorService executorClassify = Executors.newFixedThreadPool(this.maxNumberOfThreads);
 
         final List<Callable<M>> callableGetModels = ImmutableList.of(this::getFirstModel, this::getSecondModel);
         final List<Future<M>> futureModelList = callableGetModels.stream()
@@ -241,10 +246,12 @@ public abstract class AbstractProviderModelBaseTest<M extends ClassificationMLMo
                     }
                 }
         ).collect(Collectors.toList());
+        executorGet.shutdown();
+        assumeTrue(modelList.stream().allMatch(M::isThreadSafe));
 
+        final ExecutorService executorClassify = Executors.newFixedThreadPool(this.maxNumberOfThreads);
         final List<List<Future<Integer>>> evaluationsList = classifyInstancesInParallel(modelList, executorClassify);
 
-        executorGet.shutdown();
         executorClassify.shutdown();
 
         assertAllInstances(evaluationsList);
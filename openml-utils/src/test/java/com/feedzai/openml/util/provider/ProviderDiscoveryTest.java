@@ -0,0 +1,263 @@
+/*
+ * Copyright 2026 Feedzai
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.feedzai.openml.util.provider;
+
+import com.feedzai.openml.provider.MachineLearningProvider;
+import com.feedzai.openml.provider.descriptor.MLAlgorithmDescriptor;
+import com.feedzai.openml.provider.model.MachineLearningModelLoader;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Enumeration;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for the {@link ProviderDiscovery}.
+ *
+ * @author agent (agent@local)
+ * @since 1.3.0
+ */
+public class ProviderDiscoveryTest {
+
+    /**
+     * The time the {@link SlowProvider} takes to initialize.
+     */
+    private static final long SLOW_INIT_SECONDS = 10;
+
+    /**
+     * Folder with the services files of the tests.
+     */
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    /**
+     * Tests that the providers are read from all the services files, ignoring comments, blank lines and duplicates.
+     *
+     * @throws Exception If the test fails unexpectedly.
+     */
+    @Test
+    public void testReadProviderClassNames() throws Exception {
+        try (URLClassLoader classLoader = classLoader(
+                ImmutableList.of("# a comment", "", FastProvider.class.getName() + " # trailing comment"),
+                ImmutableList.of(BrokenProvider.class.getName(), FastProvider.class.getName())
+        )) {
+            assertThat(ProviderDiscovery.readProviderClassNames(classLoader))
+                    .as("The names of the provider classes")
+                    .containsExactly(FastProvider.class.getName(), BrokenProvider.class.getName());
+        }
+    }
+
+    /**
+     * Tests that slow and broken providers do not prevent the others from being discovered.
+     *
+     * @throws Exception If the test fails unexpectedly.
+     */
+    @Test
+    public void testDiscover() throws Exception {
+        final String missing = "com.feedzai.openml.util.provider.MissingProvider";
+        FastProvider.ALGORITHM_READS.set(0);
+
+        try (URLClassLoader classLoader = classLoader(ImmutableList.of(
+                SlowProvider.class.getName(),
+                BrokenProvider.class.getName(),
+                FastProvider.class.getName(),
+                String.class.getName(),
+                missing
+        ))) {
+            final long start = System.nanoTime();
+            final ProviderDiscoveryReport report = ProviderDiscovery.discover(classLoader, Duration.ofMillis(500));
+            final long elapsed = System.nanoTime() - start;
+
+            assertThat(report.getRegistry().getProviders().keySet())
+                    .as("The names of the discovered providers")
+                    .containsExactly(FastProvider.NAME);
+            assertThat(report.getInitTimes().keySet())
+                    .as("The providers with an initialization time")
+                    .containsExactly(FastProvider.class.getName());
+            assertThat(report.getFailures().keySet())
+                    .as("The providers that failed")
+                    .containsOnly(
+                            SlowProvider.class.getName(),
+                            BrokenProvider.class.getName(),
+                            String.class.getName(),
+                            missing
+                    );
+            assertThat(report.getFailures().get(BrokenProvider.class.getName()))
+                    .as("The failure of a provider that throws on creation")
+                    .isInstanceOf(IllegalStateException.class);
+            assertThat(report.getFailures().get(String.class.getName()))
+                    .as("The failure of a class that is not a provider")
+                    .isInstanceOf(ClassCastException.class);
+            assertThat(report.getFailures().get(missing))
+                    .as("The failure of a class that does not exist")
+                    .isInstanceOf(ClassNotFoundException.class);
+            assertThat(report.getTimedOut())
+                    .as("The providers that did not initialize in time")
+                    .containsOnly(SlowProvider.class.getName());
+            assertThat(elapsed)
+                    .as("The time taken by the discovery, in nanoseconds")
+                    .isLessThan(TimeUnit.SECONDS.toNanos(SLOW_INIT_SECONDS));
+            assertThat(FastProvider.ALGORITHM_READS.get())
+                    .as("The number of times the algorithms of a provider were read")
+                    .isEqualTo(1);
+        }
+    }
+
+    /**
+     * Tests that discovering providers without any registered in the class path yields an empty report.
+     *
+     * @throws Exception If the test fails unexpectedly.
+     */
+    @Test
+    public void testDiscoverWithoutProviders() throws Exception {
+        try (URLClassLoader classLoader = new URLClassLoader(new URL[0], null)) {
+            final ProviderDiscoveryReport report = ProviderDiscovery.discover(classLoader, Duration.ofSeconds(1));
+
+            assertThat(report.getRegistry().getProviders())
+                    .as("The providers discovered in an empty class path")
+                    .isEmpty();
+            assertThat(report.getFailures())
+                    .as("The failures in an empty class path")
+                    .isEmpty();
+        }
+    }
+
+    /**
+     * Creates a class loader that sees the classes of the tests, but only the given services files.
+     *
+     * @param servicesFiles The lines of each services file.
+     * @return The class loader.
+     * @throws IOException If the services files cannot be written.
+     */
+    @SafeVarargs
+    private final URLClassLoader classLoader(final List<String>... servicesFiles) throws IOException {
+        final URL[] urls = new URL[servicesFiles.length];
+        for (int i = 0; i < servicesFiles.length; i++) {
+            final File root = this.folder.newFolder("jar" + i);
+            final Path services = root.toPath().resolve(ProviderDiscovery.SERVICES_RESOURCE);
+            Files.createDirectories(services.getParent());
+            Files.write(services, servicesFiles[i], StandardCharsets.UTF_8);
+            urls[i] = root.toURI().toURL();
+        }
+
+        return new URLClassLoader(urls, getClass().getClassLoader()) {
+            @Override
+            public Enumeration<URL> getResources(final String name) throws IOException {
+                return findResources(name);
+            }
+        };
+    }
+
+    /**
+     * A provider without algorithms.
+     */
+    public abstract static class EmptyProvider implements MachineLearningProvider<MachineLearningModelLoader<?>> {
+
+        @Override
+        public Set<MLAlgorithmDescriptor> getAlgorithms() {
+            return ImmutableSet.of();
+        }
+
+        @Override
+        public Optional<MachineLearningModelLoader<?>> getModelCreator(final String algorithmName) {
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * A provider that initializes right away and counts how many times its algorithms are read.
+     */
+    public static final class FastProvider extends EmptyProvider {
+
+        /**
+         * The name of the provider.
+         */
+        static final String NAME = "fast";
+
+        /**
+         * The number of times the algorithms of the provider were read.
+         */
+        static final AtomicInteger ALGORITHM_READS = new AtomicInteger();
+
+        @Override
+        public Set<MLAlgorithmDescriptor> getAlgorithms() {
+            ALGORITHM_READS.incrementAndGet();
+            return super.getAlgorithms();
+        }
+
+        @Override
+        public String getName() {
+            return NAME;
+        }
+    }
+
+    /**
+     * A provider that takes {@link #SLOW_INIT_SECONDS} to initialize.
+     */
+    public static final class SlowProvider extends EmptyProvider {
+
+        /**
+         * Creates a new instance.
+         *
+         * @throws InterruptedException If interrupted while initializing.
+         */
+        public SlowProvider() throws InterruptedException {
+            Thread.sleep(TimeUnit.SECONDS.toMillis(SLOW_INIT_SECONDS));
+        }
+
+        @Override
+        public String getName() {
+            return "slow";
+        }
+    }
+
+    /**
+     * A provider that fails to initialize.
+     */
+    public static final class BrokenProvider extends EmptyProvider {
+
+        /**
+         * Creates a new instance.
+         */
+        public BrokenProvider() {
+            throw new IllegalStateException("The native library is missing.");
+        }
+
+        @Override
+        public String getName() {
+            return "broken";
+        }
+    }
+}
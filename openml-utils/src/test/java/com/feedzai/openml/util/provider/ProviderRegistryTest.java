@@ -0,0 +1,202 @@
+/*
+ * Copyright 2026 Feedzai
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.feedzai.openml.util.provider;
+
+import com.feedzai.openml.data.schema.DatasetSchema;
+import com.feedzai.openml.model.MachineLearningModel;
+import com.feedzai.openml.provider.MachineLearningProvider;
+import com.feedzai.openml.provider.descriptor.MLAlgorithmDescriptor;
+import com.feedzai.openml.provider.descriptor.MachineLearningAlgorithmType;
+import com.feedzai.openml.provider.descriptor.fieldtype.ParamValidationError;
+import com.feedzai.openml.provider.model.MachineLearningModelLoader;
+import com.feedzai.openml.util.algorithm.MLAlgorithmEnum;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+import org.junit.Test;
+
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for the {@link ProviderRegistry}.
+ *
+ * @author agent (agent@local)
+ * @since 1.3.0
+ */
+public class ProviderRegistryTest {
+
+    /**
+     * Tests the lookups of providers, algorithms and model creators.
+     */
+    @Test
+    public void testLookups() {
+        final TestProvider first = new TestProvider("first", "a", "b");
+        final TestProvider second = new TestProvider("second", "b");
+        final TestProvider duplicate = new TestProvider("first", "c");
+
+        final ProviderRegistry registry = ProviderRegistry.of(ImmutableList.of(first, second, duplicate));
+
+        assertThat(registry.getProviders().keySet())
+                .as("The names of the registered providers")
+                .containsExactly("first", "second");
+        assertThat(registry.getProvider("first"))
+                .as("The provider with a duplicate name")
+                .contains(first);
+        assertThat(registry.getAlgorithms("first"))
+                .as("The algorithms of a provider")
+                .hasSize(2);
+        assertThat(registry.getAlgorithm("second", "b").map(MLAlgorithmDescriptor::getAlgorithmName))
+                .as("The descriptor of an algorithm")
+                .contains("b");
+        assertThat(registry.getAlgorithm("second", "a"))
+                .as("The descriptor of an algorithm of another provider")
+                .isEmpty();
+        assertThat(registry.getProvidersOf("b"))
+                .as("The providers of an algorithm offered by two providers")
+                .containsExactly(first, second);
+
+        final Optional<MachineLearningModelLoader<?>> creator = registry.getModelCreator("first", "a");
+        assertThat(creator)
+                .as("The model creator of an algorithm")
+                .isPresent();
+        assertThat(registry.getModelCreator("first", "a"))
+                .as("The model creator of an algorithm obtained again")
+                .contains(creator.get());
+        assertThat(registry.getModelCreator("first", "c"))
+                .as("The model creator of an algorithm of an ignored provider")
+                .isEmpty();
+        assertThat(registry.getModelCreator("unknown", "a"))
+                .as("The model creator of an unknown provider")
+                .isEmpty();
+
+        assertThat(first.algorithmCalls.get())
+                .as("The number of times the algorithms of a provider were read")
+                .isEqualTo(1);
+        assertThat(first.creatorCalls.get())
+                .as("The number of times a provider created a model creator")
+                .isEqualTo(1);
+    }
+
+    /**
+     * Tests that discovering providers without any registered in the class path yields an empty registry.
+     *
+     * @throws Exception If the test fails unexpectedly.
+     */
+    @Test
+    public void testDiscoverWithoutProviders() throws Exception {
+        try (URLClassLoader classLoader = new URLClassLoader(new URL[0], null)) {
+            assertThat(ProviderRegistry.discover(classLoader).getProviders())
+                    .as("The providers discovered in an empty class path")
+                    .isEmpty();
+        }
+    }
+
+    /**
+     * A provider with the given algorithms, which counts how many times it is queried.
+     */
+    private static final class TestProvider implements MachineLearningProvider<MachineLearningModelLoader<?>> {
+
+        /**
+         * The name of the provider.
+         */
+        private final String name;
+
+        /**
+         * The algorithms of the provider.
+         */
+        private final Set<MLAlgorithmDescriptor> algorithms;
+
+        /**
+         * The number of times the algorithms were read.
+         */
+        private final AtomicInteger algorithmCalls = new AtomicInteger();
+
+        /**
+         * The number of times a model creator was created.
+         */
+        private final AtomicInteger creatorCalls = new AtomicInteger();
+
+        /**
+         * Creates a new instance.
+         *
+         * @param name       The name of the provider.
+         * @param algorithms The names of the algorithms of the provider.
+         */
+        TestProvider(final String name, final String... algorithms) {
+            this.name = name;
+            final ImmutableSet.Builder<MLAlgorithmDescriptor> descriptors = ImmutableSet.builder();
+            for (final String algorithm : algorithms) {
+                descriptors.add(MLAlgorithmEnum.createDescriptor(
+                        algorithm,
+                        ImmutableSet.of(),
+                        MachineLearningAlgorithmType.SUPERVISED_BINARY_CLASSIFICATION,
+                        "https://feedzai.com/"
+                ));
+            }
+            this.algorithms = descriptors.build();
+        }
+
+        @Override
+        public String getName() {
+            return this.name;
+        }
+
+        @Override
+        public Set<MLAlgorithmDescriptor> getAlgorithms() {
+            this.algorithmCalls.incrementAndGet();
+            return this.algorithms;
+        }
+
+        @Override
+        public Optional<MachineLearningModelLoader<?>> getModelCreator(final String algorithmName) {
+            this.creatorCalls.incrementAndGet();
+            return Optional.of(new TestLoader());
+        }
+    }
+
+    /**
+     * A loader that does not load anything.
+     */
+    private static final class TestLoader implements MachineLearningModelLoader<MachineLearningModel> {
+
+        @Override
+        public MachineLearningModel loadModel(final Path modelPath, final DatasetSchema schema) {
+            return null;
+        }
+
+        @Override
+        public List<ParamValidationError> validateForLoad(final Path modelPath,
+                                                          final DatasetSchema schema,
+                                                          final Map<String, String> params) {
+            return ImmutableList.of();
+        }
+
+        @Override
+        public DatasetSchema loadSchema(final Path modelPath) {
+            return null;
+        }
+    }
+}
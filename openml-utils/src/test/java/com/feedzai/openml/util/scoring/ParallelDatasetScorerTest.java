@@ -0,0 +1,197 @@
+/*
+ * Copyright 2026 Feedzai
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.feedzai.openml.util.scoring;
+
+import com.feedzai.openml.data.Instance;
+import com.feedzai.openml.data.schema.DatasetSchema;
+import com.feedzai.openml.mocks.MockClassificationModel;
+import com.feedzai.openml.mocks.MockDataset;
+import com.feedzai.openml.mocks.MockInstance;
+import com.feedzai.openml.util.data.schema.TestDatasetSchemaBuilder;
+import org.junit.AfterClass;
+import org.junit.Test;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for the {@link ParallelDatasetScorer} and {@link ScoreMatrix}.
+ *
+ * @author agent (agent@local)
+ * @since 1.3.0
+ */
+public class ParallelDatasetScorerTest {
+
+    /**
+     * The schema of the models, with a numeric field followed by a categorical target with 2 values.
+     */
+    private static final DatasetSchema SCHEMA = TestDatasetSchemaBuilder.builder()
+            .withNumericalFields(1)
+            .withCategoricalFields(1)
+            .build();
+
+    /**
+     * The number of instances of the dataset.
+     */
+    private static final int NUM_INSTANCES = 1000;
+
+    /**
+     * A dataset whose numeric field is the index of each instance.
+     */
+    private static final MockDataset DATASET = new MockDataset(
+            SCHEMA,
+            IntStream.range(0, NUM_INSTANCES)
+                    .mapToObj(index -> (Instance) new MockInstance(new double[]{index, 0.0}))
+                    .collect(Collectors.toList())
+    );
+
+    /**
+     * The pool that runs the scoring tasks.
+     */
+    private static final ForkJoinPool POOL = new ForkJoinPool(4);
+
+    /**
+     * Shuts down the {@link #POOL}.
+     */
+    @AfterClass
+    public static void tearDown() {
+        POOL.shutdownNow();
+    }
+
+    /**
+     * Tests that the distributions are written in the order of the instances, scoring each batch with a single call.
+     */
+    @Test
+    public void testScoreInOrder() {
+        final TestModel model = new TestModel(true, 2);
+
+        final ScoreMatrix matrix = new ParallelDatasetScorer(POOL, 64).score(model, DATASET);
+
+        assertThat(matrix.getNumInstances())
+                .as("The number of instances of the matrix")
+                .isEqualTo(NUM_INSTANCES);
+        assertThat(matrix.getNumClasses())
+                .as("The number of classes of the matrix")
+                .isEqualTo(2);
+        for (int i = 0; i < NUM_INSTANCES; i++) {
+            assertThat(matrix.getDistribution(i))
+                    .as("The distribution of instance %d", i)
+                    .containsExactly(i, -i);
+        }
+        assertThat(matrix.get(10, 1))
+                .as("The probability of a class of an instance")
+                .isEqualTo(-10.0);
+        assertThat(matrix.getValues())
+                .as("The number of values of the matrix")
+                .hasSize(2 * NUM_INSTANCES);
+        assertThat(model.batches.get())
+                .as("The number of batches scored")
+                .isGreaterThanOrEqualTo(NUM_INSTANCES / 64)
+                .isLessThanOrEqualTo(2 * NUM_INSTANCES / 64);
+        assertThat(model.maxBatchSize.get())
+                .as("The largest batch scored")
+                .isLessThanOrEqualTo(64);
+    }
+
+    /**
+     * Tests that a model that is not thread-safe is only scored by the calling thread.
+     */
+    @Test
+    public void testScoreNotThreadSafeModel() {
+        final TestModel model = new TestModel(false, 2);
+
+        final ScoreMatrix matrix = new ParallelDatasetScorer(POOL, 100).score(model, DATASET);
+
+        assertThat(matrix.getDistribution(NUM_INSTANCES - 1))
+                .as("The distribution of the last instance")
+                .containsExactly(NUM_INSTANCES - 1, 1 - NUM_INSTANCES);
+        assertThat(model.batches.get())
+                .as("The number of batches scored")
+                .isEqualTo(NUM_INSTANCES / 100);
+        assertThat(model.otherThreadCalls.get())
+                .as("The number of calls from other threads")
+                .isEqualTo(0);
+    }
+
+    /**
+     * Tests that a model yielding distributions of the wrong size is detected.
+     */
+    @Test
+    public void testWrongNumberOfClasses() {
+        assertThatThrownBy(() -> new ParallelDatasetScorer(POOL, 64).score(new TestModel(true, 3), DATASET))
+                .as("Scoring with a model yielding more classes than its target")
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    /**
+     * A model whose distribution is the value of the numeric field and its symmetric, and that tracks its calls.
+     */
+    private static final class TestModel extends MockClassificationModel {
+
+        /**
+         * The thread that created the model.
+         */
+        private final Thread owner = Thread.currentThread();
+
+        /**
+         * The number of batches scored.
+         */
+        private final AtomicInteger batches = new AtomicInteger();
+
+        /**
+         * The largest batch scored.
+         */
+        private final AtomicInteger maxBatchSize = new AtomicInteger();
+
+        /**
+         * The number of calls from threads other than the {@link #owner}.
+         */
+        private final AtomicInteger otherThreadCalls = new AtomicInteger();
+
+        /**
+         * Creates a new instance.
+         *
+         * @param threadSafe Whether the model is thread-safe.
+         * @param numClasses The number of classes of the distributions.
+         */
+        TestModel(final boolean threadSafe, final int numClasses) {
+            super(SCHEMA, threadSafe, instance -> {
+                final double[] distribution = new double[numClasses];
+                distribution[0] = instance.getValue(0);
+                distribution[1] = -instance.getValue(0);
+                return distribution;
+            });
+        }
+
+        @Override
+        public double[][] getClassDistributions(final List<? extends Instance> instances) {
+            this.batches.incrementAndGet();
+            this.maxBatchSize.accumulateAndGet(instances.size(), Math::max);
+            if (Thread.currentThread() != this.owner) {
+                this.otherThreadCalls.incrementAndGet();
+            }
+            return instances.stream().map(this::getClassDistribution).toArray(double[][]::new);
+        }
+    }
+}
@@ -0,0 +1,456 @@
+/*
+ * Copyright 2026 Feedzai
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.feedzai.openml.util.scoring;
+
+import com.feedzai.openml.data.Instance;
+import com.feedzai.openml.data.schema.DatasetSchema;
+import com.feedzai.openml.mocks.MockClassificationModel;
+import com.feedzai.openml.mocks.MockInstance;
+import com.feedzai.openml.util.data.schema.TestDatasetSchemaBuilder;
+import com.google.common.util.concurrent.Uninterruptibles;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for the {@link ScoringProcessor}.
+ *
+ * @author agent (agent@local)
+ * @since 1.3.0
+ */
+public class ScoringProcessorTest {
+
+    /**
+     * The schema of the model, with a numeric field followed by a categorical target.
+     */
+    private static final DatasetSchema SCHEMA = TestDatasetSchemaBuilder.builder()
+            .withNumericalFields(1)
+            .withCategoricalFields(1)
+            .build();
+
+    /**
+     * The number of instances published upstream.
+     */
+    private static final int NUM_INSTANCES = 500;
+
+    /**
+     * The capacity of the processors.
+     */
+    private static final int CAPACITY = 16;
+
+    /**
+     * The executor that runs the scoring tasks.
+     */
+    private ExecutorService executor;
+
+    /**
+     * Creates the {@link #executor}.
+     */
+    @Before
+    public void setUp() {
+        this.executor = Executors.newFixedThreadPool(4);
+    }
+
+    /**
+     * Shuts down the {@link #executor}.
+     */
+    @After
+    public void tearDown() {
+        this.executor.shutdownNow();
+    }
+
+    /**
+     * Tests that ordered output publishes every instance in the order it was received, while the upstream publisher
+     * never has more than the capacity of instances outstanding.
+     *
+     * @throws Exception If the test fails unexpectedly.
+     */
+    @Test
+    public void testOrderedOutput() throws Exception {
+        final ListPublisher publisher = new ListPublisher(NUM_INSTANCES);
+        final CollectingSubscriber subscriber = new CollectingSubscriber(7);
+
+        final ScoringProcessor processor = ScoringProcessor.builder(newModel(true, -1))
+                .capacity(CAPACITY)
+                .concurrency(4)
+                .executor(this.executor)
+                .build();
+        publisher.subscribe(processor);
+        processor.subscribe(subscriber);
+
+        assertThat(subscriber.done.await(30, TimeUnit.SECONDS))
+                .as("Whether the subscriber completed")
+                .isTrue();
+        assertThat(subscriber.items.stream().map(ScoredInstance::getSequence).collect(Collectors.toList()))
+                .as("The sequences of the scored instances")
+                .isEqualTo(LongStream.range(0, NUM_INSTANCES).boxed().collect(Collectors.toList()));
+        subscriber.items.forEach(item -> assertThat(item.getDistribution()[0])
+                .as("The score of instance %d", item.getSequence())
+                .isEqualTo(item.getInstance().getValue(0)));
+        assertThat(publisher.maxOutstanding.get())
+                .as("The maximum number of instances requested and not yet sent upstream")
+                .isLessThanOrEqualTo((long) CAPACITY);
+    }
+
+    /**
+     * Tests that unordered output publishes every instance exactly once.
+     *
+     * @throws Exception If the test fails unexpectedly.
+     */
+    @Test
+    public void testUnorderedOutput() throws Exception {
+        final ListPublisher publisher = new ListPublisher(NUM_INSTANCES);
+        final CollectingSubscriber subscriber = new CollectingSubscriber(Long.MAX_VALUE);
+
+        final ScoringProcessor processor = ScoringProcessor.builder(newModel(true, -1))
+                .capacity(CAPACITY)
+                .concurrency(4)
+                .ordered(false)
+                .executor(this.executor)
+                .build();
+        processor.subscribe(subscriber);
+        publisher.subscribe(processor);
+
+        assertThat(subscriber.done.await(30, TimeUnit.SECONDS))
+                .as("Whether the subscriber completed")
+                .isTrue();
+        assertThat(subscriber.items.stream().map(ScoredInstance::getSequence).sorted().collect(Collectors.toList()))
+                .as("The sorted sequences of the scored instances")
+                .isEqualTo(LongStream.range(0, NUM_INSTANCES).boxed().collect(Collectors.toList()));
+        subscriber.items.forEach(item -> assertThat(item.getDistribution()[0])
+                .as("The score of instance %d", item.getSequence())
+                .isEqualTo(item.getInstance().getValue(0)));
+    }
+
+    /**
+     * Tests that a subscriber that does not request instances holds back the upstream publisher.
+     *
+     * @throws Exception If the test fails unexpectedly.
+     */
+    @Test
+    public void testBackpressure() throws Exception {
+        final ListPublisher publisher = new ListPublisher(NUM_INSTANCES);
+        final CollectingSubscriber subscriber = new CollectingSubscriber(0);
+        final MockClassificationModel model = newModel(true, -1);
+
+        final ScoringProcessor processor = ScoringProcessor.builder(model)
+                .capacity(CAPACITY)
+                .concurrency(2)
+                .executor(this.executor)
+                .build();
+        publisher.subscribe(processor);
+        processor.subscribe(subscriber);
+        Uninterruptibles.sleepUninterruptibly(200, TimeUnit.MILLISECONDS);
+
+        assertThat(publisher.sent.get())
+                .as("The number of instances sent upstream without downstream demand")
+                .isEqualTo((long) CAPACITY);
+        assertThat(model.getScores())
+                .as("The number of instances scored without downstream demand")
+                .isEqualTo(CAPACITY);
+        assertThat(subscriber.items)
+                .as("The instances published without downstream demand")
+                .isEmpty();
+
+        subscriber.subscription.request(Long.MAX_VALUE);
+        assertThat(subscriber.done.await(30, TimeUnit.SECONDS))
+                .as("Whether the subscriber completed after requesting all the instances")
+                .isTrue();
+        assertThat(subscriber.items)
+                .as("The instances published")
+                .hasSize(NUM_INSTANCES);
+    }
+
+    /**
+     * Tests that a failure of the model fails the subscriber and cancels the upstream subscription.
+     *
+     * @throws Exception If the test fails unexpectedly.
+     */
+    @Test
+    public void testModelFailure() throws Exception {
+        final ListPublisher publisher = new ListPublisher(NUM_INSTANCES);
+        final CollectingSubscriber subscriber = new CollectingSubscriber(Long.MAX_VALUE);
+
+        final ScoringProcessor processor = ScoringProcessor.builder(newModel(true, 100))
+                .capacity(CAPACITY)
+                .concurrency(4)
+                .executor(this.executor)
+                .build();
+        processor.subscribe(subscriber);
+        publisher.subscribe(processor);
+
+        assertThat(subscriber.done.await(30, TimeUnit.SECONDS))
+                .as("Whether the subscriber was terminated")
+                .isTrue();
+        assertThat(subscriber.error)
+                .as("The failure received by the subscriber")
+                .isInstanceOf(IllegalStateException.class);
+        assertThat(publisher.cancelled)
+                .as("Whether the upstream subscription was cancelled")
+                .isTrue();
+    }
+
+    /**
+     * Tests that an {@link Error} thrown by the model fails the subscriber as well, instead of stalling the stream.
+     *
+     * @throws Exception If the test fails unexpectedly.
+     */
+    @Test
+    public void testModelError() throws Exception {
+        final ListPublisher publisher = new ListPublisher(NUM_INSTANCES);
+        final CollectingSubscriber subscriber = new CollectingSubscriber(Long.MAX_VALUE);
+
+        final ScoringProcessor processor = ScoringProcessor.builder(newModel(true, 100, true))
+                .capacity(CAPACITY)
+                .concurrency(4)
+                .executor(this.executor)
+                .build();
+        processor.subscribe(subscriber);
+        publisher.subscribe(processor);
+
+        assertThat(subscriber.done.await(30, TimeUnit.SECONDS))
+                .as("Whether the subscriber was terminated")
+                .isTrue();
+        assertThat(subscriber.error)
+                .as("The error received by the subscriber")
+                .isInstanceOf(NoClassDefFoundError.class);
+        assertThat(publisher.cancelled)
+                .as("Whether the upstream subscription was cancelled")
+                .isTrue();
+    }
+
+    /**
+     * Tests that a model that is not thread-safe cannot be scored concurrently.
+     */
+    @Test
+    public void testNotThreadSafeModel() {
+        assertThatThrownBy(() -> ScoringProcessor.builder(newModel(false, -1)).concurrency(2).build())
+                .as("Building a concurrent processor for a model that is not thread-safe")
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    /**
+     * A publisher of instances whose numeric field is their position, which honours the demand of its subscriber.
+     */
+    private static final class ListPublisher implements Flow.Publisher<Instance> {
+
+        /**
+         * The instances to publish.
+         */
+        private final List<Instance> instances;
+
+        /**
+         * The number of instances requested.
+         */
+        private final AtomicLong requested = new AtomicLong();
+
+        /**
+         * The number of instances sent.
+         */
+        private final AtomicLong sent = new AtomicLong();
+
+        /**
+         * The maximum number of instances requested and not yet sent.
+         */
+        private final AtomicLong maxOutstanding = new AtomicLong();
+
+        /**
+         * The number of pending emissions, which serializes the calls to the subscriber.
+         */
+        private final AtomicInteger pendingEmissions = new AtomicInteger();
+
+        /**
+         * Whether the subscription was cancelled.
+         */
+        private volatile boolean cancelled;
+
+        /**
+         * Creates a new instance.
+         *
+         * @param numInstances The number of instances to publish.
+         */
+        ListPublisher(final int numInstances) {
+            this.instances = IntStream.range(0, numInstances)
+                    .mapToObj(index -> (Instance) new MockInstance(new double[]{index, 0.0}))
+                    .collect(Collectors.toList());
+        }
+
+        @Override
+        public void subscribe(final Flow.Subscriber<? super Instance> subscriber) {
+            subscriber.onSubscribe(new Flow.Subscription() {
+                @Override
+                public void request(final long n) {
+                    final long total = ListPublisher.this.requested.addAndGet(n);
+                    ListPublisher.this.maxOutstanding.accumulateAndGet(
+                            total - ListPublisher.this.sent.get(),
+                            Math::max
+                    );
+                    emit(subscriber);
+                }
+
+                @Override
+                public void cancel() {
+                    ListPublisher.this.cancelled = true;
+                }
+            });
+        }
+
+        /**
+         * Sends the requested instances to the subscriber.
+         *
+         * @param subscriber The subscriber.
+         */
+        private void emit(final Flow.Subscriber<? super Instance> subscriber) {
+            if (this.pendingEmissions.getAndIncrement() != 0) {
+                return;
+            }
+            int missed = 1;
+            do {
+                while (!this.cancelled && this.sent.get() < Math.min(this.requested.get(), this.instances.size())) {
+                    subscriber.onNext(this.instances.get((int) this.sent.getAndIncrement()));
+                }
+                if (!this.cancelled && this.sent.get() == this.instances.size()) {
+                    this.cancelled = true;
+                    subscriber.onComplete();
+                }
+                missed = this.pendingEmissions.addAndGet(-missed);
+            } while (missed != 0);
+        }
+    }
+
+    /**
+     * A subscriber that collects the scored instances, requesting them in batches.
+     */
+    private static final class CollectingSubscriber implements Flow.Subscriber<ScoredInstance> {
+
+        /**
+         * The number of instances requested at a time, {@code 0} to not request any.
+         */
+        private final long batchSize;
+
+        /**
+         * The scored instances received.
+         */
+        private final List<ScoredInstance> items = new CopyOnWriteArrayList<>();
+
+        /**
+         * Released when the subscriber completes or fails.
+         */
+        private final CountDownLatch done = new CountDownLatch(1);
+
+        /**
+         * The subscription.
+         */
+        private volatile Flow.Subscription subscription;
+
+        /**
+         * The failure received, if any.
+         */
+        private volatile Throwable error;
+
+        /**
+         * Creates a new instance.
+         *
+         * @param batchSize The number of instances requested at a time, {@code 0} to not request any.
+         */
+        CollectingSubscriber(final long batchSize) {
+            this.batchSize = batchSize;
+        }
+
+        @Override
+        public void onSubscribe(final Flow.Subscription subscription) {
+            this.subscription = subscription;
+            if (this.batchSize > 0) {
+                subscription.request(this.batchSize);
+            }
+        }
+
+        @Override
+        public void onNext(final ScoredInstance item) {
+            this.items.add(item);
+            if (this.batchSize > 0 && this.batchSize != Long.MAX_VALUE && this.items.size() % this.batchSize == 0) {
+                this.subscription.request(this.batchSize);
+            }
+        }
+
+        @Override
+        public void onError(final Throwable throwable) {
+            this.error = throwable;
+            this.done.countDown();
+        }
+
+        @Override
+        public void onComplete() {
+            this.done.countDown();
+        }
+    }
+
+    /**
+     * Creates a model whose distribution is the value of the numeric field and its symmetric, which takes a little
+     * longer for odd values.
+     *
+     * @param threadSafe Whether the model is thread-safe.
+     * @param failAt     The value of the instance on which the model fails, or {@code -1} to never fail.
+     * @return The model.
+     */
+    private static MockClassificationModel newModel(final boolean threadSafe, final int failAt) {
+        return newModel(threadSafe, failAt, false);
+    }
+
+    /**
+     * Creates a model whose distribution is the value of the numeric field and its symmetric, which takes a little
+     * longer for odd values.
+     *
+     * @param threadSafe    Whether the model is thread-safe.
+     * @param failAt        The value of the instance on which the model fails, or {@code -1} to never fail.
+     * @param failWithError Whether the model fails with an {@link Error} instead of an exception.
+     * @return The model.
+     */
+    private static MockClassificationModel newModel(final boolean threadSafe,
+                                                    final int failAt,
+                                                    final boolean failWithError) {
+        return new MockClassificationModel(SCHEMA, threadSafe, instance -> {
+            final double value = instance.getValue(0);
+            if (value == failAt) {
+                if (failWithError) {
+                    throw new NoClassDefFoundError("The model failed.");
+                }
+                throw new IllegalStateException("The model failed.");
+            }
+            if (value % 2 == 1) {
+                Uninterruptibles.sleepUninterruptibly(50, TimeUnit.MICROSECONDS);
+            }
+            return new double[]{value, -value};
+        });
+    }
+}
@@ -0,0 +1,118 @@
+/*
+ * Copyright 2026 Feedzai
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.feedzai.openml.util.validate;
+
+import com.feedzai.openml.data.schema.CategoricalValueSchema;
+import com.feedzai.openml.data.schema.DatasetSchema;
+import com.feedzai.openml.data.schema.FieldSchema;
+import com.feedzai.openml.data.schema.NumericValueSchema;
+import com.feedzai.openml.data.schema.StringValueSchema;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+import org.junit.Test;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for the {@link BulkSchemaValidator}.
+ *
+ * @author agent (agent@local)
+ * @since 1.3.0
+ */
+public class BulkSchemaValidatorTest {
+
+    /**
+     * The schema to validate the records against.
+     */
+    private static final DatasetSchema SCHEMA = new DatasetSchema(2, ImmutableList.of(
+            new FieldSchema("amount", 0, new NumericValueSchema(false)),
+            new FieldSchema("description", 1, new StringValueSchema(true)),
+            new FieldSchema("fraud", 2, new CategoricalValueSchema(true, ImmutableSet.of("false", "true")))
+    ));
+
+    /**
+     * Tests that all the invalid values are reported, per field.
+     */
+    @Test
+    public void testErrorsPerField() {
+        final List<String[]> records = ImmutableList.of(
+                new String[]{"1.5", "a", "true"},
+                new String[]{"abc", null, "maybe"},
+                new String[]{null, "b", null},
+                new String[]{"2", "c"},
+                new String[]{"1e3", "d", "false"}
+        );
+
+        final BulkValidationResult result = new BulkSchemaValidator(SCHEMA).validate(records);
+
+        assertThat(result.isValid())
+                .as("The batch is valid")
+                .isFalse();
+        assertThat(result.getFieldErrors(0).stream().toArray())
+                .as("The invalid numeric values")
+                .containsExactly(1, 2);
+        assertThat(result.getNumFieldErrors(1))
+                .as("The number of invalid string values")
+                .isEqualTo(0);
+        assertThat(result.getFieldErrors(2).stream().toArray())
+                .as("The invalid categorical values")
+                .containsExactly(1);
+        assertThat(result.getMalformedRecords().stream().toArray())
+                .as("The malformed records")
+                .containsExactly(3);
+        assertThat(result.getInvalidRecords().stream().toArray())
+                .as("The invalid records")
+                .containsExactly(1, 2, 3);
+    }
+
+    /**
+     * Tests that validating the columns in parallel yields the same result as validating them sequentially.
+     */
+    @Test
+    public void testParallelValidation() {
+        final List<String[]> records = IntStream.range(0, 10_000)
+                .mapToObj(row -> new String[]{
+                        row % 7 == 0 ? "x" : String.valueOf(row),
+                        "s",
+                        row % 5 == 0 ? "t" : "true"
+                })
+                .collect(Collectors.toList());
+
+        final BulkValidationResult sequential = new BulkSchemaValidator(SCHEMA).validate(records);
+        final BulkValidationResult parallel = new BulkSchemaValidator(SCHEMA, true).validate(records);
+
+        for (int field = 0; field < 3; field++) {
+            assertThat(parallel.getFieldErrors(field))
+                    .as("The invalid values of field %d", field)
+                    .isEqualTo(sequential.getFieldErrors(field));
+        }
+        assertThat(parallel.getNumFieldErrors(0))
+                .as("The number of invalid numeric values")
+                .isEqualTo(1429);
+        assertThat(parallel.getNumFieldErrors(2))
+                .as("The number of invalid categorical values")
+                .isEqualTo(2000);
+        assertThat(new BulkSchemaValidator(SCHEMA).validate(ImmutableList.of()).isValid())
+                .as("An empty batch is valid")
+                .isTrue();
+    }
+}
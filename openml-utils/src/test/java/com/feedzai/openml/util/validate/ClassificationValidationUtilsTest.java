@@ -19,6 +19,7 @@ package com.feedzai.openml.util.validate;
 
 import com.feedzai.openml.data.Instance;
 import com.feedzai.openml.data.schema.DatasetSchema;
+import com.feedzai.openml.mocks.MockClassificationModel;
 import com.feedzai.openml.model.ClassificationMLModel;
 import com.feedzai.openml.model.MachineLearningModel;
 import com.feedzai.openml.provider.descriptor.fieldtype.ParamValidationError;
@@ -27,18 +28,28 @@ import com.feedzai.openml.provider.model.MachineLearningModelLoader;
 import com.feedzai.openml.util.data.schema.TestDatasetSchemaBuilder;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Sets;
+import com.google.common.util.concurrent.Uninterruptibles;
 import org.junit.BeforeClass;
 import org.junit.Test;
 
 import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.time.Duration;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Supplier;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatCode;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.Assume.assumeTrue;
 
 /**
  * Tests for the {@link ClassificationValidationUtils}.
@@ -289,6 +300,139 @@ public class ClassificationValidationUtilsTest {
                 .hasMessageContaining(NULL_ERROR_MSG);
     }
 
+    /**
+     * Tests that a model within the qualification budget is qualified and measured.
+     *
+     * @throws Exception If the test fails unexpectedly.
+     * @since 1.3.0
+     */
+    @Test
+    public void testQualifyWithinBudget() throws Exception {
+        final QualificationReport report = ClassificationValidationUtils.qualifyClassificationModel(
+                SCHEMA,
+                getClassificationModelFor(() -> new double[] { 0.25, 0.75 }, () -> 1),
+                QualificationBudget.builder()
+                        .scores(100, 1000)
+                        .maxMedianLatency(Duration.ofSeconds(1))
+                        .maxP99Latency(Duration.ofSeconds(1))
+                        .build()
+        );
+
+        assertThat(report.getNumScores())
+                .as("The number of measured scores")
+                .isEqualTo(1000);
+        assertThat(report.getP99Latency().compareTo(report.getMedianLatency()))
+                .as("The comparison of the p99 with the median latency")
+                .isGreaterThanOrEqualTo(0);
+    }
+
+    /**
+     * Tests that the qualification warms up the model with the same instances that it measures, without exceeding the
+     * warm-up scores of the budget.
+     *
+     * @throws Exception If the test fails unexpectedly.
+     * @since 1.3.0
+     */
+    @Test
+    public void testQualifyWarmsUpWithSameInstances() throws Exception {
+        final Set<Instance> instances = Sets.newIdentityHashSet();
+        final MockClassificationModel model = new MockClassificationModel(SCHEMA, instance -> {
+            instances.add(instance);
+            return new double[] { 0.25, 0.75 };
+        });
+
+        ClassificationValidationUtils.qualifyClassificationModel(
+                SCHEMA,
+                model,
+                QualificationBudget.builder()
+                        .scores(100, 200)
+                        .numInstances(5)
+                        .build()
+        );
+
+        assertThat(model.getScores())
+                .as("The number of scores, including the validation, the warm-up and the measured ones")
+                .isEqualTo(1 + 100 + 200);
+        assertThat(instances)
+                .as("The distinct instances scored, including the one of the validation")
+                .hasSize(1 + 5);
+    }
+
+    /**
+     * Tests that a model slower than the qualification budget is rejected.
+     *
+     * @since 1.3.0
+     */
+    @Test
+    public void testQualifyExceedsLatencyBudget() {
+        assertThatThrownBy(() -> ClassificationValidationUtils.qualifyClassificationModel(
+                SCHEMA,
+                getClassificationModelFor(
+                        () -> {
+                            Uninterruptibles.sleepUninterruptibly(2, TimeUnit.MILLISECONDS);
+                            return new double[] { 0.25, 0.75 };
+                        },
+                        () -> 1
+                ),
+                QualificationBudget.builder()
+                        .scores(0, 20)
+                        .maxP99Latency(Duration.ofMillis(1))
+                        .build()
+        ))
+                .isInstanceOf(ModelLoadingException.class)
+                .hasMessageContaining("p99 latency");
+    }
+
+    /**
+     * Tests that a model that allocates more than the qualification budget is rejected.
+     *
+     * @since 1.3.0
+     */
+    @Test
+    public void testQualifyExceedsAllocationBudget() {
+        final ThreadMXBean threadBean = ManagementFactory.getThreadMXBean();
+        // only JVMs that measure the memory allocated by a thread enforce the budget
+        assumeTrue(threadBean instanceof com.sun.management.ThreadMXBean
+                && ((com.sun.management.ThreadMXBean) threadBean).isThreadAllocatedMemoryEnabled());
+
+        assertThatThrownBy(() -> ClassificationValidationUtils.qualifyClassificationModel(
+                SCHEMA,
+                getClassificationModelFor(() -> new double[1024], () -> 1),
+                QualificationBudget.builder()
+                        .scores(0, 100)
+                        .maxAllocatedBytesPerScore(1024)
+                        .build()
+        ))
+                .isInstanceOf(ModelLoadingException.class)
+                .hasMessageContaining("allocation");
+    }
+
+    /**
+     * Tests that a model that fails to score some of the qualification instances is rejected.
+     *
+     * @since 1.3.0
+     */
+    @Test
+    public void testQualifyFailingModel() {
+        final AtomicInteger scores = new AtomicInteger();
+
+        assertThatThrownBy(() -> ClassificationValidationUtils.qualifyClassificationModel(
+                SCHEMA,
+                getClassificationModelFor(
+                        () -> {
+                            if (scores.incrementAndGet() > 10) {
+                                throw new IllegalStateException("Failure to calculate distribution");
+                            }
+                            return new double[] { 0.25, 0.75 };
+                        },
+                        () -> 1
+                ),
+                QualificationBudget.builder().build()
+        ))
+                .isInstanceOf(ModelLoadingException.class)
+                .hasCauseInstanceOf(IllegalStateException.class);
+    }
+
     /**
      * Creates a classification model that always yields the given distribution of classes and predicted class.
      *